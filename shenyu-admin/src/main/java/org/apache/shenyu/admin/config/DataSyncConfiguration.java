@@ -149,12 +149,13 @@ public class DataSyncConfiguration {
         /**
          * Websocket collector websocket collector.
          *
+         * @param websocketSyncProperties the websocket sync properties
          * @return the websocket collector
          */
         @Bean
         @ConditionalOnMissingBean(WebsocketCollector.class)
-        public WebsocketCollector websocketCollector() {
-            return new WebsocketCollector();
+        public WebsocketCollector websocketCollector(final WebsocketSyncProperties websocketSyncProperties) {
+            return new WebsocketCollector(websocketSyncProperties);
         }
 
         /**
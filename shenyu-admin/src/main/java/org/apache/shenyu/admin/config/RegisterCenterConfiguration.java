@@ -17,9 +17,12 @@
 
 package org.apache.shenyu.admin.config;
 
+import com.lmax.disruptor.dsl.ProducerType;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.admin.disruptor.RegisterServerDisruptorPublisher;
 import org.apache.shenyu.admin.service.ShenyuClientRegisterService;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
+import org.apache.shenyu.disruptor.config.WaitStrategyEnum;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.apache.shenyu.register.server.api.ShenyuServerRegisterRepository;
 import org.apache.shenyu.spi.ExtensionLoader;
@@ -27,6 +30,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Properties;
+
 /**
  * The type Register center configuration.
  */
@@ -58,7 +63,12 @@ public class RegisterCenterConfiguration {
         String registerType = shenyuRegisterCenterConfig.getRegisterType();
         ShenyuServerRegisterRepository registerRepository = ExtensionLoader.getExtensionLoader(ShenyuServerRegisterRepository.class).getJoin(registerType);
         RegisterServerDisruptorPublisher publisher = RegisterServerDisruptorPublisher.getInstance();
-        publisher.start(shenyuClientRegisterService);
+        Properties props = shenyuRegisterCenterConfig.getProps();
+        long flushInterval = Long.parseLong(props.getProperty("flushInterval", "100"));
+        DisruptorConfig disruptorConfig = new DisruptorConfig();
+        disruptorConfig.setWaitStrategy(WaitStrategyEnum.acquireByName(props.getProperty("waitStrategy", WaitStrategyEnum.BLOCKING.getName())));
+        disruptorConfig.setProducerType(ProducerType.valueOf(props.getProperty("producerType", ProducerType.MULTI.name()).toUpperCase()));
+        publisher.start(shenyuClientRegisterService, flushInterval, disruptorConfig);
         registerRepository.init(publisher, shenyuRegisterCenterConfig);
         return registerRepository;
     }
@@ -41,4 +41,20 @@ public class HttpSyncProperties {
      */
     private Duration refreshInterval = Duration.ofMinutes(5);
 
+    /**
+     * The max change events kept for the delta sync, a client further behind fetches the full config, default: 1024.
+     */
+    private int changeLogCapacity = 1024;
+
+    /**
+     * The max long polling clients held at the same time, a client over it is answered with 503 and retries later,
+     * 0 means no limit. Note that the servlet container connection limit (e.g. server.tomcat.max-connections) also applies.
+     */
+    private int holdCapacity;
+
+    /**
+     * The threads answering the held clients, default: the number of processors, at least 2.
+     */
+    private int notifyThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
 }
@@ -34,4 +34,19 @@ public class WebsocketSyncProperties {
      */
     private boolean enabled = true;
 
+    /**
+     * Send the deflated binary frames to the clients asking for the v2 protocol, default: true.
+     */
+    private boolean binaryEnabled = true;
+
+    /**
+     * The max deflated bytes of a binary frame, a larger message is chunked, default: 64KB.
+     */
+    private int frameChunkSize = 64 * 1024;
+
+    /**
+     * The max frames waiting to be sent to a client, a client over it is disconnected as a slow consumer.
+     */
+    private int outboundQueueCapacity = 1024;
+
 }
@@ -28,6 +28,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.annotation.Resource;
@@ -64,6 +65,19 @@ public class ConfigController {
         return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
     }
 
+    /**
+     * Fetch the config change events after the client version.
+     *
+     * @param epoch   the epoch of the client version, blank on cold start
+     * @param version the client version
+     * @return the shenyu result
+     */
+    @GetMapping("/delta")
+    public ShenyuAdminResult fetchDelta(@RequestParam(value = "epoch", required = false) final String epoch,
+                                        @RequestParam(value = "version", defaultValue = "-1") final long version) {
+        return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, longPollingListener.fetchDelta(epoch, version));
+    }
+
     /**
      * Listener.
      *
@@ -29,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * The type shenyu client controller.
@@ -136,6 +137,21 @@ public class ShenyuHttpRegistryController implements ShenyuServerRegisterReposit
         return ShenyuResultMessage.SUCCESS;
     }
 
+    /**
+     * Register a batch of clients.
+     *
+     * @param metaDataRegisterDTOList the meta data register dto list
+     * @return the string
+     */
+    @PostMapping("/batch-register")
+    @ResponseBody
+    public String batchRegister(@RequestBody final List<MetaDataRegisterDTO> metaDataRegisterDTOList) {
+        if (!metaDataRegisterDTOList.isEmpty()) {
+            publisher.publish(metaDataRegisterDTOList);
+        }
+        return ShenyuResultMessage.SUCCESS;
+    }
+
     private void publish(final MetaDataRegisterDTO metaDataRegisterDTO) {
         publisher.publish(Collections.singletonList(metaDataRegisterDTO));
     }
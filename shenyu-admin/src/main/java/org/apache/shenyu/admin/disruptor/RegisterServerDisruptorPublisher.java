@@ -22,6 +22,7 @@ import org.apache.shenyu.admin.disruptor.subscriber.MetadataExecutorSubscriber;
 import org.apache.shenyu.admin.disruptor.subscriber.URIRegisterExecutorSubscriber;
 import org.apache.shenyu.admin.service.ShenyuClientRegisterService;
 import org.apache.shenyu.disruptor.DisruptorProviderManage;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
 import org.apache.shenyu.register.server.api.ShenyuServerRegisterPublisher;
 
@@ -37,6 +38,8 @@ public class RegisterServerDisruptorPublisher implements ShenyuServerRegisterPub
     
     private RegisterServerExecutorFactory factory;
     
+    private MetadataExecutorSubscriber metadataExecutorSubscriber;
+    
     /**
      * Gets instance.
      *
@@ -52,10 +55,35 @@ public class RegisterServerDisruptorPublisher implements ShenyuServerRegisterPub
      * @param shenyuClientRegisterService the shenyu client register service
      */
     public void start(final ShenyuClientRegisterService shenyuClientRegisterService) {
+        start(shenyuClientRegisterService, 0);
+    }
+    
+    /**
+     * start, the meta data registrations are coalesced per flush window.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param flushInterval the flush window in milliseconds
+     */
+    public void start(final ShenyuClientRegisterService shenyuClientRegisterService, final long flushInterval) {
+        start(shenyuClientRegisterService, flushInterval, new DisruptorConfig());
+    }
+    
+    /**
+     * start, the registrations of a disruptor batch are handed to the subscribers together.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param flushInterval the flush window in milliseconds
+     * @param disruptorConfig the disruptor config
+     */
+    public void start(final ShenyuClientRegisterService shenyuClientRegisterService, final long flushInterval, final DisruptorConfig disruptorConfig) {
+        if (metadataExecutorSubscriber != null) {
+            metadataExecutorSubscriber.close();
+        }
+        metadataExecutorSubscriber = new MetadataExecutorSubscriber(shenyuClientRegisterService, flushInterval);
         factory = new RegisterServerExecutorFactory();
         factory.addSubscribers(new URIRegisterExecutorSubscriber(shenyuClientRegisterService));
-        factory.addSubscribers(new MetadataExecutorSubscriber(shenyuClientRegisterService));
-        providerManage = new DisruptorProviderManage(factory);
+        factory.addSubscribers(metadataExecutorSubscriber);
+        providerManage = new DisruptorProviderManage(factory, disruptorConfig);
         providerManage.startup();
     }
     
@@ -68,5 +96,6 @@ public class RegisterServerDisruptorPublisher implements ShenyuServerRegisterPub
     @Override
     public void close() {
         providerManage.getProvider().shutdown();
+        metadataExecutorSubscriber.close();
     }
 }
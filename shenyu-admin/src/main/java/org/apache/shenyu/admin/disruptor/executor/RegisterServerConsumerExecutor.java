@@ -17,24 +17,37 @@
 
 package org.apache.shenyu.admin.disruptor.executor;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerExecutor;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerFactory;
 import org.apache.shenyu.register.common.subsriber.ExecutorSubscriber;
 import org.apache.shenyu.register.common.subsriber.ExecutorTypeSubscriber;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerExecutor;
+import org.apache.shenyu.register.common.dto.URIRegisterDTO;
 import org.apache.shenyu.register.common.type.DataType;
 import org.apache.shenyu.register.common.type.DataTypeParent;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * The type Consumer executor.
+ * in batches the registrations of a disruptor batch are collected per type and handed to the subscribers at its end,
+ * an uri event is the full snapshot of its context paths, so only the last snapshot of each context path is kept.
  */
+@Slf4j
 @SuppressWarnings("all")
-public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<List<DataTypeParent>> {
+public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<List<DataTypeParent>> implements BatchQueueConsumerExecutor<List<DataTypeParent>> {
     
     private Map<DataType, ExecutorSubscriber> subscribers = new HashMap<>();
+    
+    private final Map<DataType, List<DataTypeParent>> batch = new LinkedHashMap<>();
+    
+    private final Map<String, List<DataTypeParent>> uriSnapshots = new LinkedHashMap<>();
 
     private RegisterServerConsumerExecutor(final Map<DataType, ExecutorTypeSubscriber> executorSubscriberMap) {
         this.subscribers.putAll(executorSubscriberMap);
@@ -46,6 +59,40 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
         getType(results).executor(results);
     }
     
+    @Override
+    public void onEvent(final List<DataTypeParent> data, final boolean endOfBatch) {
+        if (data != null && !data.isEmpty()) {
+            DataType dataType = data.get(0).getType();
+            if (dataType == DataType.URI) {
+                Map<String, List<DataTypeParent>> snapshots = new LinkedHashMap<>();
+                data.forEach(each -> snapshots.computeIfAbsent(((URIRegisterDTO) each).getContextPath(), contextPath -> new ArrayList<>()).add(each));
+                snapshots.forEach((contextPath, snapshot) -> {
+                    uriSnapshots.remove(contextPath);
+                    uriSnapshots.put(contextPath, snapshot);
+                });
+            } else {
+                batch.computeIfAbsent(dataType, type -> new ArrayList<>()).addAll(data);
+            }
+        }
+        if (!endOfBatch) {
+            return;
+        }
+        if (!uriSnapshots.isEmpty()) {
+            List<DataTypeParent> uriList = new ArrayList<>();
+            uriSnapshots.values().forEach(uriList::addAll);
+            batch.put(DataType.URI, uriList);
+            uriSnapshots.clear();
+        }
+        batch.forEach((type, list) -> {
+            try {
+                subscribers.get(type).executor(list);
+            } catch (Exception e) {
+                log.error("register {} {} fail", list.size(), type, e);
+            }
+        });
+        batch.clear();
+    }
+    
     private ExecutorSubscriber getType(final List<DataTypeParent> list) {
         if (list == null || list.isEmpty()) {
             return null;
@@ -54,7 +101,7 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
         return subscribers.get(result.getType());
     }
     
-    public static class RegisterServerExecutorFactory extends AbstractQueueConsumerFactory {
+    public static class RegisterServerExecutorFactory extends AbstractQueueConsumerFactory implements BatchQueueConsumerFactory {
 
         @Override
         public QueueConsumerExecutor create() {
@@ -62,6 +109,11 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
             return new RegisterServerConsumerExecutor(maps);
         }
 
+        @Override
+        public BatchQueueConsumerExecutor createBatch() {
+            return (RegisterServerConsumerExecutor) create();
+        }
+
         @Override
         public String fixName() {
             return "shenyu_register_server";
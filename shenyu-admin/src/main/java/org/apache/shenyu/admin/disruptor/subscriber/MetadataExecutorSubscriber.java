@@ -17,23 +17,56 @@
 
 package org.apache.shenyu.admin.disruptor.subscriber;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.admin.service.ShenyuClientRegisterService;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
 import org.apache.shenyu.register.common.subsriber.ExecutorTypeSubscriber;
 import org.apache.shenyu.register.common.type.DataType;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Metadata executor subscriber.
+ *
+ * <p>The registrations are buffered and flushed once per flush window, so the registrations of many clients
+ * rolling out together are coalesced into one {@link ShenyuClientRegisterService#batchRegister(List)}.
  */
+@Slf4j
 public class MetadataExecutorSubscriber implements ExecutorTypeSubscriber<MetaDataRegisterDTO> {
     
     private final ShenyuClientRegisterService shenyuClientRegisterService;
     
+    private final Queue<MetaDataRegisterDTO> pendingQueue = new ConcurrentLinkedQueue<>();
+    
+    private final ScheduledExecutorService flushExecutor;
+    
     public MetadataExecutorSubscriber(final ShenyuClientRegisterService shenyuClientRegisterService) {
+        this(shenyuClientRegisterService, 0);
+    }
+    
+    /**
+     * Instantiates a new Metadata executor subscriber.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param flushInterval the flush window in milliseconds, registrations are handled at once if it is not positive
+     */
+    public MetadataExecutorSubscriber(final ShenyuClientRegisterService shenyuClientRegisterService, final long flushInterval) {
         this.shenyuClientRegisterService = shenyuClientRegisterService;
+        if (flushInterval > 0) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(ShenyuThreadFactory.create("shenyu-register-flush", true));
+            flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        } else {
+            flushExecutor = null;
+        }
     }
     
     @Override
@@ -43,22 +76,70 @@ public class MetadataExecutorSubscriber implements ExecutorTypeSubscriber<MetaDa
     
     @Override
     public void executor(final Collection<MetaDataRegisterDTO> metaDataRegisterDTOList) {
+        if (flushExecutor == null) {
+            register(new ArrayList<>(metaDataRegisterDTOList));
+            return;
+        }
+        pendingQueue.addAll(metaDataRegisterDTOList);
+    }
+    
+    /**
+     * Register the buffered registrations.
+     */
+    public void flush() {
+        List<MetaDataRegisterDTO> metaDataRegisterDTOList = new ArrayList<>();
+        MetaDataRegisterDTO metaDataRegisterDTO;
+        while ((metaDataRegisterDTO = pendingQueue.poll()) != null) {
+            metaDataRegisterDTOList.add(metaDataRegisterDTO);
+        }
+        if (!metaDataRegisterDTOList.isEmpty()) {
+            register(metaDataRegisterDTOList);
+        }
+    }
+    
+    /**
+     * Stop the flush window and register what is still buffered.
+     */
+    public void close() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flush();
+    }
+    
+    private void register(final List<MetaDataRegisterDTO> metaDataRegisterDTOList) {
+        if (metaDataRegisterDTOList.size() > 1) {
+            try {
+                shenyuClientRegisterService.batchRegister(metaDataRegisterDTOList);
+                return;
+            } catch (Exception e) {
+                log.error("batch register {} clients fail, register them one by one", metaDataRegisterDTOList.size(), e);
+            }
+        }
         for (MetaDataRegisterDTO metaDataRegisterDTO : metaDataRegisterDTOList) {
-            if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.DUBBO.getName())) {
-                shenyuClientRegisterService.registerDubbo(metaDataRegisterDTO);
-            } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.SOFA.getName())) {
-                shenyuClientRegisterService.registerSofa(metaDataRegisterDTO);
-            } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.TARS.getName())) {
-                shenyuClientRegisterService.registerTars(metaDataRegisterDTO);
-            } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.HTTP.getName())) {
-                shenyuClientRegisterService.registerSpringMvc(metaDataRegisterDTO);
-            } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.SPRING_CLOUD.getName())) {
-                shenyuClientRegisterService.registerSpringCloud(metaDataRegisterDTO);
-            } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.GRPC.getName())) {
-                shenyuClientRegisterService.registerGrpc(metaDataRegisterDTO);
-            } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.MOTAN.getName())) {
-                shenyuClientRegisterService.registerMotan(metaDataRegisterDTO);
+            try {
+                registerOne(metaDataRegisterDTO);
+            } catch (Exception e) {
+                log.error("register client {} fail", metaDataRegisterDTO.getPath(), e);
             }
         }
     }
+    
+    private void registerOne(final MetaDataRegisterDTO metaDataRegisterDTO) {
+        if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.DUBBO.getName())) {
+            shenyuClientRegisterService.registerDubbo(metaDataRegisterDTO);
+        } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.SOFA.getName())) {
+            shenyuClientRegisterService.registerSofa(metaDataRegisterDTO);
+        } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.TARS.getName())) {
+            shenyuClientRegisterService.registerTars(metaDataRegisterDTO);
+        } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.HTTP.getName())) {
+            shenyuClientRegisterService.registerSpringMvc(metaDataRegisterDTO);
+        } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.SPRING_CLOUD.getName())) {
+            shenyuClientRegisterService.registerSpringCloud(metaDataRegisterDTO);
+        } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.GRPC.getName())) {
+            shenyuClientRegisterService.registerGrpc(metaDataRegisterDTO);
+        } else if (metaDataRegisterDTO.getRpcType().equals(RpcTypeEnum.MOTAN.getName())) {
+            shenyuClientRegisterService.registerMotan(metaDataRegisterDTO);
+        }
+    }
 }
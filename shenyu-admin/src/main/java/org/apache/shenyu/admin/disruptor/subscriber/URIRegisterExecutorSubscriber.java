@@ -54,7 +54,7 @@ public class URIRegisterExecutorSubscriber implements ExecutorTypeSubscriber<URI
         Map<String, List<URIRegisterDTO>> listMap = dataList.stream().collect(Collectors.groupingBy(URIRegisterDTO::getContextPath));
         listMap.forEach((contextPath, dtoList) -> {
             List<String> uriList = new ArrayList<>();
-            dataList.forEach(uriRegisterDTO -> {
+            dtoList.forEach(uriRegisterDTO -> {
                 if (uriRegisterDTO.getHost() != null && uriRegisterDTO.getPort() != null) {
                     uriList.add(String.join(":", uriRegisterDTO.getHost(), uriRegisterDTO.getPort().toString()));
                 }
@@ -20,11 +20,9 @@ package org.apache.shenyu.admin.listener;
 import com.google.gson.reflect.TypeToken;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.service.AppAuthService;
 import org.apache.shenyu.admin.service.MetaDataService;
-import org.apache.shenyu.admin.service.PluginService;
-import org.apache.shenyu.admin.service.RuleService;
-import org.apache.shenyu.admin.service.SelectorService;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.MetaData;
@@ -39,6 +37,7 @@ import org.springframework.beans.factory.InitializingBean;
 
 import javax.annotation.Resource;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -48,6 +47,8 @@ import java.util.concurrent.ConcurrentMap;
  * As we think that the md5 value of the in-memory data is the same as the md5 value of the database,
  * although it may be a little different, but it doesn't matter, we will have thread to periodically
  * pull the data in the database.
+ * A change only marks its group stale, the group is rebuilt from the {@link ConfigDataSnapshot} when it is read next time,
+ * only {@link #reloadCache(ConfigGroupEnum)} reads the database.
  *
  * @since 2.0.0
  */
@@ -60,26 +61,16 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      */
     protected static final ConcurrentMap<String, ConfigDataCache> CACHE = new ConcurrentHashMap<>();
 
-    @Resource
-    private AppAuthService appAuthService;
+    private static final Set<ConfigGroupEnum> STALE_GROUPS = ConcurrentHashMap.newKeySet();
 
-    /**
-     * The Plugin service.
-     */
     @Resource
-    private PluginService pluginService;
-
-    /**
-     * The Rule service.
-     */
-    @Resource
-    private RuleService ruleService;
+    private AppAuthService appAuthService;
 
     /**
-     * The Selector service.
+     * The plugins, selectors and rules in memory.
      */
     @Resource
-    private SelectorService selectorService;
+    private ConfigDataSnapshot configDataSnapshot;
 
     @Resource
     private MetaDataService metaDataService;
@@ -91,7 +82,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      * @return the configuration data
      */
     public ConfigData<?> fetchConfig(final ConfigGroupEnum groupKey) {
-        ConfigDataCache config = CACHE.get(groupKey.name());
+        ConfigDataCache config = obtainCache(groupKey);
         switch (groupKey) {
             case APP_AUTH:
                 List<AppAuthData> appAuthList = GsonUtils.getGson().fromJson(config.getJson(), new TypeToken<List<AppAuthData>>() {
@@ -123,7 +114,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateAppAuthCache();
+        STALE_GROUPS.add(ConfigGroupEnum.APP_AUTH);
         this.afterAppAuthChanged(changed, eventType);
     }
 
@@ -132,7 +123,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateMetaDataCache();
+        STALE_GROUPS.add(ConfigGroupEnum.META_DATA);
         this.afterMetaDataChanged(changed, eventType);
     }
 
@@ -159,7 +150,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updatePluginCache();
+        STALE_GROUPS.add(ConfigGroupEnum.PLUGIN);
         this.afterPluginChanged(changed, eventType);
     }
 
@@ -177,7 +168,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateRuleCache();
+        STALE_GROUPS.add(ConfigGroupEnum.RULE);
         this.afterRuleChanged(changed, eventType);
     }
 
@@ -195,7 +186,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateSelectorCache();
+        STALE_GROUPS.add(ConfigGroupEnum.SELECTOR);
         this.afterSelectorChanged(changed, eventType);
     }
 
@@ -220,6 +211,66 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
 
     protected abstract void afterInitialize();
 
+    /**
+     * Obtain the cache of the group, reload it first if it is stale.
+     *
+     * @param group the group
+     * @return the config data cache
+     */
+    protected ConfigDataCache obtainCache(final ConfigGroupEnum group) {
+        if (STALE_GROUPS.contains(group)) {
+            synchronized (STALE_GROUPS) {
+                if (STALE_GROUPS.remove(group)) {
+                    updateCache(group);
+                }
+            }
+        }
+        return CACHE.get(group.name());
+    }
+
+    /**
+     * Reload the cache of the group from the database.
+     *
+     * @param group the group
+     * @return true if the data changed without a change event, e.g. the database was modified by another admin.
+     */
+    protected boolean reloadCache(final ConfigGroupEnum group) {
+        configDataSnapshot.reload(group);
+        synchronized (STALE_GROUPS) {
+            boolean stale = STALE_GROUPS.remove(group);
+            ConfigDataCache oldVal = CACHE.get(group.name());
+            updateCache(group);
+            return !stale && oldVal != null && !StringUtils.equals(oldVal.getMd5(), CACHE.get(group.name()).getMd5());
+        }
+    }
+
+    /**
+     * Update the cache of the group.
+     *
+     * @param group the group
+     */
+    protected void updateCache(final ConfigGroupEnum group) {
+        switch (group) {
+            case APP_AUTH:
+                updateAppAuthCache();
+                break;
+            case PLUGIN:
+                updatePluginCache();
+                break;
+            case RULE:
+                updateRuleCache();
+                break;
+            case SELECTOR:
+                updateSelectorCache();
+                break;
+            case META_DATA:
+                updateMetaDataCache();
+                break;
+            default:
+                throw new IllegalStateException("Unexpected groupKey: " + group);
+        }
+    }
+
     /**
      * if md5 is not the same as the original, then update lcoal cache.
      * @param group ConfigGroupEnum
@@ -237,21 +288,21 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      * Update selector cache.
      */
     protected void updateSelectorCache() {
-        this.updateCache(ConfigGroupEnum.SELECTOR, selectorService.listAll());
+        this.updateCache(ConfigGroupEnum.SELECTOR, configDataSnapshot.listSelectors());
     }
 
     /**
      * Update rule cache.
      */
     protected void updateRuleCache() {
-        this.updateCache(ConfigGroupEnum.RULE, ruleService.listAll());
+        this.updateCache(ConfigGroupEnum.RULE, configDataSnapshot.listRules());
     }
 
     /**
      * Update plugin cache.
      */
     protected void updatePluginCache() {
-        this.updateCache(ConfigGroupEnum.PLUGIN, pluginService.listAll());
+        this.updateCache(ConfigGroupEnum.PLUGIN, configDataSnapshot.listPlugins());
     }
 
     /**
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.common.dto.ConfigDeltaData;
+import org.apache.shenyu.common.dto.ConfigEventData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A bounded, monotonically versioned log of config changes.
+ * The epoch identifies this log, so a client holding a version from a restarted
+ * or another admin falls back to a full fetch.
+ *
+ * @since 2.3.1
+ */
+public class ConfigChangeLog {
+
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final ConfigEventData[] ring;
+
+    private long version;
+
+    /**
+     * Instantiates a new Config change log.
+     *
+     * @param capacity the max events kept
+     */
+    public ConfigChangeLog(final int capacity) {
+        this.ring = new ConfigEventData[Math.max(1, capacity)];
+    }
+
+    /**
+     * Gets epoch.
+     *
+     * @return the epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets the version of the last event.
+     *
+     * @return the version
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Append an event.
+     *
+     * @param group     the group
+     * @param eventType the event type
+     * @param json      the changed data list
+     * @return the version of the event
+     */
+    public synchronized long append(final ConfigGroupEnum group, final DataEventTypeEnum eventType, final String json) {
+        version++;
+        ring[(int) (version % ring.length)] = new ConfigEventData(version, group.name(), eventType.name(), json);
+        return version;
+    }
+
+    /**
+     * The events after the client version, or a full marker if they are not all kept.
+     *
+     * @param clientEpoch   the client epoch
+     * @param clientVersion the client version
+     * @return the delta
+     */
+    public synchronized ConfigDeltaData since(final String clientEpoch, final long clientVersion) {
+        if (!covers(clientEpoch, clientVersion)) {
+            return new ConfigDeltaData(epoch, version, true, Collections.emptyList());
+        }
+        List<ConfigEventData> events = new ArrayList<>((int) (version - clientVersion));
+        for (long v = clientVersion + 1; v <= version; v++) {
+            events.add(ring[(int) (v % ring.length)]);
+        }
+        return new ConfigDeltaData(epoch, version, false, events);
+    }
+
+    /**
+     * Whether the events after the client version are all kept.
+     *
+     * @param clientEpoch   the client epoch
+     * @param clientVersion the client version
+     * @return true if a delta can be served
+     */
+    public synchronized boolean covers(final String clientEpoch, final long clientVersion) {
+        return epoch.equals(clientEpoch) && clientVersion >= 0 && clientVersion <= version && version - clientVersion <= ring.length;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.admin.service.PluginService;
+import org.apache.shenyu.admin.service.RuleService;
+import org.apache.shenyu.admin.service.SelectorService;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * The in-memory snapshot of the plugins, selectors and rules with their conditions,
+ * so the sync strategies read them without querying the database.
+ * A group is loaded from the database when it is read first and on {@link #reload(ConfigGroupEnum)},
+ * and the {@link DataChangedEvent}s are written through before they reach the listeners, see {@link DataChangedEventDispatcher}.
+ * The data is ordered by id, so the same data always has the same md5.
+ *
+ * @since 2.3.1
+ */
+@Slf4j
+@Component
+public class ConfigDataSnapshot {
+
+    private final PluginService pluginService;
+
+    private final SelectorService selectorService;
+
+    private final RuleService ruleService;
+
+    private volatile ConcurrentNavigableMap<String, PluginData> plugins;
+
+    private volatile ConcurrentNavigableMap<String, SelectorData> selectors;
+
+    private volatile ConcurrentNavigableMap<String, RuleData> rules;
+
+    /**
+     * Instantiates a new Config data snapshot.
+     *
+     * @param pluginService   the plugin service
+     * @param selectorService the selector service
+     * @param ruleService     the rule service
+     */
+    public ConfigDataSnapshot(final PluginService pluginService, final SelectorService selectorService, final RuleService ruleService) {
+        this.pluginService = pluginService;
+        this.selectorService = selectorService;
+        this.ruleService = ruleService;
+    }
+
+    /**
+     * List the plugins.
+     *
+     * @return the plugins
+     */
+    public List<PluginData> listPlugins() {
+        if (null == plugins) {
+            synchronized (this) {
+                if (null == plugins) {
+                    plugins = index(pluginService.listAll(), PluginData::getId);
+                }
+            }
+        }
+        return new ArrayList<>(plugins.values());
+    }
+
+    /**
+     * List the selectors.
+     *
+     * @return the selectors
+     */
+    public List<SelectorData> listSelectors() {
+        if (null == selectors) {
+            synchronized (this) {
+                if (null == selectors) {
+                    selectors = index(selectorService.listAll(), SelectorData::getId);
+                }
+            }
+        }
+        return new ArrayList<>(selectors.values());
+    }
+
+    /**
+     * List the rules.
+     *
+     * @return the rules
+     */
+    public List<RuleData> listRules() {
+        if (null == rules) {
+            synchronized (this) {
+                if (null == rules) {
+                    rules = index(ruleService.listAll(), RuleData::getId);
+                }
+            }
+        }
+        return new ArrayList<>(rules.values());
+    }
+
+    /**
+     * Reload the group from the database, e.g. it was modified by another admin.
+     * The lock is held from the read to the swap, so a change written through meanwhile is not lost.
+     *
+     * @param group the group
+     */
+    public synchronized void reload(final ConfigGroupEnum group) {
+        switch (group) {
+            case PLUGIN:
+                plugins = index(pluginService.listAll(), PluginData::getId);
+                break;
+            case SELECTOR:
+                selectors = index(selectorService.listAll(), SelectorData::getId);
+                break;
+            case RULE:
+                rules = index(ruleService.listAll(), RuleData::getId);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Write the changed data through, the groups not loaded yet are read from the database later.
+     *
+     * @param event the data changed event
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void onChanged(final DataChangedEvent event) {
+        List<?> changed = (List<?>) event.getSource();
+        if (CollectionUtils.isEmpty(changed)) {
+            return;
+        }
+        boolean delete = DataEventTypeEnum.DELETE == event.getEventType();
+        switch (event.getGroupKey()) {
+            case PLUGIN:
+                apply(plugins, (List<PluginData>) changed, PluginData::getId, delete);
+                if (delete) {
+                    // the selectors and rules of a deleted plugin are deleted without events.
+                    ((List<PluginData>) changed).forEach(pluginData -> removeByPluginName(pluginData.getName()));
+                }
+                break;
+            case SELECTOR:
+                apply(selectors, (List<SelectorData>) changed, SelectorData::getId, delete);
+                break;
+            case RULE:
+                apply(rules, (List<RuleData>) changed, RuleData::getId, delete);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void removeByPluginName(final String pluginName) {
+        if (null != selectors) {
+            selectors.values().removeIf(selectorData -> Objects.equals(pluginName, selectorData.getPluginName()));
+        }
+        if (null != rules) {
+            rules.values().removeIf(ruleData -> Objects.equals(pluginName, ruleData.getPluginName()));
+        }
+    }
+
+    private static <T> void apply(final Map<String, T> snapshot, final List<T> changed, final Function<T, String> idFunction, final boolean delete) {
+        if (null == snapshot) {
+            return;
+        }
+        for (T data : changed) {
+            String id = null == data ? null : idFunction.apply(data);
+            if (null == id) {
+                continue;
+            }
+            if (delete) {
+                snapshot.remove(id);
+            } else {
+                snapshot.put(id, data);
+            }
+        }
+    }
+
+    private static <T> ConcurrentNavigableMap<String, T> index(final List<T> dataList, final Function<T, String> idFunction) {
+        ConcurrentNavigableMap<String, T> snapshot = new ConcurrentSkipListMap<>();
+        dataList.stream().filter(Objects::nonNull).forEach(data -> snapshot.put(idFunction.apply(data), data));
+        log.info("load config snapshot, size: {}", snapshot.size());
+        return snapshot;
+    }
+}
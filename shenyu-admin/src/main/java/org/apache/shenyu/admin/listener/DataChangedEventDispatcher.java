@@ -42,13 +42,18 @@ public class DataChangedEventDispatcher implements ApplicationListener<DataChang
 
     private List<DataChangedListener> listeners;
 
-    public DataChangedEventDispatcher(final ApplicationContext applicationContext) {
+    private final ConfigDataSnapshot configDataSnapshot;
+
+    public DataChangedEventDispatcher(final ApplicationContext applicationContext, final ConfigDataSnapshot configDataSnapshot) {
         this.applicationContext = applicationContext;
+        this.configDataSnapshot = configDataSnapshot;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void onApplicationEvent(final DataChangedEvent event) {
+        // the listeners read the snapshot, write it first.
+        configDataSnapshot.onChanged(event);
         for (DataChangedListener listener : listeners) {
             switch (event.getGroupKey()) {
                 case APP_AUTH:
@@ -17,6 +17,13 @@
 
 package org.apache.shenyu.admin.listener.http;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -24,11 +31,13 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.shenyu.admin.config.properties.HttpSyncProperties;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.admin.listener.AbstractDataChangedListener;
+import org.apache.shenyu.admin.listener.ConfigChangeLog;
 import org.apache.shenyu.admin.listener.ConfigDataCache;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.HttpConstants;
 import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
@@ -37,6 +46,7 @@ import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.MediaType;
 
 import javax.servlet.AsyncContext;
@@ -44,28 +54,35 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Future;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 /**
  * HTTP long polling, which blocks the client's request thread
  * and informs the client of group information about data changes
  * when there are data changes. If there is no data change after the specified time,
  * the client will make a listening request again.
+ * Clients sending a version only fetch the change events after it, see {@link #fetchDelta(String, long)}.
+ * The held clients time out on a hashed wheel timer and are answered by a dedicated thread pool in batches.
  *
  * @since 2.0.0
  */
 @Slf4j
 @SuppressWarnings("all")
-public class HttpLongPollingDataChangedListener extends AbstractDataChangedListener {
+public class HttpLongPollingDataChangedListener extends AbstractDataChangedListener implements DisposableBean {
 
     private static final String X_REAL_IP = "X-Real-IP";
 
@@ -75,24 +92,54 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
 
     private static final ReentrantLock LOCK = new ReentrantLock();
 
+    private static final int NOTIFY_BATCH_SIZE = 256;
+
     /**
      * Blocked client.
      */
-    private final BlockingQueue<LongPollingClient> clients;
+    private final Set<LongPollingClient> clients = ConcurrentHashMap.newKeySet();
 
+    /**
+     * Refresh the local cache.
+     */
     private final ScheduledExecutorService scheduler;
 
+    /**
+     * Time out the blocked clients.
+     */
+    private final HashedWheelTimer holdTimer;
+
+    /**
+     * Answer the blocked clients.
+     */
+    private final ExecutorService notifyExecutor;
+
     private final HttpSyncProperties httpSyncProperties;
 
+    private final ConfigChangeLog changeLog;
+
     /**
      * Instantiates a new Http long polling data changed listener.
      * @param httpSyncProperties the HttpSyncProperties
      */
     public HttpLongPollingDataChangedListener(final HttpSyncProperties httpSyncProperties) {
-        this.clients = new ArrayBlockingQueue<>(1024);
         this.scheduler = new ScheduledThreadPoolExecutor(1,
                 ShenyuThreadFactory.create("long-polling", true));
+        this.holdTimer = new HashedWheelTimer(ShenyuThreadFactory.create("long-polling-timeout", true), 100, TimeUnit.MILLISECONDS, 1024);
+        int notifyThreads = Math.max(1, httpSyncProperties.getNotifyThreads());
+        this.notifyExecutor = new ThreadPoolExecutor(notifyThreads, notifyThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ShenyuThreadFactory.create("long-polling-notify", true));
         this.httpSyncProperties = httpSyncProperties;
+        this.changeLog = new ConfigChangeLog(httpSyncProperties.getChangeLogCapacity());
+        Gauge.builder("shenyu.sync.http.holding.clients", clients, Set::size)
+                .description("the long polling clients waiting for changes")
+                .register(Metrics.globalRegistry);
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            Gauge.builder("shenyu.sync.http.holding.group.clients", this, listener -> listener.holdingClients(group))
+                    .tag("group", group.name())
+                    .description("the long polling clients waiting for changes of the group")
+                    .register(Metrics.globalRegistry);
+        }
     }
 
     @Override
@@ -111,12 +158,32 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         log.info("http sync strategy refresh interval: {}ms", syncInterval);
     }
 
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        holdTimer.stop();
+        notifyExecutor.shutdown();
+    }
+
     private void refreshLocalCache() {
-        this.updateAppAuthCache();
-        this.updatePluginCache();
-        this.updateRuleCache();
-        this.updateSelectorCache();
-        this.updateMetaDataCache();
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            if (this.reloadCache(group)) {
+                // changed without an event, let the delta clients refresh the whole group.
+                changeLog.append(group, DataEventTypeEnum.REFRESH, CACHE.get(group.name()).getJson());
+                notifyExecutor.execute(new DataChangeTask(group));
+            }
+        }
+    }
+
+    /**
+     * Fetch the change events after the client version.
+     *
+     * @param epoch   the client epoch
+     * @param version the client version
+     * @return the delta, full if the client must fetch the full config first
+     */
+    public ConfigDeltaData fetchDelta(final String epoch, final long version) {
+        return changeLog.since(epoch, version);
     }
 
     /**
@@ -136,40 +203,84 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
             log.info("send response with the changed group, ip={}, group={}", clientIp, changedGroup);
             return;
         }
+        int holdCapacity = httpSyncProperties.getHoldCapacity();
+        if (holdCapacity > 0 && clients.size() >= holdCapacity) {
+            // the client retries later.
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            log.warn("too many long polling clients, reject ip={}, holding={}", clientIp, clients.size());
+            return;
+        }
         // listen for configuration changed.
-        final AsyncContext asyncContext = request.startAsync();
+        final AsyncContext asyncContext = request.startAsync(request, response);
         // AsyncContext.settimeout() does not timeout properly, so you have to control it yourself
         asyncContext.setTimeout(0L);
         // block client's thread.
-        scheduler.execute(new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT));
+        new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT).hold();
     }
 
     @Override
     protected void afterAppAuthChanged(final List<AppAuthData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.APP_AUTH));
+        this.onChanged(ConfigGroupEnum.APP_AUTH, changed, eventType);
     }
 
     @Override
     protected void afterMetaDataChanged(final List<MetaData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.META_DATA));
+        this.onChanged(ConfigGroupEnum.META_DATA, changed, eventType);
     }
 
     @Override
     protected void afterPluginChanged(final List<PluginData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.PLUGIN));
+        this.onChanged(ConfigGroupEnum.PLUGIN, changed, eventType);
     }
 
     @Override
     protected void afterRuleChanged(final List<RuleData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.RULE));
+        this.onChanged(ConfigGroupEnum.RULE, changed, eventType);
     }
 
     @Override
     protected void afterSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.SELECTOR));
+        this.onChanged(ConfigGroupEnum.SELECTOR, changed, eventType);
+    }
+
+    /**
+     * Count the held clients listening to the group.
+     *
+     * @param group the group
+     * @return the count of the held clients
+     */
+    long holdingClients(final ConfigGroupEnum group) {
+        return clients.stream().filter(client -> client.groups.contains(group)).count();
+    }
+
+    private void onChanged(final ConfigGroupEnum group, final List<?> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(group, eventType, GsonUtils.getInstance().toJson(changed));
+        notifyExecutor.execute(new DataChangeTask(group));
+    }
+
+    /**
+     * the groups the client listens to, all groups if the client sends a version.
+     * @param request the request
+     * @return the requested groups
+     */
+    private static Set<ConfigGroupEnum> requestedGroups(final HttpServletRequest request) {
+        if (StringUtils.isNotBlank(request.getParameter(HttpConstants.SYNC_VERSION))) {
+            return EnumSet.allOf(ConfigGroupEnum.class);
+        }
+        Set<ConfigGroupEnum> groups = EnumSet.noneOf(ConfigGroupEnum.class);
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            if (StringUtils.isNotBlank(request.getParameter(group.name()))) {
+                groups.add(group);
+            }
+        }
+        return groups;
     }
 
     private List<ConfigGroupEnum> compareChangedGroup(final HttpServletRequest request) {
+        String version = request.getParameter(HttpConstants.SYNC_VERSION);
+        if (StringUtils.isNotBlank(version)) {
+            return this.compareChangedVersion(version);
+        }
         List<ConfigGroupEnum> changedGroup = new ArrayList<>(ConfigGroupEnum.values().length);
         for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
             // md5,lastModifyTime
@@ -179,7 +290,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
             }
             String clientMd5 = params[0];
             long clientModifyTime = NumberUtils.toLong(params[1]);
-            ConfigDataCache serverCache = CACHE.get(group.name());
+            ConfigDataCache serverCache = obtainCache(group);
             // do check.
             if (this.checkCacheDelayAndUpdate(serverCache, clientMd5, clientModifyTime)) {
                 changedGroup.add(group);
@@ -188,6 +299,26 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         return changedGroup;
     }
 
+    /**
+     * the groups with events after the client version, all groups if the client must fetch the full config.
+     * @param version the client version, epoch,version
+     * @return the changed groups
+     */
+    private List<ConfigGroupEnum> compareChangedVersion(final String version) {
+        String[] params = StringUtils.split(version, ',');
+        if (params == null || params.length != 2) {
+            throw new ShenyuException("version param invalid:" + version);
+        }
+        ConfigDeltaData delta = changeLog.since(params[0], NumberUtils.toLong(params[1], -1));
+        if (delta.isFull()) {
+            return Arrays.asList(ConfigGroupEnum.values());
+        }
+        return delta.getEvents().stream()
+                .map(event -> ConfigGroupEnum.valueOf(event.getGroup()))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
     /**
      * check whether the client needs to update the cache.
      * @param serverCache the admin local cache
@@ -270,7 +401,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
     }
 
     /**
-     * When a group's data changes, the thread is created to notify the client asynchronously.
+     * When a group's data changes, the held clients are answered in batches on the notify executor.
      */
     class DataChangeTask implements Runnable {
 
@@ -295,21 +426,43 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
 
         @Override
         public void run() {
-            for (Iterator<LongPollingClient> iter = clients.iterator(); iter.hasNext();) {
-                LongPollingClient client = iter.next();
-                iter.remove();
-                client.sendResponse(Collections.singletonList(groupKey));
-                log.info("send response with the changed group,ip={}, group={}, changeTime={}", client.ip, groupKey, changeTime);
+            long start = System.nanoTime();
+            List<LongPollingClient> changed = new ArrayList<>(clients.size());
+            for (LongPollingClient client : clients) {
+                // removed by the timeout or another change, it is answered already.
+                if (clients.remove(client)) {
+                    changed.add(client);
+                }
+            }
+            DistributionSummary.builder("shenyu.sync.http.notify.clients").tag("group", groupKey.name())
+                    .description("the long polling clients answered for a change").register(Metrics.globalRegistry)
+                    .record(changed.size());
+            if (changed.isEmpty()) {
+                return;
+            }
+            List<ConfigGroupEnum> changedGroups = Collections.singletonList(groupKey);
+            AtomicInteger pending = new AtomicInteger((changed.size() + NOTIFY_BATCH_SIZE - 1) / NOTIFY_BATCH_SIZE);
+            for (int from = 0; from < changed.size(); from += NOTIFY_BATCH_SIZE) {
+                List<LongPollingClient> batch = changed.subList(from, Math.min(from + NOTIFY_BATCH_SIZE, changed.size()));
+                notifyExecutor.execute(() -> {
+                    batch.forEach(client -> client.sendResponse(changedGroups));
+                    if (pending.decrementAndGet() == 0) {
+                        Timer.builder("shenyu.sync.http.notify.latency").tag("group", groupKey.name())
+                                .description("the time to answer the long polling clients of a change").register(Metrics.globalRegistry)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        log.info("send response with the changed group, clients={}, group={}, changeTime={}", changed.size(), groupKey, changeTime);
+                    }
+                });
             }
         }
     }
 
     /**
      * If you exceed {@link HttpConstants#SERVER_MAX_HOLD_TIMEOUT} and still have no data change,
-     * empty data is returned. If the data changes within this time frame, the DataChangeTask
-     * cancellations the timed task and responds to the changed group data.
+     * the changed groups compared again are returned. If the data changes within this time frame, the DataChangeTask
+     * takes the client and responds to the changed group data. Whoever removes the client from the held clients answers it.
      */
-    class LongPollingClient implements Runnable {
+    class LongPollingClient implements TimerTask {
 
         /**
          * The Async context.
@@ -327,9 +480,14 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         private final long timeoutTime;
 
         /**
-         * The Async timeout future.
+         * The groups the client listens to.
+         */
+        private final Set<ConfigGroupEnum> groups;
+
+        /**
+         * The Async timeout.
          */
-        private Future<?> asyncTimeoutFuture;
+        private volatile Timeout asyncTimeout;
 
         /**
          * Instantiates a new Long polling client.
@@ -342,16 +500,36 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
             this.asyncContext = ac;
             this.ip = ip;
             this.timeoutTime = timeoutTime;
+            this.groups = requestedGroups((HttpServletRequest) ac.getRequest());
         }
 
-        @Override
-        public void run() {
-            this.asyncTimeoutFuture = scheduler.schedule(() -> {
-                clients.remove(LongPollingClient.this);
-                List<ConfigGroupEnum> changedGroups = compareChangedGroup((HttpServletRequest) asyncContext.getRequest());
-                sendResponse(changedGroups);
-            }, timeoutTime, TimeUnit.MILLISECONDS);
+        /**
+         * Hold the client until a change or the timeout.
+         */
+        void hold() {
             clients.add(this);
+            this.asyncTimeout = holdTimer.newTimeout(this, timeoutTime, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run(final Timeout timeout) {
+            if (clients.remove(this)) {
+                notifyExecutor.execute(() -> sendResponse(compareOnTimeout()));
+            }
+        }
+
+        /**
+         * Compare the changed groups again when the client is held to the end, the client polls again when it fails.
+         *
+         * @return the changed groups, empty when they can not be compared
+         */
+        private List<ConfigGroupEnum> compareOnTimeout() {
+            try {
+                return compareChangedGroup((HttpServletRequest) asyncContext.getRequest());
+            } catch (Exception e) {
+                log.warn("compare the changed groups failed, ip={}, {}", ip, e.getMessage());
+                return Collections.emptyList();
+            }
         }
 
         /**
@@ -360,12 +538,25 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          * @param changedGroups the changed groups
          */
         void sendResponse(final List<ConfigGroupEnum> changedGroups) {
-            // cancel scheduler
-            if (null != asyncTimeoutFuture) {
-                asyncTimeoutFuture.cancel(false);
+            // cancel timeout
+            if (null != asyncTimeout) {
+                asyncTimeout.cancel();
+            }
+            try {
+                generateResponse((HttpServletResponse) asyncContext.getResponse(), changedGroups);
+            } catch (Exception e) {
+                log.warn("send response failed, ip={}, {}", ip, e.getMessage());
+            } finally {
+                complete();
+            }
+        }
+
+        private void complete() {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                log.warn("complete the long polling failed, ip={}, {}", ip, e.getMessage());
             }
-            generateResponse((HttpServletResponse) asyncContext.getResponse(), changedGroups);
-            asyncContext.complete();
         }
     }
 }
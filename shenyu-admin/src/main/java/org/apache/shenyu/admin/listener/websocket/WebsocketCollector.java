@@ -20,10 +20,12 @@ package org.apache.shenyu.admin.listener.websocket;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtil;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 
 import javax.websocket.OnClose;
 import javax.websocket.OnError;
@@ -31,13 +33,15 @@ import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
-import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The type Websocket data changed listener.
+ * The clients asking for the v2 protocol get the deflated and chunked binary frames, see {@link WebsocketFrameUtils}.
  *
  * @since 2.0.0
  */
@@ -45,10 +49,23 @@ import java.util.concurrent.CopyOnWriteArraySet;
 @ServerEndpoint(value = "/websocket", configurator = WebsocketConfigurator.class)
 public class WebsocketCollector {
 
-    private static final Set<Session> SESSION_SET = new CopyOnWriteArraySet<>();
+    private static final Map<Session, WebsocketSessionSender> SESSION_MAP = new ConcurrentHashMap<>();
 
     private static final String SESSION_KEY = "sessionKey";
 
+    private static final AtomicInteger MESSAGE_ID = new AtomicInteger();
+
+    private final WebsocketSyncProperties websocketSyncProperties;
+
+    /**
+     * Instantiates a new Websocket collector.
+     *
+     * @param websocketSyncProperties the websocket sync properties
+     */
+    public WebsocketCollector(final WebsocketSyncProperties websocketSyncProperties) {
+        this.websocketSyncProperties = websocketSyncProperties;
+    }
+
     /**
      * On open.
      *
@@ -56,8 +73,14 @@ public class WebsocketCollector {
      */
     @OnOpen
     public void onOpen(final Session session) {
-        log.info("websocket on client[{}] open successful....", getClientIp(session));
-        SESSION_SET.add(session);
+        boolean binary = websocketSyncProperties.isBinaryEnabled() && isProtocolV2(session);
+        log.info("websocket on client[{}] open successful, binary: {}....", getClientIp(session), binary);
+        SESSION_MAP.put(session, new WebsocketSessionSender(session, binary, websocketSyncProperties.getOutboundQueueCapacity(), websocketSyncProperties.getFrameChunkSize()));
+    }
+
+    private static boolean isProtocolV2(final Session session) {
+        Map<String, Object> userProperties = session.getUserProperties();
+        return MapUtils.isNotEmpty(userProperties) && WebsocketFrameUtils.PROTOCOL_V2.equals(userProperties.get(WebsocketFrameUtils.PROTOCOL_HEADER));
     }
 
     private static String getClientIp(final Session session) {
@@ -97,7 +120,7 @@ public class WebsocketCollector {
      */
     @OnClose
     public void onClose(final Session session) {
-        SESSION_SET.remove(session);
+        SESSION_MAP.remove(session);
         ThreadLocalUtil.clear();
         log.warn("websocket close on client[{}]", getClientIp(session));
     }
@@ -110,7 +133,7 @@ public class WebsocketCollector {
      */
     @OnError
     public void onError(final Session session, final Throwable error) {
-        SESSION_SET.remove(session);
+        SESSION_MAP.remove(session);
         ThreadLocalUtil.clear();
         log.error("websocket collection on client[{}] error: ", getClientIp(session), error);
     }
@@ -125,20 +148,32 @@ public class WebsocketCollector {
         if (StringUtils.isNotBlank(message)) {
             if (DataEventTypeEnum.MYSELF == type) {
                 Session session = (Session) ThreadLocalUtil.get(SESSION_KEY);
-                if (session != null) {
-                    sendMessageBySession(session, message);
+                WebsocketSessionSender sender = null == session ? null : SESSION_MAP.get(session);
+                if (sender != null) {
+                    sendMessageBySender(sender, message, null);
                 }
             } else {
-                SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+                // the binary frames are encoded once and shared by the sessions.
+                List<ByteBuffer> binaryFrames = null;
+                for (WebsocketSessionSender sender : SESSION_MAP.values()) {
+                    if (sender.isBinary() && null == binaryFrames) {
+                        binaryFrames = encode(message, sender.getFrameChunkSize());
+                    }
+                    sendMessageBySender(sender, message, binaryFrames);
+                }
             }
         }
     }
 
-    private static void sendMessageBySession(final Session session, final String message) {
-        try {
-            session.getBasicRemote().sendText(message);
-        } catch (IOException e) {
-            log.error("websocket send result is exception: ", e);
+    private static void sendMessageBySender(final WebsocketSessionSender sender, final String message, final List<ByteBuffer> binaryFrames) {
+        if (sender.isBinary()) {
+            sender.send(null == binaryFrames ? encode(message, sender.getFrameChunkSize()) : binaryFrames);
+        } else {
+            sender.send(message);
         }
     }
+
+    private static List<ByteBuffer> encode(final String message, final int frameChunkSize) {
+        return WebsocketFrameUtils.encode(message, MESSAGE_ID.incrementAndGet(), frameChunkSize);
+    }
 }
@@ -18,14 +18,20 @@
 package org.apache.shenyu.admin.listener.websocket;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.spring.SpringBeanUtils;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 
 import javax.servlet.http.HttpSession;
 import javax.websocket.HandshakeResponse;
 import javax.websocket.server.HandshakeRequest;
 import javax.websocket.server.ServerEndpointConfig;
+import java.util.Objects;
 
 /**
  * The Websocket configurator.
+ * The client ip and the sync protocol of a handshake are both recorded in its http session by {@link WebsocketListener},
+ * and the endpoint is the {@link WebsocketCollector} bean of the spring context.
  *
  * @since 2.0.0
  */
@@ -36,6 +42,13 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator {
     public void modifyHandshake(final ServerEndpointConfig sec, final HandshakeRequest request, final HandshakeResponse response) {
         HttpSession httpSession = (HttpSession) request.getHttpSession();
         sec.getUserProperties().put(WebsocketListener.CLIENT_IP_NAME, httpSession.getAttribute(WebsocketListener.CLIENT_IP_NAME));
+        Object protocol = httpSession.getAttribute(WebsocketFrameUtils.PROTOCOL_HEADER);
+        sec.getUserProperties().put(WebsocketFrameUtils.PROTOCOL_HEADER, Objects.isNull(protocol) ? StringUtils.EMPTY : protocol);
         super.modifyHandshake(sec, request, response);
     }
+
+    @Override
+    public <T> T getEndpointInstance(final Class<T> clazz) {
+        return SpringBeanUtils.getInstance().getBean(clazz);
+    }
 }
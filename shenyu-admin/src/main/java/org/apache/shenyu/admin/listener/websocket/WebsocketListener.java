@@ -18,6 +18,7 @@
 package org.apache.shenyu.admin.listener.websocket;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 import org.springframework.context.annotation.Configuration;
 
 import javax.servlet.ServletRequestEvent;
@@ -46,6 +47,7 @@ public class WebsocketListener implements ServletRequestListener {
                 HttpSession session = request.getSession();
                 request.removeAttribute(CLIENT_IP_NAME);
                 session.removeAttribute(CLIENT_IP_NAME);
+                session.removeAttribute(WebsocketFrameUtils.PROTOCOL_HEADER);
             }
         } catch (Exception e) {
             log.error("", e);
@@ -60,6 +62,7 @@ public class WebsocketListener implements ServletRequestListener {
                 HttpSession session = request.getSession();
                 request.setAttribute(CLIENT_IP_NAME, sre.getServletRequest().getRemoteAddr());
                 session.setAttribute(CLIENT_IP_NAME, sre.getServletRequest().getRemoteAddr());
+                session.setAttribute(WebsocketFrameUtils.PROTOCOL_HEADER, request.getHeader(WebsocketFrameUtils.PROTOCOL_HEADER));
             }
         } catch (Exception e) {
             log.error("", e);
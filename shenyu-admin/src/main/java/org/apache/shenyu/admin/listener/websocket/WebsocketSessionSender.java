@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.websocket.CloseReason;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the frames of a session one at a time with the async remote, so a slow client never blocks the others.
+ * A client with more than the capacity frames waiting is disconnected, and syncs all the data when it reconnects.
+ */
+@Slf4j
+final class WebsocketSessionSender implements SendHandler {
+
+    private final Session session;
+
+    private final boolean binary;
+
+    private final int capacity;
+
+    private final int frameChunkSize;
+
+    private final Queue<Object> frames = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Instantiates a new Websocket session sender.
+     *
+     * @param session  the session
+     * @param binary   whether the session takes the v2 binary frames
+     * @param capacity the max frames waiting to be sent
+     * @param frameChunkSize the max payload of a binary frame
+     */
+    WebsocketSessionSender(final Session session, final boolean binary, final int capacity, final int frameChunkSize) {
+        this.session = session;
+        this.binary = binary;
+        this.capacity = capacity;
+        this.frameChunkSize = frameChunkSize;
+    }
+
+    /**
+     * Whether the session takes the v2 binary frames.
+     *
+     * @return true if binary
+     */
+    boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * The max payload of a binary frame.
+     *
+     * @return the frame chunk size
+     */
+    int getFrameChunkSize() {
+        return frameChunkSize;
+    }
+
+    /**
+     * Queue a text message.
+     *
+     * @param message the message
+     */
+    void send(final String message) {
+        if (offer(1)) {
+            synchronized (frames) {
+                frames.offer(message);
+            }
+            drain();
+        }
+    }
+
+    /**
+     * Queue the binary frames of a message.
+     *
+     * @param binaryFrames the read only frames shared by the sessions
+     */
+    void send(final List<ByteBuffer> binaryFrames) {
+        if (offer(binaryFrames.size())) {
+            // keep the chunks of a message together.
+            synchronized (frames) {
+                binaryFrames.forEach(frame -> frames.offer(frame.duplicate()));
+            }
+            drain();
+        }
+    }
+
+    @Override
+    public void onResult(final SendResult result) {
+        if (!result.isOK()) {
+            log.error("websocket send result is exception: ", result.getException());
+            close(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "send failed");
+            return;
+        }
+        sending.set(false);
+        drain();
+    }
+
+    private boolean offer(final int count) {
+        if (closed.get()) {
+            return false;
+        }
+        if (size.addAndGet(count) > capacity) {
+            log.warn("websocket client[{}] is too slow, {} frames waiting, disconnect it", session.getId(), size.get());
+            close(CloseReason.CloseCodes.TRY_AGAIN_LATER, "slow consumer");
+            return false;
+        }
+        return true;
+    }
+
+    private void drain() {
+        while (!frames.isEmpty() && sending.compareAndSet(false, true)) {
+            Object frame = frames.poll();
+            if (null == frame) {
+                sending.set(false);
+                continue;
+            }
+            size.decrementAndGet();
+            try {
+                RemoteEndpoint.Async remote = session.getAsyncRemote();
+                if (frame instanceof ByteBuffer) {
+                    remote.sendBinary((ByteBuffer) frame, this);
+                } else {
+                    remote.sendText((String) frame, this);
+                }
+            } catch (IllegalStateException e) {
+                log.error("websocket send result is exception: ", e);
+                close(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "send failed");
+            }
+            return;
+        }
+    }
+
+    private void close(final CloseReason.CloseCode closeCode, final String reason) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        frames.clear();
+        try {
+            session.close(new CloseReason(closeCode, reason));
+        } catch (IOException e) {
+            log.error("websocket close is exception: ", e);
+        }
+    }
+}
@@ -53,6 +53,14 @@ public interface MetaDataMapper {
      */
     MetaDataDO findByPath(String path);
 
+    /**
+     * Find by paths list.
+     *
+     * @param paths the paths
+     * @return the list
+     */
+    List<MetaDataDO> findByPaths(List<String> paths);
+
     /**
      * Find by service name and method meta data do.
      *
@@ -93,6 +101,14 @@ public interface MetaDataMapper {
      */
     int insert(MetaDataDO metaDataDO);
 
+    /**
+     * Batch save int.
+     *
+     * @param metaDataDOList the meta data do list
+     * @return the int
+     */
+    int batchSave(@Param("metaDataDOList") List<MetaDataDO> metaDataDOList);
+
     /**
      * Update int.
      *
@@ -37,6 +37,14 @@ public interface PluginMapper {
      */
     PluginDO selectById(String id);
 
+    /**
+     * select plugins by ids.
+     *
+     * @param ids the plugin ids
+     * @return {@linkplain List}
+     */
+    List<PluginDO> selectByIds(List<String> ids);
+
     /**
      * Select by name plugin do.
      *
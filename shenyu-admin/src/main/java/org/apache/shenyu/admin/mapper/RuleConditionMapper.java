@@ -18,6 +18,7 @@
 package org.apache.shenyu.admin.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.shenyu.admin.model.entity.RuleConditionDO;
 import org.apache.shenyu.admin.model.query.RuleConditionQuery;
 
@@ -45,6 +46,14 @@ public interface RuleConditionMapper {
      */
     List<RuleConditionDO> selectByQuery(RuleConditionQuery ruleConditionQuery);
 
+    /**
+     * select rule conditions by rule ids.
+     *
+     * @param ruleIds the rule ids
+     * @return {@linkplain List}
+     */
+    List<RuleConditionDO> selectByRuleIds(List<String> ruleIds);
+
     /**
      * insert rule condition.
      *
@@ -53,6 +62,14 @@ public interface RuleConditionMapper {
      */
     int insert(RuleConditionDO ruleConditionDO);
 
+    /**
+     * batch insert rule conditions.
+     *
+     * @param ruleConditionDOList the rule condition do list
+     * @return rows int
+     */
+    int batchSave(@Param("ruleConditionDOList") List<RuleConditionDO> ruleConditionDOList);
+
     /**
      * insert selective rule condition.
      *
@@ -18,6 +18,7 @@
 package org.apache.shenyu.admin.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.shenyu.admin.model.entity.RuleDO;
 import org.apache.shenyu.admin.model.query.RuleQuery;
 
@@ -61,6 +62,14 @@ public interface RuleMapper {
      */
     RuleDO findByName(String name);
 
+    /**
+     * select rules by names.
+     *
+     * @param names the names
+     * @return the list of rule do
+     */
+    List<RuleDO> findByNames(List<String> names);
+
     /**
      * count rule by query.
      *
@@ -77,6 +86,14 @@ public interface RuleMapper {
      */
     int insert(RuleDO ruleDO);
 
+    /**
+     * batch insert rules.
+     *
+     * @param ruleDOList the rule do list
+     * @return rows int
+     */
+    int batchSave(@Param("ruleDOList") List<RuleDO> ruleDOList);
+
     /**
      * insert selective rule.
      *
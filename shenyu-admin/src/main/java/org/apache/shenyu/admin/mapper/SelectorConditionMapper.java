@@ -45,6 +45,14 @@ public interface SelectorConditionMapper {
      */
     List<SelectorConditionDO> selectByQuery(SelectorConditionQuery selectorConditionQuery);
 
+    /**
+     * select selector conditions by selector ids.
+     *
+     * @param selectorIds the selector ids
+     * @return {@linkplain List}
+     */
+    List<SelectorConditionDO> selectBySelectorIds(List<String> selectorIds);
+
     /**
      * insert selector condition.
      *
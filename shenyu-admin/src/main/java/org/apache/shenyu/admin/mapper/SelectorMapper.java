@@ -18,6 +18,7 @@
 package org.apache.shenyu.admin.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.shenyu.admin.model.entity.SelectorDO;
 import org.apache.shenyu.admin.model.query.SelectorQuery;
 
@@ -37,6 +38,14 @@ public interface SelectorMapper {
      */
     SelectorDO selectById(String id);
 
+    /**
+     * select selectors by ids.
+     *
+     * @param ids the selector ids
+     * @return {@linkplain List}
+     */
+    List<SelectorDO> selectByIds(List<String> ids);
+
     /**
      * select selector by query.
      *
@@ -63,6 +72,15 @@ public interface SelectorMapper {
      */
     SelectorDO selectByName(String name);
 
+    /**
+     * select the selectors of the plugins by names.
+     *
+     * @param pluginIds the plugin ids
+     * @param names     the names
+     * @return the list of selector do
+     */
+    List<SelectorDO> selectByPluginIdsAndNames(@Param("pluginIds") List<String> pluginIds, @Param("names") List<String> names);
+
     /**
      * count selector by query.
      *
@@ -103,6 +121,14 @@ public interface SelectorMapper {
      */
     int updateSelective(SelectorDO selectorDO);
 
+    /**
+     * update the handles of selectors in one statement.
+     *
+     * @param selectorDOList the selectors with their ids and handles
+     * @return rows int
+     */
+    int updateHandles(List<SelectorDO> selectorDOList);
+
     /**
      * delete selector.
      *
@@ -82,6 +82,14 @@ public interface ShenyuClientRegisterService {
      */
     String registerMotan(MetaDataRegisterDTO metaDataRegisterDTO);
 
+    /**
+     * Register a batch of clients, coalesced per selector.
+     *
+     * @param metaDataRegisterDTOList the meta data register dto list
+     * @return the string
+     */
+    String batchRegister(List<MetaDataRegisterDTO> metaDataRegisterDTOList);
+
     /**
      * mvc uri upstream update.
      * @param contextPath context paht
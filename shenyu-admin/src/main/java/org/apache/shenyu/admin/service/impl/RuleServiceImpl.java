@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.service.impl;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.interceptor.annotation.DataPermission;
 import org.apache.shenyu.admin.listener.DataChangedEvent;
@@ -54,6 +55,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -63,6 +65,8 @@ import java.util.stream.Collectors;
 @Service("ruleService")
 public class RuleServiceImpl implements RuleService {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final RuleMapper ruleMapper;
 
     private final RuleConditionMapper ruleConditionMapper;
@@ -200,20 +204,12 @@ public class RuleServiceImpl implements RuleService {
 
     @Override
     public List<RuleData> listAll() {
-        return ruleMapper.selectAll()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(this::buildRuleData)
-                .collect(Collectors.toList());
+        return buildRuleDataList(ruleMapper.selectAll());
     }
 
     @Override
     public List<RuleData> findBySelectorId(final String selectorId) {
-        return ruleMapper.findBySelectorId(selectorId)
-                .stream()
-                .filter(Objects::nonNull)
-                .map(this::buildRuleData)
-                .collect(Collectors.toList());
+        return buildRuleDataList(ruleMapper.findBySelectorId(selectorId));
     }
 
     private void publishEvent(final RuleDO ruleDO, final List<RuleConditionDTO> ruleConditions) {
@@ -227,22 +223,36 @@ public class RuleServiceImpl implements RuleService {
                 Collections.singletonList(RuleDO.transFrom(ruleDO, pluginDO.getName(), conditionDataList))));
     }
 
-    private RuleData buildRuleData(final RuleDO ruleDO) {
-        // query for conditions
-        List<ConditionData> conditions = ruleConditionMapper.selectByQuery(
-                new RuleConditionQuery(ruleDO.getId()))
-                .stream()
+    /**
+     * Build the rule data of the rules with the conditions, selectors and plugins loaded in batches,
+     * instead of three queries per rule.
+     *
+     * @param ruleDOList the rules
+     * @return the rule data of the rules whose selector and plugin exist
+     */
+    private List<RuleData> buildRuleDataList(final List<RuleDO> ruleDOList) {
+        List<RuleDO> ruleDOs = ruleDOList.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (ruleDOs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> ruleIds = ruleDOs.stream().map(RuleDO::getId).collect(Collectors.toList());
+        Map<String, List<ConditionData>> conditionMap = Lists.partition(ruleIds, BATCH_SIZE).stream()
+                .flatMap(ids -> ruleConditionMapper.selectByRuleIds(ids).stream())
                 .filter(Objects::nonNull)
-                .map(ConditionTransfer.INSTANCE::mapToRuleDO)
+                .collect(Collectors.groupingBy(RuleConditionDO::getRuleId,
+                        Collectors.mapping(ConditionTransfer.INSTANCE::mapToRuleDO, Collectors.toList())));
+        List<String> selectorIds = ruleDOs.stream().map(RuleDO::getSelectorId).distinct().collect(Collectors.toList());
+        Map<String, String> selectorPluginMap = Lists.partition(selectorIds, BATCH_SIZE).stream()
+                .flatMap(ids -> selectorMapper.selectByIds(ids).stream())
+                .collect(Collectors.toMap(SelectorDO::getId, SelectorDO::getPluginId, (pluginId, other) -> pluginId));
+        List<String> pluginIds = selectorPluginMap.values().stream().distinct().collect(Collectors.toList());
+        Map<String, String> pluginNameMap = Lists.partition(pluginIds, BATCH_SIZE).stream()
+                .flatMap(ids -> pluginMapper.selectByIds(ids).stream())
+                .collect(Collectors.toMap(PluginDO::getId, PluginDO::getName, (name, other) -> name));
+        return ruleDOs.stream()
+                .filter(ruleDO -> pluginNameMap.containsKey(selectorPluginMap.get(ruleDO.getSelectorId())))
+                .map(ruleDO -> RuleDO.transFrom(ruleDO, pluginNameMap.get(selectorPluginMap.get(ruleDO.getSelectorId())),
+                        conditionMap.getOrDefault(ruleDO.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
-        SelectorDO selectorDO = selectorMapper.selectById(ruleDO.getSelectorId());
-        if (Objects.isNull(selectorDO)) {
-            return null;
-        }
-        PluginDO pluginDO = pluginMapper.selectById(selectorDO.getPluginId());
-        if (Objects.isNull(pluginDO)) {
-            return null;
-        }
-        return RuleDO.transFrom(ruleDO, pluginDO.getName(), conditions);
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.service.impl;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.interceptor.annotation.DataPermission;
@@ -61,6 +62,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -70,6 +72,8 @@ import java.util.stream.Collectors;
 @Service("selectorService")
 public class SelectorServiceImpl implements SelectorService {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final SelectorMapper selectorMapper;
 
     private final SelectorConditionMapper selectorConditionMapper;
@@ -256,19 +260,12 @@ public class SelectorServiceImpl implements SelectorService {
 
     @Override
     public List<SelectorData> findByPluginId(final String pluginId) {
-        return selectorMapper.findByPluginId(pluginId)
-                .stream()
-                .map(this::buildSelectorData)
-                .collect(Collectors.toList());
+        return buildSelectorDataList(selectorMapper.findByPluginId(pluginId));
     }
 
     @Override
     public List<SelectorData> listAll() {
-        return selectorMapper.selectAll()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(this::buildSelectorData)
-                .collect(Collectors.toList());
+        return buildSelectorDataList(selectorMapper.selectAll());
     }
 
     private void publishEvent(final SelectorDO selectorDO, final List<SelectorConditionDTO> selectorConditionDTOs) {
@@ -291,6 +288,34 @@ public class SelectorServiceImpl implements SelectorService {
         return SelectorDO.transFrom(selectorDO, pluginDO.getName(), conditionDataList);
     }
 
+    /**
+     * Build the selector data of the selectors with the conditions and plugins loaded in batches,
+     * instead of two queries per selector.
+     *
+     * @param selectorDOList the selectors
+     * @return the selector data of the selectors whose plugin exists
+     */
+    private List<SelectorData> buildSelectorDataList(final List<SelectorDO> selectorDOList) {
+        List<SelectorDO> selectorDOs = selectorDOList.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (selectorDOs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> selectorIds = selectorDOs.stream().map(SelectorDO::getId).collect(Collectors.toList());
+        Map<String, List<ConditionData>> conditionMap = Lists.partition(selectorIds, BATCH_SIZE).stream()
+                .flatMap(ids -> selectorConditionMapper.selectBySelectorIds(ids).stream())
+                .collect(Collectors.groupingBy(SelectorConditionDO::getSelectorId,
+                        Collectors.mapping(ConditionTransfer.INSTANCE::mapToSelectorDO, Collectors.toList())));
+        List<String> pluginIds = selectorDOs.stream().map(SelectorDO::getPluginId).distinct().collect(Collectors.toList());
+        Map<String, String> pluginNameMap = Lists.partition(pluginIds, BATCH_SIZE).stream()
+                .flatMap(ids -> pluginMapper.selectByIds(ids).stream())
+                .collect(Collectors.toMap(PluginDO::getId, PluginDO::getName, (name, other) -> name));
+        return selectorDOs.stream()
+                .filter(selectorDO -> pluginNameMap.containsKey(selectorDO.getPluginId()))
+                .map(selectorDO -> SelectorDO.transFrom(selectorDO, pluginNameMap.get(selectorDO.getPluginId()),
+                        conditionMap.getOrDefault(selectorDO.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
     private void updateDivideUpstream(final SelectorDO selectorDO) {
         PluginDO pluginDO = pluginMapper.selectByName(PluginEnum.DIVIDE.getName());
         if (Objects.nonNull(pluginDO) && pluginDO.getId().equals(selectorDO.getPluginId())) {
@@ -17,9 +17,13 @@
 
 package org.apache.shenyu.admin.service.impl;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.mapper.MetaDataMapper;
 import org.apache.shenyu.admin.mapper.PluginMapper;
+import org.apache.shenyu.admin.mapper.RuleConditionMapper;
 import org.apache.shenyu.admin.mapper.RuleMapper;
 import org.apache.shenyu.admin.mapper.SelectorMapper;
 import org.apache.shenyu.admin.service.RuleService;
@@ -31,11 +35,16 @@ import org.apache.shenyu.admin.model.dto.SelectorConditionDTO;
 import org.apache.shenyu.admin.model.dto.SelectorDTO;
 import org.apache.shenyu.admin.model.entity.MetaDataDO;
 import org.apache.shenyu.admin.model.entity.PluginDO;
+import org.apache.shenyu.admin.model.entity.RuleConditionDO;
 import org.apache.shenyu.admin.model.entity.RuleDO;
 import org.apache.shenyu.admin.model.entity.SelectorDO;
 import org.apache.shenyu.admin.listener.DataChangedEvent;
 import org.apache.shenyu.admin.service.SelectorService;
+import org.apache.shenyu.admin.transfer.ConditionTransfer;
 import org.apache.shenyu.admin.transfer.MetaDataTransfer;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
 import org.apache.shenyu.common.dto.convert.rule.RuleHandle;
@@ -58,19 +67,38 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * The type shenyu client register service.
+ *
+ * <p>Registrations are serialized per selector rather than globally, so clients of different
+ * selectors register concurrently, and {@link #batchRegister(List)} coalesces the registrations
+ * of a flush window into batched SQL and one change event per config group.
  */
+@Slf4j
 @Service("shenyuClientRegisterService")
 public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterService {
 
     private static final String CONTEXT_PATH_NAME_PREFIX = "/context-path";
 
+    private static final int BATCH_SIZE = 1000;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Striped<Lock> selectorLocks = Striped.lazyWeakLock(LOCK_STRIPES);
+
     private final MetaDataMapper metaDataMapper;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -81,6 +109,8 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
 
     private final RuleMapper ruleMapper;
 
+    private final RuleConditionMapper ruleConditionMapper;
+
     private final UpstreamCheckService upstreamCheckService;
 
     private final SelectorMapper selectorMapper;
@@ -95,6 +125,7 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
      * @param selectorService      the selector service
      * @param ruleService          the rule service
      * @param ruleMapper           the rule mapper
+     * @param ruleConditionMapper  the rule condition mapper
      * @param upstreamCheckService the upstream check service
      * @param selectorMapper       the selector mapper
      * @param pluginMapper         the plugin mapper
@@ -105,6 +136,7 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
                                            final SelectorService selectorService,
                                            final RuleService ruleService,
                                            final RuleMapper ruleMapper,
+                                           final RuleConditionMapper ruleConditionMapper,
                                            final UpstreamCheckService upstreamCheckService,
                                            final SelectorMapper selectorMapper,
                                            final PluginMapper pluginMapper) {
@@ -113,6 +145,7 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
         this.selectorService = selectorService;
         this.ruleService = ruleService;
         this.ruleMapper = ruleMapper;
+        this.ruleConditionMapper = ruleConditionMapper;
         this.upstreamCheckService = upstreamCheckService;
         this.selectorMapper = selectorMapper;
         this.pluginMapper = pluginMapper;
@@ -120,38 +153,42 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
 
     @Override
     @Transactional
-    public synchronized String registerSpringMvc(final MetaDataRegisterDTO dto) {
-        if (dto.isRegisterMetaData()) {
-            MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
-            if (Objects.isNull(exist)) {
-                saveSpringMvcMetaData(dto);
+    public String registerSpringMvc(final MetaDataRegisterDTO dto) {
+        return withSelectorLock(selectorName(dto), () -> {
+            if (dto.isRegisterMetaData()) {
+                MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
+                if (Objects.isNull(exist)) {
+                    saveSpringMvcMetaData(dto);
+                }
             }
-        }
-        String selectorId = handlerSelector(dto);
-        handlerSpringMvcRule(selectorId, dto);
-        String contextPath = dto.getContextPath();
-        if (StringUtils.isNotEmpty(contextPath)) {
-            //register context path plugin
-            registerContextPathPlugin(contextPath);
-        }
-        return ShenyuResultMessage.SUCCESS;
+            String selectorId = handlerSelector(dto);
+            handlerSpringMvcRule(selectorId, dto);
+            String contextPath = dto.getContextPath();
+            if (StringUtils.isNotEmpty(contextPath)) {
+                //register context path plugin
+                registerContextPathPlugin(contextPath);
+            }
+            return ShenyuResultMessage.SUCCESS;
+        });
     }
 
     @Override
     @Transactional
-    public synchronized String registerSpringCloud(final MetaDataRegisterDTO dto) {
-        MetaDataDO metaDataDO = metaDataMapper.findByPath(dto.getContextPath() + "/**");
-        if (Objects.isNull(metaDataDO)) {
-            saveSpringCloudMetaData(dto);
-        }
-        String selectorId = handlerSpringCloudSelector(dto);
-        handlerSpringCloudRule(selectorId, dto);
-        String contextPath = dto.getContextPath();
-        if (StringUtils.isNotEmpty(contextPath)) {
-            //register context path plugin
-            registerContextPathPlugin(contextPath);
-        }
-        return ShenyuResultMessage.SUCCESS;
+    public String registerSpringCloud(final MetaDataRegisterDTO dto) {
+        return withSelectorLock(selectorName(dto), () -> {
+            MetaDataDO metaDataDO = metaDataMapper.findByPath(dto.getContextPath() + "/**");
+            if (Objects.isNull(metaDataDO)) {
+                saveSpringCloudMetaData(dto);
+            }
+            String selectorId = handlerSpringCloudSelector(dto);
+            handlerSpringCloudRule(selectorId, dto);
+            String contextPath = dto.getContextPath();
+            if (StringUtils.isNotEmpty(contextPath)) {
+                //register context path plugin
+                registerContextPathPlugin(contextPath);
+            }
+            return ShenyuResultMessage.SUCCESS;
+        });
     }
 
     private void registerContextPathPlugin(final String contextPath) {
@@ -168,62 +205,298 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
 
     @Override
     @Transactional
-    public synchronized String registerDubbo(final MetaDataRegisterDTO dto) {
-        MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
-        saveOrUpdateMetaData(exist, dto);
-        String selectorId = handlerDubboSelector(dto);
-        handlerDubboRule(selectorId, dto);
-        return ShenyuResultMessage.SUCCESS;
+    public String registerDubbo(final MetaDataRegisterDTO dto) {
+        return withSelectorLock(selectorName(dto), () -> {
+            MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
+            saveOrUpdateMetaData(exist, dto);
+            String selectorId = handlerDubboSelector(dto);
+            handlerDubboRule(selectorId, dto);
+            return ShenyuResultMessage.SUCCESS;
+        });
     }
 
     @Override
-    public synchronized String registerSofa(final MetaDataRegisterDTO dto) {
-        MetaDataDO metaDataDO = metaDataMapper.findByPath(dto.getPath());
-        if (Objects.nonNull(metaDataDO)
-                && (!metaDataDO.getMethodName().equals(dto.getMethodName())
-                || !metaDataDO.getServiceName().equals(dto.getServiceName()))) {
-            return "you path already exist!";
-        }
-        final MetaDataDO exist = metaDataMapper.findByServiceNameAndMethod(dto.getServiceName(), dto.getMethodName());
-        saveOrUpdateMetaData(exist, dto);
-        String selectorId = handlerSofaSelector(dto);
-        handlerSofaRule(selectorId, dto, exist);
-        return ShenyuResultMessage.SUCCESS;
+    public String registerSofa(final MetaDataRegisterDTO dto) {
+        return withSelectorLock(selectorName(dto), () -> {
+            MetaDataDO metaDataDO = metaDataMapper.findByPath(dto.getPath());
+            if (Objects.nonNull(metaDataDO)
+                    && (!metaDataDO.getMethodName().equals(dto.getMethodName())
+                    || !metaDataDO.getServiceName().equals(dto.getServiceName()))) {
+                return "you path already exist!";
+            }
+            final MetaDataDO exist = metaDataMapper.findByServiceNameAndMethod(dto.getServiceName(), dto.getMethodName());
+            saveOrUpdateMetaData(exist, dto);
+            String selectorId = handlerSofaSelector(dto);
+            handlerSofaRule(selectorId, dto, exist);
+            return ShenyuResultMessage.SUCCESS;
+        });
     }
 
     @Override
-    public synchronized String registerTars(final MetaDataRegisterDTO dto) {
-        MetaDataDO byPath = metaDataMapper.findByPath(dto.getPath());
-        if (Objects.nonNull(byPath)
-                && (!byPath.getMethodName().equals(dto.getMethodName())
-                || !byPath.getServiceName().equals(dto.getServiceName()))) {
-            return "you path already exist!";
-        }
-        final MetaDataDO exist = metaDataMapper.findByServiceNameAndMethod(dto.getServiceName(), dto.getMethodName());
-        saveOrUpdateMetaData(exist, dto);
-        String selectorId = handlerSelector(dto);
-        handlerTarsRule(selectorId, dto, exist);
-        return ShenyuResultMessage.SUCCESS;
+    public String registerTars(final MetaDataRegisterDTO dto) {
+        return withSelectorLock(selectorName(dto), () -> {
+            MetaDataDO byPath = metaDataMapper.findByPath(dto.getPath());
+            if (Objects.nonNull(byPath)
+                    && (!byPath.getMethodName().equals(dto.getMethodName())
+                    || !byPath.getServiceName().equals(dto.getServiceName()))) {
+                return "you path already exist!";
+            }
+            final MetaDataDO exist = metaDataMapper.findByServiceNameAndMethod(dto.getServiceName(), dto.getMethodName());
+            saveOrUpdateMetaData(exist, dto);
+            String selectorId = handlerSelector(dto);
+            handlerTarsRule(selectorId, dto, exist);
+            return ShenyuResultMessage.SUCCESS;
+        });
     }
 
     @Override
-    public synchronized String registerGrpc(final MetaDataRegisterDTO dto) {
-        MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
-        saveOrUpdateMetaData(exist, dto);
-        String selectorId = handlerSelector(dto);
-        handlerGrpcRule(selectorId, dto, exist);
-        return ShenyuResultMessage.SUCCESS;
+    public String registerGrpc(final MetaDataRegisterDTO dto) {
+        return withSelectorLock(selectorName(dto), () -> {
+            MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
+            saveOrUpdateMetaData(exist, dto);
+            String selectorId = handlerSelector(dto);
+            handlerGrpcRule(selectorId, dto, exist);
+            return ShenyuResultMessage.SUCCESS;
+        });
     }
 
     @Override
     public String registerMotan(final MetaDataRegisterDTO dto) {
-        MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
-        saveOrUpdateMetaData(exist, dto);
-        String selectorId = handlerSelector(dto);
-        handlerMotanRule(selectorId, dto, exist);
+        return withSelectorLock(selectorName(dto), () -> {
+            MetaDataDO exist = metaDataMapper.findByPath(dto.getPath());
+            saveOrUpdateMetaData(exist, dto);
+            String selectorId = handlerSelector(dto);
+            handlerMotanRule(selectorId, dto, exist);
+            return ShenyuResultMessage.SUCCESS;
+        });
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public String batchRegister(final List<MetaDataRegisterDTO> metaDataRegisterDTOList) {
+        List<SelectorData> selectorDataList = new ArrayList<>();
+        List<RuleData> ruleDataList = new ArrayList<>();
+        List<MetaData> metaDataList = new ArrayList<>();
+        // the rpc types sharing a context path are registered apart, as they would be one by one.
+        Map<String, Map<String, List<MetaDataRegisterDTO>>> selectorGroups = metaDataRegisterDTOList.stream()
+                .collect(Collectors.groupingBy(this::selectorName, LinkedHashMap::new,
+                        Collectors.groupingBy(dto -> Objects.toString(dto.getRpcType(), ""), LinkedHashMap::new, Collectors.toList())));
+        selectorGroups.forEach((selectorName, rpcTypeGroups) -> withSelectorLock(selectorName, () -> {
+            rpcTypeGroups.values().forEach(dtoList -> registerSelectorGroup(selectorName, dtoList, selectorDataList, ruleDataList, metaDataList));
+            return selectorName;
+        }));
+        // publish one change event per config group for the whole batch.
+        if (!selectorDataList.isEmpty()) {
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.UPDATE, selectorDataList));
+        }
+        if (!ruleDataList.isEmpty()) {
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, ruleDataList));
+        }
+        if (!metaDataList.isEmpty()) {
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.UPDATE, metaDataList));
+        }
         return ShenyuResultMessage.SUCCESS;
     }
 
+    /**
+     * Register the clients of one selector and rpc type, looking up the meta data and rules of the whole group at once.
+     *
+     * @param selectorName     the selector name
+     * @param dtoList          the registrations of the selector, all of the same rpc type
+     * @param selectorDataList collects the changed selectors
+     * @param ruleDataList     collects the created rules
+     * @param metaDataList     collects the saved meta data
+     * @return the selector id
+     */
+    private String registerSelectorGroup(final String selectorName, final List<MetaDataRegisterDTO> dtoList, final List<SelectorData> selectorDataList,
+                                         final List<RuleData> ruleDataList, final List<MetaData> metaDataList) {
+        MetaDataRegisterDTO first = dtoList.get(0);
+        SelectorDO selectorDO = selectorService.findByName(selectorName);
+        if (Objects.isNull(selectorDO)) {
+            selectorDO = selectorMapper.selectById(registerSelector(selectorName, first.getRpcType(), first.getAppName(), buildUri(first)));
+        }
+        if (isUpstreamSelector(first.getRpcType())) {
+            SelectorData selectorData = mergeUpstreams(selectorName, selectorDO, dtoList);
+            if (Objects.nonNull(selectorData)) {
+                selectorDataList.add(selectorData);
+            }
+        }
+        // the later registration of a path wins, as it would when registered one by one.
+        Map<String, MetaDataRegisterDTO> pathMap = new LinkedHashMap<>();
+        dtoList.forEach(dto -> pathMap.put(dto.getPath(), dto));
+        List<String> metaDataPaths = pathMap.values().stream().map(this::metaDataPath).distinct().collect(Collectors.toList());
+        Map<String, MetaDataDO> existMetaDataMap = Lists.partition(metaDataPaths, BATCH_SIZE).stream()
+                .flatMap(paths -> metaDataMapper.findByPaths(paths).stream())
+                .collect(Collectors.toMap(MetaDataDO::getPath, Function.identity(), (a, b) -> a));
+        List<String> ruleNames = pathMap.values().stream().map(this::existRuleName).distinct().collect(Collectors.toList());
+        Set<String> existRuleNames = Lists.partition(ruleNames, BATCH_SIZE).stream()
+                .flatMap(names -> ruleMapper.findByNames(names).stream())
+                .map(RuleDO::getName)
+                .collect(Collectors.toSet());
+        List<MetaDataDO> insertMetaDataList = new ArrayList<>();
+        List<RuleDTO> ruleDTOList = new ArrayList<>();
+        Set<String> newRuleNames = new HashSet<>();
+        for (MetaDataRegisterDTO dto : pathMap.values()) {
+            MetaDataDO exist = existMetaDataMap.get(metaDataPath(dto));
+            String rpcType = dto.getRpcType();
+            if (RpcTypeEnum.SOFA.getName().equals(rpcType) || RpcTypeEnum.TARS.getName().equals(rpcType)) {
+                if (Objects.nonNull(exist) && (!exist.getMethodName().equals(dto.getMethodName()) || !exist.getServiceName().equals(dto.getServiceName()))) {
+                    log.warn("{} client register path {} already exist, skip it", rpcType, dto.getPath());
+                    continue;
+                }
+                if (Objects.isNull(exist)) {
+                    exist = metaDataMapper.findByServiceNameAndMethod(dto.getServiceName(), dto.getMethodName());
+                }
+            }
+            MetaDataDO metaDataDO = batchSaveOrUpdateMetaData(exist, dto, insertMetaDataList);
+            if (Objects.nonNull(metaDataDO)) {
+                metaDataList.add(MetaDataTransfer.INSTANCE.mapToData(metaDataDO));
+                // the spring cloud clients of a context path share one meta data.
+                existMetaDataMap.putIfAbsent(metaDataPath(dto), metaDataDO);
+            }
+            boolean ruleRequired = !existRuleNames.contains(existRuleName(dto))
+                    || (Objects.isNull(exist) && !isSelfMetaData(rpcType) && !RpcTypeEnum.DUBBO.getName().equals(rpcType));
+            if (ruleRequired && newRuleNames.add(dto.getRuleName())) {
+                ruleDTOList.add(buildRuleDTO(selectorDO.getId(), dto.getPath(), rulePluginName(rpcType), dto.getRuleName()));
+            }
+        }
+        Lists.partition(insertMetaDataList, BATCH_SIZE).forEach(metaDataMapper::batchSave);
+        if (!ruleDTOList.isEmpty()) {
+            String pluginName = pluginMapper.selectById(selectorDO.getPluginId()).getName();
+            ruleDataList.addAll(batchSaveRules(ruleDTOList, pluginName));
+        }
+        String contextPath = first.getContextPath();
+        if (isSelfMetaData(first.getRpcType()) && StringUtils.isNotEmpty(contextPath)) {
+            //register context path plugin
+            registerContextPathPlugin(contextPath);
+        }
+        return selectorDO.getId();
+    }
+
+    private SelectorData mergeUpstreams(final String selectorName, final SelectorDO selectorDO, final List<MetaDataRegisterDTO> dtoList) {
+        String handle = selectorDO.getHandle();
+        List<DivideUpstream> upstreams = StringUtils.isBlank(handle) ? new ArrayList<>() : GsonUtils.getInstance().fromList(handle, DivideUpstream.class);
+        Set<String> upstreamUrls = upstreams.stream().map(DivideUpstream::getUpstreamUrl).collect(Collectors.toSet());
+        List<DivideUpstream> addDivideUpstreams = dtoList.stream()
+                .map(this::buildUri)
+                .filter(upstreamUrls::add)
+                .map(this::buildDivideUpstream)
+                .collect(Collectors.toList());
+        if (addDivideUpstreams.isEmpty()) {
+            return null;
+        }
+        upstreams.addAll(addDivideUpstreams);
+        selectorDO.setHandle(GsonUtils.getInstance().toJson(upstreams));
+        // update db
+        selectorMapper.updateSelective(selectorDO);
+        // fetch UPSTREAM_MAP data from db
+        upstreamCheckService.fetchUpstreamData();
+        // submit upstreamCheck
+        addDivideUpstreams.forEach(divideUpstream -> upstreamCheckService.submit(selectorName, divideUpstream));
+        SelectorData selectorData = selectorService.buildByName(selectorName);
+        selectorData.setHandle(selectorDO.getHandle());
+        return selectorData;
+    }
+
+    /**
+     * Save or update the meta data of a batched registration, the inserts are collected to save in batches.
+     *
+     * @param exist              the exist meta data
+     * @param dto                the registration
+     * @param insertMetaDataList collects the meta data to insert
+     * @return the saved meta data, or null if nothing changed
+     */
+    private MetaDataDO batchSaveOrUpdateMetaData(final MetaDataDO exist, final MetaDataRegisterDTO dto, final List<MetaDataDO> insertMetaDataList) {
+        String rpcType = dto.getRpcType();
+        if (RpcTypeEnum.HTTP.getName().equals(rpcType) || RpcTypeEnum.SPRING_CLOUD.getName().equals(rpcType)) {
+            if (Objects.nonNull(exist) || (RpcTypeEnum.HTTP.getName().equals(rpcType) && !dto.isRegisterMetaData())) {
+                return null;
+            }
+            MetaDataDO metaDataDO = RpcTypeEnum.HTTP.getName().equals(rpcType) ? buildSpringMvcMetaData(dto) : buildSpringCloudMetaData(dto);
+            insertMetaDataList.add(metaDataDO);
+            return metaDataDO;
+        }
+        MetaDataDO metaDataDO = buildMetaData(exist, dto);
+        if (Objects.isNull(exist)) {
+            insertMetaDataList.add(metaDataDO);
+        } else {
+            metaDataMapper.update(metaDataDO);
+        }
+        return metaDataDO;
+    }
+
+    private List<RuleData> batchSaveRules(final List<RuleDTO> ruleDTOList, final String pluginName) {
+        List<RuleDO> ruleDOList = new ArrayList<>(ruleDTOList.size());
+        List<RuleConditionDO> ruleConditionDOList = new ArrayList<>(ruleDTOList.size());
+        List<RuleData> ruleDataList = new ArrayList<>(ruleDTOList.size());
+        for (RuleDTO ruleDTO : ruleDTOList) {
+            RuleDO ruleDO = RuleDO.buildRuleDO(ruleDTO);
+            ruleDTO.getRuleConditions().forEach(ruleConditionDTO -> {
+                ruleConditionDTO.setRuleId(ruleDO.getId());
+                ruleConditionDOList.add(RuleConditionDO.buildRuleConditionDO(ruleConditionDTO));
+            });
+            List<ConditionData> conditionDataList = ruleDTO.getRuleConditions().stream()
+                    .map(ConditionTransfer.INSTANCE::mapToRuleDTO).collect(Collectors.toList());
+            ruleDOList.add(ruleDO);
+            ruleDataList.add(RuleDO.transFrom(ruleDO, pluginName, conditionDataList));
+        }
+        Lists.partition(ruleDOList, BATCH_SIZE).forEach(ruleMapper::batchSave);
+        Lists.partition(ruleConditionDOList, BATCH_SIZE).forEach(ruleConditionMapper::batchSave);
+        return ruleDataList;
+    }
+
+    private <T> T withSelectorLock(final String selectorName, final Supplier<T> supplier) {
+        Lock lock = selectorLocks.get(selectorName);
+        lock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String selectorName(final MetaDataRegisterDTO dto) {
+        String contextPath = dto.getContextPath();
+        return StringUtils.isEmpty(contextPath) ? buildContextPath(dto.getPath()) : contextPath;
+    }
+
+    private String metaDataPath(final MetaDataRegisterDTO dto) {
+        return RpcTypeEnum.SPRING_CLOUD.getName().equals(dto.getRpcType()) ? dto.getContextPath() + "/**" : dto.getPath();
+    }
+
+    /**
+     * The spring mvc and spring cloud clients look up their rules by rule name, the rpc clients by path.
+     *
+     * @param dto the registration
+     * @return the rule name to look up
+     */
+    private String existRuleName(final MetaDataRegisterDTO dto) {
+        return isSelfMetaData(dto.getRpcType()) ? dto.getRuleName() : dto.getPath();
+    }
+
+    /**
+     * The spring mvc and spring cloud clients only save their meta data once, and register the context path plugin.
+     *
+     * @param rpcType the rpc type
+     * @return whether it is a spring mvc or spring cloud client
+     */
+    private boolean isSelfMetaData(final String rpcType) {
+        return RpcTypeEnum.HTTP.getName().equals(rpcType) || RpcTypeEnum.SPRING_CLOUD.getName().equals(rpcType);
+    }
+
+    private boolean isUpstreamSelector(final String rpcType) {
+        return RpcTypeEnum.HTTP.getName().equals(rpcType) || RpcTypeEnum.TARS.getName().equals(rpcType)
+                || RpcTypeEnum.GRPC.getName().equals(rpcType) || RpcTypeEnum.MOTAN.getName().equals(rpcType);
+    }
+
+    private String rulePluginName(final String rpcType) {
+        return RpcTypeEnum.HTTP.getName().equals(rpcType) ? PluginEnum.DIVIDE.getName() : rpcType;
+    }
+
+    private String buildUri(final MetaDataRegisterDTO dto) {
+        return String.join(":", dto.getHost(), String.valueOf(dto.getPort()));
+    }
+
     private String handlerDubboSelector(final MetaDataRegisterDTO metaDataDTO) {
         return getString(metaDataDTO);
     }
@@ -287,8 +560,16 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
     }
 
     private void saveSpringMvcMetaData(final MetaDataRegisterDTO dto) {
+        MetaDataDO metaDataDO = buildSpringMvcMetaData(dto);
+        metaDataMapper.insert(metaDataDO);
+        // publish AppAuthData's event
+        eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.CREATE,
+                Collections.singletonList(MetaDataTransfer.INSTANCE.mapToData(metaDataDO))));
+    }
+
+    private MetaDataDO buildSpringMvcMetaData(final MetaDataRegisterDTO dto) {
         Timestamp currentTime = new Timestamp(System.currentTimeMillis());
-        MetaDataDO metaDataDO = MetaDataDO.builder()
+        return MetaDataDO.builder()
                 .appName(dto.getAppName())
                 .path(dto.getPath())
                 .pathDesc(dto.getPathDesc())
@@ -298,15 +579,19 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
                 .dateCreated(currentTime)
                 .dateUpdated(currentTime)
                 .build();
+    }
+
+    private void saveSpringCloudMetaData(final MetaDataRegisterDTO dto) {
+        MetaDataDO metaDataDO = buildSpringCloudMetaData(dto);
         metaDataMapper.insert(metaDataDO);
         // publish AppAuthData's event
         eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.CREATE,
                 Collections.singletonList(MetaDataTransfer.INSTANCE.mapToData(metaDataDO))));
     }
 
-    private void saveSpringCloudMetaData(final MetaDataRegisterDTO dto) {
+    private MetaDataDO buildSpringCloudMetaData(final MetaDataRegisterDTO dto) {
         Timestamp currentTime = new Timestamp(System.currentTimeMillis());
-        MetaDataDO metaDataDO = MetaDataDO.builder()
+        return MetaDataDO.builder()
                 .appName(dto.getAppName())
                 .path(dto.getContextPath() + "/**")
                 .pathDesc(dto.getAppName() + "spring cloud meta data info")
@@ -318,24 +603,15 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
                 .dateCreated(currentTime)
                 .dateUpdated(currentTime)
                 .build();
-        metaDataMapper.insert(metaDataDO);
-        // publish AppAuthData's event
-        eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.CREATE,
-                Collections.singletonList(MetaDataTransfer.INSTANCE.mapToData(metaDataDO))));
     }
 
     private void saveOrUpdateMetaData(final MetaDataDO exist, final MetaDataRegisterDTO metaDataDTO) {
         DataEventTypeEnum eventType;
-        MetaDataDO metaDataDO = MetaDataTransfer.INSTANCE.mapRegisterDTOToEntity(metaDataDTO);
+        MetaDataDO metaDataDO = buildMetaData(exist, metaDataDTO);
         if (Objects.isNull(exist)) {
-            Timestamp currentTime = new Timestamp(System.currentTimeMillis());
-            metaDataDO.setId(UUIDUtils.getInstance().generateShortUuid());
-            metaDataDO.setDateCreated(currentTime);
-            metaDataDO.setDateUpdated(currentTime);
             metaDataMapper.insert(metaDataDO);
             eventType = DataEventTypeEnum.CREATE;
         } else {
-            metaDataDO.setId(exist.getId());
             metaDataMapper.update(metaDataDO);
             eventType = DataEventTypeEnum.UPDATE;
         }
@@ -344,6 +620,19 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
                 Collections.singletonList(MetaDataTransfer.INSTANCE.mapRegisterDTOToEntity(metaDataDTO))));
     }
 
+    private MetaDataDO buildMetaData(final MetaDataDO exist, final MetaDataRegisterDTO metaDataDTO) {
+        MetaDataDO metaDataDO = MetaDataTransfer.INSTANCE.mapRegisterDTOToEntity(metaDataDTO);
+        if (Objects.isNull(exist)) {
+            Timestamp currentTime = new Timestamp(System.currentTimeMillis());
+            metaDataDO.setId(UUIDUtils.getInstance().generateShortUuid());
+            metaDataDO.setDateCreated(currentTime);
+            metaDataDO.setDateUpdated(currentTime);
+        } else {
+            metaDataDO.setId(exist.getId());
+        }
+        return metaDataDO;
+    }
+
     private String handlerSelector(final MetaDataRegisterDTO dto) {
         String contextPath = dto.getContextPath();
         if (StringUtils.isEmpty(contextPath)) {
@@ -489,6 +778,10 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
     }
 
     private void registerRule(final String selectorId, final String path, final String pluginName, final String ruleName) {
+        ruleService.register(buildRuleDTO(selectorId, path, pluginName, ruleName));
+    }
+
+    private RuleDTO buildRuleDTO(final String selectorId, final String path, final String pluginName, final String ruleName) {
         RuleHandle ruleHandle;
         if (pluginName.equals(PluginEnum.CONTEXT_PATH.getName())) {
             ruleHandle = RuleHandleFactory.ruleHandle(pluginName, buildContextPath(path));
@@ -515,7 +808,7 @@ public class ShenyuClientRegisterServiceImpl implements ShenyuClientRegisterServ
             ruleConditionDTO.setOperator(OperatorEnum.EQ.getAlias());
         }
         ruleDTO.setRuleConditions(Collections.singletonList(ruleConditionDTO));
-        ruleService.register(ruleDTO);
+        return ruleDTO;
     }
 
     @Override
@@ -20,9 +20,10 @@ package org.apache.shenyu.admin.service.impl;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.shenyu.admin.listener.DataChangedEvent;
@@ -30,8 +31,8 @@ import org.apache.shenyu.admin.mapper.PluginMapper;
 import org.apache.shenyu.admin.mapper.SelectorConditionMapper;
 import org.apache.shenyu.admin.mapper.SelectorMapper;
 import org.apache.shenyu.admin.model.entity.PluginDO;
+import org.apache.shenyu.admin.model.entity.SelectorConditionDO;
 import org.apache.shenyu.admin.model.entity.SelectorDO;
-import org.apache.shenyu.admin.model.query.SelectorConditionQuery;
 import org.apache.shenyu.admin.transfer.ConditionTransfer;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.Constants;
@@ -49,18 +50,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * this is divide  http url upstream.
+ *
+ * <p>The upstreams are probed concurrently by at most {@code checkParallelism} probes, each given up after
+ * {@code checkTimeout} milliseconds, and the selectors changed in a round are updated and published together.
+ * A probe that is not finished when its round ends is cancelled and its upstream keeps the current status.
  */
 @Slf4j
 @Component
@@ -70,6 +85,8 @@ public class UpstreamCheckService {
 
     private static final Set<ZombieUpstream> ZOMBIE_SET = Sets.newConcurrentHashSet();
 
+    private static final int PROBE_QUEUE_CAPACITY = 10000;
+
     private int zombieCheckTimes;
 
     private int scheduledTime;
@@ -78,6 +95,12 @@ public class UpstreamCheckService {
 
     private boolean checked;
 
+    private int checkTimeout;
+
+    private int checkParallelism;
+
+    private final ExecutorService probeExecutor;
+
     private final SelectorMapper selectorMapper;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -107,6 +130,12 @@ public class UpstreamCheckService {
         this.checked = Boolean.parseBoolean(props.getProperty(Constants.IS_CHECKED, Constants.DEFAULT_CHECK_VALUE));
         this.zombieCheckTimes = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_TIMES, Constants.ZOMBIE_CHECK_TIMES_VALUE));
         this.scheduledTime = Integer.parseInt(props.getProperty(Constants.SCHEDULED_TIME, Constants.SCHEDULED_TIME_VALUE));
+        this.checkTimeout = Integer.parseInt(props.getProperty(Constants.CHECK_TIMEOUT, Constants.CHECK_TIMEOUT_VALUE));
+        this.checkParallelism = Integer.parseInt(props.getProperty(Constants.CHECK_PARALLELISM, Constants.CHECK_PARALLELISM_VALUE));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(checkParallelism, checkParallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(PROBE_QUEUE_CAPACITY), ShenyuThreadFactory.create("upstream-check-probe", true));
+        executor.allowCoreThreadTimeOut(true);
+        this.probeExecutor = executor;
         this.registerType = shenyuRegisterCenterConfig.getRegisterType();
         if (Constants.DEFAULT_REGISTER_TYPE.equalsIgnoreCase(registerType)) {
             setup();
@@ -119,7 +148,7 @@ public class UpstreamCheckService {
     public void setup() {
         if (checked) {
             this.fetchUpstreamData();
-            new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(), ShenyuThreadFactory.create("scheduled-upstream-task", false))
+            new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("scheduled-upstream-task", false))
                     .scheduleWithFixedDelay(this::scheduled, 10, scheduledTime, TimeUnit.SECONDS);
         }
     }
@@ -143,18 +172,21 @@ public class UpstreamCheckService {
         if (!Constants.DEFAULT_REGISTER_TYPE.equalsIgnoreCase(registerType)) {
             return;
         }
-        if (UPSTREAM_MAP.containsKey(selectorName)) {
-            List<DivideUpstream> upstreams = UPSTREAM_MAP.getOrDefault(selectorName, Collections.emptyList());
-            Optional<DivideUpstream> exists = upstreams.stream().filter(item -> StringUtils.isNotBlank(item.getUpstreamUrl())
-                    && item.getUpstreamUrl().equals(divideUpstream.getUpstreamUrl())).findFirst();
-            if (!exists.isPresent()) {
-                upstreams.add(divideUpstream);
-            } else {
+        // the lists are replaced rather than modified, so that a check round can apply its result to the live list.
+        UPSTREAM_MAP.compute(selectorName, (name, upstreams) -> {
+            if (Objects.isNull(upstreams)) {
+                return Lists.newArrayList(divideUpstream);
+            }
+            boolean exists = upstreams.stream().anyMatch(item -> StringUtils.isNotBlank(item.getUpstreamUrl())
+                    && item.getUpstreamUrl().equals(divideUpstream.getUpstreamUrl()));
+            if (exists) {
                 log.info("upstream host {} is exists.", divideUpstream.getUpstreamHost());
+                return upstreams;
             }
-        } else {
-            UPSTREAM_MAP.put(selectorName, Lists.newArrayList(divideUpstream));
-        }
+            List<DivideUpstream> result = new ArrayList<>(upstreams);
+            result.add(divideUpstream);
+            return result;
+        });
     }
 
     /**
@@ -171,30 +203,107 @@ public class UpstreamCheckService {
     }
 
     private void scheduled() {
+        long start = System.nanoTime();
         try {
-            if (ZOMBIE_SET.size() > 0) {
-                ZOMBIE_SET.forEach(this::checkZombie);
-            }
-            if (UPSTREAM_MAP.size() > 0) {
-                UPSTREAM_MAP.forEach(this::check);
+            List<ZombieUpstream> zombieList = new ArrayList<>(ZOMBIE_SET);
+            ZOMBIE_SET.removeAll(zombieList);
+            List<CompletableFuture<Boolean>> zombieProbes = zombieList.stream()
+                    .map(zombieUpstream -> probe(zombieUpstream.getDivideUpstream())).collect(Collectors.toList());
+            Map<String, List<DivideUpstream>> upstreamSnapshot = new LinkedHashMap<>();
+            Map<String, List<CompletableFuture<Boolean>>> upstreamProbes = new LinkedHashMap<>();
+            UPSTREAM_MAP.forEach((selectorName, upstreamList) -> {
+                List<DivideUpstream> upstreams = new ArrayList<>(upstreamList);
+                upstreamSnapshot.put(selectorName, upstreams);
+                upstreamProbes.put(selectorName, upstreams.stream().map(this::probe).collect(Collectors.toList()));
+            });
+            List<CompletableFuture<Boolean>> probes = new ArrayList<>(zombieProbes);
+            upstreamProbes.values().forEach(probes::addAll);
+            await(probes);
+            // the probes still queued or running are left to the next round.
+            probes.forEach(probe -> probe.cancel(false));
+            // the live upstreams of the selectors changed in this round.
+            Map<String, List<DivideUpstream>> changed = new LinkedHashMap<>();
+            upstreamSnapshot.forEach((selectorName, upstreams) -> check(selectorName, upstreams, upstreamProbes.get(selectorName), changed));
+            for (int i = 0; i < zombieList.size(); i++) {
+                checkZombie(zombieList.get(i), result(zombieProbes.get(i)), changed);
             }
+            updateSelectorHandler(changed);
         } catch (Exception e) {
             log.error("upstream scheduled check error -------- ", e);
+        } finally {
+            Timer.builder("shenyu.admin.upstream.check.round").description("the time of an upstream check round")
+                    .register(Metrics.globalRegistry).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
-    private void checkZombie(final ZombieUpstream zombieUpstream) {
-        ZOMBIE_SET.remove(zombieUpstream);
+    private CompletableFuture<Boolean> probe(final DivideUpstream divideUpstream) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        try {
+            probeExecutor.execute(() -> {
+                // cancelled when its round ended before the probe got a thread.
+                if (future.isDone()) {
+                    return;
+                }
+                long start = System.nanoTime();
+                boolean pass = UpstreamCheckUtils.checkUrl(divideUpstream.getUpstreamUrl(), checkTimeout);
+                Timer.builder("shenyu.admin.upstream.check.probe").tag("result", pass ? "success" : "fail")
+                        .description("the latency of an upstream liveness probe").register(Metrics.globalRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                future.complete(pass);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("upstream check probe queue is full, the url={} is not checked in this round", divideUpstream.getUpstreamUrl());
+        }
+        return future;
+    }
+
+    /**
+     * The result of a probe.
+     *
+     * @param probe the probe
+     * @return true when passed, false when failed, null when the probe is not finished
+     */
+    private static Boolean result(final CompletableFuture<Boolean> probe) {
+        if (!probe.isDone() || probe.isCompletedExceptionally()) {
+            return null;
+        }
+        return probe.join();
+    }
+
+    /**
+     * Wait for the probes of a round, each probe gives up after the check timeout,
+     * so the round is bounded by the timeout of the probes queued behind each other.
+     *
+     * @param probes the probes
+     */
+    private void await(final List<CompletableFuture<Boolean>> probes) {
+        long timeout = (long) checkTimeout * (probes.size() / checkParallelism + 1) + 1000L;
+        try {
+            CompletableFuture.allOf(probes.toArray(new CompletableFuture[0])).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("upstream check round is not finished in {} ms, the unfinished probes keep the current status", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("upstream check probe error", e);
+        }
+    }
+
+    private void checkZombie(final ZombieUpstream zombieUpstream, final Boolean pass, final Map<String, List<DivideUpstream>> changed) {
         String selectorName = zombieUpstream.getSelectorName();
         DivideUpstream divideUpstream = zombieUpstream.getDivideUpstream();
-        final boolean pass = UpstreamCheckUtils.checkUrl(divideUpstream.getUpstreamUrl());
-        if (pass) {
+        if (Objects.isNull(pass)) {
+            ZOMBIE_SET.add(zombieUpstream);
+        } else if (pass) {
             divideUpstream.setTimestamp(System.currentTimeMillis());
             divideUpstream.setStatus(true);
             log.info("UpstreamCacheManager check zombie upstream success the url: {}, host: {} ", divideUpstream.getUpstreamUrl(), divideUpstream.getUpstreamHost());
-            List<DivideUpstream> old = ListUtils.unmodifiableList(UPSTREAM_MAP.getOrDefault(selectorName, Collections.emptyList()));
+            int oldSize = UPSTREAM_MAP.getOrDefault(selectorName, Collections.emptyList()).size();
             this.submit(selectorName, divideUpstream);
-            updateHandler(selectorName, old, UPSTREAM_MAP.get(selectorName));
+            List<DivideUpstream> upstreams = UPSTREAM_MAP.get(selectorName);
+            if (Objects.nonNull(upstreams) && upstreams.size() != oldSize) {
+                changed.put(selectorName, new ArrayList<>(upstreams));
+            }
         } else {
             log.error("check zombie upstream the url={} is fail", divideUpstream.getUpstreamUrl());
             if (zombieUpstream.getZombieCheckTimes() > NumberUtils.INTEGER_ZERO) {
@@ -204,55 +313,79 @@ public class UpstreamCheckService {
         }
     }
 
-    private void check(final String selectorName, final List<DivideUpstream> upstreamList) {
-        List<DivideUpstream> successList = Lists.newArrayListWithCapacity(upstreamList.size());
-        for (DivideUpstream divideUpstream : upstreamList) {
-            final boolean pass = UpstreamCheckUtils.checkUrl(divideUpstream.getUpstreamUrl());
+    private void check(final String selectorName, final List<DivideUpstream> upstreamList, final List<CompletableFuture<Boolean>> probes,
+                       final Map<String, List<DivideUpstream>> changed) {
+        Set<String> failedUrls = new HashSet<>();
+        for (int i = 0; i < upstreamList.size(); i++) {
+            DivideUpstream divideUpstream = upstreamList.get(i);
+            final Boolean pass = result(probes.get(i));
+            if (Objects.isNull(pass)) {
+                continue;
+            }
             if (pass) {
                 if (!divideUpstream.isStatus()) {
                     divideUpstream.setTimestamp(System.currentTimeMillis());
                     divideUpstream.setStatus(true);
                     log.info("UpstreamCacheManager check success the url: {}, host: {} ", divideUpstream.getUpstreamUrl(), divideUpstream.getUpstreamHost());
                 }
-                successList.add(divideUpstream);
             } else {
                 divideUpstream.setStatus(false);
+                failedUrls.add(divideUpstream.getUpstreamUrl());
                 ZOMBIE_SET.add(ZombieUpstream.transform(divideUpstream, zombieCheckTimes, selectorName));
                 log.error("check the url={} is fail ", divideUpstream.getUpstreamUrl());
             }
         }
-        updateHandler(selectorName, upstreamList, successList);
-    }
-
-    private void updateHandler(final String selectorName, final List<DivideUpstream> upstreamList, final List<DivideUpstream> successList) {
         //No node changes, including zombie node resurrection and live node death
-        if (successList.size() == upstreamList.size()) {
+        if (failedUrls.isEmpty()) {
             return;
         }
-        if (successList.size() > 0) {
-            UPSTREAM_MAP.put(selectorName, successList);
-            updateSelectorHandler(selectorName, successList);
-        } else {
-            UPSTREAM_MAP.remove(selectorName);
-            updateSelectorHandler(selectorName, null);
-        }
+        // remove the failed upstreams from the live list, the upstreams submitted during the round are kept.
+        List<DivideUpstream> liveList = UPSTREAM_MAP.compute(selectorName, (name, upstreams) -> {
+            if (Objects.isNull(upstreams)) {
+                return null;
+            }
+            List<DivideUpstream> result = upstreams.stream().filter(item -> !failedUrls.contains(item.getUpstreamUrl())).collect(Collectors.toList());
+            return result.isEmpty() ? null : result;
+        });
+        changed.put(selectorName, Objects.isNull(liveList) ? Collections.emptyList() : new ArrayList<>(liveList));
     }
 
-    private void updateSelectorHandler(final String selectorName, final List<DivideUpstream> upstreams) {
-        SelectorDO selectorDO = selectorMapper.selectByName(selectorName);
-        if (Objects.nonNull(selectorDO)) {
-            List<ConditionData> conditionDataList = ConditionTransfer.INSTANCE.mapToSelectorDOS(
-                    selectorConditionMapper.selectByQuery(new SelectorConditionQuery(selectorDO.getId())));
-            PluginDO pluginDO = pluginMapper.selectById(selectorDO.getPluginId());
-            String handler = CollectionUtils.isEmpty(upstreams) ? "" : GsonUtils.getInstance().toJson(upstreams);
-            selectorDO.setHandle(handler);
-            selectorMapper.updateSelective(selectorDO);
-            if (Objects.nonNull(pluginDO)) {
-                SelectorData selectorData = SelectorDO.transFrom(selectorDO, pluginDO.getName(), conditionDataList);
-                selectorData.setHandle(handler);
-                // publish change event.
-                eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.UPDATE, Collections.singletonList(selectorData)));
-            }
+    /**
+     * Update the handles of the selectors changed in a round with one statement, and publish them in one event.
+     *
+     * @param changed the live upstreams of the changed selectors
+     */
+    private void updateSelectorHandler(final Map<String, List<DivideUpstream>> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        // the selectors are looked up under the upstream plugins only, a selector of another plugin may have the same name.
+        List<PluginDO> pluginDOList = pluginMapper.selectByNames(PluginEnum.getUpstreamNames());
+        if (CollectionUtils.isEmpty(pluginDOList)) {
+            return;
+        }
+        Map<String, String> pluginNameMap = pluginDOList.stream().filter(Objects::nonNull)
+                .collect(Collectors.toMap(PluginDO::getId, PluginDO::getName, (a, b) -> a));
+        List<SelectorDO> selectorDOList = selectorMapper.selectByPluginIdsAndNames(new ArrayList<>(pluginNameMap.keySet()), new ArrayList<>(changed.keySet()));
+        if (CollectionUtils.isEmpty(selectorDOList)) {
+            return;
+        }
+        selectorDOList.forEach(selectorDO -> {
+            List<DivideUpstream> upstreams = changed.get(selectorDO.getName());
+            selectorDO.setHandle(CollectionUtils.isEmpty(upstreams) ? "" : GsonUtils.getInstance().toJson(upstreams));
+        });
+        selectorMapper.updateHandles(selectorDOList);
+        List<String> selectorIds = selectorDOList.stream().map(SelectorDO::getId).collect(Collectors.toList());
+        Map<String, List<ConditionData>> conditionMap = selectorConditionMapper.selectBySelectorIds(selectorIds).stream()
+                .collect(Collectors.groupingBy(SelectorConditionDO::getSelectorId,
+                        Collectors.mapping(ConditionTransfer.INSTANCE::mapToSelectorDO, Collectors.toList())));
+        List<SelectorData> selectorDataList = selectorDOList.stream()
+                .map(selectorDO -> SelectorDO.transFrom(selectorDO, pluginNameMap.get(selectorDO.getPluginId()),
+                        conditionMap.getOrDefault(selectorDO.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+        if (!selectorDataList.isEmpty()) {
+            // publish change event.
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.UPDATE, selectorDataList));
         }
     }
 
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.admin.listener.ConfigDataSnapshot;
 import org.apache.shenyu.admin.service.AppAuthService;
 import org.apache.shenyu.admin.service.MetaDataService;
 import org.apache.shenyu.admin.service.PluginService;
@@ -66,6 +67,8 @@ public class SyncDataServiceImpl implements SyncDataService {
 
     private final ApplicationEventPublisher eventPublisher;
 
+    private final ConfigDataSnapshot configDataSnapshot;
+
     /**
      * Instantiates a new Sync data service.
      *
@@ -75,6 +78,7 @@ public class SyncDataServiceImpl implements SyncDataService {
      * @param ruleService     the rule service
      * @param eventPublisher  the event publisher
      * @param metaDataService the meta data service
+     * @param configDataSnapshot the config data snapshot
      */
     @Autowired
     public SyncDataServiceImpl(final AppAuthService appAuthService,
@@ -82,23 +86,31 @@ public class SyncDataServiceImpl implements SyncDataService {
                                final SelectorService selectorService,
                                final RuleService ruleService,
                                final ApplicationEventPublisher eventPublisher,
-                               final MetaDataService metaDataService) {
+                               final MetaDataService metaDataService,
+                               final ConfigDataSnapshot configDataSnapshot) {
         this.appAuthService = appAuthService;
         this.pluginService = pluginService;
         this.selectorService = selectorService;
         this.ruleService = ruleService;
         this.eventPublisher = eventPublisher;
         this.metaDataService = metaDataService;
+        this.configDataSnapshot = configDataSnapshot;
     }
 
     @Override
     public boolean syncAll(final DataEventTypeEnum type) {
         appAuthService.syncData();
-        List<PluginData> pluginDataList = pluginService.listAll();
+        if (DataEventTypeEnum.MYSELF != type) {
+            // a gateway asking for all the data reads the snapshot, other syncs read the database.
+            configDataSnapshot.reload(ConfigGroupEnum.PLUGIN);
+            configDataSnapshot.reload(ConfigGroupEnum.SELECTOR);
+            configDataSnapshot.reload(ConfigGroupEnum.RULE);
+        }
+        List<PluginData> pluginDataList = configDataSnapshot.listPlugins();
         eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.PLUGIN, type, pluginDataList));
-        List<SelectorData> selectorDataList = selectorService.listAll();
+        List<SelectorData> selectorDataList = configDataSnapshot.listSelectors();
         eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, type, selectorDataList));
-        List<RuleData> ruleDataList = ruleService.listAll();
+        List<RuleData> ruleDataList = configDataSnapshot.listRules();
         eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.RULE, type, ruleDataList));
         metaDataService.syncData();
         return true;
@@ -32,7 +32,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -68,6 +72,17 @@ public final class ShenyuHttpRegistryControllerTest {
                 .andReturn();
     }
 
+    @Test
+    public void testBatchRegister() throws Exception {
+        final List<MetaDataRegisterDTO> metaDataRegisterDTOList = Collections.singletonList(buildSpringMvcRegisterDTO());
+        this.mockMvc.perform(MockMvcRequestBuilders.post("/shenyu-client/batch-register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GsonUtils.getInstance().toJson(metaDataRegisterDTOList)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("success"))
+                .andReturn();
+    }
+
     private MetaDataRegisterDTO buildSpringMvcRegisterDTO() {
         MetaDataRegisterDTO springMvcRegisterDTO = new MetaDataRegisterDTO();
         springMvcRegisterDTO.setAppName("appName1");
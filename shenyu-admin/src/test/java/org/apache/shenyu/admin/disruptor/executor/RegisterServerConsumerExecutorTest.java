@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.admin.disruptor.executor;
+
+import org.apache.shenyu.admin.disruptor.subscriber.URIRegisterExecutorSubscriber;
+import org.apache.shenyu.admin.service.ShenyuClientRegisterService;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerExecutor;
+import org.apache.shenyu.register.common.dto.URIRegisterDTO;
+import org.apache.shenyu.register.common.type.DataTypeParent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link RegisterServerConsumerExecutor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class RegisterServerConsumerExecutorTest {
+
+    @Mock
+    private ShenyuClientRegisterService shenyuClientRegisterService;
+
+    private BatchQueueConsumerExecutor<List<DataTypeParent>> executor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RegisterServerConsumerExecutor.RegisterServerExecutorFactory factory = new RegisterServerConsumerExecutor.RegisterServerExecutorFactory();
+        factory.addSubscribers(new URIRegisterExecutorSubscriber(shenyuClientRegisterService));
+        executor = factory.createBatch();
+    }
+
+    @Test
+    public void testRemovedInstanceShrinksTheHandle() {
+        executor.onEvent(Arrays.asList(uri("/http", "10.0.0.1", 8080), uri("/http", "10.0.0.2", 8080)), false);
+        executor.onEvent(Collections.singletonList(uri("/http", "10.0.0.1", 8080)), true);
+        verify(shenyuClientRegisterService).registerURI("/http", Collections.singletonList("10.0.0.1:8080"));
+        verify(shenyuClientRegisterService, times(1)).registerURI(anyString(), anyList());
+    }
+
+    @Test
+    public void testEmptySnapshotClearsTheHandle() {
+        executor.onEvent(Collections.singletonList(uri("/http", "10.0.0.1", 8080)), false);
+        executor.onEvent(Collections.singletonList(uri("/dubbo", "10.0.0.3", 20880)), false);
+        executor.onEvent(Collections.singletonList(uri("/http", null, null)), true);
+        verify(shenyuClientRegisterService).registerURI("/http", Collections.emptyList());
+        verify(shenyuClientRegisterService).registerURI("/dubbo", Collections.singletonList("10.0.0.3:20880"));
+        verify(shenyuClientRegisterService, times(2)).registerURI(anyString(), anyList());
+    }
+
+    private static DataTypeParent uri(final String contextPath, final String host, final Integer port) {
+        return URIRegisterDTO.builder().contextPath(contextPath).host(host).port(port).build();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.common.dto.ConfigDeltaData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for ConfigChangeLog.
+ */
+public final class ConfigChangeLogTest {
+
+    private final ConfigChangeLog changeLog = new ConfigChangeLog(2);
+
+    @Test
+    public void testSince() {
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, "[1]");
+        changeLog.append(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.DELETE, "[2]");
+        ConfigDeltaData delta = changeLog.since(changeLog.getEpoch(), 1);
+        assertFalse(delta.isFull());
+        assertEquals(2, delta.getVersion());
+        assertEquals(1, delta.getEvents().size());
+        assertEquals(ConfigGroupEnum.SELECTOR.name(), delta.getEvents().get(0).getGroup());
+        assertEquals(DataEventTypeEnum.DELETE.name(), delta.getEvents().get(0).getEventType());
+        assertEquals("[2]", delta.getEvents().get(0).getJson());
+        assertTrue(changeLog.since(changeLog.getEpoch(), 2).getEvents().isEmpty());
+    }
+
+    @Test
+    public void testGap() {
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, "[1]");
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, "[2]");
+        assertFalse(changeLog.since(changeLog.getEpoch(), 0).isFull());
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, "[3]");
+        ConfigDeltaData delta = changeLog.since(changeLog.getEpoch(), 0);
+        assertTrue(delta.isFull());
+        assertEquals(3, delta.getVersion());
+        assertEquals(2, changeLog.since(changeLog.getEpoch(), 1).getEvents().size());
+    }
+
+    @Test
+    public void testOtherEpoch() {
+        changeLog.append(ConfigGroupEnum.PLUGIN, DataEventTypeEnum.CREATE, "[1]");
+        assertTrue(changeLog.since(null, -1).isFull());
+        assertTrue(changeLog.since("other", 0).isFull());
+        assertTrue(changeLog.since(changeLog.getEpoch(), 2).isFull());
+    }
+
+    @Test
+    public void testNegativeVersion() {
+        changeLog.append(ConfigGroupEnum.PLUGIN, DataEventTypeEnum.CREATE, "[1]");
+        assertFalse(changeLog.covers(changeLog.getEpoch(), -1));
+        ConfigDeltaData delta = changeLog.since(changeLog.getEpoch(), -1);
+        assertTrue(delta.isFull());
+        assertTrue(delta.getEvents().isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.admin.service.PluginService;
+import org.apache.shenyu.admin.service.RuleService;
+import org.apache.shenyu.admin.service.SelectorService;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for ConfigDataSnapshot.
+ */
+public final class ConfigDataSnapshotTest {
+
+    private final PluginService pluginService = mock(PluginService.class);
+
+    private final SelectorService selectorService = mock(SelectorService.class);
+
+    private final RuleService ruleService = mock(RuleService.class);
+
+    private final ConfigDataSnapshot snapshot = new ConfigDataSnapshot(pluginService, selectorService, ruleService);
+
+    @Before
+    public void setUp() {
+        when(pluginService.listAll()).thenReturn(Collections.singletonList(PluginData.builder().id("1").name("divide").build()));
+        when(selectorService.listAll()).thenReturn(Arrays.asList(
+                SelectorData.builder().id("2").pluginName("divide").build(),
+                SelectorData.builder().id("1").pluginName("divide").build()));
+        when(ruleService.listAll()).thenReturn(Collections.singletonList(RuleData.builder().id("1").selectorId("1").pluginName("divide").build()));
+    }
+
+    @Test
+    public void testLoadOnce() {
+        assertEquals("1", snapshot.listSelectors().get(0).getId());
+        assertEquals(2, snapshot.listSelectors().size());
+        verify(selectorService, times(1)).listAll();
+        snapshot.reload(ConfigGroupEnum.SELECTOR);
+        verify(selectorService, times(2)).listAll();
+    }
+
+    @Test
+    public void testWriteThrough() {
+        snapshot.listSelectors();
+        snapshot.onChanged(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.UPDATE,
+                Collections.singletonList(SelectorData.builder().id("1").name("updated").pluginName("divide").build())));
+        snapshot.onChanged(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.DELETE,
+                Collections.singletonList(SelectorData.builder().id("2").build())));
+        assertEquals(1, snapshot.listSelectors().size());
+        assertEquals("updated", snapshot.listSelectors().get(0).getName());
+        verify(selectorService, times(1)).listAll();
+    }
+
+    @Test
+    public void testDeletePlugin() {
+        snapshot.listPlugins();
+        snapshot.listSelectors();
+        snapshot.listRules();
+        snapshot.onChanged(new DataChangedEvent(ConfigGroupEnum.PLUGIN, DataEventTypeEnum.DELETE,
+                Collections.singletonList(PluginData.builder().id("1").name("divide").build())));
+        assertTrue(snapshot.listPlugins().isEmpty());
+        assertTrue(snapshot.listSelectors().isEmpty());
+        assertTrue(snapshot.listRules().isEmpty());
+    }
+
+    @Test
+    public void testReloadKeepsConcurrentChange() throws InterruptedException {
+        snapshot.listPlugins();
+        Thread writer = new Thread(() -> snapshot.onChanged(new DataChangedEvent(ConfigGroupEnum.PLUGIN, DataEventTypeEnum.CREATE,
+                Collections.singletonList(PluginData.builder().id("2").name("sign").build()))));
+        when(pluginService.listAll()).thenAnswer(invocation -> {
+            writer.start();
+            // the write through waits for the reload instead of landing on the map being replaced.
+            writer.join(200);
+            return Collections.singletonList(PluginData.builder().id("1").name("divide").build());
+        });
+        snapshot.reload(ConfigGroupEnum.PLUGIN);
+        writer.join();
+        assertEquals(2, snapshot.listPlugins().size());
+    }
+}
@@ -55,6 +55,9 @@ public final class DataChangedEventDispatcherTest {
     @Mock
     private ApplicationContext applicationContext;
 
+    @Mock
+    private ConfigDataSnapshot configDataSnapshot;
+
     @Mock
     private HttpLongPollingDataChangedListener httpLongPollingDataChangedListener;
 
@@ -104,6 +107,7 @@ public final class DataChangedEventDispatcherTest {
         verify(nacosDataChangedListener, times(1)).onPluginChanged(anyList(), any());
         verify(websocketDataChangedListener, times(1)).onPluginChanged(anyList(), any());
         verify(zookeeperDataChangedListener, times(1)).onPluginChanged(anyList(), any());
+        verify(configDataSnapshot, times(1)).onChanged(dataChangedEvent);
     }
 
     /**
@@ -17,9 +17,14 @@
 
 package org.apache.shenyu.admin.listener.http;
 
+import org.apache.shenyu.admin.config.properties.HttpSyncProperties;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
+import org.apache.shenyu.common.constant.HttpConstants;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
+import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -33,10 +38,12 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -126,4 +133,83 @@ public final class HttpLongPollingDataChangedListenerTest {
             assertEquals(2, params.length);
         }
     }
+
+    /**
+     * test the held clients are answered on change, and the clients over the capacity are rejected.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testHoldAndNotify() throws Exception {
+        HttpSyncProperties httpSyncProperties = new HttpSyncProperties();
+        httpSyncProperties.setHoldCapacity(1);
+        HttpLongPollingDataChangedListener listener = new HttpLongPollingDataChangedListener(httpSyncProperties);
+        ConfigDeltaData delta = listener.fetchDelta(null, -1);
+        MockHttpServletRequest held = versionRequest(delta);
+        MockHttpServletResponse heldResponse = new MockHttpServletResponse();
+        listener.doLongPolling(held, heldResponse);
+        assertTrue(held.isAsyncStarted());
+
+        MockHttpServletRequest rejected = versionRequest(delta);
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        listener.doLongPolling(rejected, rejectedResponse);
+        assertFalse(rejected.isAsyncStarted());
+        assertEquals(MockHttpServletResponse.SC_SERVICE_UNAVAILABLE, rejectedResponse.getStatus());
+
+        listener.onPluginChanged(Collections.singletonList(PluginData.builder().id("1").name("divide").build()), DataEventTypeEnum.UPDATE);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!heldResponse.getContentAsString().contains(ConfigGroupEnum.PLUGIN.name()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(heldResponse.getContentAsString().contains(ConfigGroupEnum.PLUGIN.name()));
+        listener.destroy();
+    }
+
+    /**
+     * test a held client whose parameters can not be compared on timeout is still answered.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testTimeoutWithInvalidParameter() throws Exception {
+        HttpLongPollingDataChangedListener listener = new HttpLongPollingDataChangedListener(new HttpSyncProperties());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setParameter(HttpConstants.SYNC_VERSION, "invalid");
+        HttpLongPollingDataChangedListener.LongPollingClient client = listener.new LongPollingClient(request.startAsync(request, response), "127.0.0.1", 60000L);
+        client.hold();
+        client.run(null);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (request.isAsyncStarted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(request.isAsyncStarted());
+        assertEquals(MockHttpServletResponse.SC_OK, response.getStatus());
+        listener.destroy();
+    }
+
+    /**
+     * test the held clients are counted by the groups they listen to.
+     */
+    @Test
+    public void testHoldingClientsByGroup() {
+        HttpLongPollingDataChangedListener listener = new HttpLongPollingDataChangedListener(new HttpSyncProperties());
+        MockHttpServletRequest versionRequest = versionRequest(listener.fetchDelta(null, -1));
+        listener.new LongPollingClient(versionRequest.startAsync(versionRequest, new MockHttpServletResponse()), "127.0.0.1", 60000L).hold();
+        MockHttpServletRequest pluginRequest = new MockHttpServletRequest();
+        pluginRequest.setAsyncSupported(true);
+        pluginRequest.setParameter(ConfigGroupEnum.PLUGIN.name(), "F1887D3F9E6EE7A32FE5E76F4AB80D63,1607068126");
+        listener.new LongPollingClient(pluginRequest.startAsync(pluginRequest, new MockHttpServletResponse()), "127.0.0.1", 60000L).hold();
+        assertEquals(2, listener.holdingClients(ConfigGroupEnum.PLUGIN));
+        assertEquals(1, listener.holdingClients(ConfigGroupEnum.RULE));
+        listener.destroy();
+    }
+
+    private static MockHttpServletRequest versionRequest(final ConfigDeltaData delta) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        request.setParameter(HttpConstants.SYNC_VERSION, delta.getEpoch() + "," + delta.getVersion());
+        return request;
+    }
 }
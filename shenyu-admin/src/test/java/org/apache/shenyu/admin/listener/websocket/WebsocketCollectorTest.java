@@ -17,26 +17,35 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtil;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
-import java.io.IOException;
-import java.util.Set;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -56,7 +65,7 @@ public final class WebsocketCollectorTest {
 
     @Before
     public void setUp() {
-        websocketCollector = new WebsocketCollector();
+        websocketCollector = new WebsocketCollector(new WebsocketSyncProperties());
     }
 
     @Test
@@ -99,24 +108,48 @@ public final class WebsocketCollectorTest {
     }
 
     @Test
-    public void testSend() throws IOException {
-        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
-        when(session.getBasicRemote()).thenReturn(basic);
+    public void testSend() {
+        RemoteEndpoint.Async async = mockAsyncRemote();
         websocketCollector.onOpen(session);
         assertEquals(1L, getSessionSetSize());
         WebsocketCollector.send(null, DataEventTypeEnum.MYSELF);
-        Mockito.verify(basic, Mockito.times(0)).sendText(null);
+        Mockito.verify(async, Mockito.times(0)).sendText(any(), any());
         ThreadLocalUtil.put("sessionKey", session);
         WebsocketCollector.send("test_message_1", DataEventTypeEnum.MYSELF);
-        Mockito.verify(basic, Mockito.times(1)).sendText("test_message_1");
+        Mockito.verify(async, Mockito.times(1)).sendText(eq("test_message_1"), any());
         WebsocketCollector.send("test_message_2", DataEventTypeEnum.CREATE);
-        Mockito.verify(basic, Mockito.times(1)).sendText("test_message_2");
+        Mockito.verify(async, Mockito.times(1)).sendText(eq("test_message_2"), any());
         websocketCollector.onClose(session);
     }
 
+    @Test
+    public void testSendBinary() {
+        RemoteEndpoint.Async async = mockAsyncRemote();
+        Map<String, Object> userProperties = new HashMap<>();
+        userProperties.put(WebsocketFrameUtils.PROTOCOL_HEADER, WebsocketFrameUtils.PROTOCOL_V2);
+        when(session.getUserProperties()).thenReturn(userProperties);
+        websocketCollector.onOpen(session);
+        WebsocketCollector.send("test_message", DataEventTypeEnum.CREATE);
+        Mockito.verify(async, Mockito.times(1)).sendBinary(any(ByteBuffer.class), any());
+        Mockito.verify(async, Mockito.times(0)).sendText(any(), any());
+        websocketCollector.onClose(session);
+    }
+
+    private RemoteEndpoint.Async mockAsyncRemote() {
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        Answer<Void> complete = invocation -> {
+            invocation.<SendHandler>getArgument(1).onResult(new SendResult());
+            return null;
+        };
+        lenient().doAnswer(complete).when(async).sendText(any(), any());
+        lenient().doAnswer(complete).when(async).sendBinary(any(), any());
+        when(session.getAsyncRemote()).thenReturn(async);
+        return async;
+    }
+
     private long getSessionSetSize() {
-        Set sessionSet = (Set) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SET");
-        return sessionSet == null ? -1 : sessionSet.size();
+        Map sessionMap = (Map) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_MAP");
+        return sessionMap == null ? -1 : sessionMap.size();
     }
 
     private Session getSession() {
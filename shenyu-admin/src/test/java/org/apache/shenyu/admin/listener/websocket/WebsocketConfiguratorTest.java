@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
+import org.apache.shenyu.admin.spring.SpringBeanUtils;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.servlet.http.HttpSession;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for WebsocketConfigurator.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class WebsocketConfiguratorTest {
+
+    private final WebsocketConfigurator websocketConfigurator = new WebsocketConfigurator();
+
+    @Mock
+    private ServerEndpointConfig serverEndpointConfig;
+
+    @Mock
+    private HandshakeRequest handshakeRequest;
+
+    @Mock
+    private HandshakeResponse handshakeResponse;
+
+    @Mock
+    private HttpSession httpSession;
+
+    @Test
+    public void testModifyHandshakeReadsHttpSession() {
+        Map<String, Object> userProperties = new HashMap<>();
+        when(serverEndpointConfig.getUserProperties()).thenReturn(userProperties);
+        when(handshakeRequest.getHttpSession()).thenReturn(httpSession);
+        when(httpSession.getAttribute(WebsocketListener.CLIENT_IP_NAME)).thenReturn("127.0.0.1");
+        when(httpSession.getAttribute(WebsocketFrameUtils.PROTOCOL_HEADER)).thenReturn(WebsocketFrameUtils.PROTOCOL_V2);
+        websocketConfigurator.modifyHandshake(serverEndpointConfig, handshakeRequest, handshakeResponse);
+        assertEquals("127.0.0.1", userProperties.get(WebsocketListener.CLIENT_IP_NAME));
+        assertEquals(WebsocketFrameUtils.PROTOCOL_V2, userProperties.get(WebsocketFrameUtils.PROTOCOL_HEADER));
+        when(httpSession.getAttribute(WebsocketFrameUtils.PROTOCOL_HEADER)).thenReturn(null);
+        websocketConfigurator.modifyHandshake(serverEndpointConfig, handshakeRequest, handshakeResponse);
+        assertEquals("", userProperties.get(WebsocketFrameUtils.PROTOCOL_HEADER));
+    }
+
+    @Test
+    public void testGetEndpointInstanceIsTheBean() {
+        WebsocketCollector websocketCollector = new WebsocketCollector(new WebsocketSyncProperties());
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        when(context.getBean(WebsocketCollector.class)).thenReturn(websocketCollector);
+        assertSame(websocketCollector, websocketConfigurator.getEndpointInstance(WebsocketCollector.class));
+    }
+}
@@ -26,6 +26,7 @@ import org.junit.Test;
 import javax.annotation.Resource;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertNotNull;
@@ -62,6 +63,12 @@ public final class SelectorConditionMapperTest extends AbstractSpringIntegration
         assertThat(selectorWithoutSelectorId.size(), greaterThan(0));
     }
 
+    @Test
+    public void testSelectBySelectorIds() {
+        List<SelectorConditionDO> result = selectorConditionMapper.selectBySelectorIds(Collections.singletonList(record.getSelectorId()));
+        assertThat(result.size(), greaterThan(0));
+    }
+
     @Test
     public void testInsert() {
         SelectorConditionDO newRecord = buildSelectorConditionDO();
@@ -27,10 +27,12 @@ import org.junit.Test;
 import javax.annotation.Resource;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -164,6 +166,24 @@ public final class SelectorMapperTest extends AbstractSpringIntegrationTest {
         assertEquals(1, delete);
     }
 
+    @Test
+    public void testUpdateHandles() {
+        SelectorDO selectorDO = buildSelectorDO();
+        int insert = selectorMapper.insert(selectorDO);
+        assertEquals(1, insert);
+
+        selectorDO.setHandle("handle-test");
+        int count = selectorMapper.updateHandles(Collections.singletonList(selectorDO));
+        assertEquals(1, count);
+
+        List<SelectorDO> list = selectorMapper.selectByPluginIdsAndNames(Collections.singletonList(selectorDO.getPluginId()), Collections.singletonList(selectorDO.getName()));
+        assertTrue(list.stream().anyMatch(item -> selectorDO.getId().equals(item.getId())));
+        assertEquals("handle-test", selectorMapper.selectById(selectorDO.getId()).getHandle());
+
+        int delete = selectorMapper.delete(selectorDO.getId());
+        assertEquals(1, delete);
+    }
+
     @Test
     public void testDelete() {
         SelectorDO selectorDO = buildSelectorDO();
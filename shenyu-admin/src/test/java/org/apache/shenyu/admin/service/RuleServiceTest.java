@@ -146,56 +146,51 @@ public final class RuleServiceTest {
 
     @Test
     public void testListAll() {
-        publishEvent();
-        checkListAll();
+        mockFindSelectorAndPlugin(buildSelectorDO(), buildPluginDO());
+        checkListAll(1);
     }
 
     @Test
     public void testListAllWithSelectorNull() {
-        mockFindSelectorIsNull();
-        checkListAll();
-    }
-
-    private void mockFindSelectorIsNull() {
-        given(this.selectorMapper.selectById("456")).willReturn(null);
-        given(this.pluginMapper.selectById("789")).willReturn(buildPluginDO());
+        given(this.selectorMapper.selectByIds(Collections.singletonList("456"))).willReturn(Collections.emptyList());
+        checkListAll(0);
     }
 
     @Test
     public void testListAllWithPluginNull() {
-        mockFindPluginIsNull();
-        checkListAll();
+        mockFindSelectorAndPlugin(buildSelectorDO(), null);
+        checkListAll(0);
     }
 
-    private void mockFindPluginIsNull() {
-        given(this.selectorMapper.selectById("456")).willReturn(buildSelectorDO());
-        given(this.pluginMapper.selectById("789")).willReturn(null);
+    private void mockFindSelectorAndPlugin(final SelectorDO selectorDO, final PluginDO pluginDO) {
+        given(this.selectorMapper.selectByIds(Collections.singletonList("456"))).willReturn(Collections.singletonList(selectorDO));
+        given(this.pluginMapper.selectByIds(Collections.singletonList("789")))
+                .willReturn(null == pluginDO ? Collections.emptyList() : Collections.singletonList(pluginDO));
     }
 
-    private void checkListAll() {
-        RuleConditionQuery ruleConditionQuery = buildRuleConditionQuery();
+    private void checkListAll(final int expectedSize) {
         RuleConditionDO ruleCondition = buildRuleConditionDO();
-        given(this.ruleConditionMapper.selectByQuery(ruleConditionQuery)).willReturn(Collections.singletonList(ruleCondition));
+        given(this.ruleConditionMapper.selectByRuleIds(Collections.singletonList("123"))).willReturn(Collections.singletonList(ruleCondition));
         RuleDO ruleDO = buildRuleDO("123");
         List<RuleDO> ruleDOList = Collections.singletonList(ruleDO);
         given(this.ruleMapper.selectAll()).willReturn(ruleDOList);
         List<RuleData> dataList = this.ruleService.listAll();
         assertNotNull(dataList);
-        assertEquals(ruleDOList.size(), dataList.size());
+        assertEquals(expectedSize, dataList.size());
     }
 
     @Test
     public void testFindBySelectorId() {
-        publishEvent();
-        RuleConditionQuery ruleConditionQuery = buildRuleConditionQuery();
+        mockFindSelectorAndPlugin(buildSelectorDO(), buildPluginDO());
         RuleConditionDO ruleCondition = buildRuleConditionDO();
-        given(this.ruleConditionMapper.selectByQuery(ruleConditionQuery)).willReturn(Collections.singletonList(ruleCondition));
+        given(this.ruleConditionMapper.selectByRuleIds(Collections.singletonList("123"))).willReturn(Collections.singletonList(ruleCondition));
         RuleDO ruleDO = buildRuleDO("123");
         List<RuleDO> ruleDOList = Collections.singletonList(ruleDO);
         given(this.ruleMapper.findBySelectorId("456")).willReturn(ruleDOList);
         List<RuleData> dataList = this.ruleService.findBySelectorId("456");
         assertNotNull(dataList);
         assertEquals(ruleDOList.size(), dataList.size());
+        assertEquals(1, dataList.get(0).getConditionDataList().size());
     }
 
     private void publishEvent() {
@@ -191,8 +191,9 @@ public final class SelectorServiceTest {
         final List<SelectorDO> selectorDOs = buildSelectorDOList();
         given(this.selectorMapper.findByPluginId(eq("789"))).willReturn(selectorDOs);
         PluginDO pluginDO = buildPluginDO();
-        given(this.pluginMapper.selectById(eq("789"))).willReturn(pluginDO);
+        given(this.pluginMapper.selectByIds(Collections.singletonList("789"))).willReturn(Collections.singletonList(pluginDO));
         List<SelectorData> res = this.selectorService.findByPluginId("789");
+        assertEquals(selectorDOs.size(), res.size());
         res.forEach(selectorData -> assertEquals("789", selectorData.getPluginId()));
     }
 
@@ -200,6 +201,7 @@ public final class SelectorServiceTest {
     public void testListAll() {
         final List<SelectorDO> selectorDOs = buildSelectorDOList();
         given(this.selectorMapper.selectAll()).willReturn(selectorDOs);
+        given(this.pluginMapper.selectByIds(Collections.singletonList("789"))).willReturn(Collections.singletonList(buildPluginDO()));
         List<SelectorData> dataList = this.selectorService.listAll();
         assertNotNull(dataList);
         assertEquals(selectorDOs.size(), dataList.size());
@@ -24,6 +24,7 @@ import org.apache.shenyu.admin.model.entity.RuleDO;
 import org.apache.shenyu.admin.model.entity.SelectorDO;
 import org.apache.shenyu.admin.mapper.MetaDataMapper;
 import org.apache.shenyu.admin.mapper.PluginMapper;
+import org.apache.shenyu.admin.mapper.RuleConditionMapper;
 import org.apache.shenyu.admin.mapper.RuleMapper;
 import org.apache.shenyu.admin.mapper.SelectorMapper;
 import org.apache.shenyu.admin.service.impl.ShenyuClientRegisterServiceImpl;
@@ -40,11 +41,17 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Test cases for ShenyuClientRegisterService.
@@ -70,6 +77,9 @@ public final class ShenyuClientRegisterServiceTest {
     @Mock
     private RuleMapper ruleMapper;
 
+    @Mock
+    private RuleConditionMapper ruleConditionMapper;
+
     @Mock
     private UpstreamCheckService upstreamCheckService;
 
@@ -82,7 +92,7 @@ public final class ShenyuClientRegisterServiceTest {
     @Before
     public void setUp() {
         shenyuClientRegisterService = new ShenyuClientRegisterServiceImpl(metaDataMapper, eventPublisher, selectorService,
-                ruleService, ruleMapper, upstreamCheckService, selectorMapper, pluginMapper);
+                ruleService, ruleMapper, ruleConditionMapper, upstreamCheckService, selectorMapper, pluginMapper);
     }
 
     @Test
@@ -387,6 +397,50 @@ public final class ShenyuClientRegisterServiceTest {
         assertEquals("success", shenyuClientRegisterService.registerTars(dto));
     }
 
+    @Test
+    public void testBatchRegister() {
+        given(metaDataMapper.findByPaths(any())).willReturn(Collections.emptyList());
+        given(ruleMapper.findByNames(any())).willReturn(Collections.emptyList());
+        SelectorDO selectorDO = buildSelectorDO();
+        given(selectorService.findByName(any())).willReturn(selectorDO);
+        given(selectorService.buildByName(any())).willReturn(buildSelectorData());
+        given(pluginMapper.selectById(any())).willReturn(PluginDO.buildPluginDO(buildPluginDTO()));
+        MetaDataRegisterDTO dto = buildSpringMvcRegisterDTO();
+        MetaDataRegisterDTO otherDTO = buildSpringMvcRegisterDTO();
+        otherDTO.setPath("path4");
+        otherDTO.setRuleName("ruleName4");
+        otherDTO.setHost("localhost2");
+        assertEquals(ShenyuResultMessage.SUCCESS, shenyuClientRegisterService.batchRegister(Arrays.asList(dto, otherDTO)));
+        verify(selectorService, times(1)).buildByName("content1");
+        verify(selectorMapper, times(1)).updateSelective(selectorDO);
+        verify(upstreamCheckService, times(2)).submit(any(), any());
+        verify(metaDataMapper, times(1)).batchSave(argThat(list -> list.size() == 2));
+        verify(ruleMapper, times(1)).batchSave(argThat(list -> list.size() == 2));
+        verify(ruleConditionMapper, times(1)).batchSave(argThat(list -> list.size() == 2));
+        verify(eventPublisher, times(3)).publishEvent(any());
+    }
+
+    @Test
+    public void testBatchRegisterSeparatesRpcTypes() {
+        given(metaDataMapper.findByPaths(any())).willReturn(Collections.emptyList());
+        given(ruleMapper.findByNames(any())).willReturn(Collections.emptyList());
+        SelectorDO selectorDO = buildSelectorDO();
+        given(selectorService.findByName(any())).willReturn(selectorDO);
+        given(selectorService.buildByName(any())).willReturn(buildSelectorData());
+        given(pluginMapper.selectById(any())).willReturn(PluginDO.buildPluginDO(buildPluginDTO()));
+        MetaDataRegisterDTO httpDTO = buildSpringMvcRegisterDTO();
+        MetaDataRegisterDTO dubboDTO = buildSpringMvcRegisterDTO(RpcTypeEnum.DUBBO);
+        dubboDTO.setPath("path5");
+        dubboDTO.setRuleName("ruleName5");
+        dubboDTO.setHost("localhost2");
+        dubboDTO.setServiceName("serviceName5");
+        dubboDTO.setMethodName("methodName5");
+        assertEquals(ShenyuResultMessage.SUCCESS, shenyuClientRegisterService.batchRegister(Arrays.asList(httpDTO, dubboDTO)));
+        verify(upstreamCheckService, times(1)).submit(any(), any());
+        verify(upstreamCheckService, never()).submit(any(), argThat(upstream -> upstream.getUpstreamUrl().startsWith("localhost2")));
+        verify(ruleMapper, times(2)).batchSave(argThat(list -> list.size() == 1));
+    }
+
     private MetaDataRegisterDTO buildSpringMvcRegisterDTO() {
         return this.buildSpringMvcRegisterDTO(RpcTypeEnum.HTTP);
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.service;
 
+import org.apache.shenyu.admin.listener.ConfigDataSnapshot;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.service.sync.SyncDataServiceImpl;
 import org.apache.shenyu.admin.model.vo.PluginVO;
@@ -24,6 +25,7 @@ import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.enums.OperatorEnum;
 import org.apache.shenyu.common.enums.ParamTypeEnum;
@@ -41,6 +43,8 @@ import java.util.Collections;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * test for SyncDataService.
@@ -80,16 +84,22 @@ public final class SyncDataServiceTest {
     @Mock
     private MetaDataService metaDataService;
 
+    @Mock
+    private ConfigDataSnapshot configDataSnapshot;
+
     @Test
     public void syncAllTest() {
         PluginData pluginData = buildPluginData();
         SelectorData selectorData = buildSelectorData();
         RuleData ruleData = buildRuleData();
         given(this.appAuthService.syncData()).willReturn(ShenyuAdminResult.success());
-        given(this.pluginService.listAll()).willReturn(Collections.singletonList(pluginData));
-        given(this.selectorService.listAll()).willReturn(Collections.singletonList(selectorData));
-        given(this.ruleService.listAll()).willReturn(Collections.singletonList(ruleData));
+        given(this.configDataSnapshot.listPlugins()).willReturn(Collections.singletonList(pluginData));
+        given(this.configDataSnapshot.listSelectors()).willReturn(Collections.singletonList(selectorData));
+        given(this.configDataSnapshot.listRules()).willReturn(Collections.singletonList(ruleData));
         assertThat(syncDataService.syncAll(DataEventTypeEnum.CREATE), greaterThan(false));
+        verify(this.configDataSnapshot).reload(ConfigGroupEnum.RULE);
+        assertThat(syncDataService.syncAll(DataEventTypeEnum.MYSELF), greaterThan(false));
+        verify(this.configDataSnapshot, times(1)).reload(ConfigGroupEnum.RULE);
     }
 
     @Test
@@ -24,7 +24,6 @@ import org.apache.shenyu.admin.listener.DataChangedEvent;
 import org.apache.shenyu.admin.mapper.PluginMapper;
 import org.apache.shenyu.admin.mapper.SelectorConditionMapper;
 import org.apache.shenyu.admin.mapper.SelectorMapper;
-import org.apache.shenyu.admin.model.query.SelectorConditionQuery;
 import org.apache.shenyu.admin.service.impl.UpstreamCheckService;
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
 import org.apache.shenyu.common.enums.PluginEnum;
@@ -38,9 +37,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -103,19 +105,10 @@ public final class UpstreamCheckServiceTest {
                 .build();
         //stubbing
         when(pluginMapper.selectByNames(anyList())).thenReturn(Lists.newArrayList(pluginDO));
-        when(pluginMapper.selectById(anyString())).thenReturn(pluginDO);
         when(selectorMapper.findByPluginId(anyString())).thenReturn(Lists.newArrayList(selectorDOWithUrlError, selectorDOWithUrlReachable));
-        when(selectorMapper.updateSelective(any(SelectorDO.class))).thenReturn(1);
-        when(selectorMapper.selectByName(anyString())).then(invocationOnMock -> {
-            Object[] args = invocationOnMock.getArguments();
-            if (MOCK_SELECTOR_NAME.equals(args[0])) {
-                return selectorDOWithUrlError;
-            } else if (MOCK_SELECTOR_NAME_OTHER.equals(args[0])) {
-                return selectorDOWithUrlReachable;
-            }
-            return null;
-        });
-        when(selectorConditionMapper.selectByQuery(any(SelectorConditionQuery.class))).thenReturn(Collections.emptyList());
+        when(selectorMapper.updateHandles(anyList())).thenReturn(1);
+        when(selectorMapper.selectByPluginIdsAndNames(anyList(), anyList())).thenReturn(Lists.newArrayList(selectorDOWithUrlError, selectorDOWithUrlReachable));
+        when(selectorConditionMapper.selectBySelectorIds(anyList())).thenReturn(Collections.emptyList());
         doNothing().when(eventPublisher).publishEvent(any(DataChangedEvent.class));
 
         upstreamCheckService = new UpstreamCheckService(selectorMapper, eventPublisher, pluginMapper, selectorConditionMapper, shenyuRegisterCenterConfig);
@@ -153,6 +146,33 @@ public final class UpstreamCheckServiceTest {
         Assert.assertEquals("localhost2", upstreamMap.get(MOCK_SELECTOR_NAME_2).get(0).getUpstreamHost());
     }
 
+    @Test
+    public void testCheckKeepsUpstreamsSubmittedDuringTheRound() {
+        final DivideUpstream dead = DivideUpstream.builder().upstreamUrl("divide-upstream-dead").status(true).build();
+        final DivideUpstream alive = DivideUpstream.builder().upstreamUrl("divide-upstream-alive").status(true).build();
+        final DivideUpstream submitted = DivideUpstream.builder().upstreamUrl("divide-upstream-new").status(true).build();
+        upstreamCheckService.replace(MOCK_SELECTOR_NAME_2, Arrays.asList(dead, alive));
+        final List<DivideUpstream> snapshot = Arrays.asList(dead, alive);
+        upstreamCheckService.submit(MOCK_SELECTOR_NAME_2, submitted);
+        final Map<String, List<DivideUpstream>> changed = new LinkedHashMap<>();
+        ReflectionTestUtils.invokeMethod(upstreamCheckService, "check", MOCK_SELECTOR_NAME_2, snapshot,
+                Arrays.asList(CompletableFuture.completedFuture(false), CompletableFuture.completedFuture(true)), changed);
+        Assert.assertEquals(Arrays.asList(alive, submitted), upstreamMap.get(MOCK_SELECTOR_NAME_2));
+        Assert.assertEquals(Arrays.asList(alive, submitted), changed.get(MOCK_SELECTOR_NAME_2));
+    }
+
+    @Test
+    public void testCheckKeepsUpstreamWithUnfinishedProbe() {
+        final DivideUpstream pending = DivideUpstream.builder().upstreamUrl("divide-upstream-pending").status(true).build();
+        upstreamCheckService.replace(MOCK_SELECTOR_NAME_2, Collections.singletonList(pending));
+        final Map<String, List<DivideUpstream>> changed = new LinkedHashMap<>();
+        ReflectionTestUtils.invokeMethod(upstreamCheckService, "check", MOCK_SELECTOR_NAME_2, Collections.singletonList(pending),
+                Collections.singletonList(new CompletableFuture<Boolean>()), changed);
+        Assert.assertTrue(pending.isStatus());
+        Assert.assertEquals(Collections.singletonList(pending), upstreamMap.get(MOCK_SELECTOR_NAME_2));
+        Assert.assertTrue(changed.isEmpty());
+    }
+
     @Test
     public void testScheduled() {
         ReflectionTestUtils.invokeMethod(upstreamCheckService, "scheduled");
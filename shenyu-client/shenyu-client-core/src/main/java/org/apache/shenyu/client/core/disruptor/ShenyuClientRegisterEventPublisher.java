@@ -17,15 +17,20 @@
 
 package org.apache.shenyu.client.core.disruptor;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.client.core.disruptor.executor.RegisterClientConsumerExecutor.RegisterClientExecutorFactory;
 import org.apache.shenyu.client.core.disruptor.subcriber.ShenyuClientMetadataExecutorSubscriber;
 import org.apache.shenyu.disruptor.DisruptorProviderManage;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
+import org.apache.shenyu.disruptor.config.OverflowPolicyEnum;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
 import org.apache.shenyu.register.client.api.ShenyuClientRegisterRepository;
 
 /**
  * The type shenyu client register event publisher.
+ * the registrations never block the startup threads, they are spilled to disk while the ring buffer is full.
  */
+@Slf4j
 @SuppressWarnings("all")
 public class ShenyuClientRegisterEventPublisher {
     
@@ -50,8 +55,20 @@ public class ShenyuClientRegisterEventPublisher {
      * @param shenyuClientRegisterRepository shenyuClientRegisterRepository
      */
     public void start(final ShenyuClientRegisterRepository shenyuClientRegisterRepository) {
+        DisruptorConfig disruptorConfig = new DisruptorConfig();
+        disruptorConfig.setOverflowPolicy(OverflowPolicyEnum.SPILL);
+        start(shenyuClientRegisterRepository, disruptorConfig);
+    }
+    
+    /**
+     * Start.
+     *
+     * @param shenyuClientRegisterRepository shenyuClientRegisterRepository
+     * @param disruptorConfig the disruptor config
+     */
+    public void start(final ShenyuClientRegisterRepository shenyuClientRegisterRepository, final DisruptorConfig disruptorConfig) {
         factory = new RegisterClientExecutorFactory(new ShenyuClientMetadataExecutorSubscriber(shenyuClientRegisterRepository));
-        providerManage = new DisruptorProviderManage(factory);
+        providerManage = new DisruptorProviderManage(factory, disruptorConfig);
         providerManage.startup();
     }
     
@@ -63,6 +80,8 @@ public class ShenyuClientRegisterEventPublisher {
      */
     public <T> void publishEvent(final T data) {
         DisruptorProvider<Object> provider = providerManage.getProvider();
-        provider.onData(f -> f.setData(data));
+        if (!provider.tryOnData(f -> f.setData(data))) {
+            log.warn("the register event is dropped, the register queue is full: {}", data);
+        }
     }
 }
@@ -19,6 +19,8 @@ package org.apache.shenyu.client.grpc;
 
 import com.google.common.collect.Lists;
 import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +43,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
@@ -125,16 +128,22 @@ public class GrpcClientBeanPostProcessor implements BeanPostProcessor {
             log.error(String.format("grpc SERVICE_NAME can not found: %s", classes));
             return;
         }
+        Map<String, MethodDescriptor.MethodType> methodTypes = ((BindableService) serviceBean).bindService().getMethods().stream()
+                .map(ServerMethodDefinition::getMethodDescriptor)
+                .collect(Collectors.toMap(descriptor -> MethodDescriptor.extractBareMethodName(descriptor.getFullMethodName()),
+                        MethodDescriptor::getType, (first, second) -> first));
         final Method[] methods = ReflectionUtils.getUniqueDeclaredMethods(clazz);
         for (Method method : methods) {
             ShenyuGrpcClient grpcClient = method.getAnnotation(ShenyuGrpcClient.class);
             if (Objects.nonNull(grpcClient)) {
-                publisher.publishEvent(buildMetaDataDTO(packageName, grpcClient, method));
+                MethodDescriptor.MethodType methodType = methodTypes.getOrDefault(method.getName(), MethodDescriptor.MethodType.UNARY);
+                publisher.publishEvent(buildMetaDataDTO(packageName, grpcClient, method, methodType));
             }
         }
     }
 
-    private MetaDataRegisterDTO buildMetaDataDTO(final String packageName, final ShenyuGrpcClient shenyuGrpcClient, final Method method) {
+    private MetaDataRegisterDTO buildMetaDataDTO(final String packageName, final ShenyuGrpcClient shenyuGrpcClient,
+                                                 final Method method, final MethodDescriptor.MethodType methodType) {
         String path = this.contextPath + shenyuGrpcClient.path();
         String desc = shenyuGrpcClient.desc();
         String configHost = this.host;
@@ -157,13 +166,13 @@ public class GrpcClientBeanPostProcessor implements BeanPostProcessor {
                 .pathDesc(desc)
                 .parameterTypes(parameterTypes)
                 .rpcType("grpc")
-                .rpcExt(buildRpcExt(shenyuGrpcClient))
+                .rpcExt(buildRpcExt(shenyuGrpcClient, methodType))
                 .enabled(shenyuGrpcClient.enabled())
                 .build();
     }
 
-    private String buildRpcExt(final ShenyuGrpcClient shenyuGrpcClient) {
-        GrpcExt build = GrpcExt.builder().timeout(shenyuGrpcClient.timeout()).build();
+    private String buildRpcExt(final ShenyuGrpcClient shenyuGrpcClient, final MethodDescriptor.MethodType methodType) {
+        GrpcExt build = GrpcExt.builder().timeout(shenyuGrpcClient.timeout()).methodType(methodType.name()).build();
         return GsonUtils.getInstance().toJson(build);
     }
 
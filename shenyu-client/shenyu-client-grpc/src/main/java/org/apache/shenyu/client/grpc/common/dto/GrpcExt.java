@@ -34,4 +34,6 @@ public class GrpcExt implements Serializable {
     private String loadbalance;
 
     private Integer timeout;
+
+    private String methodType;
 }
@@ -262,6 +262,26 @@ public interface Constants {
      */
     String REWRITE_URI = "rewrite_uri";
 
+    /**
+     * The constant PARAMETER_DATA_CACHE.
+     */
+    String PARAMETER_DATA_CACHE = "parameterDataCache";
+
+    /**
+     * The constant UPSTREAM_CALLBACK.
+     */
+    String UPSTREAM_CALLBACK = "upstreamCallback";
+
+    /**
+     * The constant ROUTE_RULE, the rule matched by the plugin routing the request.
+     */
+    String ROUTE_RULE = "routeRule";
+
+    /**
+     * The constant ROUTE_START_TIME, the nano time the routing plugin started.
+     */
+    String ROUTE_START_TIME = "routeStartTime";
+
     /**
      * The constant HTTP_ERROR_RESULT.
      */
@@ -510,6 +530,26 @@ public interface Constants {
      */
     String SCHEDULED_TIME_VALUE = "10";
 
+    /**
+     * upstream check timeout.
+     */
+    String CHECK_TIMEOUT = "checkTimeout";
+
+    /**
+     * default upstream check timeout value in milliseconds.
+     */
+    String CHECK_TIMEOUT_VALUE = "3000";
+
+    /**
+     * upstream check parallelism.
+     */
+    String CHECK_PARALLELISM = "checkParallelism";
+
+    /**
+     * default upstream check parallelism value.
+     */
+    String CHECK_PARALLELISM_VALUE = "16";
+
     /**
      * default headerMaxSize value.
      */
@@ -36,4 +36,9 @@ public final class HttpConstants {
      */
     public static final long SERVER_MAX_HOLD_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
 
+    /**
+     * The long polling param of the delta sync version, value: epoch,version.
+     */
+    public static final String SYNC_VERSION = "version";
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The config events since a client version.
+ * If {@code full} is true, the events since the client version are no longer available
+ * (or the version belongs to another epoch), and the client must fetch the full config before
+ * continuing from {@code version}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConfigDeltaData implements Serializable {
+
+    private static final long serialVersionUID = 6436398117233616427L;
+
+    private String epoch;
+
+    private long version;
+
+    private boolean full;
+
+    private List<ConfigEventData> events;
+}
@@ -40,7 +40,17 @@ public enum LoadBalanceEnum {
     /**
      * Round robin load balance enum.
      */
-    ROUND_ROBIN(3, "roundRobin", true);
+    ROUND_ROBIN(3, "roundRobin", true),
+
+    /**
+     * Least active load balance enum.
+     */
+    LEAST_ACTIVE(4, "leastActive", true),
+
+    /**
+     * Power of two choices with EWMA latency load balance enum.
+     */
+    P2C_EWMA(5, "p2cEwma", true);
 
     private final int code;
 
@@ -166,4 +166,13 @@ public enum PluginEnum {
     public static List<String> getUpstreamNames() {
         return Arrays.asList(DIVIDE.name, GRPC.name, TARS.name);
     }
+
+    /**
+     * get the names of the plugins routing the request to an upstream.
+     *
+     * @return List string
+     */
+    public static List<String> getRouteNames() {
+        return Arrays.asList(DIVIDE.name, SPRING_CLOUD.name, WEB_SOCKET.name, DUBBO.name, SOFA.name, TARS.name, GRPC.name, MOTAN.name);
+    }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shenyu.common.utils;
 
-import com.google.common.collect.Maps;
 import com.google.protobuf.Message;
 import io.grpc.MethodDescriptor;
 import io.grpc.MethodDescriptor.MethodType;
@@ -26,13 +25,14 @@ import org.apache.shenyu.common.message.JsonRequest;
 import org.apache.shenyu.common.message.JsonResponse;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Grpc Utils.
  */
 @SuppressWarnings("unchecked")
 public class GrpcUtils {
-    private static Map<String, Object> methodDescriptorCache = Maps.newHashMap();
+    private static Map<String, MethodDescriptor<Message, Message>> methodDescriptorCache = new ConcurrentHashMap<>();
 
     /**
      * create json MethodDescriptor.
@@ -43,22 +43,32 @@ public class GrpcUtils {
      */
     public static MethodDescriptor<Message, Message> createJsonMethodDescriptor(final String clazzName,
                                                                                 final String methodName) {
-        MethodDescriptor<Message, Message> methodDescriptor = (MethodDescriptor<Message, Message>) methodDescriptorCache
-                .get(clazzName + GrpcConstants.GRPC_JSON_GENERIC_SERVICE + methodName);
-        if (methodDescriptor == null) {
+        return createJsonMethodDescriptor(clazzName, methodName, MethodType.UNARY);
+    }
+
+    /**
+     * create json MethodDescriptor of the given method type, descriptors are cached by service, method and type.
+     *
+     * @param clazzName  clazz name
+     * @param methodName method name
+     * @param methodType method type
+     * @return MethodDescriptor
+     */
+    public static MethodDescriptor<Message, Message> createJsonMethodDescriptor(final String clazzName,
+                                                                                final String methodName,
+                                                                                final MethodType methodType) {
+        String fullMethodName = MethodDescriptor.generateFullMethodName(clazzName + GrpcConstants.GRPC_JSON_GENERIC_SERVICE, methodName);
+        return methodDescriptorCache.computeIfAbsent(fullMethodName + "#" + methodType.name(), key -> {
             Message argsReq = createDefaultInstance(JsonRequest.class);
             Message argsRep = createDefaultInstance(JsonResponse.class);
-            methodDescriptor = MethodDescriptor.<Message, Message>newBuilder().setType(MethodType.UNARY)
-                    .setFullMethodName(MethodDescriptor.generateFullMethodName(clazzName + GrpcConstants.GRPC_JSON_GENERIC_SERVICE, methodName))
+            return MethodDescriptor.<Message, Message>newBuilder().setType(methodType)
+                    .setFullMethodName(fullMethodName)
                     .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(argsReq))
                     .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(argsRep))
                     .setSafe(false)
                     .setIdempotent(false)
                     .build();
-            methodDescriptorCache.put(clazzName + GrpcConstants.GRPC_JSON_GENERIC_SERVICE + methodName, methodDescriptor);
-
-        }
-        return methodDescriptor;
+        });
     }
 
     /**
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import org.apache.shenyu.common.exception.ShenyuException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The websocket sync v2 frames: a websocket data json is deflated and split into binary chunks,
+ * each chunk is {@code [version(1)][message id(4)][chunk index(4)][chunk count(4)][deflated bytes]}.
+ */
+public final class WebsocketFrameUtils {
+
+    /**
+     * The handshake header a client sends to ask for the v2 frames.
+     */
+    public static final String PROTOCOL_HEADER = "X-Shenyu-Sync-Protocol";
+
+    /**
+     * The v2 protocol.
+     */
+    public static final String PROTOCOL_V2 = "2";
+
+    /**
+     * The version byte of the v2 frames.
+     */
+    public static final byte FRAME_VERSION = 2;
+
+    /**
+     * The header length of a frame.
+     */
+    public static final int HEADER_LENGTH = 13;
+
+    private WebsocketFrameUtils() {
+    }
+
+    /**
+     * Deflate the message and split it into frames of at most chunkSize deflated bytes.
+     *
+     * @param message   the message
+     * @param messageId the message id
+     * @param chunkSize the chunk size
+     * @return the read only frames
+     */
+    public static List<ByteBuffer> encode(final String message, final int messageId, final int chunkSize) {
+        byte[] deflated = deflate(message.getBytes(StandardCharsets.UTF_8));
+        int chunkCount = Math.max(1, (deflated.length + chunkSize - 1) / chunkSize);
+        List<ByteBuffer> frames = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            int offset = i * chunkSize;
+            int length = Math.min(chunkSize, deflated.length - offset);
+            ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + length);
+            frame.put(FRAME_VERSION).putInt(messageId).putInt(i).putInt(chunkCount).put(deflated, offset, length);
+            frame.flip();
+            frames.add(frame.asReadOnlyBuffer());
+        }
+        return frames;
+    }
+
+    /**
+     * Read the deflated bytes of all the chunks of a message as the json.
+     *
+     * @param deflated the deflated bytes
+     * @return the reader of the json
+     */
+    public static Reader decode(final byte[] deflated) {
+        return new InputStreamReader(new InflaterInputStream(new ByteArrayInputStream(deflated)), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+        return out.toByteArray();
+    }
+}
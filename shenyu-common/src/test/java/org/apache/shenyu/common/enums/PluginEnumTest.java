@@ -44,4 +44,10 @@ public final class PluginEnumTest {
         List<String> list = PluginEnum.getUpstreamNames();
         assert list.size() > 0;
     }
+
+    @Test
+    public void testGetRouteNames() {
+        List<String> list = PluginEnum.getRouteNames();
+        assertEquals(8, list.size());
+    }
 }
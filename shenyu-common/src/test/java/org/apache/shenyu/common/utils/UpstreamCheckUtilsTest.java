@@ -45,6 +45,12 @@ public final class UpstreamCheckUtilsTest {
         assertFalse(UpstreamCheckUtils.checkUrl("test"));
     }
 
+    @Test
+    public void testTimeout() {
+        assertFalse(UpstreamCheckUtils.checkUrl("", 100));
+        assertFalse(UpstreamCheckUtils.checkUrl("10.255.255.1:80", 100));
+    }
+
     @Test
     public void testPingHostname() {
         assertTrue(UpstreamCheckUtils.checkUrl("localhost"));
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import com.google.common.io.CharStreams;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for WebsocketFrameUtils.
+ */
+public final class WebsocketFrameUtilsTest {
+
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            message.append("{\"id\":\"").append(i).append("\",\"name\":\"").append(UUIDUtils.getInstance().generateShortUuid()).append("\"}");
+        }
+        List<ByteBuffer> frames = WebsocketFrameUtils.encode(message.toString(), 7, 1024);
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        for (int i = 0; i < frames.size(); i++) {
+            ByteBuffer frame = frames.get(i).duplicate();
+            assertEquals(WebsocketFrameUtils.FRAME_VERSION, frame.get());
+            assertEquals(7, frame.getInt());
+            assertEquals(i, frame.getInt());
+            assertEquals(frames.size(), frame.getInt());
+            byte[] chunk = new byte[frame.remaining()];
+            frame.get(chunk);
+            deflated.write(chunk);
+        }
+        assertEquals(message.toString(), CharStreams.toString(WebsocketFrameUtils.decode(deflated.toByteArray())));
+    }
+
+    @Test
+    public void testEncodeEmpty() {
+        assertEquals(1, WebsocketFrameUtils.encode("", 1, 1024).size());
+    }
+}
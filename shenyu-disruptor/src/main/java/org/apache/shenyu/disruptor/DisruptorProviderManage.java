@@ -17,11 +17,12 @@
 
 package org.apache.shenyu.disruptor;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.IgnoreExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
-import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumer;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerFactory;
 import org.apache.shenyu.disruptor.consumer.QueueConsumer;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
@@ -38,13 +39,15 @@ import java.util.concurrent.TimeUnit;
  * DisruptorProviderManage.
  * disruptor provider manager.
  *
+ * <p>A {@link BatchQueueConsumerFactory} is consumed in batches on the disruptor threads, other factories
+ * are consumed by a worker pool that either runs the consumers directly or hands them to a bounded consumer pool,
+ * which runs them on the disruptor thread once it is full.
+ *
  * @param <T> the type parameter
  */
 public class DisruptorProviderManage<T> {
 
-    public static final Integer DEFAULT_SIZE = 4096 << 1 << 1;
-
-    private static final Integer DEFAULT_CONSUMER_SIZE = Runtime.getRuntime().availableProcessors() << 1;
+    public static final Integer DEFAULT_SIZE = DisruptorConfig.DEFAULT_RING_BUFFER_SIZE;
 
     private final Integer size;
 
@@ -56,6 +59,8 @@ public class DisruptorProviderManage<T> {
     
     private ExecutorService executor;
 
+    private final DisruptorConfig config;
+
     /**
      * Instantiates a new Disruptor provider manage.
      *
@@ -64,7 +69,7 @@ public class DisruptorProviderManage<T> {
      */
     public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory, final Integer ringBufferSize) {
         this(consumerFactory,
-                DEFAULT_CONSUMER_SIZE,
+                DisruptorConfig.DEFAULT_CONSUMER_SIZE,
                 ringBufferSize);
     }
 
@@ -74,7 +79,7 @@ public class DisruptorProviderManage<T> {
      * @param consumerFactory the consumer factory
      */
     public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory) {
-        this(consumerFactory, DEFAULT_CONSUMER_SIZE, DEFAULT_SIZE);
+        this(consumerFactory, new DisruptorConfig());
     }
 
     /**
@@ -87,12 +92,25 @@ public class DisruptorProviderManage<T> {
     public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory,
                                    final int consumerSize,
                                    final int ringBufferSize) {
+        this(consumerFactory, buildConfig(consumerSize, ringBufferSize));
+    }
+
+    /**
+     * Instantiates a new Disruptor provider manage.
+     *
+     * @param consumerFactory the consumer factory
+     * @param config          the disruptor config
+     */
+    public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory, final DisruptorConfig config) {
         this.consumerFactory = consumerFactory;
-        this.size = ringBufferSize;
-        this.consumerSize = consumerSize;
-        this.executor = new ThreadPoolExecutor(consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(),
-                DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.AbortPolicy());
+        this.config = config;
+        this.size = config.getRingBufferSize();
+        this.consumerSize = config.getConsumerSize();
+        if (!config.isConsumeDirectly() && !(consumerFactory instanceof BatchQueueConsumerFactory)) {
+            this.executor = new ThreadPoolExecutor(consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(size),
+                    DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.CallerRunsPolicy());
+        }
     }
 
     /**
@@ -103,17 +121,26 @@ public class DisruptorProviderManage<T> {
         Disruptor<DataEvent<T>> disruptor = new Disruptor<>(new DisruptorEventFactory<>(),
                 size,
                 DisruptorThreadFactory.create("shenyu_disruptor_provider_" + consumerFactory.fixName(), false),
-                ProducerType.MULTI,
-                new BlockingWaitStrategy());
-        QueueConsumer<T>[] consumers = new QueueConsumer[consumerSize];
-        for (int i = 0; i < consumerSize; i++) {
-            consumers[i] = new QueueConsumer<>(executor, consumerFactory);
+                config.getProducerType(),
+                config.getWaitStrategy().newInstance());
+        if (consumerFactory instanceof BatchQueueConsumerFactory) {
+            BatchQueueConsumerFactory<T> batchConsumerFactory = (BatchQueueConsumerFactory<T>) consumerFactory;
+            BatchQueueConsumer<T>[] consumers = new BatchQueueConsumer[consumerSize];
+            for (int i = 0; i < consumerSize; i++) {
+                consumers[i] = new BatchQueueConsumer<>(batchConsumerFactory.createBatch(), i, consumerSize);
+            }
+            disruptor.handleEventsWith(consumers);
+        } else {
+            QueueConsumer<T>[] consumers = new QueueConsumer[consumerSize];
+            for (int i = 0; i < consumerSize; i++) {
+                consumers[i] = executor == null ? new QueueConsumer<>(consumerFactory) : new QueueConsumer<>(executor, consumerFactory);
+            }
+            disruptor.handleEventsWithWorkerPool(consumers);
         }
-        disruptor.handleEventsWithWorkerPool(consumers);
         disruptor.setDefaultExceptionHandler(new IgnoreExceptionHandler());
         disruptor.start();
         RingBuffer<DataEvent<T>> ringBuffer = disruptor.getRingBuffer();
-        provider = new DisruptorProvider<>(ringBuffer, disruptor);
+        provider = new DisruptorProvider<>(ringBuffer, disruptor, consumerFactory.fixName(), config);
     }
 
 
@@ -125,4 +152,11 @@ public class DisruptorProviderManage<T> {
     public DisruptorProvider<T> getProvider() {
         return provider;
     }
+
+    private static DisruptorConfig buildConfig(final int consumerSize, final int ringBufferSize) {
+        DisruptorConfig config = new DisruptorConfig();
+        config.setConsumerSize(consumerSize);
+        config.setRingBufferSize(ringBufferSize);
+        return config;
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.config;
+
+import com.lmax.disruptor.dsl.ProducerType;
+import lombok.Data;
+
+/**
+ * DisruptorConfig.
+ * the ring buffer, producer and consumer settings of a disruptor.
+ */
+@Data
+public class DisruptorConfig {
+
+    /**
+     * The default ring buffer size.
+     */
+    public static final int DEFAULT_RING_BUFFER_SIZE = 4096 << 1 << 1;
+
+    /**
+     * The default consumer size.
+     */
+    public static final int DEFAULT_CONSUMER_SIZE = Runtime.getRuntime().availableProcessors() << 1;
+
+    private int ringBufferSize = DEFAULT_RING_BUFFER_SIZE;
+
+    private int consumerSize = DEFAULT_CONSUMER_SIZE;
+
+    private WaitStrategyEnum waitStrategy = WaitStrategyEnum.BLOCKING;
+
+    /**
+     * {@link ProducerType#SINGLE} only if a single thread publishes.
+     */
+    private ProducerType producerType = ProducerType.MULTI;
+
+    /**
+     * Run the consumers on the disruptor threads instead of handing each event to a consumer pool,
+     * a slow consumer then holds the ring buffer and pushes back on the producers.
+     */
+    private boolean consumeDirectly;
+
+    /**
+     * How long a non-blocking publish waits for the ring buffer, in milliseconds.
+     */
+    private long publishTimeout = 1000L;
+
+    private OverflowPolicyEnum overflowPolicy = OverflowPolicyEnum.DROP_NEW;
+
+    /**
+     * The bound of the overflow buffer or spill queue.
+     */
+    private int overflowCapacity = 4096;
+
+    private String spillDirectory = System.getProperty("java.io.tmpdir");
+}
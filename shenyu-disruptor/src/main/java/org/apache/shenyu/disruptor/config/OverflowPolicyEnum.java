@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * What a non-blocking publish does when the ring buffer stays full.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum OverflowPolicyEnum {
+
+    /**
+     * Drop the new event.
+     */
+    DROP_NEW("dropNew"),
+
+    /**
+     * Keep the event in a bounded memory buffer, dropping the oldest buffered event once it is full.
+     */
+    DROP_OLDEST("dropOldest"),
+
+    /**
+     * Spill the event to a bounded queue on disk, dropping the new event once it is full.
+     */
+    SPILL("spill");
+
+    private final String name;
+
+    /**
+     * Acquire the overflow policy by name, {@link #DROP_NEW} if it is unknown.
+     *
+     * @param name the name
+     * @return the overflow policy enum
+     */
+    public static OverflowPolicyEnum acquireByName(final String name) {
+        return Arrays.stream(values()).filter(e -> e.getName().equalsIgnoreCase(name)).findFirst().orElse(DROP_NEW);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.config;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * The wait strategy of the disruptor consumers.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum WaitStrategyEnum {
+
+    /**
+     * Blocking wait strategy enum, the consumers park on a lock, the lowest cpu usage.
+     */
+    BLOCKING("blocking", BlockingWaitStrategy::new),
+
+    /**
+     * Sleeping wait strategy enum, the consumers spin, yield and then sleep.
+     */
+    SLEEPING("sleeping", SleepingWaitStrategy::new),
+
+    /**
+     * Yielding wait strategy enum, the consumers spin and yield, low latency for spare cores.
+     */
+    YIELDING("yielding", YieldingWaitStrategy::new),
+
+    /**
+     * Busy spin wait strategy enum, the consumers never leave the cpu, one core per consumer.
+     */
+    BUSY_SPIN("busySpin", BusySpinWaitStrategy::new);
+
+    private final String name;
+
+    private final Supplier<WaitStrategy> supplier;
+
+    /**
+     * New wait strategy.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy newInstance() {
+        return supplier.get();
+    }
+
+    /**
+     * Acquire the wait strategy by name, {@link #BLOCKING} if it is unknown.
+     *
+     * @param name the name
+     * @return the wait strategy enum
+     */
+    public static WaitStrategyEnum acquireByName(final String name) {
+        return Arrays.stream(values()).filter(e -> e.getName().equalsIgnoreCase(name)).findFirst().orElse(BLOCKING);
+    }
+}
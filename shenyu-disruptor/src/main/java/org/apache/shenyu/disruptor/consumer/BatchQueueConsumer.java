@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.consumer;
+
+import com.lmax.disruptor.EventHandler;
+import org.apache.shenyu.disruptor.event.DataEvent;
+
+/**
+ * The type Batch queue consumer.
+ * every consumer sees every event and handles the sequences of its own partition, so the end of a batch
+ * is delivered to the executor even if the last event belongs to another consumer.
+ *
+ * @param <T> the type parameter
+ */
+public class BatchQueueConsumer<T> implements EventHandler<DataEvent<T>> {
+
+    private final BatchQueueConsumerExecutor<T> executor;
+
+    private final int ordinal;
+
+    private final int consumerSize;
+
+    private boolean pending;
+
+    /**
+     * Instantiates a new Batch queue consumer.
+     *
+     * @param executor     the executor
+     * @param ordinal      the ordinal of the consumer
+     * @param consumerSize the consumer size
+     */
+    public BatchQueueConsumer(final BatchQueueConsumerExecutor<T> executor, final int ordinal, final int consumerSize) {
+        this.executor = executor;
+        this.ordinal = ordinal;
+        this.consumerSize = consumerSize;
+    }
+
+    @Override
+    public void onEvent(final DataEvent<T> event, final long sequence, final boolean endOfBatch) {
+        if (sequence % consumerSize == ordinal) {
+            T data = event.getData();
+            event.setData(null);
+            pending = !endOfBatch;
+            executor.onEvent(data, endOfBatch);
+        } else if (endOfBatch && pending) {
+            pending = false;
+            executor.onEvent(null, true);
+        }
+    }
+}
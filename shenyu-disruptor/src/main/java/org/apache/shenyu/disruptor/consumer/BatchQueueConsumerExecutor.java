@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.consumer;
+
+/**
+ * The batch aware queue consumer executor, it is called on a disruptor thread for the events of a batch
+ * and can flush what it collected at the end of the batch.
+ *
+ * @param <T> the type parameter
+ */
+public interface BatchQueueConsumerExecutor<T> {
+
+    /**
+     * On event.
+     *
+     * @param data       the data, null if only the end of the batch is signalled because the last event of the batch
+     *                   was handled by another consumer
+     * @param endOfBatch whether it is the last event the disruptor has for now
+     */
+    void onEvent(T data, boolean endOfBatch);
+}
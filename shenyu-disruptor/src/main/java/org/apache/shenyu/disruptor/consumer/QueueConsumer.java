@@ -33,6 +33,8 @@ public class QueueConsumer<T> implements WorkHandler<DataEvent<T>> {
     
     private QueueConsumerFactory<T> factory;
     
+    private QueueConsumerExecutor<T> directExecutor;
+    
     /**
      * Instantiates a new Queue consumer.
      *
@@ -43,12 +45,34 @@ public class QueueConsumer<T> implements WorkHandler<DataEvent<T>> {
         this.executor = executor;
         this.factory = factory;
     }
+    
+    /**
+     * Instantiates a new Queue consumer running on the disruptor thread,
+     * the consumer executor is created once and reused for every event.
+     *
+     * @param factory the factory
+     */
+    public QueueConsumer(final QueueConsumerFactory<T> factory) {
+        this.factory = factory;
+        this.directExecutor = factory.create();
+    }
 
     @Override
     public void onEvent(final DataEvent<T> t) {
-        if (t != null) {
+        if (t != null && t.getData() != null) {
+            T data = t.getData();
+            t.setData(null);
+            if (directExecutor != null) {
+                directExecutor.setData(data);
+                try {
+                    directExecutor.run();
+                } finally {
+                    directExecutor.setData(null);
+                }
+                return;
+            }
             QueueConsumerExecutor<T> queueConsumerExecutor = factory.create();
-            queueConsumerExecutor.setData(t.getData());
+            queueConsumerExecutor.setData(data);
             executor.execute(queueConsumerExecutor);
         }
     }
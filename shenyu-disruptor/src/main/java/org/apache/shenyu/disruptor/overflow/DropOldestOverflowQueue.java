@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.overflow;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The bounded memory overflow queue, the oldest data is dropped once it is full.
+ *
+ * @param <T> the type parameter
+ */
+public class DropOldestOverflowQueue<T> implements OverflowQueue<T> {
+
+    private final Deque<T> deque;
+
+    private final int capacity;
+
+    /**
+     * Instantiates a new Drop oldest overflow queue.
+     *
+     * @param capacity the capacity
+     */
+    public DropOldestOverflowQueue(final int capacity) {
+        this.capacity = capacity;
+        this.deque = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public boolean offer(final T data) {
+        boolean dropped = deque.size() >= capacity;
+        if (dropped) {
+            deque.pollFirst();
+        }
+        deque.offerLast(data);
+        return !dropped;
+    }
+
+    @Override
+    public T peek() {
+        return deque.peekFirst();
+    }
+
+    @Override
+    public void remove() {
+        deque.pollFirst();
+    }
+
+    @Override
+    public int size() {
+        return deque.size();
+    }
+
+    @Override
+    public void close() {
+        deque.clear();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.overflow;
+
+/**
+ * The queue keeping the events a full ring buffer could not take, the provider accesses it under its own lock.
+ *
+ * @param <T> the type parameter
+ */
+public interface OverflowQueue<T> {
+
+    /**
+     * Offer the data.
+     *
+     * @param data the data
+     * @return false if a data is dropped, the new one or the oldest one depending on the queue
+     */
+    boolean offer(T data);
+
+    /**
+     * Peek the oldest data.
+     *
+     * @return the oldest data, null if it is empty
+     */
+    T peek();
+
+    /**
+     * Remove the oldest data.
+     */
+    void remove();
+
+    /**
+     * Size.
+     *
+     * @return the size
+     */
+    int size();
+
+    /**
+     * Close the queue and release its resources.
+     */
+    void close();
+}
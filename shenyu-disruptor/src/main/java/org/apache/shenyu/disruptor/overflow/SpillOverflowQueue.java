@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.overflow;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+
+/**
+ * The bounded overflow queue on disk, the data is java serialized into a spill file as length prefixed records,
+ * the new data is dropped once it is full and the file is truncated whenever the queue is drained.
+ * The spill file is only created on the first spill and is deleted on {@link #close()}.
+ *
+ * @param <T> the type parameter
+ */
+public class SpillOverflowQueue<T> implements OverflowQueue<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillOverflowQueue.class);
+
+    private final String directory;
+
+    private final String name;
+
+    private final int capacity;
+
+    private File file;
+
+    private RandomAccessFile randomAccessFile;
+
+    private long readPosition;
+
+    private long writePosition;
+
+    private int size;
+
+    private T head;
+
+    /**
+     * Instantiates a new Spill overflow queue.
+     *
+     * @param directory the spill directory
+     * @param name      the name of the disruptor
+     * @param capacity  the capacity
+     */
+    public SpillOverflowQueue(final String directory, final String name, final int capacity) {
+        this.directory = directory;
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean offer(final T data) {
+        if (size >= capacity) {
+            return false;
+        }
+        try {
+            if (randomAccessFile == null) {
+                open();
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(data);
+            }
+            randomAccessFile.seek(writePosition);
+            randomAccessFile.writeInt(bytes.size());
+            randomAccessFile.write(bytes.toByteArray());
+            writePosition = randomAccessFile.getFilePointer();
+            size++;
+            return true;
+        } catch (IOException e) {
+            LOG.error("spill the data to {} fail", file == null ? directory : file, e);
+            return false;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0 || head != null) {
+            return head;
+        }
+        try {
+            randomAccessFile.seek(readPosition);
+            byte[] bytes = new byte[randomAccessFile.readInt()];
+            randomAccessFile.readFully(bytes);
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                head = (T) in.readObject();
+            }
+            readPosition = randomAccessFile.getFilePointer();
+            return head;
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.error("read the spill file {} fail, drop the {} spilled data", file, size, e);
+            reset();
+            return null;
+        }
+    }
+
+    @Override
+    public void remove() {
+        if (peek() == null) {
+            return;
+        }
+        head = null;
+        if (--size == 0) {
+            reset();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        if (randomAccessFile == null) {
+            return;
+        }
+        try {
+            randomAccessFile.close();
+        } catch (IOException e) {
+            LOG.warn("close the spill file {} fail", file, e);
+        }
+        if (!file.delete()) {
+            LOG.warn("delete the spill file {} fail", file);
+        }
+        randomAccessFile = null;
+        file = null;
+    }
+
+    private void open() throws IOException {
+        File spill = File.createTempFile("shenyu-disruptor-" + name + "-", ".spill", new File(directory));
+        spill.deleteOnExit();
+        randomAccessFile = new RandomAccessFile(spill, "rw");
+        file = spill;
+    }
+
+    private void reset() {
+        head = null;
+        size = 0;
+        readPosition = 0;
+        writePosition = 0;
+        try {
+            randomAccessFile.setLength(0);
+        } catch (IOException e) {
+            LOG.warn("truncate the spill file {} fail", file, e);
+        }
+    }
+}
@@ -15,28 +15,75 @@
  * limitations under the License.
  */
 
+
 package org.apache.shenyu.disruptor.provider;
 
+import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
+import org.apache.shenyu.disruptor.config.OverflowPolicyEnum;
 import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.overflow.DropOldestOverflowQueue;
+import org.apache.shenyu.disruptor.overflow.OverflowQueue;
+import org.apache.shenyu.disruptor.overflow.SpillOverflowQueue;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
 /**
  * DisruptorProvider.
  * disruptor provider definition.
  *
+ * <p>{@link #onData(Consumer)} waits for the ring buffer as long as it takes, {@link #tryOnData(Consumer, long, TimeUnit)}
+ * gives up after the timeout and hands the event to the overflow policy. The overflowed events are drained back into
+ * the ring buffer ahead of the new ones. The remaining capacity, the consumer lag and the publish latency are reported
+ * through the {@link MetricsReporter} once a metrics register is registered.
+ *
+ * <p>A monitor thread drains the overflow queue and reports the gauges. It only runs while the provider has an overflow
+ * queue or the metrics are enabled, and stops on {@link #shutdown()}.
+ *
  * @param <T> the type parameter
  */
 public class DisruptorProvider<T> {
     
+    private static final String REMAINING_CAPACITY = "shenyu_disruptor_remaining_capacity";
+    
+    private static final String CONSUMER_LAG = "shenyu_disruptor_consumer_lag";
+    
+    private static final String PUBLISH_LATENCY = "shenyu_disruptor_publish_latency_micros";
+    
+    private static final double[] PUBLISH_LATENCY_BUCKETS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 10000, 100000};
+    
+    private static final String OVERFLOW_TOTAL = "shenyu_disruptor_overflow_total";
+    
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    
+    private static final long DRAIN_INTERVAL = 100L;
+    
     private final RingBuffer<DataEvent<T>> ringBuffer;
     
     private final Disruptor<DataEvent<T>> disruptor;
     
+    private final String[] labelValues;
+    
+    private final DisruptorConfig config;
+    
+    private final OverflowQueue<T> overflowQueue;
+    
+    private ScheduledExecutorService scheduler;
+    
+    private boolean shutdown;
+    
+    private volatile boolean metricsRegistered;
+    
     /**
      * The Logger.
      */
@@ -49,8 +96,27 @@ public class DisruptorProvider<T> {
      * @param disruptor the disruptor
      */
     public DisruptorProvider(final RingBuffer<DataEvent<T>> ringBuffer, final Disruptor<DataEvent<T>> disruptor) {
+        this(ringBuffer, disruptor, "default", new DisruptorConfig());
+    }
+    
+    /**
+     * Instantiates a new Disruptor provider.
+     *
+     * @param ringBuffer the ring buffer
+     * @param disruptor the disruptor
+     * @param name the name, the label of the metrics
+     * @param config the disruptor config
+     */
+    public DisruptorProvider(final RingBuffer<DataEvent<T>> ringBuffer, final Disruptor<DataEvent<T>> disruptor,
+                             final String name, final DisruptorConfig config) {
         this.ringBuffer = ringBuffer;
         this.disruptor = disruptor;
+        this.labelValues = new String[]{name};
+        this.config = config;
+        this.overflowQueue = createOverflowQueue(name, config);
+        if (overflowQueue != null) {
+            startMonitor();
+        }
     }
     
     /**
@@ -59,22 +125,219 @@ public class DisruptorProvider<T> {
      * @param function the function
      */
     public void onData(final Consumer<DataEvent<T>> function) {
-        long position = ringBuffer.next();
+        long start = System.nanoTime();
+        publish(ringBuffer.next(), function);
+        recordLatency(start);
+    }
+    
+    /**
+     * Try on data, waits for the configured publish timeout.
+     *
+     * @param function the function
+     * @return false if the event is dropped
+     */
+    public boolean tryOnData(final Consumer<DataEvent<T>> function) {
+        return tryOnData(function, config.getPublishTimeout(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Try on data, the event is handed to the overflow policy if the ring buffer stays full until the timeout.
+     *
+     * @param function the function
+     * @param timeout the timeout
+     * @param unit the unit of the timeout
+     * @return false if the event is dropped
+     */
+    public boolean tryOnData(final Consumer<DataEvent<T>> function, final long timeout, final TimeUnit unit) {
+        long start = System.nanoTime();
         try {
-            DataEvent<T> dataEvent = ringBuffer.get(position);
-            function.accept(dataEvent);
-            ringBuffer.publish(position);
-        } catch (Exception ex) {
-            logger.error("ex", ex);
+            if (overflowQueue != null && drain() > 0) {
+                return overflow(function);
+            }
+            long deadline = start + unit.toNanos(timeout);
+            while (true) {
+                try {
+                    publish(ringBuffer.tryNext(), function);
+                    return true;
+                } catch (InsufficientCapacityException e) {
+                    if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                        return overflow(function);
+                    }
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        } finally {
+            recordLatency(start);
         }
     }
     
+    /**
+     * Remaining capacity of the ring buffer.
+     *
+     * @return the remaining capacity
+     */
+    public long remainingCapacity() {
+        return ringBuffer.remainingCapacity();
+    }
+    
+    /**
+     * The events published or overflowed but not consumed yet.
+     *
+     * @return the consumer lag
+     */
+    public long consumerLag() {
+        long lag = ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+        if (overflowQueue != null) {
+            synchronized (overflowQueue) {
+                lag += overflowQueue.size();
+            }
+        }
+        return lag;
+    }
+    
+    /**
+     * Whether the monitor thread is running.
+     *
+     * @return true if the monitor is running
+     */
+    public synchronized boolean isMonitorRunning() {
+        return scheduler != null && !scheduler.isShutdown();
+    }
+    
     /**
      * Shutdown.
      */
     public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+        if (overflowQueue != null) {
+            int remaining = drain();
+            if (remaining > 0) {
+                logger.warn("disruptor {} shutdown with {} overflowed events dropped", labelValues[0], remaining);
+            }
+            synchronized (overflowQueue) {
+                overflowQueue.close();
+            }
+        }
         if (null != disruptor) {
             disruptor.shutdown();
         }
     }
+    
+    private synchronized void startMonitor() {
+        if (shutdown || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(DisruptorThreadFactory.create("shenyu_disruptor_monitor_" + labelValues[0], true));
+        scheduler.scheduleWithFixedDelay(this::drainAndReport, DRAIN_INTERVAL, DRAIN_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+    
+    private void publish(final long position, final Consumer<DataEvent<T>> function) {
+        try {
+            DataEvent<T> dataEvent = ringBuffer.get(position);
+            dataEvent.setData(null);
+            function.accept(dataEvent);
+        } catch (Exception ex) {
+            logger.error("ex", ex);
+        } finally {
+            ringBuffer.publish(position);
+        }
+    }
+    
+    private boolean overflow(final Consumer<DataEvent<T>> function) {
+        if (overflowQueue == null) {
+            countOverflow("dropped");
+            return false;
+        }
+        DataEvent<T> dataEvent = new DataEvent<>();
+        function.accept(dataEvent);
+        boolean offered;
+        synchronized (overflowQueue) {
+            offered = overflowQueue.offer(dataEvent.getData());
+        }
+        countOverflow(offered ? "buffered" : "dropped");
+        return offered || config.getOverflowPolicy() == OverflowPolicyEnum.DROP_OLDEST;
+    }
+    
+    /**
+     * Drain the overflowed events into the ring buffer while it has capacity.
+     *
+     * @return the overflowed events left
+     */
+    private int drain() {
+        synchronized (overflowQueue) {
+            T data;
+            while ((data = overflowQueue.peek()) != null) {
+                final T value = data;
+                try {
+                    publish(ringBuffer.tryNext(), dataEvent -> dataEvent.setData(value));
+                } catch (InsufficientCapacityException e) {
+                    break;
+                }
+                overflowQueue.remove();
+            }
+            return overflowQueue.size();
+        }
+    }
+    
+    private void drainAndReport() {
+        try {
+            if (overflowQueue != null) {
+                drain();
+            }
+            if (registerMetrics()) {
+                MetricsReporter.gaugeSet(REMAINING_CAPACITY, labelValues, remainingCapacity());
+                MetricsReporter.gaugeSet(CONSUMER_LAG, labelValues, consumerLag());
+            }
+        } catch (Exception e) {
+            logger.error("drain the overflowed events of disruptor {} error", labelValues[0], e);
+        }
+    }
+    
+    private void recordLatency(final long start) {
+        if (registerMetrics()) {
+            MetricsReporter.recordTime(PUBLISH_LATENCY, labelValues, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+    
+    private void countOverflow(final String result) {
+        if (registerMetrics()) {
+            MetricsReporter.counterIncrement(OVERFLOW_TOTAL, new String[]{labelValues[0], result});
+        }
+    }
+    
+    private boolean registerMetrics() {
+        if (!MetricsReporter.isEnabled()) {
+            return false;
+        }
+        if (!metricsRegistered) {
+            synchronized (DisruptorProvider.class) {
+                if (!metricsRegistered) {
+                    String[] labelNames = new String[]{"name"};
+                    MetricsReporter.registerGauge(REMAINING_CAPACITY, labelNames, "the remaining capacity of the disruptor ring buffer");
+                    MetricsReporter.registerGauge(CONSUMER_LAG, labelNames, "the disruptor events published or overflowed but not consumed");
+                    MetricsReporter.registerHistogram(PUBLISH_LATENCY, labelNames, "the disruptor publish latency micros", PUBLISH_LATENCY_BUCKETS);
+                    MetricsReporter.registerCounter(OVERFLOW_TOTAL, new String[]{"name", "result"}, "the disruptor events overflowed the ring buffer");
+                    metricsRegistered = true;
+                }
+            }
+            startMonitor();
+        }
+        return true;
+    }
+    
+    private static <T> OverflowQueue<T> createOverflowQueue(final String name, final DisruptorConfig config) {
+        switch (config.getOverflowPolicy()) {
+            case DROP_OLDEST:
+                return new DropOldestOverflowQueue<>(config.getOverflowCapacity());
+            case SPILL:
+                return new SpillOverflowQueue<>(config.getSpillDirectory(), name, config.getOverflowCapacity());
+            default:
+                return null;
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor;
+
+import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
+import org.apache.shenyu.disruptor.config.WaitStrategyEnum;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerExecutor;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerFactory;
+import org.apache.shenyu.disruptor.consumer.QueueConsumerExecutor;
+import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
+import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the consumer pool, the direct consumers and the batch consumers per wait strategy.
+ * The producers block once the ring buffer is full, so the measured rate is the rate of the consumers.
+ * Run with {@code main} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class DisruptorProviderManageBenchmark {
+
+    private static final int CONSUMER_SIZE = 4;
+
+    private static final int WORK_TOKENS = 64;
+
+    @Param({"blocking", "yielding", "sleeping"})
+    private String waitStrategy;
+
+    @Param({"pool", "direct", "batch"})
+    private String consumeMode;
+
+    private DisruptorProvider<Integer> provider;
+
+    /**
+     * Start the disruptor.
+     */
+    @Setup
+    public void setUp() {
+        DisruptorConfig config = new DisruptorConfig();
+        config.setConsumerSize(CONSUMER_SIZE);
+        config.setRingBufferSize(1024);
+        config.setWaitStrategy(WaitStrategyEnum.acquireByName(waitStrategy));
+        config.setProducerType(ProducerType.MULTI);
+        config.setConsumeDirectly("direct".equals(consumeMode));
+        QueueConsumerFactory<Integer> factory = "batch".equals(consumeMode) ? new BenchmarkBatchConsumerFactory() : new BenchmarkConsumerFactory();
+        DisruptorProviderManage<Integer> manage = new DisruptorProviderManage<>(factory, config);
+        manage.startup();
+        provider = manage.getProvider();
+    }
+
+    /**
+     * Shutdown the disruptor.
+     */
+    @TearDown
+    public void tearDown() {
+        provider.shutdown();
+    }
+
+    /**
+     * Publish one event.
+     */
+    @Benchmark
+    public void publish() {
+        provider.onData(event -> event.setData(1));
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DisruptorProviderManageBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class BenchmarkConsumerFactory implements QueueConsumerFactory<Integer> {
+
+        @Override
+        public QueueConsumerExecutor<Integer> create() {
+            return new QueueConsumerExecutor<Integer>() {
+                @Override
+                public void run() {
+                    Blackhole.consumeCPU(WORK_TOKENS);
+                }
+            };
+        }
+
+        @Override
+        public String fixName() {
+            return "benchmark";
+        }
+    }
+
+    private static class BenchmarkBatchConsumerFactory extends BenchmarkConsumerFactory implements BatchQueueConsumerFactory<Integer> {
+
+        @Override
+        public BatchQueueConsumerExecutor<Integer> createBatch() {
+            return (data, endOfBatch) -> Blackhole.consumeCPU(WORK_TOKENS);
+        }
+    }
+}
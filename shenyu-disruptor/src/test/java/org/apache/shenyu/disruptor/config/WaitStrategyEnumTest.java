@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.config;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for WaitStrategyEnum.
+ */
+public final class WaitStrategyEnumTest {
+
+    @Test
+    public void testAcquireByName() {
+        assertThat(WaitStrategyEnum.acquireByName("blocking"), is(WaitStrategyEnum.BLOCKING));
+        assertThat(WaitStrategyEnum.acquireByName("sleeping"), is(WaitStrategyEnum.SLEEPING));
+        assertThat(WaitStrategyEnum.acquireByName("yielding"), is(WaitStrategyEnum.YIELDING));
+        assertThat(WaitStrategyEnum.acquireByName("busySpin"), is(WaitStrategyEnum.BUSY_SPIN));
+        assertThat(WaitStrategyEnum.acquireByName("BUSYSPIN"), is(WaitStrategyEnum.BUSY_SPIN));
+    }
+
+    @Test
+    public void testAcquireUnknownFallsBackToBlocking() {
+        assertThat(WaitStrategyEnum.acquireByName("unknown"), is(WaitStrategyEnum.BLOCKING));
+        assertThat(WaitStrategyEnum.acquireByName(null), is(WaitStrategyEnum.BLOCKING));
+    }
+
+    @Test
+    public void testNewInstance() {
+        assertThat(WaitStrategyEnum.BLOCKING.newInstance(), instanceOf(BlockingWaitStrategy.class));
+        assertThat(WaitStrategyEnum.SLEEPING.newInstance(), instanceOf(SleepingWaitStrategy.class));
+        assertThat(WaitStrategyEnum.YIELDING.newInstance(), instanceOf(YieldingWaitStrategy.class));
+        assertThat(WaitStrategyEnum.BUSY_SPIN.newInstance(), instanceOf(BusySpinWaitStrategy.class));
+        assertThat(WaitStrategyEnum.BLOCKING.newInstance(), not(sameInstance(WaitStrategyEnum.BLOCKING.newInstance())));
+    }
+}
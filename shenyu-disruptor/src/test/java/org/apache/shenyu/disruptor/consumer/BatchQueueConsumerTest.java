@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.consumer;
+
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for BatchQueueConsumer.
+ */
+public final class BatchQueueConsumerTest {
+
+    private final List<String> first = new ArrayList<>();
+
+    private final List<String> second = new ArrayList<>();
+
+    private final BatchQueueConsumer<String> firstConsumer = new BatchQueueConsumer<>(recorder(first), 0, 2);
+
+    private final BatchQueueConsumer<String> secondConsumer = new BatchQueueConsumer<>(recorder(second), 1, 2);
+
+    @Test
+    public void testEachConsumerHandlesItsPartition() {
+        publish(0, "a", false);
+        publish(1, "b", false);
+        publish(2, "c", false);
+        publish(3, "d", false);
+        assertThat(first, is(Arrays.asList("a", "c")));
+        assertThat(second, is(Arrays.asList("b", "d")));
+    }
+
+    @Test
+    public void testEndOfBatchFlushesEveryConsumer() {
+        publish(0, "a", false);
+        publish(1, "b", false);
+        publish(2, "c", true);
+        assertThat(first, is(Arrays.asList("a", "c|end")));
+        assertThat(second, is(Arrays.asList("b", "null|end")));
+    }
+
+    @Test
+    public void testEndOfBatchIsSignalledOnce() {
+        publish(0, "a", false);
+        publish(1, "b", true);
+        publish(2, "c", true);
+        assertThat(first, is(Arrays.asList("a", "null|end", "c|end")));
+        assertThat(second, is(Arrays.asList("b|end")));
+    }
+
+    @Test
+    public void testHandledEventIsCleared() {
+        DataEvent<String> event = publish(0, "a", true);
+        assertNull(event.getData());
+    }
+
+    private DataEvent<String> publish(final long sequence, final String data, final boolean endOfBatch) {
+        DataEvent<String> event = new DataEvent<>();
+        event.setData(data);
+        firstConsumer.onEvent(event, sequence, endOfBatch);
+        secondConsumer.onEvent(event, sequence, endOfBatch);
+        return event;
+    }
+
+    private static BatchQueueConsumerExecutor<String> recorder(final List<String> calls) {
+        return (data, endOfBatch) -> calls.add(endOfBatch ? data + "|end" : data);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.consumer;
+
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test cases for QueueConsumer.
+ */
+public final class QueueConsumerTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<QueueConsumerExecutor<String>> executors = new ArrayList<>();
+
+    @Test
+    public void testDirectModeRunsOnTheCallerWithOneExecutor() {
+        QueueConsumer<String> consumer = new QueueConsumer<>(factory());
+        consumer.onEvent(event("a"));
+        consumer.onEvent(event("b"));
+        assertThat(handled, is(Arrays.asList("a", "b")));
+        assertThat(threads, is(Arrays.asList(Thread.currentThread().getName(), Thread.currentThread().getName())));
+        assertThat(created.get(), is(1));
+        assertNull(executors.get(0).getData());
+    }
+
+    @Test
+    public void testDirectModeClearsDataWhenTheExecutorThrows() {
+        QueueConsumer<String> consumer = new QueueConsumer<>(factory());
+        try {
+            consumer.onEvent(event("fail"));
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("fail"));
+        }
+        assertNull(executors.get(0).getData());
+        consumer.onEvent(event("a"));
+        assertThat(handled, is(Collections.singletonList("a")));
+    }
+
+    @Test
+    public void testExecutorModeSubmitsEveryEvent() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        QueueConsumer<String> consumer = new QueueConsumer<>(executorService, factory());
+        consumer.onEvent(event("a"));
+        consumer.onEvent(event("b"));
+        verify(executorService, times(2)).execute(any(QueueConsumerExecutor.class));
+        assertThat(created.get(), is(2));
+        assertThat(executors.get(0).getData(), is("a"));
+        assertThat(executors.get(1).getData(), is("b"));
+    }
+
+    @Test
+    public void testEmptyEventIsSkipped() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        QueueConsumer<String> consumer = new QueueConsumer<>(executorService, factory());
+        consumer.onEvent(null);
+        consumer.onEvent(event(null));
+        verifyNoInteractions(executorService);
+        DataEvent<String> event = event("a");
+        new QueueConsumer<>(factory()).onEvent(event);
+        assertNull(event.getData());
+    }
+
+    private static DataEvent<String> event(final String data) {
+        DataEvent<String> event = new DataEvent<>();
+        event.setData(data);
+        return event;
+    }
+
+    private QueueConsumerFactory<String> factory() {
+        return new QueueConsumerFactory<String>() {
+
+            @Override
+            public QueueConsumerExecutor<String> create() {
+                created.incrementAndGet();
+                QueueConsumerExecutor<String> executor = new QueueConsumerExecutor<String>() {
+
+                    @Override
+                    public void run() {
+                        if ("fail".equals(getData())) {
+                            throw new IllegalStateException(getData());
+                        }
+                        handled.add(getData());
+                        threads.add(Thread.currentThread().getName());
+                    }
+                };
+                executors.add(executor);
+                return executor;
+            }
+
+            @Override
+            public String fixName() {
+                return "test";
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.overflow;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for SpillOverflowQueue.
+ */
+public final class SpillOverflowQueueTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private SpillOverflowQueue<String> spillOverflowQueue;
+
+    private File directory;
+
+    @Before
+    public void setUp() {
+        directory = folder.getRoot();
+        spillOverflowQueue = new SpillOverflowQueue<>(directory.getPath(), "test", 2);
+    }
+
+    @After
+    public void tearDown() {
+        spillOverflowQueue.close();
+    }
+
+    @Test
+    public void testOfferAndPoll() {
+        assertTrue(spillOverflowQueue.offer("first"));
+        assertTrue(spillOverflowQueue.offer("second"));
+        assertFalse(spillOverflowQueue.offer("third"));
+        assertThat(spillOverflowQueue.size(), is(2));
+        assertThat(spillOverflowQueue.peek(), is("first"));
+        assertThat(spillOverflowQueue.peek(), is("first"));
+        spillOverflowQueue.remove();
+        assertTrue(spillOverflowQueue.offer("third"));
+        assertThat(spillOverflowQueue.peek(), is("second"));
+        spillOverflowQueue.remove();
+        assertThat(spillOverflowQueue.peek(), is("third"));
+        spillOverflowQueue.remove();
+        assertThat(spillOverflowQueue.size(), is(0));
+        assertThat(spillOverflowQueue.peek(), nullValue());
+    }
+
+    @Test
+    public void testSpillFileLifecycle() {
+        assertThat(spillFiles(), is(0));
+        assertTrue(spillOverflowQueue.offer("first"));
+        assertThat(spillFiles(), is(1));
+        spillOverflowQueue.close();
+        assertThat(spillFiles(), is(0));
+    }
+
+    private int spillFiles() {
+        return Objects.requireNonNull(directory.listFiles()).length;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.disruptor.provider;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.config.DisruptorConfig;
+import org.apache.shenyu.disruptor.config.OverflowPolicyEnum;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for DisruptorProvider.
+ */
+public final class DisruptorProviderTest {
+
+    private static final int RING_BUFFER_SIZE = 2;
+
+    private final CountDownLatch consumerLatch = new CountDownLatch(1);
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    private DisruptorProvider<String> provider;
+
+    @After
+    public void tearDown() {
+        consumerLatch.countDown();
+        if (provider != null) {
+            provider.shutdown();
+        }
+    }
+
+    @Test
+    public void testTryOnDataTimeout() {
+        provider = start(OverflowPolicyEnum.DROP_NEW);
+        fillRingBuffer();
+        long start = System.nanoTime();
+        assertFalse(provider.tryOnData(event -> event.setData("c"), 50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        consumerLatch.countDown();
+        awaitReceived(2);
+        assertThat(received, is(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void testDropOldestEvictsTheOldestOverflowed() {
+        provider = start(OverflowPolicyEnum.DROP_OLDEST);
+        fillRingBuffer();
+        assertTrue(tryOnData("c"));
+        assertTrue(tryOnData("d"));
+        assertTrue(tryOnData("e"));
+        assertThat(provider.consumerLag(), is(4L));
+        consumerLatch.countDown();
+        awaitReceived(4);
+        assertThat(received, is(Arrays.asList("a", "b", "d", "e")));
+    }
+
+    @Test
+    public void testSpillDrainsInOrder() {
+        provider = start(OverflowPolicyEnum.SPILL);
+        fillRingBuffer();
+        assertTrue(tryOnData("c"));
+        assertTrue(tryOnData("d"));
+        assertTrue(tryOnData("e"));
+        consumerLatch.countDown();
+        assertTrue(provider.tryOnData(event -> event.setData("f"), 1, TimeUnit.SECONDS));
+        awaitReceived(6);
+        assertThat(received, is(Arrays.asList("a", "b", "c", "d", "e", "f")));
+    }
+
+    @Test
+    public void testMonitorRunsOnlyWithOverflowQueue() {
+        DisruptorProvider<String> dropNew = start(OverflowPolicyEnum.DROP_NEW);
+        assertFalse(dropNew.isMonitorRunning());
+        dropNew.shutdown();
+        DisruptorProvider<String> spill = start(OverflowPolicyEnum.SPILL);
+        assertTrue(spill.isMonitorRunning());
+        spill.shutdown();
+        assertFalse(spill.isMonitorRunning());
+    }
+
+    private DisruptorProvider<String> start(final OverflowPolicyEnum overflowPolicy) {
+        DisruptorConfig config = new DisruptorConfig();
+        config.setOverflowPolicy(overflowPolicy);
+        config.setOverflowCapacity(2);
+        if (overflowPolicy == OverflowPolicyEnum.SPILL) {
+            config.setOverflowCapacity(16);
+        }
+        Disruptor<DataEvent<String>> disruptor = new Disruptor<>(new DisruptorEventFactory<>(), RING_BUFFER_SIZE,
+                DisruptorThreadFactory.create("shenyu_disruptor_test_", true), ProducerType.MULTI, new BlockingWaitStrategy());
+        EventHandler<DataEvent<String>> handler = (event, sequence, endOfBatch) -> {
+            consumerLatch.await();
+            received.add(event.getData());
+        };
+        disruptor.handleEventsWith(handler);
+        disruptor.start();
+        return new DisruptorProvider<>(disruptor.getRingBuffer(), disruptor, "test_" + overflowPolicy.name().toLowerCase(), config);
+    }
+
+    private void fillRingBuffer() {
+        provider.onData(event -> event.setData("a"));
+        provider.onData(event -> event.setData("b"));
+    }
+
+    private boolean tryOnData(final String data) {
+        return provider.tryOnData(event -> event.setData(data), 0, TimeUnit.MILLISECONDS);
+    }
+
+    private void awaitReceived(final int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < count && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
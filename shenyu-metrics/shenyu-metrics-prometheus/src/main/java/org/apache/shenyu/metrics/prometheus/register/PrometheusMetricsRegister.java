@@ -70,11 +70,19 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     
     @Override
     public void registerHistogram(final String name, final String[] labelNames, final String document) {
+        registerHistogram(name, labelNames, document, null);
+    }
+    
+    @Override
+    public void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
         if (!HISTOGRAM_MAP.containsKey(name)) {
             Histogram.Builder builder = Histogram.build().name(name).help(document);
             if (null != labelNames) {
                 builder.labelNames(labelNames);
             }
+            if (null != buckets) {
+                builder.buckets(buckets);
+            }
             HISTOGRAM_MAP.put(name, builder.register());
         }
     }
@@ -119,6 +127,16 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void gaugeSet(final String name, final String[] labelValues, final double value) {
+        Gauge gauge = GAUGE_MAP.get(name);
+        if (null != labelValues) {
+            gauge.labels(labelValues).set(value);
+        } else {
+            gauge.set(value);
+        }
+    }
+    
     @Override
     public void recordTime(final String name, final String[] labelValues, final long duration) {
         Histogram histogram = HISTOGRAM_MAP.get(name);
@@ -18,6 +18,7 @@
 package org.apache.shenyu.metrics.prometheus.register;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import java.util.Map;
 import org.apache.shenyu.common.utils.ReflectUtils;
@@ -44,6 +45,18 @@ public final class PrometheusMetricsRegisterTest {
         assertThat(routeDatasourceCounter.labels(labelNames).get(), is(3.0d));
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGauge() {
+        String name = "remaining_capacity";
+        String[] labelNames = new String[] {"name"};
+        prometheusMetricsRegister.registerGauge(name, labelNames, "the remaining capacity");
+        prometheusMetricsRegister.gaugeIncrement(name, labelNames);
+        prometheusMetricsRegister.gaugeSet(name, labelNames, 1024);
+        Map<String, Gauge> gaugeMap = (Map<String, Gauge>) ReflectUtils.getFieldValue(prometheusMetricsRegister, "GAUGE_MAP");
+        assertThat(gaugeMap.get(name).labels(labelNames).get(), is(1024.0d));
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     public void assertHistogram() {
@@ -59,4 +72,18 @@ public final class PrometheusMetricsRegisterTest {
         Histogram histogram = histogramMap.get(name);
         assertThat(histogram.labels(labelNames).get().sum, is(1000.0));
     }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertHistogramBuckets() {
+        String name = "route_latency_millis";
+        String[] labelNames = new String[] {"route"};
+        prometheusMetricsRegister.registerHistogram(name, labelNames, "the route latency millis", new double[] {10, 100});
+        prometheusMetricsRegister.recordTime(name, labelNames, 50);
+        Map<String, Histogram> histogramMap = (Map<String, Histogram>) ReflectUtils.getFieldValue(prometheusMetricsRegister, "HISTOGRAM_MAP");
+        double[] buckets = histogramMap.remove(name).labels(labelNames).get().buckets;
+        assertThat(buckets.length, is(3));
+        assertThat(buckets[0], is(0.0d));
+        assertThat(buckets[1], is(1.0d));
+    }
 }
@@ -49,6 +49,18 @@ public interface MetricsRegister {
      */
     void registerHistogram(String name, String[] labelNames, String document);
     
+    /**
+     * Register histogram with buckets, the registers that do not support buckets keep their own.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param document document for histogram
+     * @param buckets the upper bounds of the buckets
+     */
+    default void registerHistogram(String name, String[] labelNames, String document, double[] buckets) {
+        registerHistogram(name, labelNames, document);
+    }
+    
     /**
      * Counter increment.
      *
@@ -82,6 +94,16 @@ public interface MetricsRegister {
      */
     void gaugeDecrement(String name, String[] labelValues);
     
+    /**
+     * Gauge set, ignored by the registers that do not support it.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value value
+     */
+    default void gaugeSet(String name, String[] labelValues, double value) {
+    }
+    
     /**
      * Record time by duration.
      *
@@ -39,6 +39,15 @@ public final class MetricsReporter {
         MetricsReporter.metricsRegister = metricsRegister;
     }
     
+    /**
+     * Whether a metrics register is registered.
+     *
+     * @return true if the metrics are reported
+     */
+    public static boolean isEnabled() {
+        return Objects.nonNull(metricsRegister);
+    }
+    
     /**
      * Register metrics.
      *
@@ -117,6 +126,18 @@ public final class MetricsReporter {
         metricsRegister.registerHistogram(name, labelNames, document);
     }
     
+    /**
+     * Register histogram by label names and buckets.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param document document for histogram
+     * @param buckets the upper bounds of the buckets
+     */
+    public static void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
+        metricsRegister.registerHistogram(name, labelNames, document, buckets);
+    }
+    
     /**
      * Register histogram.
      *
@@ -195,6 +216,17 @@ public final class MetricsReporter {
         gaugeDecrement(name, null);
     }
     
+    /**
+     * Gauge set.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value value
+     */
+    public static void gaugeSet(final String name, final String[] labelValues, final double value) {
+        metricsRegister.gaugeSet(name, labelValues, value);
+    }
+    
     /**
      * Record time by duration.
      *
@@ -24,9 +24,11 @@ import com.alibaba.dubbo.rpc.service.GenericService;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
 import java.lang.reflect.Field;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +38,7 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.LoadBalanceEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 
 
 /**
@@ -75,6 +78,11 @@ public final class ApplicationConfigCache {
                 }
             });
 
+    /**
+     * path -> invocation descriptor.
+     */
+    private final ConcurrentMap<String, InvocationDescriptor<DubboParamExtInfo, ReferenceConfig<GenericService>>> descriptors = Maps.newConcurrentMap();
+
     private ApplicationConfigCache() {
     }
 
@@ -175,6 +183,7 @@ public final class ApplicationConfigCache {
             if (obj != null) {
                 log.info("init alibaba dubbo reference success there meteData is :{}", metaData.toString());
                 cache.put(metaData.getPath(), reference);
+                descriptors.put(metaData.getPath(), new InvocationDescriptor<>(metaData, dubboParamExtInfo, reference));
             }
         } catch (Exception e) {
             log.error("init alibaba dubbo refernce ex:{}", e.getMessage());
@@ -208,6 +217,27 @@ public final class ApplicationConfigCache {
         }
     }
 
+    /**
+     * Obtain the invocation descriptor of the meta data, it is rebuilt only when the meta data or the reference changed.
+     *
+     * @param metaData the meta data
+     * @return the invocation descriptor
+     */
+    public InvocationDescriptor<DubboParamExtInfo, ReferenceConfig<GenericService>> obtain(final MetaData metaData) {
+        InvocationDescriptor<DubboParamExtInfo, ReferenceConfig<GenericService>> descriptor = descriptors.get(metaData.getPath());
+        if (Objects.nonNull(descriptor) && descriptor.isBuiltFrom(metaData) && descriptor.getReference() == cache.getIfPresent(metaData.getPath())) {
+            return descriptor;
+        }
+        ReferenceConfig<GenericService> reference = get(metaData.getPath());
+        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterface())) {
+            invalidate(metaData.getPath());
+            reference = initRef(metaData);
+        }
+        descriptor = new InvocationDescriptor<>(metaData, InvocationDescriptor.parseExt(metaData, DubboParamExtInfo.class), reference);
+        descriptors.put(metaData.getPath(), descriptor);
+        return descriptor;
+    }
+
     /**
      * Invalidate.
      *
@@ -215,6 +245,7 @@ public final class ApplicationConfigCache {
      */
     public void invalidate(final String path) {
         cache.invalidate(path);
+        descriptors.remove(path);
     }
 
     /**
@@ -222,6 +253,7 @@ public final class ApplicationConfigCache {
      */
     public void invalidateAll() {
         cache.invalidateAll();
+        descriptors.clear();
     }
 
     /**
@@ -238,7 +270,7 @@ public final class ApplicationConfigCache {
      * The type Dubbo param ext info.
      */
     @Data
-    static class DubboParamExtInfo {
+    public static class DubboParamExtInfo {
 
         private String group;
 
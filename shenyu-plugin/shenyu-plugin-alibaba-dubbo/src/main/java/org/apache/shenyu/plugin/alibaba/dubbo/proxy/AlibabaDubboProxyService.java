@@ -21,16 +21,15 @@ import com.alibaba.dubbo.config.ReferenceConfig;
 import com.alibaba.dubbo.rpc.service.GenericException;
 import com.alibaba.dubbo.rpc.service.GenericService;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.alibaba.dubbo.cache.ApplicationConfigCache.DubboParamExtInfo;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
-
-import java.util.Objects;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 
 /**
  * Alibaba dubbo proxy service is  use GenericService.
@@ -58,18 +57,14 @@ public class AlibabaDubboProxyService {
      * @throws ShenyuException the shenyu exception
      */
     public Object genericInvoker(final String body, final MetaData metaData) throws ShenyuException {
-        ReferenceConfig<GenericService> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterface())) {
-            ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
-            reference = ApplicationConfigCache.getInstance().initRef(metaData);
-        }
-        GenericService genericService = reference.get();
+        InvocationDescriptor<DubboParamExtInfo, ReferenceConfig<GenericService>> descriptor = ApplicationConfigCache.getInstance().obtain(metaData);
+        GenericService genericService = descriptor.getReference().get();
         try {
             Pair<String[], Object[]> pair;
-            if (StringUtils.isBlank(metaData.getParameterTypes()) || ParamCheckUtils.dubboBodyIsEmpty(body)) {
+            if (descriptor.getParameterTypes().length == 0 || ParamCheckUtils.dubboBodyIsEmpty(body)) {
                 pair = new ImmutablePair<>(new String[]{}, new Object[]{});
             } else {
-                pair = bodyParamResolveService.buildParameter(body, metaData.getParameterTypes());
+                pair = bodyParamResolveService.buildParameter(body, descriptor);
             }
             return genericService.$invoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
         } catch (GenericException e) {
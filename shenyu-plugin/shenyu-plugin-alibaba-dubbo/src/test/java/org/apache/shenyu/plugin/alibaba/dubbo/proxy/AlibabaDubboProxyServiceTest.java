@@ -30,6 +30,7 @@ import static org.mockito.Mockito.when;
 
 import org.apache.shenyu.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -78,7 +79,7 @@ public final class AlibabaDubboProxyServiceTest {
         try (MockedStatic<ApplicationConfigCache> applicationConfigCacheMockedStatic = mockStatic(ApplicationConfigCache.class)) {
             ApplicationConfigCache applicationConfigCache = mock(ApplicationConfigCache.class);
             applicationConfigCacheMockedStatic.when(() -> ApplicationConfigCache.getInstance()).thenReturn(applicationConfigCache);
-            when(applicationConfigCache.initRef(metaData)).thenReturn(referenceConfig);
+            when(applicationConfigCache.obtain(metaData)).thenReturn(new InvocationDescriptor<>(metaData, null, referenceConfig));
 
             AlibabaDubboProxyService alibabaDubboProxyService = new AlibabaDubboProxyService(new BodyParamResolveServiceImpl());
             Assert.assertNull(alibabaDubboProxyService.genericInvoker("", metaData));
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+
+/**
+ * The interface Upstream callback.
+ * The plugin selecting the upstream puts it into the exchange attributes,
+ * the plugin calling the upstream notifies it once the call completes.
+ */
+@FunctionalInterface
+public interface UpstreamCallback {
+
+    /**
+     * On complete, only the first notification counts.
+     *
+     * @param success whether the upstream answered without error
+     */
+    void onComplete(boolean success);
+
+    /**
+     * Notify the upstream callback of the exchange, if any.
+     *
+     * @param exchange the exchange
+     * @param success  whether the upstream answered without error
+     */
+    static void complete(final ServerWebExchange exchange, final boolean success) {
+        UpstreamCallback callback = exchange.getAttribute(Constants.UPSTREAM_CALLBACK);
+        if (Objects.nonNull(callback)) {
+            callback.onComplete(success);
+        }
+    }
+}
@@ -89,4 +89,9 @@ public class ShenyuContext implements Serializable {
      * startDateTime.
      */
     private LocalDateTime startDateTime;
+
+    /**
+     * the nano time the request started, to measure latency.
+     */
+    private long startNanoTime;
 }
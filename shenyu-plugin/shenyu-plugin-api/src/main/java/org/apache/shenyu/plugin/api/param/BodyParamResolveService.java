@@ -34,4 +34,16 @@ public interface BodyParamResolveService {
      * @return the pair
      */
     Pair<String[], Object[]> buildParameter(String body, String parameterTypes);
+
+    /**
+     * Build parameter pair from the precompiled invocation descriptor,
+     * implementations should override it to skip parsing the parameter types per request.
+     *
+     * @param body       the body
+     * @param descriptor the invocation descriptor
+     * @return the pair
+     */
+    default Pair<String[], Object[]> buildParameter(String body, InvocationDescriptor<?, ?> descriptor) {
+        return buildParameter(body, descriptor.getMetaData().getParameterTypes());
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.api.param;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The precompiled invocation of one rpc meta data, built once per meta data change instead of per request.
+ *
+ * @param <E> the type of the parsed rpc ext
+ * @param <R> the type of the resolved reference
+ */
+@Getter
+public final class InvocationDescriptor<E, R> {
+
+    private static final String[] EMPTY = new String[0];
+
+    private final MetaData metaData;
+
+    private final E extInfo;
+
+    private final R reference;
+
+    /**
+     * the parameter names of the name mapping form, empty when the names are taken from the body.
+     */
+    private final String[] parameterNames;
+
+    private final String[] parameterTypes;
+
+    /**
+     * the generic types after '#' in the parameter types, used by sofa.
+     */
+    private final String[] genericTypes;
+
+    /**
+     * Instantiates a new Invocation descriptor.
+     *
+     * @param metaData  the meta data
+     * @param extInfo   the parsed rpc ext
+     * @param reference the resolved reference
+     */
+    public InvocationDescriptor(final MetaData metaData, final E extInfo, final R reference) {
+        this.metaData = metaData;
+        this.extInfo = extInfo;
+        this.reference = reference;
+        String types = metaData.getParameterTypes();
+        if (StringUtils.isBlank(types)) {
+            this.parameterNames = EMPTY;
+            this.parameterTypes = EMPTY;
+            this.genericTypes = EMPTY;
+        } else if (types.startsWith("{") && types.endsWith("}")) {
+            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(types, String.class);
+            this.parameterNames = paramNameMap.keySet().toArray(EMPTY);
+            this.parameterTypes = paramNameMap.values().toArray(EMPTY);
+            this.genericTypes = EMPTY;
+        } else {
+            String[] typesAndGeneric = StringUtils.split(types, "#");
+            this.parameterNames = EMPTY;
+            this.parameterTypes = StringUtils.split(typesAndGeneric[0], ",");
+            this.genericTypes = typesAndGeneric.length > 1 ? StringUtils.split(typesAndGeneric[1], ",") : EMPTY;
+        }
+    }
+
+    /**
+     * Whether this descriptor was built from the given meta data, the meta data is replaced by a new instance on every change.
+     *
+     * @param metaData the meta data
+     * @return true when the descriptor is still valid
+     */
+    public boolean isBuiltFrom(final MetaData metaData) {
+        return Objects.equals(this.metaData, metaData);
+    }
+
+    /**
+     * Parse the rpc ext of the meta data.
+     *
+     * @param metaData the meta data
+     * @param clazz    the ext class
+     * @param <E>      the type of the ext
+     * @return the parsed ext, null when the meta data has no ext
+     */
+    public static <E> E parseExt(final MetaData metaData, final Class<E> clazz) {
+        return StringUtils.isBlank(metaData.getRpcExt()) ? null : GsonUtils.getInstance().fromJson(metaData.getRpcExt(), clazz);
+    }
+}
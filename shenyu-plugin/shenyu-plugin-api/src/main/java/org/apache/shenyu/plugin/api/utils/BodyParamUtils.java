@@ -23,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -80,7 +81,29 @@ public class BodyParamUtils {
             return buildSingleParameter(body, parameterTypes);
         }
         Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        Object[] objects = paramNameList.stream().map(key -> {
+        return new ImmutablePair<>(paramTypeList.toArray(new String[0]), buildValues(paramMap, paramNameList.toArray(new String[0])));
+    }
+
+    /**
+     * build multi parameters with the parameter names and types already parsed by the descriptor.
+     *
+     * @param body the parameter body.
+     * @param descriptor the invocation descriptor.
+     * @return the parameters.
+     */
+    public static Pair<String[], Object[]> buildParameters(final String body, final InvocationDescriptor<?, ?> descriptor) {
+        String[] parameterTypes = descriptor.getParameterTypes();
+        if (parameterTypes.length == 1 && !isBaseType(parameterTypes[0])) {
+            return buildSingleParameter(body, descriptor.getMetaData().getParameterTypes());
+        }
+        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
+        String[] parameterNames = descriptor.getParameterNames();
+        String[] names = parameterNames.length == 0 ? paramMap.keySet().toArray(new String[0]) : parameterNames;
+        return new ImmutablePair<>(parameterTypes, buildValues(paramMap, names));
+    }
+
+    private static Object[] buildValues(final Map<String, Object> paramMap, final String[] paramNames) {
+        return Arrays.stream(paramNames).map(key -> {
             Object obj = paramMap.get(key);
             if (obj instanceof JsonObject) {
                 return GsonUtils.getInstance().convertToMap(obj.toString());
@@ -90,8 +113,6 @@ public class BodyParamUtils {
                 return obj;
             }
         }).toArray();
-        String[] paramTypes = paramTypeList.toArray(new String[0]);
-        return new ImmutablePair<>(paramTypes, objects);
     }
 
     private static boolean isNameMapping(final String parameterTypes) {
@@ -104,7 +125,7 @@ public class BodyParamUtils {
      * @param paramType the parameter type.
      * @return whether the base type is.
      */
-    private static boolean isBaseType(final String paramType) {
+    public static boolean isBaseType(final String paramType) {
         return paramType.startsWith("java") || paramType.startsWith("[Ljava");
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.api.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds a json body to generic invoke arguments reading it once with a {@link JsonReader}.
+ * Nested objects and arrays become {@link LinkedHashMap} and {@link ArrayList} directly,
+ * integral numbers become {@link Long} and the others {@link Double}, as {@link org.apache.shenyu.common.utils.GsonUtils#toObjectMap(String)} does.
+ */
+public final class StreamingBodyParamUtils {
+
+    private StreamingBodyParamUtils() {
+    }
+
+    /**
+     * build the parameters with the parameter names and types already parsed by the descriptor,
+     * the arguments are the values of the body in order when the descriptor has no parameter names.
+     * A single customized type keeps the parameter types of the meta data as they are, as {@link BodyParamUtils#buildSingleParameter(String, String)} does.
+     *
+     * @param body the parameter body.
+     * @param descriptor the invocation descriptor.
+     * @return the parameters.
+     */
+    public static Pair<String[], Object[]> buildParameters(final String body, final InvocationDescriptor<?, ?> descriptor) {
+        String[] parameterNames = descriptor.getParameterNames();
+        String[] parameterTypes = descriptor.getParameterTypes();
+        try (JsonReader reader = newReader(body)) {
+            if (parameterTypes.length == 1 && !BodyParamUtils.isBaseType(parameterTypes[0])) {
+                return new ImmutablePair<>(new String[]{descriptor.getMetaData().getParameterTypes()}, new Object[]{readValue(reader)});
+            }
+            if (parameterNames.length == 0) {
+                return new ImmutablePair<>(parameterTypes, readObjectValues(reader).toArray());
+            }
+            Object[] args = new Object[parameterNames.length];
+            reader.beginObject();
+            while (reader.hasNext()) {
+                int index = indexOf(parameterNames, reader.nextName());
+                if (index < 0) {
+                    reader.skipValue();
+                } else {
+                    args[index] = readValue(reader);
+                }
+            }
+            reader.endObject();
+            return new ImmutablePair<>(parameterTypes, args);
+        } catch (IOException | IllegalStateException e) {
+            throw new ShenyuException(e);
+        }
+    }
+
+    /**
+     * read the values of the body object in order.
+     *
+     * @param body the parameter body.
+     * @return the values.
+     */
+    public static List<Object> readValues(final String body) {
+        try (JsonReader reader = newReader(body)) {
+            return readObjectValues(reader);
+        } catch (IOException | IllegalStateException e) {
+            throw new ShenyuException(e);
+        }
+    }
+
+    /**
+     * read the next json value.
+     *
+     * @param reader the json reader.
+     * @return the value.
+     * @throws IOException if the json is malformed.
+     */
+    public static Object readValue(final JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    map.put(reader.nextName(), readValue(reader));
+                }
+                reader.endObject();
+                return map;
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add(readValue(reader));
+                }
+                reader.endArray();
+                return list;
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return toNumber(reader.nextString());
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                throw new IllegalStateException("unexpected json token " + token);
+        }
+    }
+
+    private static List<Object> readObjectValues(final JsonReader reader) throws IOException {
+        List<Object> values = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            reader.nextName();
+            values.add(readValue(reader));
+        }
+        reader.endObject();
+        return values;
+    }
+
+    private static JsonReader newReader(final String body) {
+        JsonReader reader = new JsonReader(new StringReader(body));
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private static int indexOf(final String[] names, final String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Number toNumber(final String number) {
+        if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+            return Double.parseDouble(number);
+        }
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            return new BigDecimal(number);
+        }
+    }
+}
@@ -20,20 +20,23 @@ package org.apache.shenyu.plugin.base;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.SelectorTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
-import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.condition.index.MatchDataIndex;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * abstract shenyu plugin please extends.
@@ -42,6 +45,8 @@ import java.util.Objects;
 @Slf4j
 public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
 
+    private static final Set<String> ROUTE_NAMES = new HashSet<>(PluginEnum.getRouteNames());
+
     /**
      * this is Template Method child has Implement your own logic.
      *
@@ -66,30 +71,35 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         String pluginName = named();
         PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(pluginName);
         if (pluginData != null && pluginData.getEnabled()) {
-            final Collection<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorData(pluginName);
-            if (CollectionUtils.isEmpty(selectors)) {
+            final MatchDataIndex<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorIndex(pluginName);
+            if (Objects.isNull(selectors) || selectors.isEmpty()) {
                 return handleSelectorIsNull(pluginName, exchange, chain);
             }
-            SelectorData selectorData = matchSelector(exchange, selectors);
+            SelectorData selectorData = selectors.match(exchange, this::filterSelector);
             if (Objects.isNull(selectorData)) {
                 return handleSelectorIsNull(pluginName, exchange, chain);
             }
             selectorLog(selectorData, pluginName);
-            List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorData.getId());
-            if (CollectionUtils.isEmpty(rules)) {
+            MatchDataIndex<RuleData> rules = BaseDataCache.getInstance().obtainRuleIndex(selectorData.getId());
+            if (Objects.isNull(rules) || rules.isEmpty()) {
                 return handleRuleIsNull(pluginName, exchange, chain);
             }
             RuleData rule;
             if (selectorData.getType() == SelectorTypeEnum.FULL_FLOW.getCode()) {
                 //get last
-                rule = rules.get(rules.size() - 1);
+                List<RuleData> ruleDataList = rules.getDataList();
+                rule = ruleDataList.get(ruleDataList.size() - 1);
             } else {
-                rule = matchRule(exchange, rules);
+                rule = rules.match(exchange, this::filterRule);
             }
             if (Objects.isNull(rule)) {
                 return handleRuleIsNull(pluginName, exchange, chain);
             }
             ruleLog(rule, pluginName);
+            if (ROUTE_NAMES.contains(pluginName)) {
+                exchange.getAttributes().put(Constants.ROUTE_RULE, rule);
+                exchange.getAttributes().put(Constants.ROUTE_START_TIME, System.nanoTime());
+            }
             return doExecute(exchange, chain, selectorData, rule);
         }
         return chain.execute(exchange);
@@ -103,28 +113,18 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return chain.execute(exchange);
     }
 
-    private SelectorData matchSelector(final ServerWebExchange exchange, final Collection<SelectorData> selectors) {
-        return selectors.stream()
-                .filter(selector -> selector.getEnabled() && filterSelector(selector, exchange))
-                .findFirst().orElse(null);
-    }
-
-    private Boolean filterSelector(final SelectorData selector, final ServerWebExchange exchange) {
-        if (selector.getType() == SelectorTypeEnum.CUSTOM_FLOW.getCode()) {
-            if (CollectionUtils.isEmpty(selector.getConditionList())) {
-                return false;
-            }
-            return MatchStrategyFactory.match(selector.getMatchMode(), selector.getConditionList(), exchange);
+    /**
+     * the conditions themselves are matched by the index, through the strategy bound when the data was cached.
+     */
+    private boolean filterSelector(final SelectorData selector) {
+        if (!selector.getEnabled()) {
+            return false;
         }
-        return true;
-    }
-
-    private RuleData matchRule(final ServerWebExchange exchange, final Collection<RuleData> rules) {
-        return rules.stream().filter(rule -> filterRule(rule, exchange)).findFirst().orElse(null);
+        return selector.getType() != SelectorTypeEnum.CUSTOM_FLOW.getCode() || CollectionUtils.isNotEmpty(selector.getConditionList());
     }
 
-    private Boolean filterRule(final RuleData ruleData, final ServerWebExchange exchange) {
-        return ruleData.getEnabled() && MatchStrategyFactory.match(ruleData.getMatchMode(), ruleData.getConditionDataList(), exchange);
+    private boolean filterRule(final RuleData ruleData) {
+        return ruleData.getEnabled();
     }
 
     private void selectorLog(final SelectorData selectorData, final String pluginName) {
@@ -17,20 +17,38 @@
 
 package org.apache.shenyu.plugin.base.cache;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.plugin.base.condition.index.MatchDataIndex;
+import org.apache.shenyu.plugin.base.condition.judge.CompiledPredicateCache;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.BoundMatchStrategy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * The type Base data cache.
+ *
+ * <p>Selectors and rules live in an immutable {@link Snapshot}. Every write, single or batch,
+ * builds the next generation aside and publishes it with one volatile write, so request
+ * threads always read a consistent, pre-sorted view without locking.
  */
 public final class BaseDataCache {
     
@@ -41,15 +59,11 @@ public final class BaseDataCache {
      */
     private static final ConcurrentMap<String, PluginData> PLUGIN_MAP = Maps.newConcurrentMap();
     
-    /**
-     * pluginName -> SelectorData.
-     */
-    private static final ConcurrentMap<String, List<SelectorData>> SELECTOR_MAP = Maps.newConcurrentMap();
+    private static final Comparator<SelectorData> SELECTOR_SORT = Comparator.comparing(SelectorData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
     
-    /**
-     * selectorId -> RuleData.
-     */
-    private static final ConcurrentMap<String, List<RuleData>> RULE_MAP = Maps.newConcurrentMap();
+    private static final Comparator<RuleData> RULE_SORT = Comparator.comparing(RuleData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
+    
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
     
     private BaseDataCache() {
     }
@@ -113,7 +127,38 @@ public final class BaseDataCache {
      * @param selectorData the selector data
      */
     public void cacheSelectData(final SelectorData selectorData) {
-        Optional.ofNullable(selectorData).ifPresent(this::selectorAccept);
+        Optional.ofNullable(selectorData).ifPresent(data -> cacheSelectDataBatch(Collections.singletonList(data)));
+    }
+    
+    /**
+     * Cache a batch of select data, published as one new generation.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public synchronized void cacheSelectDataBatch(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<SelectorData> retired = new ArrayList<>();
+        Map<String, MatchDataIndex<SelectorData>> selectors = merge(current.selectors, selectorDataList, Collections.emptyList(), SelectorData::getPluginName,
+                SelectorData::getId, SELECTOR_SORT, this::indexSelector, retired);
+        recompile(retired, selectorDataList, SelectorData::getConditionList);
+        snapshot = new Snapshot(selectors, current.rules);
+    }
+    
+    /**
+     * Replace all the select data with the batch, published as one new generation.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public synchronized void replaceSelectData(final List<SelectorData> selectorDataList) {
+        Snapshot current = snapshot;
+        List<SelectorData> retired = all(current.selectors);
+        Map<String, MatchDataIndex<SelectorData>> selectors = merge(Collections.emptyMap(), selectorDataList, Collections.emptyList(), SelectorData::getPluginName,
+                SelectorData::getId, SELECTOR_SORT, this::indexSelector, retired);
+        recompile(retired, selectorDataList, SelectorData::getConditionList);
+        snapshot = new Snapshot(selectors, current.rules);
     }
     
     /**
@@ -122,17 +167,15 @@ public final class BaseDataCache {
      * @param selectorData the selector data
      */
     public void removeSelectData(final SelectorData selectorData) {
-        Optional.ofNullable(selectorData).ifPresent(data -> {
-            final List<SelectorData> selectorDataList = SELECTOR_MAP.get(data.getPluginName());
-            Optional.ofNullable(selectorDataList).ifPresent(list -> list.removeIf(e -> e.getId().equals(data.getId())));
-        });
+        Optional.ofNullable(selectorData).ifPresent(data -> cleanSelectorDataSelf(Collections.singletonList(data)));
     }
     
     /**
      * Clean selector data.
      */
-    public void cleanSelectorData() {
-        SELECTOR_MAP.clear();
+    public synchronized void cleanSelectorData() {
+        recompile(all(snapshot.selectors), Collections.emptyList(), SelectorData::getConditionList);
+        snapshot = new Snapshot(Collections.emptyMap(), snapshot.rules);
     }
     
     /**
@@ -140,8 +183,16 @@ public final class BaseDataCache {
      *
      * @param selectorDataList the selector data list
      */
-    public void cleanSelectorDataSelf(final List<SelectorData> selectorDataList) {
-        selectorDataList.forEach(this::removeSelectData);
+    public synchronized void cleanSelectorDataSelf(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<SelectorData> retired = new ArrayList<>();
+        Map<String, MatchDataIndex<SelectorData>> selectors = merge(current.selectors, Collections.emptyList(), selectorDataList, SelectorData::getPluginName,
+                SelectorData::getId, SELECTOR_SORT, this::indexSelector, retired);
+        recompile(retired, Collections.emptyList(), SelectorData::getConditionList);
+        snapshot = new Snapshot(selectors, current.rules);
     }
     
     /**
@@ -151,7 +202,18 @@ public final class BaseDataCache {
      * @return the list
      */
     public List<SelectorData> obtainSelectorData(final String pluginName) {
-        return SELECTOR_MAP.get(pluginName);
+        MatchDataIndex<SelectorData> index = obtainSelectorIndex(pluginName);
+        return Objects.isNull(index) ? null : index.getDataList();
+    }
+    
+    /**
+     * Obtain the compiled selector index of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @return the selector index
+     */
+    public MatchDataIndex<SelectorData> obtainSelectorIndex(final String pluginName) {
+        return snapshot.selectors.get(pluginName);
     }
     
     /**
@@ -160,7 +222,38 @@ public final class BaseDataCache {
      * @param ruleData the rule data
      */
     public void cacheRuleData(final RuleData ruleData) {
-        Optional.ofNullable(ruleData).ifPresent(this::ruleAccept);
+        Optional.ofNullable(ruleData).ifPresent(data -> cacheRuleDataBatch(Collections.singletonList(data)));
+    }
+    
+    /**
+     * Cache a batch of rule data, published as one new generation.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public synchronized void cacheRuleDataBatch(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<RuleData> retired = new ArrayList<>();
+        Map<String, MatchDataIndex<RuleData>> rules = merge(current.rules, ruleDataList, Collections.emptyList(), RuleData::getSelectorId,
+                RuleData::getId, RULE_SORT, this::indexRule, retired);
+        recompile(retired, ruleDataList, RuleData::getConditionDataList);
+        snapshot = new Snapshot(current.selectors, rules);
+    }
+    
+    /**
+     * Replace all the rule data with the batch, published as one new generation.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public synchronized void replaceRuleData(final List<RuleData> ruleDataList) {
+        Snapshot current = snapshot;
+        List<RuleData> retired = all(current.rules);
+        Map<String, MatchDataIndex<RuleData>> rules = merge(Collections.emptyMap(), ruleDataList, Collections.emptyList(), RuleData::getSelectorId,
+                RuleData::getId, RULE_SORT, this::indexRule, retired);
+        recompile(retired, ruleDataList, RuleData::getConditionDataList);
+        snapshot = new Snapshot(current.selectors, rules);
     }
     
     /**
@@ -169,17 +262,15 @@ public final class BaseDataCache {
      * @param ruleData the rule data
      */
     public void removeRuleData(final RuleData ruleData) {
-        Optional.ofNullable(ruleData).ifPresent(data -> {
-            final List<RuleData> ruleDataList = RULE_MAP.get(data.getSelectorId());
-            Optional.ofNullable(ruleDataList).ifPresent(list -> list.removeIf(rule -> rule.getId().equals(data.getId())));
-        });
+        Optional.ofNullable(ruleData).ifPresent(data -> cleanRuleDataSelf(Collections.singletonList(data)));
     }
     
     /**
      * Clean rule data.
      */
-    public void cleanRuleData() {
-        RULE_MAP.clear();
+    public synchronized void cleanRuleData() {
+        recompile(all(snapshot.rules), Collections.emptyList(), RuleData::getConditionDataList);
+        snapshot = new Snapshot(snapshot.selectors, Collections.emptyMap());
     }
     
     /**
@@ -187,8 +278,16 @@ public final class BaseDataCache {
      *
      * @param ruleDataList the rule data list
      */
-    public void cleanRuleDataSelf(final List<RuleData> ruleDataList) {
-        ruleDataList.forEach(this::removeRuleData);
+    public synchronized void cleanRuleDataSelf(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<RuleData> retired = new ArrayList<>();
+        Map<String, MatchDataIndex<RuleData>> rules = merge(current.rules, Collections.emptyList(), ruleDataList, RuleData::getSelectorId,
+                RuleData::getId, RULE_SORT, this::indexRule, retired);
+        recompile(retired, Collections.emptyList(), RuleData::getConditionDataList);
+        snapshot = new Snapshot(current.selectors, rules);
     }
     
     /**
@@ -198,42 +297,105 @@ public final class BaseDataCache {
      * @return the list
      */
     public List<RuleData> obtainRuleData(final String selectorId) {
-        return RULE_MAP.get(selectorId);
+        MatchDataIndex<RuleData> index = obtainRuleIndex(selectorId);
+        return Objects.isNull(index) ? null : index.getDataList();
     }
     
     /**
-     *  cache rule data.
+     * Obtain the compiled rule index of the selector.
      *
-     * @param data the rule data
+     * @param selectorId the selector id
+     * @return the rule index
      */
-    private void ruleAccept(final RuleData data) {
-        String selectorId = data.getSelectorId();
-        if (RULE_MAP.containsKey(selectorId)) {
-            List<RuleData> existList = RULE_MAP.get(selectorId);
-            final List<RuleData> resultList = existList.stream().filter(r -> !r.getId().equals(data.getId())).collect(Collectors.toList());
-            resultList.add(data);
-            final List<RuleData> collect = resultList.stream().sorted(Comparator.comparing(RuleData::getSort)).collect(Collectors.toList());
-            RULE_MAP.put(selectorId, collect);
-        } else {
-            RULE_MAP.put(selectorId, Lists.newArrayList(data));
-        }
+    public MatchDataIndex<RuleData> obtainRuleIndex(final String selectorId) {
+        return snapshot.rules.get(selectorId);
     }
     
     /**
-     * cache selector data.
-     *
-     * @param data the selector data
+     * Build the next generation of a key -> sorted data map, only the touched keys are rebuilt.
+     * The data replaced or removed by this generation are collected into retired.
+     */
+    private static <T> Map<String, MatchDataIndex<T>> merge(final Map<String, MatchDataIndex<T>> current, final Collection<T> upserts, final Collection<T> removes,
+                                                            final Function<T, String> keyFunc, final Function<T, String> idFunc,
+                                                            final Comparator<T> comparator, final Function<List<T>, MatchDataIndex<T>> indexer, final List<T> retired) {
+        Map<String, Map<String, T>> touched = new LinkedHashMap<>();
+        removes.stream().filter(Objects::nonNull).forEach(data -> Optional.ofNullable(touched.computeIfAbsent(keyFunc.apply(data), key -> existing(current, key, idFunc))
+                .remove(idFunc.apply(data))).ifPresent(retired::add));
+        upserts.stream().filter(Objects::nonNull).forEach(data -> {
+            Map<String, T> dataMap = touched.computeIfAbsent(keyFunc.apply(data), key -> existing(current, key, idFunc));
+            String id = idFunc.apply(data);
+            Optional.ofNullable(dataMap.remove(id)).ifPresent(retired::add);
+            dataMap.put(id, data);
+        });
+        Map<String, MatchDataIndex<T>> next = new HashMap<>(current);
+        touched.forEach((key, dataMap) -> {
+            if (Objects.isNull(key) || dataMap.isEmpty() && !current.containsKey(key)) {
+                return;
+            }
+            List<T> sorted = new ArrayList<>(dataMap.values());
+            sorted.sort(comparator);
+            next.put(key, indexer.apply(sorted));
+        });
+        return Collections.unmodifiableMap(next);
+    }
+    
+    /**
+     * Compile and retain the conditions of the new data, then release the conditions of the retired data,
+     * so a predicate still shared with live data is never dropped.
+     */
+    private static <T> void recompile(final List<T> retired, final List<T> upserts, final Function<T, List<ConditionData>> conditions) {
+        upserts.stream().filter(Objects::nonNull).map(conditions).filter(Objects::nonNull).forEach(conditionDataList -> {
+            CompiledPredicateCache.getInstance().retain(conditionDataList);
+            conditionDataList.forEach(PredicateJudgeFactory::compile);
+        });
+        retired.stream().map(conditions).forEach(CompiledPredicateCache.getInstance()::release);
+    }
+    
+    private static <T> List<T> all(final Map<String, MatchDataIndex<T>> current) {
+        return current.values().stream().flatMap(index -> index.getDataList().stream()).collect(Collectors.toCollection(ArrayList::new));
+    }
+    
+    private static <T> Map<String, T> existing(final Map<String, MatchDataIndex<T>> current, final String key, final Function<T, String> idFunc) {
+        Map<String, T> dataMap = new LinkedHashMap<>();
+        Optional.ofNullable(current.get(key)).ifPresent(index -> index.getDataList().forEach(data -> dataMap.put(idFunc.apply(data), data)));
+        return dataMap;
+    }
+    
+    private MatchDataIndex<SelectorData> indexSelector(final List<SelectorData> selectorDataList) {
+        return new MatchDataIndex<>(selectorDataList, this::bindSelector);
+    }
+    
+    private BoundMatchStrategy bindSelector(final SelectorData selectorData) {
+        return Objects.equals(selectorData.getType(), SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                ? BoundMatchStrategy.bind(selectorData.getMatchMode(), selectorData.getConditionList()) : null;
+    }
+    
+    private MatchDataIndex<RuleData> indexRule(final List<RuleData> ruleDataList) {
+        return new MatchDataIndex<>(ruleDataList, this::bindRule);
+    }
+    
+    private BoundMatchStrategy bindRule(final RuleData ruleData) {
+        return BoundMatchStrategy.bind(ruleData.getMatchMode(), ruleData.getConditionDataList());
+    }
+    
+    /**
+     * One immutable generation of the selector and rule data.
      */
-    private void selectorAccept(final SelectorData data) {
-        String key = data.getPluginName();
-        if (SELECTOR_MAP.containsKey(key)) {
-            List<SelectorData> existList = SELECTOR_MAP.get(key);
-            final List<SelectorData> resultList = existList.stream().filter(r -> !r.getId().equals(data.getId())).collect(Collectors.toList());
-            resultList.add(data);
-            final List<SelectorData> collect = resultList.stream().sorted(Comparator.comparing(SelectorData::getSort)).collect(Collectors.toList());
-            SELECTOR_MAP.put(key, collect);
-        } else {
-            SELECTOR_MAP.put(key, Lists.newArrayList(data));
+    private static final class Snapshot {
+        
+        /**
+         * pluginName -> sorted SelectorData index.
+         */
+        private final Map<String, MatchDataIndex<SelectorData>> selectors;
+        
+        /**
+         * selectorId -> sorted RuleData index.
+         */
+        private final Map<String, MatchDataIndex<RuleData>> rules;
+        
+        Snapshot(final Map<String, MatchDataIndex<SelectorData>> selectors, final Map<String, MatchDataIndex<RuleData>> rules) {
+            this.selectors = selectors;
+            this.rules = rules;
         }
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.base.cache;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
@@ -91,6 +92,21 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         BaseDataCache.getInstance().cleanSelectorDataSelf(selectorDataList);
     }
     
+    @Override
+    public void onSelectorSubscribeBatch(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        BaseDataCache.getInstance().cacheSelectDataBatch(selectorDataList);
+        selectorDataList.stream().filter(Objects::nonNull).forEach(this::handlerSelector);
+    }
+    
+    @Override
+    public void refreshSelectorDataBatch(final List<SelectorData> selectorDataList) {
+        BaseDataCache.getInstance().replaceSelectData(selectorDataList);
+        selectorDataList.stream().filter(Objects::nonNull).forEach(this::handlerSelector);
+    }
+    
     @Override
     public void onRuleSubscribe(final RuleData ruleData) {
         subscribeDataHandler(ruleData, DataEventTypeEnum.UPDATE);
@@ -114,6 +130,21 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         BaseDataCache.getInstance().cleanRuleDataSelf(ruleDataList);
     }
     
+    @Override
+    public void onRuleSubscribeBatch(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        BaseDataCache.getInstance().cacheRuleDataBatch(ruleDataList);
+        ruleDataList.stream().filter(Objects::nonNull).forEach(this::handlerRule);
+    }
+    
+    @Override
+    public void refreshRuleDataBatch(final List<RuleData> ruleDataList) {
+        BaseDataCache.getInstance().replaceRuleData(ruleDataList);
+        ruleDataList.stream().filter(Objects::nonNull).forEach(this::handlerRule);
+    }
+    
     private <T> void subscribeDataHandler(final T classData, final DataEventTypeEnum dataType) {
         Optional.ofNullable(classData).ifPresent(data -> {
             if (data instanceof PluginData) {
@@ -129,7 +160,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
                 SelectorData selectorData = (SelectorData) data;
                 if (dataType == DataEventTypeEnum.UPDATE) {
                     BaseDataCache.getInstance().cacheSelectData(selectorData);
-                    Optional.ofNullable(handlerMap.get(selectorData.getPluginName())).ifPresent(handler -> handler.handlerSelector(selectorData));
+                    handlerSelector(selectorData);
                 } else if (dataType == DataEventTypeEnum.DELETE) {
                     BaseDataCache.getInstance().removeSelectData(selectorData);
                     Optional.ofNullable(handlerMap.get(selectorData.getPluginName())).ifPresent(handler -> handler.removeSelector(selectorData));
@@ -138,7 +169,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
                 RuleData ruleData = (RuleData) data;
                 if (dataType == DataEventTypeEnum.UPDATE) {
                     BaseDataCache.getInstance().cacheRuleData(ruleData);
-                    Optional.ofNullable(handlerMap.get(ruleData.getPluginName())).ifPresent(handler -> handler.handlerRule(ruleData));
+                    handlerRule(ruleData);
                 } else if (dataType == DataEventTypeEnum.DELETE) {
                     BaseDataCache.getInstance().removeRuleData(ruleData);
                     Optional.ofNullable(handlerMap.get(ruleData.getPluginName())).ifPresent(handler -> handler.removeRule(ruleData));
@@ -146,4 +177,12 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             }
         });
     }
+    
+    private void handlerSelector(final SelectorData selectorData) {
+        Optional.ofNullable(handlerMap.get(selectorData.getPluginName())).ifPresent(handler -> handler.handlerSelector(selectorData));
+    }
+    
+    private void handlerRule(final RuleData ruleData) {
+        Optional.ofNullable(handlerMap.get(ruleData.getPluginName())).ifPresent(handler -> handler.handlerRule(ruleData));
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.data;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Per exchange memo of the extracted condition parameters, keyed by param type and param name.
+ *
+ * <p>The memo is kept in the exchange attributes and belongs to the request it was built from,
+ * once a plugin mutates the request a new memo is started. Post parameters read the mutable
+ * {@code ShenyuContext} and are never memoized.
+ */
+public final class ParameterDataCache {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ServerHttpRequest request;
+
+    private String[] paramTypes = new String[INITIAL_CAPACITY];
+
+    private String[] paramNames = new String[INITIAL_CAPACITY];
+
+    private String[] values = new String[INITIAL_CAPACITY];
+
+    private int size;
+
+    private ParameterDataCache(final ServerHttpRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Obtain the parameter of the exchange, extracting it on the first lookup.
+     *
+     * @param parameterData the parameter data
+     * @param paramType     the param type
+     * @param paramName     the param name
+     * @param exchange      the exchange
+     * @return the parameter value
+     */
+    public static String obtain(final ParameterData parameterData, final String paramType, final String paramName, final ServerWebExchange exchange) {
+        if (ParamTypeEnum.POST.getName().equals(paramType)) {
+            return parameterData.builder(paramName, exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        ParameterDataCache cache = exchange.getAttribute(Constants.PARAMETER_DATA_CACHE);
+        if (Objects.isNull(cache) || cache.request != request) {
+            cache = new ParameterDataCache(request);
+            exchange.getAttributes().put(Constants.PARAMETER_DATA_CACHE, cache);
+        }
+        return cache.get(parameterData, paramType, paramName, exchange);
+    }
+
+    private String get(final ParameterData parameterData, final String paramType, final String paramName, final ServerWebExchange exchange) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(paramTypes[i], paramType) && Objects.equals(paramNames[i], paramName)) {
+                return values[i];
+            }
+        }
+        final String value = parameterData.builder(paramName, exchange);
+        if (size == paramTypes.length) {
+            paramTypes = Arrays.copyOf(paramTypes, size << 1);
+            paramNames = Arrays.copyOf(paramNames, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+        paramTypes[size] = paramType;
+        paramNames[size] = paramName;
+        values[size++] = value;
+        return value;
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shenyu.plugin.base.condition.data;
 import org.apache.shenyu.spi.ExtensionLoader;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.Optional;
+
 /**
  * The type Parameter data factory.
  */
@@ -35,6 +37,16 @@ public class ParameterDataFactory {
         return ExtensionLoader.getExtensionLoader(ParameterData.class).getJoin(paramType);
     }
     
+    /**
+     * Resolve the parameter data once, for callers that keep it.
+     *
+     * @param paramType the param type
+     * @return the parameter data, empty when the param type is not registered
+     */
+    public static Optional<ParameterData> bind(final String paramType) {
+        return ExtensionLoader.getExtensionLoader(ParameterData.class).getJoinHandle(paramType);
+    }
+    
     /**
      * Builder data string.
      *
@@ -44,6 +56,6 @@ public class ParameterDataFactory {
      * @return the string
      */
     public static String builderData(final String paramType, final String paramName, final ServerWebExchange exchange) {
-        return newInstance(paramType).builder(paramName, exchange);
+        return ParameterDataCache.obtain(newInstance(paramType), paramType, paramName, exchange);
     }
 }
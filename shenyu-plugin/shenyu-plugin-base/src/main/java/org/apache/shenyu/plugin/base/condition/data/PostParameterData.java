@@ -17,21 +17,49 @@
 
 package org.apache.shenyu.plugin.base.condition.data;
 
+import com.google.common.collect.ImmutableMap;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.utils.ReflectUtils;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.spi.Join;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * The type Post parameter data.
+ * The string fields of {@linkplain ShenyuContext} are read through precompiled accessors,
+ * other names fall back to reflection.
  */
 @Join
 public class PostParameterData implements ParameterData {
     
+    private static final Map<String, Function<ShenyuContext, String>> ACCESSORS = ImmutableMap.<String, Function<ShenyuContext, String>>builder()
+            .put("module", ShenyuContext::getModule)
+            .put("method", ShenyuContext::getMethod)
+            .put("rpcType", ShenyuContext::getRpcType)
+            .put("httpMethod", ShenyuContext::getHttpMethod)
+            .put("sign", ShenyuContext::getSign)
+            .put("timestamp", ShenyuContext::getTimestamp)
+            .put("appKey", ShenyuContext::getAppKey)
+            .put("path", ShenyuContext::getPath)
+            .put("contextPath", ShenyuContext::getContextPath)
+            .put("realUrl", ShenyuContext::getRealUrl)
+            .put("dubboParams", ShenyuContext::getDubboParams)
+            .build();
+    
     @Override
     public String builder(final String paramName, final ServerWebExchange exchange) {
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
+        if (Objects.isNull(shenyuContext) || Objects.isNull(paramName)) {
+            return null;
+        }
+        Function<ShenyuContext, String> accessor = ACCESSORS.get(paramName);
+        if (Objects.nonNull(accessor)) {
+            return accessor.apply(shenyuContext);
+        }
         return (String) ReflectUtils.getFieldValue(shenyuContext, paramName);
     }
 }
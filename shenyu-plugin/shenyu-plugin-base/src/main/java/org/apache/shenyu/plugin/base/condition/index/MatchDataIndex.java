@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.BoundMatchStrategy;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiled match index over a sorted list of selectors or rules.
+ *
+ * <p>Every entry is filed under the cheapest anchor that any matching request must hit:
+ * a hash bucket for {@code =} conditions, a node of the uri prefix trie for {@code match}
+ * uri conditions, or the residual list for everything else (regex, SpEL, Groovy, ...).
+ * A lookup only evaluates the candidates reachable from the request, in the original
+ * sort order, so first-match semantics are the same as scanning the whole list.
+ * The match strategy and conditions of every entry are bound once, when the index is built.
+ *
+ * @param <T> the selector or rule data type
+ */
+public final class MatchDataIndex<T> {
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final int BUCKET_SCORE = Integer.MAX_VALUE;
+
+    private final List<T> dataList;
+
+    private final BoundMatchStrategy[] boundStrategies;
+
+    private final int[] residual;
+
+    private final TrieNode root;
+
+    private final boolean trieEmpty;
+
+    private final Map<BucketKey, Map<String, int[]>> buckets;
+
+    private final int maxDepth;
+
+    /**
+     * Instantiates a new match data index.
+     *
+     * @param dataList the data list, already sorted
+     * @param binder   the condition binder, returning null means the data has no conditions to match
+     */
+    public MatchDataIndex(final List<T> dataList, final Function<T, BoundMatchStrategy> binder) {
+        this.dataList = Collections.unmodifiableList(dataList);
+        this.boundStrategies = new BoundMatchStrategy[dataList.size()];
+        List<Integer> residualList = new ArrayList<>();
+        MutableTrieNode mutableRoot = new MutableTrieNode();
+        Map<BucketKey, Map<String, List<Integer>>> mutableBuckets = new LinkedHashMap<>();
+        for (int i = 0; i < dataList.size(); i++) {
+            BoundMatchStrategy bound = binder.apply(dataList.get(i));
+            boundStrategies[i] = bound;
+            List<Anchor> anchors = Objects.isNull(bound) ? null : resolveAnchors(bound.getMatchMode(), bound.getConditionDataList());
+            if (Objects.isNull(anchors)) {
+                residualList.add(i);
+                continue;
+            }
+            for (Anchor anchor : anchors) {
+                if (Objects.nonNull(anchor.bucketKey)) {
+                    mutableBuckets.computeIfAbsent(anchor.bucketKey, k -> new HashMap<>())
+                            .computeIfAbsent(anchor.value, k -> new ArrayList<>()).add(i);
+                } else {
+                    mutableRoot.insert(anchor.segments, i);
+                }
+            }
+        }
+        this.residual = toArray(residualList);
+        this.trieEmpty = mutableRoot.isEmpty();
+        this.root = mutableRoot.compile();
+        this.maxDepth = mutableRoot.depth();
+        this.buckets = new LinkedHashMap<>(mutableBuckets.size());
+        mutableBuckets.forEach((key, values) -> {
+            Map<String, int[]> compiled = new HashMap<>(values.size());
+            values.forEach((value, positions) -> compiled.put(value, toArray(positions)));
+            buckets.put(key, compiled);
+        });
+    }
+
+    /**
+     * Whether the index holds no data.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return dataList.isEmpty();
+    }
+
+    /**
+     * Gets the sorted data list backing this index.
+     *
+     * @return the unmodifiable data list
+     */
+    public List<T> getDataList() {
+        return dataList;
+    }
+
+    /**
+     * Find the first data, in sort order, accepted by the filter whose conditions match the exchange.
+     *
+     * @param exchange the exchange
+     * @param filter   the precheck of a single data, evaluated before its conditions
+     * @return the first matched data, or null
+     */
+    public T match(final ServerWebExchange exchange, final Predicate<T> filter) {
+        if (trieEmpty && buckets.isEmpty()) {
+            for (int position : residual) {
+                if (test(position, exchange, filter)) {
+                    return dataList.get(position);
+                }
+            }
+            return null;
+        }
+        int[][] candidates = new int[2 + maxDepth + buckets.size()][];
+        int size = 0;
+        candidates[size++] = residual;
+        if (!trieEmpty) {
+            size = root.collect(ParameterDataFactory.builderData(ParamTypeEnum.URI.getName(), null, exchange), candidates, size);
+        }
+        for (Map.Entry<BucketKey, Map<String, int[]>> entry : buckets.entrySet()) {
+            BucketKey key = entry.getKey();
+            String realData = ParameterDataFactory.builderData(key.paramType, key.paramName, exchange);
+            if (Objects.nonNull(realData)) {
+                int[] positions = entry.getValue().get(realData);
+                if (Objects.nonNull(positions)) {
+                    candidates[size++] = positions;
+                }
+            }
+        }
+        return mergeMatch(candidates, size, exchange, filter);
+    }
+
+    private boolean test(final int position, final ServerWebExchange exchange, final Predicate<T> filter) {
+        BoundMatchStrategy bound = boundStrategies[position];
+        return filter.test(dataList.get(position)) && (Objects.isNull(bound) || bound.match(exchange));
+    }
+
+    private T mergeMatch(final int[][] candidates, final int size, final ServerWebExchange exchange, final Predicate<T> filter) {
+        int[] cursors = new int[size];
+        int last = -1;
+        while (true) {
+            int min = Integer.MAX_VALUE;
+            int minIndex = -1;
+            for (int i = 0; i < size; i++) {
+                if (cursors[i] < candidates[i].length && candidates[i][cursors[i]] < min) {
+                    min = candidates[i][cursors[i]];
+                    minIndex = i;
+                }
+            }
+            if (minIndex < 0) {
+                return null;
+            }
+            cursors[minIndex]++;
+            if (min == last) {
+                continue;
+            }
+            last = min;
+            if (test(min, exchange, filter)) {
+                return dataList.get(min);
+            }
+        }
+    }
+
+    private static List<Anchor> resolveAnchors(final Integer matchMode, final List<ConditionData> conditions) {
+        if (Objects.isNull(matchMode) || CollectionUtils.isEmpty(conditions)) {
+            return null;
+        }
+        if (matchMode == MatchModeEnum.OR.getCode()) {
+            List<Anchor> union = new ArrayList<>();
+            for (ConditionData condition : conditions) {
+                List<Anchor> anchors = conditionAnchors(condition);
+                if (Objects.isNull(anchors)) {
+                    return null;
+                }
+                union.addAll(anchors);
+            }
+            return union;
+        }
+        List<Anchor> best = null;
+        int bestScore = 0;
+        for (ConditionData condition : conditions) {
+            List<Anchor> anchors = conditionAnchors(condition);
+            if (Objects.isNull(anchors)) {
+                continue;
+            }
+            int score = anchors.stream().mapToInt(Anchor::score).min().orElse(0);
+            if (score > bestScore || score == bestScore && Objects.nonNull(best) && anchors.size() < best.size()) {
+                best = anchors;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static List<Anchor> conditionAnchors(final ConditionData condition) {
+        if (Objects.isNull(condition) || Objects.isNull(condition.getParamValue()) || Objects.isNull(condition.getParamType())) {
+            return null;
+        }
+        String paramType = condition.getParamType();
+        if (OperatorEnum.EQ.getAlias().equals(condition.getOperator()) && isBucketType(paramType)) {
+            return Collections.singletonList(new Anchor(new BucketKey(paramType, namedParam(paramType) ? condition.getParamName() : null),
+                    condition.getParamValue().trim()));
+        }
+        if (OperatorEnum.MATCH.getAlias().equals(condition.getOperator()) && ParamTypeEnum.URI.getName().equals(paramType)) {
+            List<Anchor> anchors = new ArrayList<>();
+            for (String pattern : StringUtils.split(condition.getParamValue(), ',')) {
+                String trimmed = pattern.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if (!trimmed.startsWith("/")) {
+                    return null;
+                }
+                anchors.add(new Anchor(literalPrefix(trimmed)));
+            }
+            return anchors.isEmpty() ? null : anchors;
+        }
+        return null;
+    }
+
+    private static boolean isBucketType(final String paramType) {
+        return ParamTypeEnum.URI.getName().equals(paramType)
+                || ParamTypeEnum.HOST.getName().equals(paramType)
+                || ParamTypeEnum.IP.getName().equals(paramType)
+                || ParamTypeEnum.REQUEST_METHOD.getName().equals(paramType)
+                || namedParam(paramType);
+    }
+
+    private static boolean namedParam(final String paramType) {
+        return ParamTypeEnum.HEADER.getName().equals(paramType)
+                || ParamTypeEnum.QUERY.getName().equals(paramType)
+                || ParamTypeEnum.COOKIE.getName().equals(paramType);
+    }
+
+    private static List<String> literalPrefix(final String pattern) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : StringUtils.split(pattern, '/')) {
+            if (StringUtils.containsAny(segment, '*', '?', '{')) {
+                break;
+            }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    private static int[] toArray(final List<Integer> positions) {
+        if (positions.isEmpty()) {
+            return EMPTY;
+        }
+        return positions.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+    }
+
+    private static final class Anchor {
+
+        private final BucketKey bucketKey;
+
+        private final String value;
+
+        private final List<String> segments;
+
+        Anchor(final BucketKey bucketKey, final String value) {
+            this.bucketKey = bucketKey;
+            this.value = value;
+            this.segments = null;
+        }
+
+        Anchor(final List<String> segments) {
+            this.bucketKey = null;
+            this.value = null;
+            this.segments = segments;
+        }
+
+        int score() {
+            return Objects.nonNull(bucketKey) ? BUCKET_SCORE : segments.size();
+        }
+    }
+
+    private static final class BucketKey {
+
+        private final String paramType;
+
+        private final String paramName;
+
+        BucketKey(final String paramType, final String paramName) {
+            this.paramType = paramType;
+            this.paramName = paramName;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BucketKey that = (BucketKey) o;
+            return Objects.equals(paramType, that.paramType) && Objects.equals(paramName, that.paramName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(paramType, paramName);
+        }
+    }
+
+    private static final class MutableTrieNode {
+
+        private final Map<String, MutableTrieNode> children = new HashMap<>();
+
+        private final List<Integer> positions = new ArrayList<>();
+
+        void insert(final List<String> segments, final int position) {
+            MutableTrieNode node = this;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, k -> new MutableTrieNode());
+            }
+            node.positions.add(position);
+        }
+
+        boolean isEmpty() {
+            return positions.isEmpty() && children.isEmpty();
+        }
+
+        int depth() {
+            return 1 + children.values().stream().mapToInt(MutableTrieNode::depth).max().orElse(0);
+        }
+
+        TrieNode compile() {
+            Map<String, TrieNode> compiled = new HashMap<>(children.size());
+            children.forEach((segment, child) -> compiled.put(segment, child.compile()));
+            return new TrieNode(compiled, toArray(positions));
+        }
+    }
+
+    private static final class TrieNode {
+
+        private final Map<String, TrieNode> children;
+
+        private final int[] positions;
+
+        TrieNode(final Map<String, TrieNode> children, final int[] positions) {
+            this.children = children;
+            this.positions = positions;
+        }
+
+        /**
+         * Walk the path segments and collect the positions of every node on the way.
+         */
+        int collect(final String path, final int[][] candidates, final int size) {
+            int count = size;
+            TrieNode node = this;
+            int length = Objects.isNull(path) ? 0 : path.length();
+            int start = 0;
+            while (true) {
+                if (node.positions.length > 0) {
+                    candidates[count++] = node.positions;
+                }
+                if (node.children.isEmpty()) {
+                    return count;
+                }
+                while (start < length && path.charAt(start) == '/') {
+                    start++;
+                }
+                if (start >= length) {
+                    return count;
+                }
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                node = node.children.get(path.substring(start, end));
+                if (Objects.isNull(node)) {
+                    return count;
+                }
+                start = end;
+            }
+        }
+    }
+}
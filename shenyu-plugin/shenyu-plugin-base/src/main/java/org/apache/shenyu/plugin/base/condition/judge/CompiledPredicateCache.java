@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of compiled condition predicates (regex Pattern, SpEL Expression, Groovy Script class).
+ *
+ * <p>Entries are keyed by the operator, param name and param value of the condition, so identical
+ * conditions of different rules share one compiled form. Least recently used entries are evicted.
+ *
+ * <p>The selectors and rules holding a condition {@link #retain} it, and {@link #release} it when they
+ * are replaced or removed. A compiled form is dropped only once no live condition references it.
+ */
+public final class CompiledPredicateCache {
+
+    private static final CompiledPredicateCache INSTANCE = new CompiledPredicateCache();
+
+    private static final long MAX_SIZE = 8192;
+
+    private final Cache<Key, Object> cache = CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+
+    private final Map<Key, Integer> references = new HashMap<>();
+
+    private CompiledPredicateCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static CompiledPredicateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the compiled form of the condition, compiling it on a miss.
+     *
+     * @param <T>           the compiled type
+     * @param conditionData the condition data
+     * @param compiler      the compiler
+     * @return the compiled predicate
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T obtain(final ConditionData conditionData, final Function<ConditionData, T> compiler) {
+        Key key = new Key(conditionData);
+        Object compiled = cache.getIfPresent(key);
+        if (Objects.isNull(compiled)) {
+            compiled = compiler.apply(conditionData);
+            cache.put(key, compiled);
+        }
+        return (T) compiled;
+    }
+
+    /**
+     * Count one more reference of the conditions, held by a selector or a rule.
+     *
+     * @param conditionDataList the condition data list
+     */
+    public synchronized void retain(final Collection<ConditionData> conditionDataList) {
+        if (CollectionUtils.isEmpty(conditionDataList)) {
+            return;
+        }
+        conditionDataList.stream().filter(Objects::nonNull).forEach(conditionData -> references.merge(new Key(conditionData), 1, Integer::sum));
+    }
+
+    /**
+     * Release one reference of the conditions, invalidating the compiled forms no longer referenced.
+     *
+     * @param conditionDataList the condition data list
+     */
+    public synchronized void release(final Collection<ConditionData> conditionDataList) {
+        if (CollectionUtils.isEmpty(conditionDataList)) {
+            return;
+        }
+        conditionDataList.stream().filter(Objects::nonNull).map(Key::new).forEach(key -> {
+            if (Objects.isNull(references.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null))) {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    /**
+     * Invalidate all.
+     */
+    public synchronized void invalidateAll() {
+        references.clear();
+        cache.invalidateAll();
+    }
+
+    /**
+     * The estimated size of the cache.
+     *
+     * @return the size
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    private static final class Key {
+
+        private final String operator;
+
+        private final String paramName;
+
+        private final String paramValue;
+
+        Key(final ConditionData conditionData) {
+            this.operator = conditionData.getOperator();
+            this.paramName = conditionData.getParamName();
+            this.paramValue = conditionData.getParamValue();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(operator, key.operator) && Objects.equals(paramName, key.paramName) && Objects.equals(paramValue, key.paramValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operator, paramName, paramValue);
+        }
+    }
+}
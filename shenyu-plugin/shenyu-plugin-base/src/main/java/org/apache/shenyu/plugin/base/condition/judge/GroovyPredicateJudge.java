@@ -17,18 +17,47 @@
 
 package org.apache.shenyu.plugin.base.condition.judge;
 
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.dto.ConditionData;
-import groovy.util.Eval;
 import org.apache.shenyu.spi.Join;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 /**
  * Groovy predicate judge.
+ *
+ * <p>The script is compiled to a class once, each request only instantiates it with its own binding.
+ * Every script class is defined by its own {@link GroovyClassLoader}, so the class and its loader
+ * are collected once the compiled entry is evicted.
  */
+@Slf4j
 @Join
 public class GroovyPredicateJudge implements PredicateJudge {
     
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
-        return (Boolean) Eval.me(conditionData.getParamName(), realData, conditionData.getParamValue());
+        Binding binding = new Binding();
+        binding.setVariable(conditionData.getParamName(), realData);
+        return (Boolean) InvokerHelper.createScript(obtainScriptClass(conditionData), binding).run();
+    }
+    
+    @Override
+    public void compile(final ConditionData conditionData) {
+        try {
+            obtainScriptClass(conditionData);
+        } catch (CompilationFailedException e) {
+            log.error("groovy condition compile error, script: {}", conditionData.getParamValue(), e);
+        }
+    }
+    
+    private Class<?> obtainScriptClass(final ConditionData conditionData) {
+        return CompiledPredicateCache.getInstance().obtain(conditionData, this::parseClass);
+    }
+    
+    private Class<?> parseClass(final ConditionData conditionData) {
+        GroovyClassLoader classLoader = new GroovyClassLoader(GroovyPredicateJudge.class.getClassLoader());
+        return classLoader.parseClass(conditionData.getParamValue());
     }
 }
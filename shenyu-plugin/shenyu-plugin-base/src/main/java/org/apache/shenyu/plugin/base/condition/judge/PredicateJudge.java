@@ -35,4 +35,12 @@ public interface PredicateJudge {
      * @return true is pass  false is not pass.
      */
     Boolean judge(ConditionData conditionData, String realData);
+
+    /**
+     * compile conditionData ahead of the first request, nothing to compile by default.
+     *
+     * @param conditionData {@linkplain ConditionData}
+     */
+    default void compile(final ConditionData conditionData) {
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shenyu.common.enums.OperatorEnum;
 import org.apache.shenyu.spi.ExtensionLoader;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Predicate judge factory.
@@ -39,6 +40,16 @@ public class PredicateJudgeFactory {
         return ExtensionLoader.getExtensionLoader(PredicateJudge.class).getJoin(processSpecialOperator(operator));
     }
     
+    /**
+     * Resolve the predicate judge once, for callers that keep it.
+     *
+     * @param operator the operator
+     * @return the predicate judge, empty when the operator is not registered
+     */
+    public static Optional<PredicateJudge> bind(final String operator) {
+        return ExtensionLoader.getExtensionLoader(PredicateJudge.class).getJoinHandle(processSpecialOperator(operator));
+    }
+    
     /**
      * judge request realData has by pass.
      *
@@ -53,6 +64,21 @@ public class PredicateJudgeFactory {
         return newInstance(conditionData.getOperator()).judge(conditionData, realData);
     }
 
+    /**
+     * compile the condition into the predicate cache when it is cached.
+     *
+     * @param conditionData condition data
+     */
+    public static void compile(final ConditionData conditionData) {
+        if (Objects.isNull(conditionData) || Objects.isNull(conditionData.getParamValue()) || StringUtils.isBlank(conditionData.getOperator())) {
+            return;
+        }
+        String operator = processSpecialOperator(conditionData.getOperator());
+        if (ExtensionLoader.getExtensionLoader(PredicateJudge.class).getExtensionClasses().containsKey(operator)) {
+            ExtensionLoader.getExtensionLoader(PredicateJudge.class).getJoin(operator).compile(conditionData);
+        }
+    }
+
     /**
      * process special operator, like = need to change to equals.
      *
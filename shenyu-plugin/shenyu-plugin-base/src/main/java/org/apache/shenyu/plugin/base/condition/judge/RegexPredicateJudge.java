@@ -17,19 +17,35 @@
 
 package org.apache.shenyu.plugin.base.condition.judge;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.spi.Join;
 
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Regex predicate judge.
  */
+@Slf4j
 @Join
 public class RegexPredicateJudge implements PredicateJudge {
 
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
-        return Pattern.matches(conditionData.getParamValue(), realData);
+        return obtainPattern(conditionData).matcher(realData).matches();
+    }
+
+    @Override
+    public void compile(final ConditionData conditionData) {
+        try {
+            obtainPattern(conditionData);
+        } catch (PatternSyntaxException e) {
+            log.error("regex condition compile error, regex: {}", conditionData.getParamValue(), e);
+        }
+    }
+
+    private Pattern obtainPattern(final ConditionData conditionData) {
+        return CompiledPredicateCache.getInstance().obtain(conditionData, data -> Pattern.compile(data.getParamValue()));
     }
 }
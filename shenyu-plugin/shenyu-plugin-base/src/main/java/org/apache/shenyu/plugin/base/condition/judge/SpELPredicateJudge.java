@@ -17,23 +17,136 @@
 
 package org.apache.shenyu.plugin.base.condition.judge;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.spi.Join;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.ast.OpMinus;
+import org.springframework.expression.spel.ast.OpPlus;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * SpEL predicate judge.
+ *
+ * <p>The expression is parsed once and the real data is bound as the {@code #paramName} variable.
+ * Real data reading as a SpEL literal, like {@code 3}, {@code 1e3}, {@code 0x1F}, {@code 10L}, {@code true},
+ * {@code null} or {@code 'x'}, is bound as the value of that literal, the same value it had when it was
+ * substituted into the expression text. A {@code #paramName} inside a string literal, like {@code '#name' == 'x'},
+ * still reads the real data verbatim.
+ *
+ * <p>Migration note: any other real data is bound as a string instead of being evaluated as SpEL source,
+ * so it can not inject expression code. An expression relying on that, like a bare {@code #name} holding
+ * a type or bean reference, must be rewritten.
  */
+@Slf4j
 @Join
 public class SpELPredicateJudge implements PredicateJudge {
     
     private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
     
+    private static final Pattern INTEGER = Pattern.compile("-?\\d{1,18}");
+    
+    private static final Pattern DECIMAL = Pattern.compile("-?\\d+\\.\\d+");
+    
+    /**
+     * the real data which may be a SpEL literal other than a plain integer or decimal.
+     */
+    private static final Pattern LITERAL = Pattern.compile("\\s*([-+]?\\.?\\d|['\"]|(?i:true|false|null)\\s*$).*", Pattern.DOTALL);
+    
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
-        Expression expression = EXPRESSION_PARSER.parseExpression(conditionData.getParamValue().replace('#' + conditionData.getParamName(), realData));
-        return expression.getValue(Boolean.class);
+        EvaluationContext context = new StandardEvaluationContext(realData);
+        if (Objects.nonNull(conditionData.getParamName())) {
+            context.setVariable(conditionData.getParamName(), toValue(realData));
+        }
+        return obtainExpression(conditionData).getValue(context, Boolean.class);
+    }
+    
+    @Override
+    public void compile(final ConditionData conditionData) {
+        try {
+            obtainExpression(conditionData);
+        } catch (ParseException e) {
+            log.error("SpEL condition compile error, expression: {}", conditionData.getParamValue(), e);
+        }
+    }
+    
+    private Expression obtainExpression(final ConditionData conditionData) {
+        return CompiledPredicateCache.getInstance().obtain(conditionData, data -> EXPRESSION_PARSER.parseExpression(quotedToRoot(data.getParamValue(), data.getParamName())));
+    }
+    
+    /**
+     * Rewrite every {@code #paramName} inside a string literal into a concatenation of the root object, the raw real data.
+     */
+    private static String quotedToRoot(final String expression, final String paramName) {
+        if (Objects.isNull(paramName)) {
+            return expression;
+        }
+        String variable = '#' + paramName;
+        StringBuilder builder = new StringBuilder(expression.length());
+        char quote = 0;
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (quote == 0) {
+                quote = c == '\'' || c == '"' ? c : 0;
+            } else if (c == quote) {
+                if (i + 1 < expression.length() && expression.charAt(i + 1) == quote) {
+                    builder.append(c).append(c);
+                    i += 2;
+                    continue;
+                }
+                quote = 0;
+            } else if (expression.startsWith(variable, i)) {
+                builder.append(quote).append(" + #root + ").append(quote);
+                i += variable.length();
+                continue;
+            }
+            builder.append(c);
+            i++;
+        }
+        return builder.toString();
+    }
+    
+    private static Object toValue(final String realData) {
+        if (Objects.isNull(realData)) {
+            return null;
+        }
+        if (INTEGER.matcher(realData).matches()) {
+            long value = Long.parseLong(realData);
+            return value == (int) value ? Integer.valueOf((int) value) : Long.valueOf(value);
+        }
+        if (DECIMAL.matcher(realData).matches()) {
+            return Double.valueOf(realData);
+        }
+        if (LITERAL.matcher(realData).matches()) {
+            try {
+                Expression expression = EXPRESSION_PARSER.parseExpression(realData);
+                if (isLiteral(((SpelExpression) expression).getAST())) {
+                    return expression.getValue();
+                }
+            } catch (ParseException | EvaluationException e) {
+                return realData;
+            }
+        }
+        return realData;
+    }
+    
+    private static boolean isLiteral(final SpelNode node) {
+        if ((node instanceof OpMinus || node instanceof OpPlus) && node.getChildCount() == 1) {
+            return node.getChild(0) instanceof Literal;
+        }
+        return node instanceof Literal;
     }
 }
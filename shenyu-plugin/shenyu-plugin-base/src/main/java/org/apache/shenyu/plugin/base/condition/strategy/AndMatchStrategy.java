@@ -36,4 +36,11 @@ public class AndMatchStrategy extends AbstractMatchStrategy implements MatchStra
                 .stream()
                 .allMatch(condition -> PredicateJudgeFactory.judge(condition, buildRealData(condition, exchange)));
     }
+
+    @Override
+    public boolean matchBound(final List<BoundCondition> boundConditions, final ServerWebExchange exchange) {
+        return boundConditions
+                .stream()
+                .allMatch(condition -> condition.test(exchange));
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.strategy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataCache;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+
+/**
+ * A condition with its parameter data and predicate judge resolved when the data is cached.
+ * A condition whose param type or operator is not registered falls back to the factories.
+ */
+public final class BoundCondition {
+
+    private final ConditionData conditionData;
+
+    private final ParameterData parameterData;
+
+    private final PredicateJudge predicateJudge;
+
+    private BoundCondition(final ConditionData conditionData) {
+        this.conditionData = conditionData;
+        this.parameterData = ParameterDataFactory.bind(conditionData.getParamType()).orElse(null);
+        this.predicateJudge = PredicateJudgeFactory.bind(conditionData.getOperator()).orElse(null);
+    }
+
+    /**
+     * Bind the condition.
+     *
+     * @param conditionData the condition data
+     * @return the bound condition
+     */
+    public static BoundCondition bind(final ConditionData conditionData) {
+        return new BoundCondition(conditionData);
+    }
+
+    /**
+     * Gets condition data.
+     *
+     * @return the condition data
+     */
+    public ConditionData getConditionData() {
+        return conditionData;
+    }
+
+    /**
+     * Test the condition against the exchange.
+     *
+     * @param exchange the exchange
+     * @return true is match, false is not match
+     */
+    public boolean test(final ServerWebExchange exchange) {
+        String realData = Objects.nonNull(parameterData)
+                ? ParameterDataCache.obtain(parameterData, conditionData.getParamType(), conditionData.getParamName(), exchange)
+                : ParameterDataFactory.builderData(conditionData.getParamType(), conditionData.getParamName(), exchange);
+        if (Objects.isNull(predicateJudge)) {
+            return PredicateJudgeFactory.judge(conditionData, realData);
+        }
+        return StringUtils.isNotBlank(realData) && predicateJudge.judge(conditionData, realData);
+    }
+}
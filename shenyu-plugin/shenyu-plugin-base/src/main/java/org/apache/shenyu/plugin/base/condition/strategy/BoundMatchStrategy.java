@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.strategy;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The match strategy and the conditions of a selector or rule, resolved once when the data is cached,
+ * so matching a request dispatches directly without any extension lookup.
+ */
+public final class BoundMatchStrategy {
+
+    private final Integer matchMode;
+
+    private final MatchStrategy matchStrategy;
+
+    private final List<ConditionData> conditionDataList;
+
+    private final List<BoundCondition> boundConditions;
+
+    private BoundMatchStrategy(final Integer matchMode, final List<ConditionData> conditionDataList) {
+        this.matchMode = matchMode;
+        this.matchStrategy = MatchStrategyFactory.bind(matchMode).orElse(null);
+        this.conditionDataList = conditionDataList;
+        this.boundConditions = Objects.isNull(conditionDataList) ? Collections.emptyList()
+                : Collections.unmodifiableList(conditionDataList.stream().map(BoundCondition::bind).collect(Collectors.toList()));
+    }
+
+    /**
+     * Bind the match mode and the conditions.
+     *
+     * @param matchMode         the match mode
+     * @param conditionDataList the condition data list
+     * @return the bound match strategy
+     */
+    public static BoundMatchStrategy bind(final Integer matchMode, final List<ConditionData> conditionDataList) {
+        return new BoundMatchStrategy(matchMode, conditionDataList);
+    }
+
+    /**
+     * Gets match mode.
+     *
+     * @return the match mode
+     */
+    public Integer getMatchMode() {
+        return matchMode;
+    }
+
+    /**
+     * Gets condition data list.
+     *
+     * @return the condition data list
+     */
+    public List<ConditionData> getConditionDataList() {
+        return conditionDataList;
+    }
+
+    /**
+     * Match the exchange.
+     *
+     * @param exchange the exchange
+     * @return true is match, false is not match
+     */
+    public boolean match(final ServerWebExchange exchange) {
+        if (Objects.isNull(matchStrategy) || Objects.isNull(conditionDataList)) {
+            return MatchStrategyFactory.match(matchMode, conditionDataList, exchange);
+        }
+        return matchStrategy.matchBound(boundConditions, exchange);
+    }
+}
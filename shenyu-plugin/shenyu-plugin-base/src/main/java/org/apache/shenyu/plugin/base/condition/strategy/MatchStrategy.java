@@ -22,6 +22,7 @@ import org.apache.shenyu.spi.SPI;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * This is condition strategy.
@@ -37,4 +38,15 @@ public interface MatchStrategy {
      * @return true is match , false is not match.
      */
     Boolean match(List<ConditionData> conditionDataList, ServerWebExchange exchange);
+
+    /**
+     * this is condition match with the parameter data and judges already resolved.
+     *
+     * @param boundConditions bound condition list.
+     * @param exchange        {@linkplain ServerWebExchange}
+     * @return true is match , false is not match.
+     */
+    default boolean matchBound(final List<BoundCondition> boundConditions, final ServerWebExchange exchange) {
+        return match(boundConditions.stream().map(BoundCondition::getConditionData).collect(Collectors.toList()), exchange);
+    }
 }
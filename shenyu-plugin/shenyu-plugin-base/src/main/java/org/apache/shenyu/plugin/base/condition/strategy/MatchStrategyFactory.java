@@ -23,6 +23,8 @@ import org.apache.shenyu.spi.ExtensionLoader;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * MatchStrategyFactory.
@@ -40,6 +42,19 @@ public class MatchStrategyFactory {
         return ExtensionLoader.getExtensionLoader(MatchStrategy.class).getJoin(matchMode);
     }
     
+    /**
+     * Resolve the match strategy once, for callers that keep it.
+     *
+     * @param strategy the strategy
+     * @return the match strategy, empty when the strategy is null
+     */
+    public static Optional<MatchStrategy> bind(final Integer strategy) {
+        if (Objects.isNull(strategy)) {
+            return Optional.empty();
+        }
+        return ExtensionLoader.getExtensionLoader(MatchStrategy.class).getJoinHandle(MatchModeEnum.getMatchModeByCode(strategy));
+    }
+    
     /**
      * Match boolean.
      *
@@ -36,4 +36,11 @@ public class OrMatchStrategy extends AbstractMatchStrategy implements MatchStrat
                 .stream()
                 .anyMatch(condition -> PredicateJudgeFactory.judge(condition, buildRealData(condition, exchange)));
     }
+
+    @Override
+    public boolean matchBound(final List<BoundCondition> boundConditions, final ServerWebExchange exchange) {
+        return boundConditions
+                .stream()
+                .anyMatch(condition -> condition.test(exchange));
+    }
 }
@@ -17,10 +17,12 @@
 
 package org.apache.shenyu.plugin.base;
 
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.SelectorTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
@@ -35,6 +37,9 @@ import org.junit.Test;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -153,8 +158,49 @@ public final class AbstractShenyuPluginTest {
         StepVerifier.create(testShenyuPlugin.execute(exchange, shenyuPluginChain)).expectSubscription().verifyComplete();
     }
 
+    /**
+     * The rule of a route plugin is kept in the exchange.
+     */
+    @Test
+    public void executeRoutePluginTest() {
+        String pluginName = PluginEnum.DIVIDE.getName();
+        List<ConditionData> conditionDataList = Collections.singletonList(conditionData);
+        RuleData routeRule = RuleData.builder().id("route-rule").selectorId("route-selector").pluginName(pluginName)
+                .enabled(true).loged(true).matchMode(0).sort(1).conditionDataList(conditionDataList).build();
+        SelectorData routeSelector = SelectorData.builder().id("route-selector").pluginName(pluginName).enabled(true).logged(true)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).matchMode(0).conditionList(conditionDataList).build();
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().name(pluginName).enabled(true).build());
+        BaseDataCache.getInstance().cacheSelectData(routeSelector);
+        BaseDataCache.getInstance().cacheRuleData(routeRule);
+        StepVerifier.create(new TestShenyuPlugin(pluginName).execute(exchange, shenyuPluginChain)).expectSubscription().verifyComplete();
+        RuleData matched = exchange.getAttribute(Constants.ROUTE_RULE);
+        assertNotNull(matched);
+        assertEquals(routeRule.getId(), matched.getId());
+        assertNotNull(exchange.getAttribute(Constants.ROUTE_START_TIME));
+    }
+
+    /**
+     * The rule of a plugin that does not route is not kept in the exchange.
+     */
+    @Test
+    public void executeNotRoutePluginTest() {
+        executeRuleIsNotNullTest();
+        assertNull(exchange.getAttribute(Constants.ROUTE_RULE));
+        assertNull(exchange.getAttribute(Constants.ROUTE_START_TIME));
+    }
+
     static class TestShenyuPlugin extends AbstractShenyuPlugin {
 
+        private final String name;
+
+        TestShenyuPlugin() {
+            this("SHENYU");
+        }
+
+        TestShenyuPlugin(final String name) {
+            this.name = name;
+        }
+
         @Override
         protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
             return Mono.empty();
@@ -167,7 +213,7 @@ public final class AbstractShenyuPluginTest {
 
         @Override
         public String named() {
-            return "SHENYU";
+            return name;
         }
     }
 }
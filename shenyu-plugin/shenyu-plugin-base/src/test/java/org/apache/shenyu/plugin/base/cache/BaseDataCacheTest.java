@@ -19,9 +19,12 @@ package org.apache.shenyu.plugin.base.cache;
 
 import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
+import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.plugin.base.condition.judge.CompiledPredicateCache;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -37,10 +40,6 @@ public final class BaseDataCacheTest {
 
     private final String pluginMapStr = "PLUGIN_MAP";
 
-    private final String selectorMapStr = "SELECTOR_MAP";
-
-    private final String ruleMapStr = "RULE_MAP";
-
     private final String mockName1 = "MOCK_NAME_1";
     
     private final String mockName2 = "MOCK_NAME_2";
@@ -123,118 +122,183 @@ public final class BaseDataCacheTest {
 
     @Test
     public void testCacheSelectData() {
+        BaseDataCache.getInstance().cleanSelectorData();
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
         BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        Assert.assertEquals(Lists.newArrayList(firstCachedSelectorData), selectorMap.get(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(firstCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
 
         SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(2).build();
         BaseDataCache.getInstance().cacheSelectData(secondCachedSelectorData);
-        Assert.assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), selectorMap.get(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+    }
+
+    @Test
+    public void testCacheSelectDataBatch() {
+        BaseDataCache.getInstance().cleanSelectorData();
+        SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
+        BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
+        final List<SelectorData> before = BaseDataCache.getInstance().obtainSelectorData(mockPluginName1);
+
+        SelectorData updatedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(3).build();
+        SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(2).build();
+        SelectorData thirdCachedSelectorData = SelectorData.builder().id("3").pluginName(mockPluginName2).sort(1).build();
+        BaseDataCache.getInstance().cacheSelectDataBatch(Lists.newArrayList(updatedSelectorData, secondCachedSelectorData, thirdCachedSelectorData));
+        Assert.assertEquals(Lists.newArrayList(secondCachedSelectorData, updatedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(thirdCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
+        Assert.assertEquals(Lists.newArrayList(firstCachedSelectorData), before);
+    }
+
+    @Test
+    public void testReplaceSelectData() {
+        BaseDataCache.getInstance().cleanSelectorData();
+        BaseDataCache.getInstance().cacheSelectData(SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build());
+        SelectorData selectorData = SelectorData.builder().id("2").pluginName(mockPluginName2).sort(1).build();
+        BaseDataCache.getInstance().replaceSelectData(Lists.newArrayList(selectorData));
+        Assert.assertNull(BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(selectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
     }
 
     @Test
     public void testRemoveSelectData() {
+        BaseDataCache.getInstance().cleanSelectorData();
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(selectorData));
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
+        final List<SelectorData> before = BaseDataCache.getInstance().obtainSelectorData(mockPluginName1);
 
         BaseDataCache.getInstance().removeSelectData(selectorData);
-        Assert.assertEquals(Lists.newArrayList(), selectorMap.get(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(selectorData), before);
     }
 
     @Test
     public void testCleanSelectorData() {
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
         SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName2).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(firstCachedSelectorData));
-        selectorMap.put(mockPluginName2, Lists.newArrayList(secondCachedSelectorData));
+        BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
+        BaseDataCache.getInstance().cacheSelectData(secondCachedSelectorData);
 
         BaseDataCache.getInstance().cleanSelectorData();
-        Assert.assertNull(selectorMap.get(mockPluginName1));
-        Assert.assertNull(selectorMap.get(mockPluginName2));
+        Assert.assertNull(BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        Assert.assertNull(BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
     }
 
     @Test
     public void testCleanSelectorDataSelf() {
+        BaseDataCache.getInstance().cleanSelectorData();
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
         SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName2).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(firstCachedSelectorData));
-        selectorMap.put(mockPluginName2, Lists.newArrayList(secondCachedSelectorData));
+        BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
+        BaseDataCache.getInstance().cacheSelectData(secondCachedSelectorData);
 
         BaseDataCache.getInstance().cleanSelectorDataSelf(Lists.newArrayList(firstCachedSelectorData));
-        Assert.assertEquals(Lists.newArrayList(), selectorMap.get(mockPluginName1));
-        Assert.assertEquals(Lists.newArrayList(secondCachedSelectorData), selectorMap.get(mockPluginName2));
+        Assert.assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        Assert.assertEquals(Lists.newArrayList(secondCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
     }
 
     @Test
     public void testObtainSelectorData() {
+        BaseDataCache.getInstance().cleanSelectorData();
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(selectorData));
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
 
         List<SelectorData> selectorDataList = BaseDataCache.getInstance().obtainSelectorData(mockPluginName1);
         Assert.assertEquals(Lists.newArrayList(selectorData), selectorDataList);
+        Assert.assertEquals(selectorDataList, BaseDataCache.getInstance().obtainSelectorIndex(mockPluginName1).getDataList());
     }
 
     @Test
     public void testCacheRuleData() {
+        BaseDataCache.getInstance().cleanRuleData();
         RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
         BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        Assert.assertEquals(Lists.newArrayList(firstCachedRuleData), ruleMap.get(mockSelectorId1));
+        Assert.assertEquals(Lists.newArrayList(firstCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
 
         RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(2).build();
         BaseDataCache.getInstance().cacheRuleData(secondCachedRuleData);
-        Assert.assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), ruleMap.get(mockSelectorId1));
+        Assert.assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+    }
+
+    @Test
+    public void testCacheRuleDataBatch() {
+        BaseDataCache.getInstance().cleanRuleData();
+        RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(2).build();
+        RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(1).build();
+        RuleData thirdCachedRuleData = RuleData.builder().id("3").selectorId(mockSelectorId2).sort(1).build();
+        BaseDataCache.getInstance().cacheRuleDataBatch(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData, thirdCachedRuleData));
+        Assert.assertEquals(Lists.newArrayList(secondCachedRuleData, firstCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        Assert.assertEquals(Lists.newArrayList(thirdCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
+    }
+
+    @Test
+    public void testReplaceRuleData() {
+        BaseDataCache.getInstance().cleanRuleData();
+        BaseDataCache.getInstance().cacheRuleData(RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build());
+        RuleData ruleData = RuleData.builder().id("2").selectorId(mockSelectorId2).sort(1).build();
+        BaseDataCache.getInstance().replaceRuleData(Lists.newArrayList(ruleData));
+        Assert.assertNull(BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        Assert.assertEquals(Lists.newArrayList(ruleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
+    }
+
+    @Test
+    public void testReplaceRuleDataKeepsSharedPredicate() {
+        BaseDataCache.getInstance().cleanRuleData();
+        CompiledPredicateCache.getInstance().invalidateAll();
+        RuleData retiredRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1)
+                .conditionDataList(Lists.newArrayList(new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*"))).build();
+        RuleData liveRuleData = RuleData.builder().id("2").selectorId(mockSelectorId2).sort(1)
+                .conditionDataList(Lists.newArrayList(new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*"))).build();
+        BaseDataCache.getInstance().cacheRuleDataBatch(Lists.newArrayList(retiredRuleData, liveRuleData));
+        Assert.assertEquals(1, CompiledPredicateCache.getInstance().size());
+        BaseDataCache.getInstance().replaceRuleData(Lists.newArrayList(liveRuleData));
+        Assert.assertEquals(1, CompiledPredicateCache.getInstance().size());
+        BaseDataCache.getInstance().removeRuleData(liveRuleData);
+        Assert.assertEquals(0, CompiledPredicateCache.getInstance().size());
     }
 
     @Test
     public void testRemoveRuleData() {
+        BaseDataCache.getInstance().cleanRuleData();
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(ruleData));
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
 
         BaseDataCache.getInstance().removeRuleData(ruleData);
-        Assert.assertEquals(Lists.newArrayList(), ruleMap.get(mockSelectorId1));
+        Assert.assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
     }
 
     @Test
     public void testCleanRuleData() {
         RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
         RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId2).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(firstCachedRuleData));
-        ruleMap.put(mockSelectorId2, Lists.newArrayList(secondCachedRuleData));
+        BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
+        BaseDataCache.getInstance().cacheRuleData(secondCachedRuleData);
 
         BaseDataCache.getInstance().cleanRuleData();
-        Assert.assertNull(ruleMap.get(mockSelectorId1));
-        Assert.assertNull(ruleMap.get(mockSelectorId2));
+        Assert.assertNull(BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        Assert.assertNull(BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
     }
 
     @Test
     public void testCleanRuleDataSelf() {
+        BaseDataCache.getInstance().cleanRuleData();
         RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
         RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId2).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(firstCachedRuleData));
-        ruleMap.put(mockSelectorId2, Lists.newArrayList(secondCachedRuleData));
+        BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
+        BaseDataCache.getInstance().cacheRuleData(secondCachedRuleData);
 
         BaseDataCache.getInstance().cleanRuleDataSelf(Lists.newArrayList(firstCachedRuleData));
-        Assert.assertEquals(Lists.newArrayList(), ruleMap.get(mockSelectorId1));
-        Assert.assertEquals(Lists.newArrayList(secondCachedRuleData), ruleMap.get(mockSelectorId2));
+        Assert.assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        Assert.assertEquals(Lists.newArrayList(secondCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
     }
 
     @Test
     public void testObtainRuleData() {
+        BaseDataCache.getInstance().cleanRuleData();
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(ruleData));
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
 
         List<RuleData> ruleDataList = BaseDataCache.getInstance().obtainRuleData(mockSelectorId1);
         Assert.assertEquals(Lists.newArrayList(ruleData), ruleDataList);
+        Assert.assertEquals(ruleDataList, BaseDataCache.getInstance().obtainRuleIndex(mockSelectorId1).getDataList());
     }
 
     @SneakyThrows
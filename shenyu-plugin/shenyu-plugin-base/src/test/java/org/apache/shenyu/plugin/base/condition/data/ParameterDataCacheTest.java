@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.data;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for {@link ParameterDataCache}.
+ */
+public class ParameterDataCacheTest {
+
+    private ServerWebExchange exchange;
+
+    private AtomicInteger extractions;
+
+    private ParameterData parameterData;
+
+    @Before
+    public void setUp() {
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http")
+                .header("shenyu", "shenyuHeader")
+                .build());
+        this.extractions = new AtomicInteger();
+        HeaderParameterData headerParameterData = new HeaderParameterData();
+        this.parameterData = new ParameterData() {
+            @Override
+            public String builder(final String paramName, final ServerWebExchange exchange) {
+                extractions.incrementAndGet();
+                return headerParameterData.builder(paramName, exchange);
+            }
+        };
+    }
+
+    @Test
+    public void testObtainExtractsOnce() {
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals("shenyuHeader", ParameterDataCache.obtain(parameterData, "header", "shenyu", exchange));
+            Assert.assertEquals("", ParameterDataCache.obtain(parameterData, "header", "name" + i % 10, exchange));
+        }
+        Assert.assertEquals(11, extractions.get());
+    }
+
+    @Test
+    public void testObtainAfterRequestMutated() {
+        Assert.assertEquals("shenyuHeader", ParameterDataCache.obtain(parameterData, "header", "shenyu", exchange));
+        ServerWebExchange mutated = exchange.mutate().request(exchange.getRequest().mutate().header("shenyu", "mutated").build()).build();
+        Assert.assertEquals("mutated", ParameterDataCache.obtain(parameterData, "header", "shenyu", mutated));
+        Assert.assertEquals(2, extractions.get());
+    }
+
+    @Test
+    public void testPostIsNotCached() {
+        ShenyuContext shenyuContext = new ShenyuContext();
+        shenyuContext.setRealUrl("/first");
+        exchange.getAttributes().put(Constants.CONTEXT, shenyuContext);
+        PostParameterData postParameterData = new PostParameterData();
+        Assert.assertEquals("/first", ParameterDataCache.obtain(postParameterData, "post", "realUrl", exchange));
+        shenyuContext.setRealUrl("/second");
+        Assert.assertEquals("/second", ParameterDataCache.obtain(postParameterData, "post", "realUrl", exchange));
+        Assert.assertNull(ParameterDataCache.obtain(postParameterData, "post", "startDateTime", MockServerWebExchange.from(MockServerHttpRequest.get("/http").build())));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.BoundMatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Test cases for MatchDataIndex.
+ */
+public final class MatchDataIndexTest {
+
+    private static final BiPredicate<RuleData, ServerWebExchange> SCAN = (rule, exchange) ->
+            rule.getEnabled() && MatchStrategyFactory.match(rule.getMatchMode(), rule.getConditionDataList(), exchange);
+
+    private static final Predicate<RuleData> FILTER = RuleData::getEnabled;
+
+    private List<RuleData> ruleDataList;
+
+    private MatchDataIndex<RuleData> index;
+
+    @Before
+    public void setUp() {
+        ruleDataList = Lists.newArrayList(
+                buildRule("1", MatchModeEnum.AND, condition("uri", "match", "", "/http/order/**")),
+                buildRule("2", MatchModeEnum.AND, condition("header", "=", "tenant", "a"), condition("uri", "match", "", "/http/**")),
+                buildRule("3", MatchModeEnum.AND, condition("uri", "regex", "", "/http/.*")),
+                buildRule("4", MatchModeEnum.OR, condition("uri", "=", "", "/http/user/find"), condition("req_method", "=", "", "POST")),
+                buildRule("5", MatchModeEnum.AND, condition("uri", "match", "", "/**")),
+                buildRule("6", MatchModeEnum.AND, condition("uri", "match", "", "/dubbo/**, /http/user/**")));
+        index = new MatchDataIndex<>(ruleDataList, MatchDataIndexTest::bind);
+    }
+
+    @Test
+    public void testMatchKeepsSortOrder() {
+        assertSameAsScan(MockServerHttpRequest.get("/http/order/save").build(), "1");
+        assertSameAsScan(MockServerHttpRequest.get("/http/user/save").header("tenant", "a").build(), "2");
+        assertSameAsScan(MockServerHttpRequest.get("/http/user/save").build(), "3");
+        assertSameAsScan(MockServerHttpRequest.post("/other").build(), "4");
+        assertSameAsScan(MockServerHttpRequest.get("/other").build(), "5");
+        assertSameAsScan(MockServerHttpRequest.get("/dubbo/find").build(), "5");
+    }
+
+    @Test
+    public void testMatchSkipsDisabled() {
+        ruleDataList.forEach(rule -> rule.setEnabled(false));
+        ruleDataList.get(5).setEnabled(true);
+        assertSameAsScan(MockServerHttpRequest.get("/dubbo/find").build(), "6");
+        assertSameAsScan(MockServerHttpRequest.get("/other").build(), null);
+    }
+
+    @Test
+    public void testEmpty() {
+        MatchDataIndex<RuleData> empty = new MatchDataIndex<>(Collections.emptyList(), MatchDataIndexTest::bind);
+        Assert.assertTrue(empty.isEmpty());
+        Assert.assertNull(empty.match(MockServerWebExchange.from(MockServerHttpRequest.get("/http").build()), FILTER));
+    }
+
+    private void assertSameAsScan(final MockServerHttpRequest request, final String expectedId) {
+        ServerWebExchange exchange = MockServerWebExchange.from(request);
+        RuleData scanned = ruleDataList.stream().filter(rule -> SCAN.test(rule, exchange)).findFirst().orElse(null);
+        RuleData matched = index.match(exchange, FILTER);
+        Assert.assertEquals(scanned, matched);
+        Assert.assertEquals(expectedId, matched == null ? null : matched.getId());
+    }
+
+    private static BoundMatchStrategy bind(final RuleData ruleData) {
+        return BoundMatchStrategy.bind(ruleData.getMatchMode(), ruleData.getConditionDataList());
+    }
+
+    private static RuleData buildRule(final String id, final MatchModeEnum matchMode, final ConditionData... conditions) {
+        return RuleData.builder().id(id).enabled(true).sort(Integer.parseInt(id))
+                .matchMode(matchMode.getCode()).conditionDataList(Lists.newArrayList(conditions)).build();
+    }
+
+    private static ConditionData condition(final String paramType, final String operator, final String paramName, final String paramValue) {
+        return new ConditionData(paramType, operator, paramName, paramValue);
+    }
+}
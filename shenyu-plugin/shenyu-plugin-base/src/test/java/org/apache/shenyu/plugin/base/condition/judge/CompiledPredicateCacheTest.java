@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for CompiledPredicateCache.
+ */
+public final class CompiledPredicateCacheTest {
+
+    private final CompiledPredicateCache cache = CompiledPredicateCache.getInstance();
+
+    @Before
+    public void setUp() {
+        cache.invalidateAll();
+    }
+
+    @Test
+    public void testObtainSharesEqualConditions() {
+        ConditionData first = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*");
+        ConditionData second = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*");
+        Object compiled = cache.obtain(first, data -> new Object());
+        assertSame(compiled, cache.obtain(second, data -> new Object()));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testReleaseInvalidatesUnreferenced() {
+        ConditionData conditionData = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*");
+        cache.retain(Collections.singletonList(conditionData));
+        PredicateJudgeFactory.compile(conditionData);
+        assertEquals(1, cache.size());
+        cache.release(Collections.singletonList(conditionData));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testReleaseKeepsSharedCondition() {
+        ConditionData first = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*");
+        ConditionData second = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/.*");
+        cache.retain(Collections.singletonList(first));
+        cache.retain(Collections.singletonList(second));
+        PredicateJudgeFactory.compile(first);
+        cache.release(Collections.singletonList(first));
+        assertEquals(1, cache.size());
+        cache.release(Collections.singletonList(second));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCompileIgnoresBadExpression() {
+        ConditionData conditionData = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/[");
+        PredicateJudgeFactory.compile(conditionData);
+        assertEquals(0, cache.size());
+        conditionData.setParamValue("/http/.*");
+        conditionData.setOperator(OperatorEnum.EQ.getAlias());
+        PredicateJudgeFactory.compile(conditionData);
+        assertEquals(0, cache.size());
+        conditionData.setOperator(OperatorEnum.REGEX.getAlias());
+        assertTrue(PredicateJudgeFactory.judge(conditionData, "/http/order"));
+        assertFalse(PredicateJudgeFactory.judge(conditionData, "/dubbo/order"));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import groovy.util.Eval;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per-request compiling judges with the cached compiled predicates.
+ * Run with {@code main} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateJudgeBenchmark {
+
+    private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+    private final RegexPredicateJudge regexJudge = new RegexPredicateJudge();
+
+    private final SpELPredicateJudge spelJudge = new SpELPredicateJudge();
+
+    private final GroovyPredicateJudge groovyJudge = new GroovyPredicateJudge();
+
+    private ConditionData regexCondition;
+
+    private ConditionData spelCondition;
+
+    private ConditionData groovyCondition;
+
+    /**
+     * Build the conditions and warm the compiled predicates.
+     */
+    @Setup
+    public void setUp() {
+        regexCondition = new ConditionData("uri", OperatorEnum.REGEX.getAlias(), "", "/http/order/[a-z]+/\\d+");
+        spelCondition = new ConditionData("query", OperatorEnum.SPEL.getAlias(), "userId", "#userId % 3 == 0");
+        groovyCondition = new ConditionData("query", OperatorEnum.GROOVY.getAlias(), "userId", "userId.toInteger() % 3 == 0");
+        PredicateJudgeFactory.compile(regexCondition);
+        PredicateJudgeFactory.compile(spelCondition);
+        PredicateJudgeFactory.compile(groovyCondition);
+    }
+
+    /**
+     * Regex compiled per request.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean regexPerRequest() {
+        return Pattern.matches(regexCondition.getParamValue(), "/http/order/find/42");
+    }
+
+    /**
+     * Regex with the cached pattern.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean regexCompiled() {
+        return regexJudge.judge(regexCondition, "/http/order/find/42");
+    }
+
+    /**
+     * SpEL parsed per request after textual substitution.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Boolean spelPerRequest() {
+        return EXPRESSION_PARSER.parseExpression(spelCondition.getParamValue().replace('#' + spelCondition.getParamName(), "42")).getValue(Boolean.class);
+    }
+
+    /**
+     * SpEL with the cached expression.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Boolean spelCompiled() {
+        return spelJudge.judge(spelCondition, "42");
+    }
+
+    /**
+     * Groovy evaluated from source per request.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Object groovyPerRequest() {
+        return Eval.me(groovyCondition.getParamName(), "42", groovyCondition.getParamValue());
+    }
+
+    /**
+     * Groovy with the cached script class.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Boolean groovyCompiled() {
+        return groovyJudge.judge(groovyCondition, "42");
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PredicateJudgeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -100,6 +100,41 @@ public final class PredicateJudgeFactoryTest {
         Assert.assertFalse(PredicateJudgeFactory.judge(conditionData, "4"));
     }
 
+    @Test
+    public void testSpELJudgeQuotedParam() {
+        conditionData.setOperator(OperatorEnum.SPEL.getAlias());
+        conditionData.setParamType(ParamTypeEnum.HEADER.getName());
+        conditionData.setParamName("name");
+        conditionData.setParamValue("'#name' == 'x'");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "x"));
+        Assert.assertFalse(PredicateJudgeFactory.judge(conditionData, "y"));
+        conditionData.setParamValue("'v#name' == 'v1.50' and #name > 1");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "1.50"));
+        conditionData.setParamValue("'it''s #name' == \"it's x\"");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "x"));
+    }
+
+    @Test
+    public void testSpELJudgeSubstitutedLiteral() {
+        conditionData.setOperator(OperatorEnum.SPEL.getAlias());
+        conditionData.setParamType(ParamTypeEnum.HEADER.getName());
+        conditionData.setParamName("userId");
+        conditionData.setParamValue("#userId == 31");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "0x1F"));
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "31L"));
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, " 31"));
+        conditionData.setParamValue("#userId > 100");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "1e3"));
+        Assert.assertFalse(PredicateJudgeFactory.judge(conditionData, "-1e3"));
+        conditionData.setParamValue("#userId instanceof T(Integer)");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "3"));
+        conditionData.setParamValue("#userId == 'x'");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "'x'"));
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "x"));
+        conditionData.setParamValue("#userId == null");
+        Assert.assertTrue(PredicateJudgeFactory.judge(conditionData, "null"));
+    }
+
     @Test
     public void testGroovyJudge() {
         conditionData.setOperator(OperatorEnum.GROOVY.getAlias());
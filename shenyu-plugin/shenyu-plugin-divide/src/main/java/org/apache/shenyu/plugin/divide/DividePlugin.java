@@ -29,6 +29,7 @@ import org.apache.shenyu.common.dto.convert.rule.impl.DivideRuleHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.UpstreamCallback;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
@@ -36,10 +37,12 @@ import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.base.utils.FallbackUtils;
+import org.apache.shenyu.plugin.divide.balance.LoadBalance;
 import org.apache.shenyu.plugin.divide.balance.utils.LoadBalanceUtils;
 import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -56,7 +59,8 @@ public class DividePlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        DivideRuleHandle ruleHandle = UpstreamCacheManager.getInstance().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        String ruleKey = CacheKeyUtils.INST.getKey(rule);
+        DivideRuleHandle ruleHandle = UpstreamCacheManager.getInstance().obtainHandle(ruleKey);
         long headerSize = 0;
         for (List<String> multiHeader : exchange.getRequest().getHeaders().values()) {
             for (String value : multiHeader) {
@@ -80,7 +84,9 @@ public class DividePlugin extends AbstractShenyuPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
-        DivideUpstream divideUpstream = LoadBalanceUtils.selector(upstreamList, ruleHandle.getLoadBalance(), ip);
+        LoadBalance loadBalance = UpstreamCacheManager.getInstance().obtainLoadBalance(ruleKey);
+        DivideUpstream divideUpstream = Objects.nonNull(loadBalance) ? LoadBalanceUtils.selector(upstreamList, loadBalance, ip)
+                : LoadBalanceUtils.selector(upstreamList, ruleHandle.getLoadBalance(), ip);
         if (Objects.isNull(divideUpstream)) {
             log.error("divide has no upstream");
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.CANNOT_FIND_URL.getCode(), ShenyuResultEnum.CANNOT_FIND_URL.getMsg(), null);
@@ -93,7 +99,10 @@ public class DividePlugin extends AbstractShenyuPlugin {
         // set the http timeout
         exchange.getAttributes().put(Constants.HTTP_TIME_OUT, ruleHandle.getTimeout());
         exchange.getAttributes().put(Constants.HTTP_RETRY, ruleHandle.getRetry());
-        return chain.execute(exchange);
+        // the http client plugin completes the callback with the upstream outcome, the chain end is only a guard
+        UpstreamCallback callback = UpstreamCacheManager.getInstance().obtainUpstreamStats(divideUpstream.getUpstreamUrl()).begin();
+        exchange.getAttributes().put(Constants.UPSTREAM_CALLBACK, callback);
+        return chain.execute(exchange).doFinally(signal -> callback.onComplete(signal != SignalType.ON_ERROR));
     }
 
     @Override
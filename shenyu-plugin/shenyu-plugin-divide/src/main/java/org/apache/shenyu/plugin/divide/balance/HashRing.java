@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consistent hash ring of an upstream list, built once per list and read lock-free.
+ *
+ * <p>The virtual node hashes are kept in a sorted primitive array, a lookup is a binary search
+ * for the first node clockwise from the key.
+ */
+public final class HashRing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] hashes;
+
+    private final DivideUpstream[] upstreams;
+
+    private HashRing(final long[] hashes, final DivideUpstream[] upstreams) {
+        this.hashes = hashes;
+        this.upstreams = upstreams;
+    }
+
+    /**
+     * Build the ring of the upstream list.
+     *
+     * @param upstreamList the upstream list
+     * @param virtualNodes the virtual node count of every upstream
+     * @return the hash ring
+     */
+    public static HashRing build(final List<DivideUpstream> upstreamList, final int virtualNodes) {
+        int nodes = Math.max(1, virtualNodes);
+        int size = upstreamList.size() * nodes;
+        long[] keys = new long[size];
+        int[] positions = new int[size];
+        int index = 0;
+        for (int position = 0; position < upstreamList.size(); position++) {
+            for (int i = 0; i < nodes; i++) {
+                keys[index] = hash("SOUL-" + upstreamList.get(position).getUpstreamUrl() + "-HASH-" + i);
+                positions[index++] = position;
+            }
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+        long[] hashes = new long[size];
+        DivideUpstream[] upstreams = new DivideUpstream[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = keys[order[i]];
+            upstreams[i] = upstreamList.get(positions[order[i]]);
+        }
+        return new HashRing(hashes, upstreams);
+    }
+
+    /**
+     * Select the upstream of the key, the first virtual node at or after its hash.
+     *
+     * @param key the key
+     * @return the divide upstream, null when the ring is empty
+     */
+    public DivideUpstream select(final String key) {
+        if (hashes.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(hashes, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return upstreams[index == hashes.length ? 0 : index];
+    }
+
+    /**
+     * 64-bit FNV-1a over the chars of the key, finished with the murmur3 mixer for a better spread.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    public static long hash(final String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToIntFunction;
+
+/**
+ * Smooth weighted round robin state of an upstream list, built once per list and updated lock-free.
+ *
+ * <p>Every selection adds each weight to the current value of its upstream, picks the largest
+ * and takes the total weight off it. The weights are resolved when the state is built, while
+ * some upstream is still warming up they are resolved again on every selection.
+ */
+public final class SmoothWeightedRoundRobin {
+
+    private final DivideUpstream[] upstreams;
+
+    private final AtomicLongArray current;
+
+    private final ToIntFunction<DivideUpstream> weigher;
+
+    private volatile Weights weights;
+
+    private SmoothWeightedRoundRobin(final DivideUpstream[] upstreams, final ToIntFunction<DivideUpstream> weigher) {
+        this.upstreams = upstreams;
+        this.weigher = weigher;
+        this.current = new AtomicLongArray(upstreams.length);
+        this.weights = resolve();
+    }
+
+    /**
+     * Build the state of the upstream list.
+     *
+     * @param upstreamList the upstream list
+     * @param weigher      resolves the current weight of an upstream
+     * @return the round robin state
+     */
+    public static SmoothWeightedRoundRobin build(final List<DivideUpstream> upstreamList, final ToIntFunction<DivideUpstream> weigher) {
+        return new SmoothWeightedRoundRobin(upstreamList.toArray(new DivideUpstream[0]), weigher);
+    }
+
+    /**
+     * Select the next upstream.
+     *
+     * @return the divide upstream, null when the list is empty
+     */
+    public DivideUpstream select() {
+        if (upstreams.length == 0) {
+            return null;
+        }
+        Weights resolved = weights;
+        boolean warming = resolved.warmupDeadline > 0L;
+        if (warming && System.currentTimeMillis() >= resolved.warmupDeadline) {
+            resolved = resolve();
+            weights = resolved;
+            warming = resolved.warmupDeadline > 0L;
+        }
+        int total = warming ? 0 : resolved.total;
+        long maxCurrent = Long.MIN_VALUE;
+        int selected = 0;
+        for (int i = 0; i < upstreams.length; i++) {
+            int weight = warming ? weigher.applyAsInt(upstreams[i]) : resolved.values[i];
+            if (warming) {
+                total += weight;
+            }
+            long cur = current.addAndGet(i, weight);
+            if (cur > maxCurrent) {
+                maxCurrent = cur;
+                selected = i;
+            }
+        }
+        current.addAndGet(selected, -total);
+        return upstreams[selected];
+    }
+
+    private Weights resolve() {
+        int[] values = new int[upstreams.length];
+        int total = 0;
+        long deadline = 0L;
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < upstreams.length; i++) {
+            values[i] = weigher.applyAsInt(upstreams[i]);
+            total += values[i];
+            deadline = Math.max(deadline, warmupDeadline(upstreams[i], now));
+        }
+        return new Weights(values, total, deadline);
+    }
+
+    private static long warmupDeadline(final DivideUpstream upstream, final long now) {
+        if (upstream.getWeight() <= 0 || upstream.getTimestamp() <= 0) {
+            return 0L;
+        }
+        int warmup = upstream.getWarmup() > 0 ? upstream.getWarmup() : Constants.DEFAULT_WARMUP;
+        long deadline = upstream.getTimestamp() + warmup;
+        return deadline > now ? deadline : 0L;
+    }
+
+    private static final class Weights {
+
+        private final int[] values;
+
+        private final int total;
+
+        /**
+         * the time the last upstream finishes warming up, 0 when none is warming up.
+         */
+        private final long warmupDeadline;
+
+        Weights(final int[] values, final int total, final long warmupDeadline) {
+            this.values = values;
+            this.total = total;
+            this.warmupDeadline = warmupDeadline;
+        }
+    }
+}
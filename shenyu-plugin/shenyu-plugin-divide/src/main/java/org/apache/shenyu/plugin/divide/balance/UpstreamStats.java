@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance;
+
+import org.apache.shenyu.plugin.api.UpstreamCallback;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-flight count and peak EWMA response time of one upstream.
+ *
+ * <p>The in-flight count is a striped {@link LongAdder} and the EWMA is updated with a CAS loop,
+ * so recording a call never blocks. A slower sample replaces the EWMA at once, faster samples
+ * decay into it with a time constant of ten seconds.
+ */
+public final class UpstreamStats {
+
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * a failed call counts as at least one second, so a fast failing upstream is not preferred.
+     */
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongAdder active = new LongAdder();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToRawLongBits(0D));
+
+    private final AtomicLong lastUpdate = new AtomicLong(System.nanoTime());
+
+    /**
+     * Gets the in-flight count.
+     *
+     * @return the active count
+     */
+    public long getActive() {
+        return active.sum();
+    }
+
+    /**
+     * Gets the EWMA response time in nanos, 0 before the first sample.
+     *
+     * @return the ewma
+     */
+    public double getEwma() {
+        return Double.longBitsToDouble(ewmaBits.get());
+    }
+
+    /**
+     * Take the completed and failed call counts recorded since the last drain, and reset them.
+     *
+     * @return the counts, completed calls first
+     */
+    public long[] drainCounts() {
+        return new long[]{requests.sumThenReset(), failures.sumThenReset()};
+    }
+
+    /**
+     * Begin a call to the upstream.
+     *
+     * @return the callback to notify when the call completes
+     */
+    public UpstreamCallback begin() {
+        active.increment();
+        return new Call(this, System.nanoTime());
+    }
+
+    private void end(final long startNanos, final boolean success) {
+        active.decrement();
+        requests.increment();
+        if (!success) {
+            failures.increment();
+        }
+        long now = System.nanoTime();
+        long rtt = now - startNanos;
+        record(success ? rtt : Math.max(rtt, FAILURE_PENALTY_NANOS), now);
+    }
+
+    private void record(final long rtt, final long now) {
+        // each elapsed interval decays the EWMA once, a concurrent older sample sees none.
+        long elapsed = Math.max(now - lastUpdate.getAndAccumulate(now, (prev, next) -> next - prev > 0 ? next : prev), 0L);
+        double weight = Math.exp(-elapsed / DECAY_NANOS);
+        while (true) {
+            long bits = ewmaBits.get();
+            double prev = Double.longBitsToDouble(bits);
+            double next = rtt > prev ? rtt : prev * weight + rtt * (1 - weight);
+            if (ewmaBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private static final class Call implements UpstreamCallback {
+
+        private static final AtomicIntegerFieldUpdater<Call> DONE = AtomicIntegerFieldUpdater.newUpdater(Call.class, "done");
+
+        private final UpstreamStats stats;
+
+        private final long startNanos;
+
+        private volatile int done;
+
+        Call(final UpstreamStats stats, final long startNanos) {
+            this.stats = stats;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(final boolean success) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                stats.end(startNanos, success);
+            }
+        }
+    }
+}
@@ -18,59 +18,20 @@
 package org.apache.shenyu.plugin.divide.balance.spi;
 
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
-import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
 import org.apache.shenyu.spi.Join;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * hash algorithm impl.
+ * The ring of an upstream list is built once and cached by {@linkplain UpstreamCacheManager}.
  */
 @Join
 public class HashLoadBalance extends AbstractLoadBalance {
 
-    private static final int VIRTUAL_NODE_NUM = 5;
-
     @Override
     public DivideUpstream doSelect(final List<DivideUpstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, DivideUpstream> treeMap = new ConcurrentSkipListMap<>();
-        for (DivideUpstream address : upstreamList) {
-            for (int i = 0; i < VIRTUAL_NODE_NUM; i++) {
-                long addressHash = hash("SOUL-" + address.getUpstreamUrl() + "-HASH-" + i);
-                treeMap.put(addressHash, address);
-            }
-        }
-        long hash = hash(String.valueOf(ip));
-        SortedMap<Long, DivideUpstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
-        }
-        return treeMap.firstEntry().getValue();
-    }
-
-    private static long hash(final String key) {
-        // md5 byte
-        MessageDigest md5;
-        try {
-            md5 = MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            throw new ShenyuException("MD5 not supported", e);
-        }
-        md5.reset();
-        byte[] keyBytes;
-        keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        md5.update(keyBytes);
-        byte[] digest = md5.digest();
-        // hash code, Truncate to 32-bits
-        long hashCode = (long) (digest[3] & 0xFF) << 24
-                | ((long) (digest[2] & 0xFF) << 16)
-                | ((long) (digest[1] & 0xFF) << 8)
-                | (digest[0] & 0xFF);
-        return hashCode & 0xffffffffL;
+        return UpstreamCacheManager.getInstance().obtainHashRing(upstreamList).select(String.valueOf(ip));
     }
 }
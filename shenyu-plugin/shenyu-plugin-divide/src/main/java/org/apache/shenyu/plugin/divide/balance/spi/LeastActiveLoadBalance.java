@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance.spi;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.divide.balance.UpstreamStats;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
+import org.apache.shenyu.spi.Join;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * least active algorithm impl.
+ * Picks the upstream with the fewest in-flight calls, ties are broken by weighted random.
+ */
+@Join
+public class LeastActiveLoadBalance extends AbstractLoadBalance {
+
+    @Override
+    public DivideUpstream doSelect(final List<DivideUpstream> upstreamList, final String ip) {
+        UpstreamStats[] stats = UpstreamCacheManager.getInstance().obtainUpstreamStats(upstreamList);
+        int length = upstreamList.size();
+        long leastActive = Long.MAX_VALUE;
+        int leastCount = 0;
+        int totalWeight = 0;
+        // the indexes of the least active upstreams are packed at the head of the array
+        int[] leastIndexes = new int[length];
+        int[] weights = new int[length];
+        for (int i = 0; i < length; i++) {
+            long active = stats[i].getActive();
+            int weight = getWeight(upstreamList.get(i));
+            weights[i] = weight;
+            if (active < leastActive) {
+                leastActive = active;
+                leastCount = 0;
+                totalWeight = 0;
+            }
+            if (active == leastActive) {
+                leastIndexes[leastCount++] = i;
+                totalWeight += weight;
+            }
+        }
+        if (leastCount == 1) {
+            return upstreamList.get(leastIndexes[0]);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (totalWeight > 0) {
+            int offset = random.nextInt(totalWeight);
+            for (int i = 0; i < leastCount; i++) {
+                offset -= weights[leastIndexes[i]];
+                if (offset < 0) {
+                    return upstreamList.get(leastIndexes[i]);
+                }
+            }
+        }
+        return upstreamList.get(leastIndexes[random.nextInt(leastCount)]);
+    }
+}
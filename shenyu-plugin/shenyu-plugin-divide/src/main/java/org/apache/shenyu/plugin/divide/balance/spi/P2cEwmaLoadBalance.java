@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance.spi;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.divide.balance.UpstreamStats;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
+import org.apache.shenyu.spi.Join;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * power of two choices algorithm impl.
+ * Draws two distinct upstreams at random and picks the one with the lower
+ * peak EWMA response time multiplied by its in-flight count.
+ */
+@Join
+public class P2cEwmaLoadBalance extends AbstractLoadBalance {
+
+    /**
+     * the cost of an upstream with in-flight calls but no completed sample yet.
+     */
+    private static final double PENALTY = TimeUnit.SECONDS.toNanos(1);
+
+    @Override
+    public DivideUpstream doSelect(final List<DivideUpstream> upstreamList, final String ip) {
+        UpstreamStats[] stats = UpstreamCacheManager.getInstance().obtainUpstreamStats(upstreamList);
+        int length = upstreamList.size();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(length);
+        int second = random.nextInt(length - 1);
+        if (second >= first) {
+            second++;
+        }
+        return upstreamList.get(cost(stats[first]) <= cost(stats[second]) ? first : second);
+    }
+
+    private double cost(final UpstreamStats stats) {
+        long active = stats.getActive();
+        double ewma = stats.getEwma();
+        if (ewma == 0D) {
+            return active == 0 ? 0D : PENALTY * (active + 1);
+        }
+        return ewma * (active + 1);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shenyu.common.dto.convert.DivideUpstream;
 import org.apache.shenyu.spi.ExtensionLoader;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The type Load balance utils.
@@ -40,4 +41,26 @@ public class LoadBalanceUtils {
         LoadBalance loadBalance = ExtensionLoader.getExtensionLoader(LoadBalance.class).getJoin(algorithm);
         return loadBalance.select(upstreamList, ip);
     }
+
+    /**
+     * Selector divide upstream with a load balance resolved beforehand.
+     *
+     * @param upstreamList the upstream list
+     * @param loadBalance  the load balance
+     * @param ip           the ip
+     * @return the divide upstream
+     */
+    public static DivideUpstream selector(final List<DivideUpstream> upstreamList, final LoadBalance loadBalance, final String ip) {
+        return loadBalance.select(upstreamList, ip);
+    }
+
+    /**
+     * Resolve the load balance once, for callers that keep it.
+     *
+     * @param algorithm the loadBalance algorithm
+     * @return the load balance, empty when the algorithm is not registered
+     */
+    public static Optional<LoadBalance> bind(final String algorithm) {
+        return ExtensionLoader.getExtensionLoader(LoadBalance.class).getJoinHandle(algorithm);
+    }
 }
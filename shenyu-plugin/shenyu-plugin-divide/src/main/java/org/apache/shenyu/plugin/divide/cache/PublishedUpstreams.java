@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.divide.cache;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.divide.balance.HashRing;
+import org.apache.shenyu.plugin.divide.balance.SmoothWeightedRoundRobin;
+import org.apache.shenyu.plugin.divide.balance.UpstreamStats;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * An upstream list published by {@link UpstreamCacheManager}, holding the load balance state derived from it.
+ *
+ * <p>The state is built on the first selection and lives exactly as long as the list, so publishing
+ * a new list swaps the upstreams and their state in one write, and a selection never looks the state up.
+ */
+final class PublishedUpstreams extends AbstractList<DivideUpstream> implements RandomAccess {
+
+    private final DivideUpstream[] upstreams;
+
+    private volatile HashRing hashRing;
+
+    private volatile SmoothWeightedRoundRobin roundRobin;
+
+    private volatile UpstreamStats[] stats;
+
+    PublishedUpstreams(final List<DivideUpstream> upstreamList) {
+        this.upstreams = upstreamList.toArray(new DivideUpstream[0]);
+    }
+
+    @Override
+    public DivideUpstream get(final int index) {
+        return upstreams[index];
+    }
+
+    @Override
+    public int size() {
+        return upstreams.length;
+    }
+
+    /**
+     * Obtain the hash ring of the list.
+     *
+     * @param virtualNodes the virtual node count of every upstream
+     * @return the hash ring
+     */
+    HashRing hashRing(final int virtualNodes) {
+        HashRing ring = hashRing;
+        if (Objects.isNull(ring)) {
+            // a racing build is an equal ring, so any of them may win
+            ring = HashRing.build(this, virtualNodes);
+            hashRing = ring;
+        }
+        return ring;
+    }
+
+    /**
+     * Obtain the round robin state of the list, built once so every selection shares the current weights.
+     *
+     * @param weigher resolves the current weight of an upstream
+     * @return the round robin state
+     */
+    SmoothWeightedRoundRobin roundRobin(final ToIntFunction<DivideUpstream> weigher) {
+        SmoothWeightedRoundRobin state = roundRobin;
+        if (Objects.isNull(state)) {
+            synchronized (this) {
+                state = roundRobin;
+                if (Objects.isNull(state)) {
+                    state = SmoothWeightedRoundRobin.build(this, weigher);
+                    roundRobin = state;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Obtain the stats of every upstream of the list, in list order.
+     *
+     * @param resolver resolves the stats of an upstream url
+     * @return the upstream stats
+     */
+    UpstreamStats[] stats(final Function<String, UpstreamStats> resolver) {
+        UpstreamStats[] resolved = stats;
+        if (Objects.isNull(resolved)) {
+            resolved = new UpstreamStats[upstreams.length];
+            for (int i = 0; i < upstreams.length; i++) {
+                resolved[i] = resolver.apply(upstreams[i].getUpstreamUrl());
+            }
+            stats = resolved;
+        }
+        return resolved;
+    }
+}
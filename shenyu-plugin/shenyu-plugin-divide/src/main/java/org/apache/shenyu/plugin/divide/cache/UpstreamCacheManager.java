@@ -17,21 +17,31 @@
 
 package org.apache.shenyu.plugin.divide.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
 import org.apache.shenyu.common.dto.convert.rule.impl.DivideRuleHandle;
 import org.apache.shenyu.common.utils.GsonUtils;
-import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.plugin.base.cache.BaseHandleCache;
+import org.apache.shenyu.plugin.divide.balance.HashRing;
+import org.apache.shenyu.plugin.divide.balance.LoadBalance;
+import org.apache.shenyu.plugin.divide.balance.SmoothWeightedRoundRobin;
+import org.apache.shenyu.plugin.divide.balance.UpstreamStats;
+import org.apache.shenyu.plugin.divide.balance.utils.LoadBalanceUtils;
+import org.apache.shenyu.plugin.divide.health.UpstreamCheckConfig;
+import org.apache.shenyu.plugin.divide.health.UpstreamHealthChecker;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 /**
  * this is divide  http url upstream.
@@ -44,16 +54,47 @@ public final class UpstreamCacheManager extends BaseHandleCache<String, DivideRu
     private static final Map<String, List<DivideUpstream>> UPSTREAM_MAP = Maps.newConcurrentMap();
 
     private static final Map<String, List<DivideUpstream>> UPSTREAM_MAP_TEMP = Maps.newConcurrentMap();
-    
+
+    private static final int HASH_VIRTUAL_NODES = Integer.parseInt(System.getProperty("shenyu.upstream.hash.virtualNodes", "5"));
+
+    /**
+     * upstream list not published by this manager -> hash ring, keys are compared by identity and released with the list.
+     */
+    private static final Cache<List<DivideUpstream>, HashRing> HASH_RING_CACHE = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * upstream list not published by this manager -> smooth weighted round robin state.
+     */
+    private static final Cache<List<DivideUpstream>, SmoothWeightedRoundRobin> ROUND_ROBIN_CACHE = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * upstreamUrl -> stats, shared by every selector routing to the upstream.
+     */
+    private static final Map<String, UpstreamStats> UPSTREAM_STATS_MAP = Maps.newConcurrentMap();
+
+    /**
+     * upstream list not published by this manager -> stats of its upstreams, in list order.
+     */
+    private static final Cache<List<DivideUpstream>, UpstreamStats[]> UPSTREAM_STATS_CACHE = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * selectorId.ruleName -> load balance bound from the rule handle.
+     */
+    private static final Map<String, LoadBalance> LOAD_BALANCE_MAP = Maps.newConcurrentMap();
+
+    private final UpstreamHealthChecker healthChecker;
+
     /**
-     * suggest shenyu.upstream.scheduledTime set 1 SECONDS.
+     * shenyu.upstream.scheduledTime is the probe interval of every upstream, in seconds.
      */
     private UpstreamCacheManager() {
-        boolean check = Boolean.parseBoolean(System.getProperty("shenyu.upstream.check", "false"));
-        if (check) {
-            new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("scheduled-upstream-task", false))
-                    .scheduleWithFixedDelay(this::scheduled,
-                            30, Integer.parseInt(System.getProperty("shenyu.upstream.scheduledTime", "30")), TimeUnit.SECONDS);
+        UpstreamCheckConfig config = UpstreamCheckConfig.fromSystemProperties();
+        if (config.isEnabled() || config.isPassive()) {
+            // the statics are initialized after the instance, so they are only read lazily
+            healthChecker = new UpstreamHealthChecker(config, url -> UPSTREAM_STATS_MAP.get(url), this::scheduled);
+            healthChecker.start();
+        } else {
+            healthChecker = null;
         }
     }
 
@@ -66,6 +107,35 @@ public final class UpstreamCacheManager extends BaseHandleCache<String, DivideRu
         return INSTANCE;
     }
 
+    @Override
+    public void cachedHandle(final String key, final DivideRuleHandle value) {
+        super.cachedHandle(key, value);
+        Optional.ofNullable(key).ifPresent(k -> {
+            Optional<LoadBalance> loadBalance = Optional.ofNullable(value).flatMap(handle -> LoadBalanceUtils.bind(handle.getLoadBalance()));
+            if (loadBalance.isPresent()) {
+                LOAD_BALANCE_MAP.put(k, loadBalance.get());
+            } else {
+                LOAD_BALANCE_MAP.remove(k);
+            }
+        });
+    }
+
+    @Override
+    public void removeHandle(final String key) {
+        super.removeHandle(key);
+        Optional.ofNullable(key).ifPresent(LOAD_BALANCE_MAP::remove);
+    }
+
+    /**
+     * Obtain the load balance bound with the rule handle.
+     *
+     * @param key the rule handle key
+     * @return the load balance, null when the rule has no registered algorithm
+     */
+    public LoadBalance obtainLoadBalance(final String key) {
+        return LOAD_BALANCE_MAP.get(key);
+    }
+
     /**
      * Find upstream list by selector id list.
      *
@@ -76,6 +146,75 @@ public final class UpstreamCacheManager extends BaseHandleCache<String, DivideRu
         return UPSTREAM_MAP_TEMP.get(selectorId);
     }
 
+    /**
+     * Obtain the hash ring of the upstream list, it is built once per list and kept by the published list itself.
+     *
+     * @param upstreamList the upstream list
+     * @return the hash ring
+     */
+    public HashRing obtainHashRing(final List<DivideUpstream> upstreamList) {
+        if (upstreamList instanceof PublishedUpstreams) {
+            return ((PublishedUpstreams) upstreamList).hashRing(HASH_VIRTUAL_NODES);
+        }
+        HashRing hashRing = HASH_RING_CACHE.getIfPresent(upstreamList);
+        if (Objects.isNull(hashRing)) {
+            hashRing = HashRing.build(upstreamList, HASH_VIRTUAL_NODES);
+            HASH_RING_CACHE.put(upstreamList, hashRing);
+        }
+        return hashRing;
+    }
+
+    /**
+     * Obtain the round robin state of the upstream list, it is built once per list and kept by the published list itself.
+     *
+     * @param upstreamList the upstream list
+     * @param weigher      resolves the current weight of an upstream
+     * @return the round robin state
+     */
+    public SmoothWeightedRoundRobin obtainRoundRobin(final List<DivideUpstream> upstreamList, final ToIntFunction<DivideUpstream> weigher) {
+        if (upstreamList instanceof PublishedUpstreams) {
+            return ((PublishedUpstreams) upstreamList).roundRobin(weigher);
+        }
+        SmoothWeightedRoundRobin roundRobin = ROUND_ROBIN_CACHE.getIfPresent(upstreamList);
+        if (Objects.isNull(roundRobin)) {
+            roundRobin = SmoothWeightedRoundRobin.build(upstreamList, weigher);
+            ROUND_ROBIN_CACHE.put(upstreamList, roundRobin);
+        }
+        return roundRobin;
+    }
+
+    /**
+     * Obtain the stats of the upstream.
+     *
+     * @param upstreamUrl the upstream url
+     * @return the upstream stats
+     */
+    public UpstreamStats obtainUpstreamStats(final String upstreamUrl) {
+        UpstreamStats stats = UPSTREAM_STATS_MAP.get(upstreamUrl);
+        if (Objects.isNull(stats)) {
+            stats = UPSTREAM_STATS_MAP.computeIfAbsent(upstreamUrl, url -> new UpstreamStats());
+        }
+        return stats;
+    }
+
+    /**
+     * Obtain the stats of every upstream of the list, in list order, resolved once per list and kept by the published list itself.
+     *
+     * @param upstreamList the upstream list
+     * @return the upstream stats
+     */
+    public UpstreamStats[] obtainUpstreamStats(final List<DivideUpstream> upstreamList) {
+        if (upstreamList instanceof PublishedUpstreams) {
+            return ((PublishedUpstreams) upstreamList).stats(this::obtainUpstreamStats);
+        }
+        UpstreamStats[] stats = UPSTREAM_STATS_CACHE.getIfPresent(upstreamList);
+        if (Objects.isNull(stats)) {
+            stats = upstreamList.stream().map(upstream -> obtainUpstreamStats(upstream.getUpstreamUrl())).toArray(UpstreamStats[]::new);
+            UPSTREAM_STATS_CACHE.put(upstreamList, stats);
+        }
+        return stats;
+    }
+
     /**
      * Remove by key.
      *
@@ -94,30 +233,52 @@ public final class UpstreamCacheManager extends BaseHandleCache<String, DivideRu
         final List<DivideUpstream> upstreamList = GsonUtils.getInstance().fromList(selectorData.getHandle(), DivideUpstream.class);
         if (null != upstreamList && upstreamList.size() > 0) {
             UPSTREAM_MAP.put(selectorData.getId(), upstreamList);
-            UPSTREAM_MAP_TEMP.put(selectorData.getId(), upstreamList);
+            watch();
+            publish(selectorData.getId(), Objects.isNull(healthChecker) ? upstreamList : check(upstreamList));
         } else {
             UPSTREAM_MAP.remove(selectorData.getId());
+            watch();
             UPSTREAM_MAP_TEMP.remove(selectorData.getId());
         }
     }
 
+    private void watch() {
+        Set<String> liveUrls = UPSTREAM_MAP.values().stream().flatMap(List::stream).map(DivideUpstream::getUpstreamUrl).collect(Collectors.toSet());
+        UPSTREAM_STATS_MAP.keySet().retainAll(liveUrls);
+        Optional.ofNullable(healthChecker).ifPresent(checker -> checker.watch(liveUrls));
+    }
+
+    private void publish(final String selectorId, final List<DivideUpstream> result) {
+        if (result.size() > 0) {
+            // publish a new list only when the healthy upstreams changed, so the derived state is kept
+            if (!sameUpstreams(UPSTREAM_MAP_TEMP.get(selectorId), result)) {
+                UPSTREAM_MAP_TEMP.put(selectorId, new PublishedUpstreams(result));
+            }
+        } else {
+            UPSTREAM_MAP_TEMP.remove(selectorId);
+        }
+    }
+
     private void scheduled() {
-        if (UPSTREAM_MAP.size() > 0) {
-            UPSTREAM_MAP.forEach((k, v) -> {
-                List<DivideUpstream> result = check(v);
-                if (result.size() > 0) {
-                    UPSTREAM_MAP_TEMP.put(k, result);
-                } else {
-                    UPSTREAM_MAP_TEMP.remove(k);
-                }
-            });
+        UPSTREAM_MAP.forEach((k, v) -> publish(k, check(v)));
+    }
+
+    private boolean sameUpstreams(final List<DivideUpstream> current, final List<DivideUpstream> result) {
+        if (Objects.isNull(current) || current.size() != result.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) != result.get(i)) {
+                return false;
+            }
         }
+        return true;
     }
 
     private List<DivideUpstream> check(final List<DivideUpstream> upstreamList) {
         List<DivideUpstream> resultList = Lists.newArrayListWithCapacity(upstreamList.size());
         for (DivideUpstream divideUpstream : upstreamList) {
-            final boolean pass = UpstreamCheckUtils.checkUrl(divideUpstream.getUpstreamUrl());
+            final boolean pass = healthChecker.isHealthy(divideUpstream.getUpstreamUrl());
             if (pass) {
                 if (!divideUpstream.isStatus()) {
                     divideUpstream.setTimestamp(System.currentTimeMillis());
@@ -125,7 +286,7 @@ public final class UpstreamCacheManager extends BaseHandleCache<String, DivideRu
                     log.info("UpstreamCacheManager detect success the url: {}, host: {} ", divideUpstream.getUpstreamUrl(), divideUpstream.getUpstreamHost());
                 }
                 resultList.add(divideUpstream);
-            } else {
+            } else if (divideUpstream.isStatus()) {
                 divideUpstream.setStatus(false);
                 log.error("check the url={} is fail ", divideUpstream.getUpstreamUrl());
             }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.health;
+
+import lombok.Data;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The upstream check config, read from the {@code shenyu.upstream.*} system properties.
+ */
+@Data
+public class UpstreamCheckConfig {
+
+    /**
+     * whether the active check is enabled.
+     */
+    private boolean enabled;
+
+    /**
+     * interval between two probes of one upstream, in millis.
+     */
+    private long interval = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * the probe interval is spread by up to this ratio either way.
+     */
+    private double jitter = 0.1D;
+
+    /**
+     * connect timeout of a probe, in millis.
+     */
+    private int timeout = 3000;
+
+    /**
+     * max probes in flight.
+     */
+    private int concurrency = 16;
+
+    /**
+     * consecutive successes bringing an unhealthy upstream back.
+     */
+    private int healthyThreshold = 2;
+
+    /**
+     * consecutive failures taking a healthy upstream out.
+     */
+    private int unhealthyThreshold = 1;
+
+    /**
+     * whether upstreams are ejected by the error rate of the proxied calls.
+     */
+    private boolean passive;
+
+    /**
+     * error rate ejecting an upstream.
+     */
+    private double errorRate = 0.5D;
+
+    /**
+     * min completed calls in a window before the error rate counts.
+     */
+    private int minRequests = 20;
+
+    /**
+     * error rate window, in millis.
+     */
+    private long window = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * Read the config from the system properties.
+     *
+     * @return the upstream check config
+     */
+    public static UpstreamCheckConfig fromSystemProperties() {
+        UpstreamCheckConfig config = new UpstreamCheckConfig();
+        config.setEnabled(Boolean.parseBoolean(System.getProperty("shenyu.upstream.check", "false")));
+        config.setInterval(TimeUnit.SECONDS.toMillis(Integer.parseInt(System.getProperty("shenyu.upstream.scheduledTime", "30"))));
+        config.setJitter(Double.parseDouble(System.getProperty("shenyu.upstream.check.jitter", "0.1")));
+        config.setTimeout(Integer.parseInt(System.getProperty("shenyu.upstream.check.timeout", "3000")));
+        config.setConcurrency(Integer.parseInt(System.getProperty("shenyu.upstream.check.concurrency", "16")));
+        config.setHealthyThreshold(Integer.parseInt(System.getProperty("shenyu.upstream.check.healthyThreshold", "2")));
+        config.setUnhealthyThreshold(Integer.parseInt(System.getProperty("shenyu.upstream.check.unhealthyThreshold", "1")));
+        config.setPassive(Boolean.parseBoolean(System.getProperty("shenyu.upstream.passive", "false")));
+        config.setErrorRate(Double.parseDouble(System.getProperty("shenyu.upstream.passive.errorRate", "0.5")));
+        config.setMinRequests(Integer.parseInt(System.getProperty("shenyu.upstream.passive.minRequests", "20")));
+        config.setWindow(TimeUnit.SECONDS.toMillis(Integer.parseInt(System.getProperty("shenyu.upstream.passive.window", "10"))));
+        return config;
+    }
+}
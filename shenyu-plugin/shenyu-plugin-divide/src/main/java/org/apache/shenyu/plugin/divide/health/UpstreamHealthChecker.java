@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.health;
+
+import com.google.common.collect.Maps;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.plugin.divide.balance.UpstreamStats;
+import reactor.core.publisher.Mono;
+import reactor.netty.tcp.TcpClient;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Checks the upstreams with non-blocking probes and keeps their health with hysteresis.
+ *
+ * <p>Every upstream is probed on its own jittered schedule, a single thread only starts the due
+ * probes and at most {@code concurrency} of them are in flight. An upstream turns unhealthy after
+ * {@code unhealthyThreshold} consecutive failures and healthy again after {@code healthyThreshold}
+ * consecutive successes. With passive checking, an upstream whose proxied calls fail at the
+ * configured error rate is ejected at once and comes back through the probes. When only passive
+ * checking is enabled, just the ejected upstreams are probed.
+ */
+@Slf4j
+public final class UpstreamHealthChecker {
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private final UpstreamCheckConfig config;
+
+    private final Function<String, Mono<Boolean>> probe;
+
+    private final Function<String, UpstreamStats> statsLookup;
+
+    private final Runnable onChange;
+
+    private final Map<String, UpstreamHealth> healthMap = Maps.newConcurrentMap();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Instantiates a new Upstream health checker probing with tcp connects.
+     *
+     * @param config      the config
+     * @param statsLookup finds the stats of an upstream url, may return null
+     * @param onChange    called when the health of some upstream changed
+     */
+    public UpstreamHealthChecker(final UpstreamCheckConfig config, final Function<String, UpstreamStats> statsLookup, final Runnable onChange) {
+        this(config, url -> connect(url, config.getTimeout()), statsLookup, onChange);
+    }
+
+    UpstreamHealthChecker(final UpstreamCheckConfig config, final Function<String, Mono<Boolean>> probe,
+                          final Function<String, UpstreamStats> statsLookup, final Runnable onChange) {
+        this.config = config;
+        this.probe = probe;
+        this.statsLookup = statsLookup;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Start checking.
+     */
+    public void start() {
+        executor = new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("scheduled-upstream-task", false));
+        executor.scheduleWithFixedDelay(() -> tick(System.currentTimeMillis()), TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check exactly the upstream urls, new ones start healthy.
+     *
+     * @param upstreamUrls the upstream urls
+     */
+    public void watch(final Collection<String> upstreamUrls) {
+        long now = System.currentTimeMillis();
+        healthMap.keySet().retainAll(upstreamUrls);
+        upstreamUrls.forEach(url -> healthMap.computeIfAbsent(url, u -> new UpstreamHealth(u, now + (long) (ThreadLocalRandom.current().nextDouble() * config.getInterval()))));
+    }
+
+    /**
+     * Whether the upstream is healthy, unknown upstreams are.
+     *
+     * @param upstreamUrl the upstream url
+     * @return the boolean
+     */
+    public boolean isHealthy(final String upstreamUrl) {
+        UpstreamHealth health = healthMap.get(upstreamUrl);
+        return Objects.isNull(health) || health.healthy;
+    }
+
+    void tick(final long now) {
+        boolean changed = false;
+        boolean saturated = false;
+        for (UpstreamHealth health : healthMap.values()) {
+            if (config.isPassive()) {
+                changed |= eject(health, now);
+            }
+            if (saturated || health.probing || now < health.nextCheck || !config.isEnabled() && health.healthy) {
+                continue;
+            }
+            if (inFlight.incrementAndGet() > config.getConcurrency()) {
+                inFlight.decrementAndGet();
+                saturated = true;
+                continue;
+            }
+            health.probing = true;
+            // deferred so that a probe failing before it returns a mono, such as on a malformed url, counts as a failed probe
+            Mono.defer(() -> probe.apply(health.url))
+                    .timeout(Duration.ofMillis(config.getTimeout() * 2L))
+                    .onErrorReturn(false)
+                    .defaultIfEmpty(false)
+                    .doFinally(signal -> inFlight.decrementAndGet())
+                    .subscribe(success -> complete(health, success));
+        }
+        if (changed) {
+            onChange.run();
+        }
+    }
+
+    private void complete(final UpstreamHealth health, final boolean success) {
+        boolean changed;
+        synchronized (health) {
+            health.probing = false;
+            health.nextCheck = nextCheck(System.currentTimeMillis());
+            changed = health.record(success, config);
+        }
+        if (changed) {
+            if (health.healthy) {
+                log.info("UpstreamHealthChecker detect success the url: {}", health.url);
+            } else {
+                log.error("check the url={} is fail ", health.url);
+            }
+            notifyChange();
+        }
+    }
+
+    private boolean eject(final UpstreamHealth health, final long now) {
+        if (now - health.windowStart < config.getWindow()) {
+            return false;
+        }
+        health.windowStart = now;
+        UpstreamStats stats = statsLookup.apply(health.url);
+        if (Objects.isNull(stats)) {
+            return false;
+        }
+        long[] counts = stats.drainCounts();
+        if (!health.healthy || counts[0] < config.getMinRequests() || counts[1] < counts[0] * config.getErrorRate()) {
+            return false;
+        }
+        synchronized (health) {
+            health.healthy = false;
+            health.successes = 0;
+            health.failures = 0;
+            if (!health.probing) {
+                health.nextCheck = nextCheck(now);
+            }
+        }
+        log.error("eject the url={}, {} of {} calls failed", health.url, counts[1], counts[0]);
+        return true;
+    }
+
+    private long nextCheck(final long now) {
+        double spread = config.getJitter() * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return now + (long) (config.getInterval() * (1 + spread));
+    }
+
+    private void notifyChange() {
+        if (Objects.isNull(executor)) {
+            onChange.run();
+        } else {
+            executor.execute(onChange);
+        }
+    }
+
+    private static Mono<Boolean> connect(final String upstreamUrl, final int timeout) {
+        String hostPort = upstreamUrl.trim();
+        int scheme = hostPort.indexOf("://");
+        boolean https = scheme > 0 && hostPort.startsWith("https");
+        if (scheme >= 0) {
+            hostPort = hostPort.substring(scheme + 3);
+        }
+        int slash = hostPort.indexOf('/');
+        if (slash >= 0) {
+            hostPort = hostPort.substring(0, slash);
+        }
+        int colon = hostPort.lastIndexOf(':');
+        String host = colon > 0 ? hostPort.substring(0, colon) : hostPort;
+        int port = colon > 0 ? Integer.parseInt(hostPort.substring(colon + 1)) : https ? 443 : 80;
+        return TcpClient.newConnection()
+                .host(host)
+                .port(port)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
+                .connect()
+                .map(connection -> {
+                    connection.dispose();
+                    return true;
+                });
+    }
+
+    private static final class UpstreamHealth {
+
+        private final String url;
+
+        private volatile boolean healthy = true;
+
+        private volatile boolean probing;
+
+        private volatile long nextCheck;
+
+        private long windowStart;
+
+        private int successes;
+
+        private int failures;
+
+        UpstreamHealth(final String url, final long nextCheck) {
+            this.url = url;
+            this.nextCheck = nextCheck;
+        }
+
+        boolean record(final boolean success, final UpstreamCheckConfig config) {
+            if (success) {
+                failures = 0;
+                if (!healthy && ++successes >= config.getHealthyThreshold()) {
+                    healthy = true;
+                    return true;
+                }
+            } else {
+                successes = 0;
+                if (healthy && ++failures >= config.getUnhealthyThreshold()) {
+                    healthy = false;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
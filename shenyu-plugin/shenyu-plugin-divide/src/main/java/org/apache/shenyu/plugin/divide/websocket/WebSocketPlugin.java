@@ -33,6 +33,8 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.divide.balance.LoadBalance;
 import org.apache.shenyu.plugin.divide.balance.utils.LoadBalanceUtils;
 import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
 import org.springframework.http.HttpHeaders;
@@ -85,9 +87,15 @@ public class WebSocketPlugin extends AbstractShenyuPlugin {
             log.error("divide upstream configuration error：{}", rule.toString());
             return chain.execute(exchange);
         }
-        final DivideRuleHandle ruleHandle = GsonUtils.getInstance().fromJson(rule.getHandle(), DivideRuleHandle.class);
         final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
-        DivideUpstream divideUpstream = LoadBalanceUtils.selector(upstreamList, ruleHandle.getLoadBalance(), ip);
+        final LoadBalance loadBalance = UpstreamCacheManager.getInstance().obtainLoadBalance(CacheKeyUtils.INST.getKey(rule));
+        DivideUpstream divideUpstream;
+        if (Objects.nonNull(loadBalance)) {
+            divideUpstream = LoadBalanceUtils.selector(upstreamList, loadBalance, ip);
+        } else {
+            final DivideRuleHandle ruleHandle = GsonUtils.getInstance().fromJson(rule.getHandle(), DivideRuleHandle.class);
+            divideUpstream = LoadBalanceUtils.selector(upstreamList, ruleHandle.getLoadBalance(), ip);
+        }
         if (Objects.isNull(divideUpstream)) {
             log.error("websocket has no upstream");
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.CANNOT_FIND_URL.getCode(), ShenyuResultEnum.CANNOT_FIND_URL.getMsg(), null);
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance.spi;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares building the MD5 skip list ring per request with the cached hash ring.
+ * Run with {@code main} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashLoadBalanceBenchmark {
+
+    private static final int VIRTUAL_NODE_NUM = 5;
+
+    @Param({"3", "20"})
+    private int upstreamSize;
+
+    private List<DivideUpstream> upstreamList;
+
+    private final HashLoadBalance hashLoadBalance = new HashLoadBalance();
+
+    /**
+     * Build the upstream list.
+     */
+    @Setup
+    public void setUp() {
+        upstreamList = IntStream.range(0, upstreamSize)
+                .mapToObj(i -> DivideUpstream.builder().upstreamUrl("10.0.0." + i + ":8080").build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The ring built per request, as before.
+     *
+     * @return the upstream
+     * @throws NoSuchAlgorithmException the no such algorithm exception
+     */
+    @Benchmark
+    public DivideUpstream ringPerRequest() throws NoSuchAlgorithmException {
+        final ConcurrentSkipListMap<Long, DivideUpstream> treeMap = new ConcurrentSkipListMap<>();
+        for (DivideUpstream address : upstreamList) {
+            for (int i = 0; i < VIRTUAL_NODE_NUM; i++) {
+                treeMap.put(md5Hash("SOUL-" + address.getUpstreamUrl() + "-HASH-" + i), address);
+            }
+        }
+        SortedMap<Long, DivideUpstream> lastRing = treeMap.tailMap(md5Hash("192.168.1.20"));
+        if (!lastRing.isEmpty()) {
+            return lastRing.get(lastRing.firstKey());
+        }
+        return treeMap.firstEntry().getValue();
+    }
+
+    /**
+     * The cached ring.
+     *
+     * @return the upstream
+     */
+    @Benchmark
+    public DivideUpstream cachedRing() {
+        return hashLoadBalance.select(upstreamList, "192.168.1.20");
+    }
+
+    private static long md5Hash(final String key) throws NoSuchAlgorithmException {
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        byte[] digest = md5.digest(key.getBytes(StandardCharsets.UTF_8));
+        long hashCode = (long) (digest[3] & 0xFF) << 24
+                | ((long) (digest[2] & 0xFF) << 16)
+                | ((long) (digest[1] & 0xFF) << 8)
+                | (digest[0] & 0xFF);
+        return hashCode & 0xffffffffL;
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HashLoadBalanceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
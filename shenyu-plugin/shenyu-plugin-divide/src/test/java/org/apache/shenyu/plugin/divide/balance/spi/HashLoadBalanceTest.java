@@ -18,11 +18,12 @@
 package org.apache.shenyu.plugin.divide.balance.spi;
 
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.divide.balance.HashRing;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.SortedMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -34,8 +35,6 @@ import java.util.stream.Stream;
  */
 public final class HashLoadBalanceTest {
 
-    private Method hash;
-
     private List<DivideUpstream> hashLoadBalancesOrdered;
 
     private List<DivideUpstream> hashLoadBalancesDisordered;
@@ -49,9 +48,7 @@ public final class HashLoadBalanceTest {
     private ConcurrentSkipListMap<Long, DivideUpstream> treeMapReversed;
 
     @Before
-    public void setUp() throws Exception {
-        this.hash = HashLoadBalance.class.getDeclaredMethod("hash", String.class);
-        this.hash.setAccessible(true);
+    public void setUp() {
         this.hashLoadBalancesOrdered = Stream.of(1, 2, 3)
                 .map(weight -> DivideUpstream.builder()
                         .upstreamUrl("divide-upstream-" + weight)
@@ -73,22 +70,19 @@ public final class HashLoadBalanceTest {
         for (DivideUpstream address : hashLoadBalancesOrdered) {
             for (int i = 0; i < 5; i++) {
                 String hashKey = "SOUL-" + address.getUpstreamUrl() + "-HASH-" + i;
-                Object o = hash.invoke(null, hashKey);
-                treeMapOrdered.put(Long.parseLong(o.toString()), address);
+                treeMapOrdered.put(HashRing.hash(hashKey), address);
             }
         }
         for (DivideUpstream address : hashLoadBalancesReversed) {
             for (int i = 0; i < 5; i++) {
                 String hashKey = "SOUL-" + address.getUpstreamUrl() + "-HASH-" + i;
-                Object o = hash.invoke(null, hashKey);
-                treeMapReversed.put(Long.parseLong(o.toString()), address);
+                treeMapReversed.put(HashRing.hash(hashKey), address);
             }
         }
         for (DivideUpstream address : hashLoadBalancesDisordered) {
             for (int i = 0; i < 5; i++) {
                 String hashKey = "SOUL-" + address.getUpstreamUrl() + "-HASH-" + i;
-                Object o = hash.invoke(null, hashKey);
-                treeMapDisordered.put(Long.parseLong(o.toString()), address);
+                treeMapDisordered.put(HashRing.hash(hashKey), address);
             }
         }
     }
@@ -97,38 +91,45 @@ public final class HashLoadBalanceTest {
      * Hash load balance test.
      */
     @Test
-    public void hashLoadBalanceOrderedWeightTest() throws Exception {
+    public void hashLoadBalanceOrderedWeightTest() {
         final String ip = "127.0.0.1";
         final HashLoadBalance hashLoadBalance = new HashLoadBalance();
         final DivideUpstream divideUpstream = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
-        final Long hashKey = Long.parseLong(hash.invoke(null, ip).toString());
+        final Long hashKey = HashRing.hash(ip);
         final SortedMap<Long, DivideUpstream> lastRing = treeMapOrdered.tailMap(hashKey);
-        final DivideUpstream assertUp = lastRing.get(lastRing.firstKey());
+        final DivideUpstream assertUp = lastRing.isEmpty() ? treeMapOrdered.firstEntry().getValue() : lastRing.get(lastRing.firstKey());
         Assert.assertEquals(assertUp.getUpstreamUrl(), divideUpstream.getUpstreamUrl());
 
     }
 
     @Test
-    public void hashLoadBalanceDisorderedWeightTest() throws Exception {
+    public void hashLoadBalanceDisorderedWeightTest() {
         final String ip = "127.0.0.1";
         final HashLoadBalance hashLoadBalance = new HashLoadBalance();
         final DivideUpstream divideUpstream = hashLoadBalance.select(hashLoadBalancesDisordered, ip);
-        final Long hashKey = Long.parseLong(hash.invoke(null, ip).toString());
+        final Long hashKey = HashRing.hash(ip);
         final SortedMap<Long, DivideUpstream> lastRing = treeMapDisordered.tailMap(hashKey);
-        final DivideUpstream assertUp = lastRing.get(lastRing.firstKey());
+        final DivideUpstream assertUp = lastRing.isEmpty() ? treeMapDisordered.firstEntry().getValue() : lastRing.get(lastRing.firstKey());
         Assert.assertEquals(assertUp.getUpstreamUrl(), divideUpstream.getUpstreamUrl());
 
     }
 
     @Test
-    public void hashLoadBalanceReversedWeightTest() throws Exception {
+    public void hashLoadBalanceReversedWeightTest() {
         final String ip = "127.0.0.1";
         final HashLoadBalance hashLoadBalance = new HashLoadBalance();
         final DivideUpstream divideUpstream = hashLoadBalance.select(hashLoadBalancesReversed, ip);
-        final Long hashKey = Long.parseLong(hash.invoke(null, ip).toString());
+        final Long hashKey = HashRing.hash(ip);
         final SortedMap<Long, DivideUpstream> lastRing = treeMapReversed.tailMap(hashKey);
-        final DivideUpstream assertUp = lastRing.get(lastRing.firstKey());
+        final DivideUpstream assertUp = lastRing.isEmpty() ? treeMapReversed.firstEntry().getValue() : lastRing.get(lastRing.firstKey());
         Assert.assertEquals(assertUp.getUpstreamUrl(), divideUpstream.getUpstreamUrl());
 
     }
+
+    @Test
+    public void hashRingCachedPerListTest() {
+        final HashRing hashRing = UpstreamCacheManager.getInstance().obtainHashRing(hashLoadBalancesOrdered);
+        Assert.assertSame(hashRing, UpstreamCacheManager.getInstance().obtainHashRing(hashLoadBalancesOrdered));
+        Assert.assertNotSame(hashRing, UpstreamCacheManager.getInstance().obtainHashRing(hashLoadBalancesDisordered));
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance.spi;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.api.UpstreamCallback;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The type least active balance test.
+ */
+public class LeastActiveLoadBalanceTest {
+
+    private List<DivideUpstream> upstreamList;
+
+    @Before
+    public void setUp() {
+        this.upstreamList = Stream.of(10, 50, 40)
+                .map(weight -> DivideUpstream.builder()
+                        .upstreamUrl("least-active-upstream-" + weight)
+                        .status(true)
+                        .weight(weight)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void leastActiveLoadBalanceTest() {
+        final LeastActiveLoadBalance leastActiveLoadBalance = new LeastActiveLoadBalance();
+        UpstreamCallback first = UpstreamCacheManager.getInstance().obtainUpstreamStats(upstreamList.get(0).getUpstreamUrl()).begin();
+        UpstreamCallback second = UpstreamCacheManager.getInstance().obtainUpstreamStats(upstreamList.get(1).getUpstreamUrl()).begin();
+        Assert.assertEquals(upstreamList.get(2), leastActiveLoadBalance.select(upstreamList, ""));
+        first.onComplete(true);
+        second.onComplete(true);
+        second.onComplete(true);
+        Assert.assertEquals(0, UpstreamCacheManager.getInstance().obtainUpstreamStats(upstreamList.get(1).getUpstreamUrl()).getActive());
+        Assert.assertNotNull(leastActiveLoadBalance.select(upstreamList, ""));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.balance.spi;
+
+import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The type p2c ewma balance test.
+ */
+public class P2cEwmaLoadBalanceTest {
+
+    @Test
+    public void p2cEwmaLoadBalanceTest() {
+        final List<DivideUpstream> upstreamList = Arrays.asList(
+                DivideUpstream.builder().upstreamUrl("p2c-upstream-busy").status(true).weight(50).build(),
+                DivideUpstream.builder().upstreamUrl("p2c-upstream-idle").status(true).weight(50).build());
+        UpstreamCacheManager.getInstance().obtainUpstreamStats(upstreamList.get(0).getUpstreamUrl()).begin();
+        final P2cEwmaLoadBalance p2cEwmaLoadBalance = new P2cEwmaLoadBalance();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(upstreamList.get(1), p2cEwmaLoadBalance.select(upstreamList, ""));
+        }
+    }
+}
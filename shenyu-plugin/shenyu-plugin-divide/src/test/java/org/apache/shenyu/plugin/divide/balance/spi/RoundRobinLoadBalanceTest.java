@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.divide.balance.spi;
 
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.plugin.divide.cache.UpstreamCacheManager;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -94,4 +95,24 @@ public final class RoundRobinLoadBalanceTest {
         }
         Assert.assertEquals(60, countMap.get("divide-upstream-50").intValue());
     }
+
+    @Test
+    public void roundRobinLoadBalanceSmoothTest() {
+        List<DivideUpstream> divideUpstreamList =
+                Stream.of("a", "b", "c")
+                        .map(name -> DivideUpstream.builder()
+                                .upstreamUrl(name)
+                                .weight("a".equals(name) ? 5 : 1)
+                                .build())
+                        .collect(Collectors.toList());
+
+        RoundRobinLoadBalance roundRobinLoadBalance = new RoundRobinLoadBalance();
+        StringBuilder sequence = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            sequence.append(roundRobinLoadBalance.select(divideUpstreamList, "").getUpstreamUrl());
+        }
+        Assert.assertEquals("aabacaa", sequence.toString());
+        Assert.assertSame(UpstreamCacheManager.getInstance().obtainRoundRobin(divideUpstreamList, upstream -> 0),
+                UpstreamCacheManager.getInstance().obtainRoundRobin(divideUpstreamList, upstream -> 0));
+    }
 }
@@ -19,7 +19,11 @@ package org.apache.shenyu.plugin.divide.cache;
 
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
+import org.apache.shenyu.common.dto.convert.rule.impl.DivideRuleHandle;
+import org.apache.shenyu.common.enums.LoadBalanceEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.divide.balance.SmoothWeightedRoundRobin;
+import org.apache.shenyu.plugin.divide.balance.spi.RandomLoadBalance;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -90,4 +94,40 @@ public final class UpstreamCacheManagerTest {
         List<DivideUpstream> result = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId("submit");
         Assert.assertEquals(GsonUtils.getGson().toJson(upstreams), GsonUtils.getGson().toJson(result));
     }
+
+    /**
+     * Published list holds the load balance state test.
+     */
+    @Test
+    public void publishedListHoldsBalanceStateTest() {
+        List<DivideUpstream> published = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId("mock");
+        SmoothWeightedRoundRobin roundRobin = UpstreamCacheManager.getInstance().obtainRoundRobin(published, upstream -> 1);
+        Assert.assertSame(roundRobin, UpstreamCacheManager.getInstance().obtainRoundRobin(published, upstream -> 1));
+        Assert.assertSame(UpstreamCacheManager.getInstance().obtainUpstreamStats(published), UpstreamCacheManager.getInstance().obtainUpstreamStats(published));
+        SelectorData selectorData = mock(SelectorData.class);
+        when(selectorData.getId()).thenReturn("mock");
+        when(selectorData.getHandle()).thenReturn(GsonUtils.getGson().toJson(loadBalances));
+        UpstreamCacheManager.getInstance().submit(selectorData);
+        List<DivideUpstream> republished = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId("mock");
+        Assert.assertNotSame(published, republished);
+        Assert.assertNotSame(roundRobin, UpstreamCacheManager.getInstance().obtainRoundRobin(republished, upstream -> 1));
+    }
+
+    /**
+     * Cached handle binds the load balance test.
+     */
+    @Test
+    public void cachedHandleBindsLoadBalanceTest() {
+        DivideRuleHandle divideRuleHandle = new DivideRuleHandle();
+        divideRuleHandle.setLoadBalance(LoadBalanceEnum.RANDOM.getName());
+        UpstreamCacheManager.getInstance().cachedHandle("bind", divideRuleHandle);
+        Assert.assertTrue(UpstreamCacheManager.getInstance().obtainLoadBalance("bind") instanceof RandomLoadBalance);
+        divideRuleHandle.setLoadBalance("unknown");
+        UpstreamCacheManager.getInstance().cachedHandle("bind", divideRuleHandle);
+        Assert.assertNull(UpstreamCacheManager.getInstance().obtainLoadBalance("bind"));
+        divideRuleHandle.setLoadBalance(LoadBalanceEnum.RANDOM.getName());
+        UpstreamCacheManager.getInstance().cachedHandle("bind", divideRuleHandle);
+        UpstreamCacheManager.getInstance().removeHandle("bind");
+        Assert.assertNull(UpstreamCacheManager.getInstance().obtainLoadBalance("bind"));
+    }
 }
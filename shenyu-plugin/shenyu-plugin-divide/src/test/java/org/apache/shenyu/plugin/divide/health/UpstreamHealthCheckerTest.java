@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.health;
+
+import org.apache.shenyu.plugin.api.UpstreamCallback;
+import org.apache.shenyu.plugin.divide.balance.UpstreamStats;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The type upstream health checker test.
+ */
+public final class UpstreamHealthCheckerTest {
+
+    private static final String URL = "localhost:8080";
+
+    private final AtomicBoolean reachable = new AtomicBoolean(true);
+
+    private final AtomicInteger changes = new AtomicInteger();
+
+    private final UpstreamStats stats = new UpstreamStats();
+
+    private UpstreamCheckConfig config;
+
+    private UpstreamHealthChecker checker;
+
+    @Before
+    public void setUp() {
+        config = new UpstreamCheckConfig();
+        config.setEnabled(true);
+        config.setInterval(1000L);
+        config.setMinRequests(4);
+        config.setWindow(0L);
+        checker = new UpstreamHealthChecker(config, url -> Mono.just(reachable.get()), url -> stats, changes::incrementAndGet);
+        checker.watch(Collections.singleton(URL));
+    }
+
+    @Test
+    public void testHysteresis() {
+        config.setUnhealthyThreshold(2);
+        long now = System.currentTimeMillis();
+        reachable.set(false);
+        checker.tick(now += 2000L);
+        Assert.assertTrue(checker.isHealthy(URL));
+        checker.tick(now += 2000L);
+        Assert.assertFalse(checker.isHealthy(URL));
+        Assert.assertEquals(1, changes.get());
+        reachable.set(true);
+        checker.tick(now += 2000L);
+        Assert.assertFalse(checker.isHealthy(URL));
+        checker.tick(now + 2000L);
+        Assert.assertTrue(checker.isHealthy(URL));
+        Assert.assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void testUnhealthyAfterOneFailureByDefault() {
+        reachable.set(false);
+        checker.tick(System.currentTimeMillis() + 2000L);
+        Assert.assertFalse(checker.isHealthy(URL));
+        Assert.assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testPassiveEjection() {
+        config.setPassive(true);
+        for (int i = 0; i < 4; i++) {
+            UpstreamCallback callback = stats.begin();
+            callback.onComplete(i == 0);
+        }
+        checker.tick(System.currentTimeMillis());
+        Assert.assertFalse(checker.isHealthy(URL));
+        Assert.assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testProbeThrowingCountsAsFailure() {
+        checker = new UpstreamHealthChecker(config, url -> {
+            throw new NumberFormatException(url);
+        }, url -> stats, changes::incrementAndGet);
+        checker.watch(Collections.singleton("localhost:port"));
+        long now = System.currentTimeMillis();
+        checker.tick(now += 2000L);
+        checker.tick(now + 2000L);
+        Assert.assertFalse(checker.isHealthy("localhost:port"));
+        Assert.assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testConcurrencyLimitKeepsPassiveEjection() {
+        config.setPassive(true);
+        config.setConcurrency(1);
+        Map<String, UpstreamStats> statsMap = new HashMap<>();
+        statsMap.put(URL, stats);
+        statsMap.put("localhost:8081", new UpstreamStats());
+        statsMap.put("localhost:8082", new UpstreamStats());
+        for (int i = 0; i < 4; i++) {
+            statsMap.get("localhost:8081").begin().onComplete(false);
+            statsMap.get("localhost:8082").begin().onComplete(false);
+        }
+        checker = new UpstreamHealthChecker(config, url -> Mono.never(), statsMap::get, changes::incrementAndGet);
+        checker.watch(Arrays.asList(URL, "localhost:8081", "localhost:8082"));
+        checker.tick(System.currentTimeMillis() + 2000L);
+        Assert.assertFalse(checker.isHealthy("localhost:8081"));
+        Assert.assertFalse(checker.isHealthy("localhost:8082"));
+    }
+
+    @Test
+    public void testPassiveOnlyProbesEjectedUpstreams() {
+        config.setEnabled(false);
+        config.setPassive(true);
+        AtomicInteger probes = new AtomicInteger();
+        checker = new UpstreamHealthChecker(config, url -> {
+            probes.incrementAndGet();
+            return Mono.just(true);
+        }, url -> stats, changes::incrementAndGet);
+        checker.watch(Collections.singleton(URL));
+        long now = System.currentTimeMillis();
+        checker.tick(now += 2000L);
+        Assert.assertEquals(0, probes.get());
+        for (int i = 0; i < 4; i++) {
+            stats.begin().onComplete(false);
+        }
+        checker.tick(now += 2000L);
+        Assert.assertFalse(checker.isHealthy(URL));
+        checker.tick(now += 2000L);
+        checker.tick(now + 2000L);
+        Assert.assertEquals(2, probes.get());
+        Assert.assertTrue(checker.isHealthy(URL));
+    }
+
+    @Test
+    public void testWatch() {
+        checker.watch(Collections.emptySet());
+        reachable.set(false);
+        checker.tick(System.currentTimeMillis() + 2000L);
+        checker.tick(System.currentTimeMillis() + 4000L);
+        Assert.assertTrue(checker.isHealthy(URL));
+        Assert.assertEquals(0, changes.get());
+    }
+}
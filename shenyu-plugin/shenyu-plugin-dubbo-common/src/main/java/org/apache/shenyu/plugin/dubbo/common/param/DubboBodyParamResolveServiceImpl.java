@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.dubbo.common.param;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 
 /**
@@ -30,4 +31,9 @@ public class DubboBodyParamResolveServiceImpl implements BodyParamResolveService
     public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
         return BodyParamUtils.buildParameters(body, parameterTypes);
     }
+
+    @Override
+    public Pair<String[], Object[]> buildParameter(final String body, final InvocationDescriptor<?, ?> descriptor) {
+        return BodyParamUtils.buildParameters(body, descriptor);
+    }
 }
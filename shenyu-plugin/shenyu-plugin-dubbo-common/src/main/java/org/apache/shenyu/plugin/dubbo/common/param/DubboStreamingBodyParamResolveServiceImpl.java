@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.dubbo.common.param;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
+import org.apache.shenyu.plugin.api.utils.StreamingBodyParamUtils;
+
+/**
+ * The generic param resolve service reading the body once with a json token reader.
+ */
+public class DubboStreamingBodyParamResolveServiceImpl implements BodyParamResolveService {
+
+    @Override
+    public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
+        MetaData metaData = MetaData.builder().parameterTypes(parameterTypes).build();
+        return buildParameter(body, new InvocationDescriptor<>(metaData, null, null));
+    }
+
+    @Override
+    public Pair<String[], Object[]> buildParameter(final String body, final InvocationDescriptor<?, ?> descriptor) {
+        return StreamingBodyParamUtils.buildParameters(body, descriptor);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.dubbo.common.param;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the tree based body param resolving with the single-pass streaming binder on an order payload of about 100KB.
+ * Run with {@code main} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyParamBenchmark {
+
+    private static final String PARAMETER_TYPES = "org.apache.shenyu.examples.dubbo.api.entity.Order,java.lang.String,java.lang.Boolean";
+
+    private final DubboBodyParamResolveServiceImpl treeResolver = new DubboBodyParamResolveServiceImpl();
+
+    private final DubboStreamingBodyParamResolveServiceImpl streamingResolver = new DubboStreamingBodyParamResolveServiceImpl();
+
+    private InvocationDescriptor<Object, Object> descriptor;
+
+    private String body;
+
+    /**
+     * Build the payload and the descriptor.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("{\"sku\":\"SKU-").append(i).append("\",\"name\":\"item name ").append(i)
+                    .append("\",\"quantity\":").append(i % 7 + 1)
+                    .append(",\"price\":").append(i * 1.25D)
+                    .append(",\"tags\":[\"fresh\",\"promo\",\"warehouse-").append(i % 4).append("\"]")
+                    .append(",\"attributes\":{\"color\":\"red\",\"size\":\"M\",\"weight\":").append(i % 13).append("}}");
+        }
+        body = "{\"order\":{\"id\":9876543210,\"customer\":{\"id\":42,\"name\":\"shenyu\",\"address\":{\"city\":\"hangzhou\",\"zip\":\"310000\"}},"
+                + "\"items\":[" + items + "]},\"traceId\":\"a1b2c3d4\",\"dryRun\":false}";
+        MetaData metaData = new MetaData();
+        metaData.setParameterTypes(PARAMETER_TYPES);
+        descriptor = new InvocationDescriptor<>(metaData, null, null);
+    }
+
+    /**
+     * Gson tree resolving with the parameter types split per request.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Pair<String[], Object[]> treePerRequest() {
+        return treeResolver.buildParameter(body, PARAMETER_TYPES);
+    }
+
+    /**
+     * Gson tree resolving with the cached descriptor.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Pair<String[], Object[]> treeDescriptor() {
+        return BodyParamUtils.buildParameters(body, descriptor);
+    }
+
+    /**
+     * Single-pass streaming binding with the cached descriptor.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Pair<String[], Object[]> streamingDescriptor() {
+        return streamingResolver.buildParameter(body, descriptor);
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BodyParamBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shenyu.plugin.dubbo.common.param;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -76,5 +78,35 @@ public class DubboBodyParamResolveServiceTest {
         assertNull(idList1.get(0));
         assertNull(idList1.get(1));
     }
-}
 
+    @Test
+    public void testBuildParameterWithDescriptor() {
+        MetaData metaData = new MetaData();
+        metaData.setParameterTypes("{\"id\":\"java.lang.Integer\",\"name\":\"java.lang.String\"}");
+        InvocationDescriptor<Object, Object> descriptor = new InvocationDescriptor<>(metaData, null, null);
+        String body = "{\"name\":\"shenyu\",\"id\":1}";
+        Pair<String[], Object[]> pair = impl.buildParameter(body, descriptor);
+        assertThat(pair.getLeft(), is(new String[]{"java.lang.Integer", "java.lang.String"}));
+        assertThat(pair.getRight()[1], is("shenyu"));
+
+        metaData.setParameterTypes("org.apache.shenyu.web.rpc.DubboMultiParameterResolveServiceImplTest.Student");
+        descriptor = new InvocationDescriptor<>(metaData, null, null);
+        pair = impl.buildParameter("{\"id\":null,\"name\":null}", descriptor);
+        assertThat(pair.getLeft(), is(new String[]{"org.apache.shenyu.web.rpc.DubboMultiParameterResolveServiceImplTest.Student"}));
+        assertThat(pair.getRight().length, is(1));
+    }
+
+    @Test
+    public void testBuildSingleParameterWithDescriptorKeepsParameterTypes() {
+        String body = "{\"id\":1,\"name\":\"shenyu\"}";
+        String parameterTypes = "{\"student\":\"org.apache.shenyu.web.rpc.DubboMultiParameterResolveServiceImplTest.Student\"}";
+        MetaData metaData = new MetaData();
+        metaData.setParameterTypes(parameterTypes);
+        Pair<String[], Object[]> pair = impl.buildParameter(body, new InvocationDescriptor<>(metaData, null, null));
+        Pair<String[], Object[]> expected = impl.buildParameter(body, parameterTypes);
+        assertThat(pair.getLeft(), is(expected.getLeft()));
+        assertThat(pair.getLeft(), is(new String[]{parameterTypes}));
+        assertThat(pair.getRight(), is(expected.getRight()));
+        assertThat(((Map) pair.getRight()[0]).get("name"), is("shenyu"));
+    }
+}
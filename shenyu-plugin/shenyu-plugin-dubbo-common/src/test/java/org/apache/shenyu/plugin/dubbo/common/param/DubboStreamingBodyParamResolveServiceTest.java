@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.dubbo.common.param;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for DubboStreamingBodyParamResolveServiceImpl.
+ */
+public final class DubboStreamingBodyParamResolveServiceTest {
+
+    private final DubboStreamingBodyParamResolveServiceImpl impl = new DubboStreamingBodyParamResolveServiceImpl();
+
+    @Test
+    public void testBuildSingleParameter() {
+        String body = "{\"dubboTest\":{\"id\":null,\"name\":\"shenyu\"},\"idLists\":[1,2.5,null],\"idMaps\":{\"id1\":\"1\"}}";
+        Pair<String[], Object[]> pair = impl.buildParameter(body, descriptor("org.apache.shenyu.web.rpc.ComplexBean"));
+        assertThat(pair.getLeft(), is(new String[]{"org.apache.shenyu.web.rpc.ComplexBean"}));
+        assertThat(pair.getRight().length, is(1));
+        Map map = (Map) pair.getRight()[0];
+        Map dubboTest = (Map) map.get("dubboTest");
+        assertNull(dubboTest.get("id"));
+        assertThat(dubboTest.get("name"), is("shenyu"));
+        List idList = (List) map.get("idLists");
+        assertThat(idList.get(0), is(1L));
+        assertThat(idList.get(1), is(2.5D));
+        assertNull(idList.get(2));
+        assertThat(((Map) map.get("idMaps")).get("id1"), is("1"));
+    }
+
+    @Test
+    public void testBuildParametersInBodyOrder() {
+        String body = "{\"ids\":[\"123\",\"456\"],\"name\":\"hello world\",\"enabled\":true}";
+        Pair<String[], Object[]> pair = impl.buildParameter(body, "java.lang.Integer[],java.lang.String,java.lang.Boolean");
+        assertThat(pair.getLeft().length, is(3));
+        assertThat(pair.getRight().length, is(3));
+        assertThat(((List) pair.getRight()[0]).size(), is(2));
+        assertThat(pair.getRight()[1], is("hello world"));
+        assertThat(pair.getRight()[2], is(true));
+    }
+
+    @Test
+    public void testBuildParametersWithNameMapping() {
+        String body = "{\"unknown\":{\"a\":[1]},\"name\":null,\"complexBean\":{\"idLists\":[null]}}";
+        String parameterTypes = "{\"complexBean\":\"org.apache.shenyu.web.rpc.ComplexBean\",\"name\":\"java.lang.String\",\"id\":\"java.lang.Long\"}";
+        Pair<String[], Object[]> pair = impl.buildParameter(body, descriptor(parameterTypes));
+        assertThat(pair.getLeft(), is(new String[]{"org.apache.shenyu.web.rpc.ComplexBean", "java.lang.String", "java.lang.Long"}));
+        assertThat(pair.getRight().length, is(3));
+        assertNull(((List) ((Map) pair.getRight()[0]).get("idLists")).get(0));
+        assertNull(pair.getRight()[1]);
+        assertNull(pair.getRight()[2]);
+    }
+
+    @Test
+    public void testBuildSingleParameterKeepsParameterTypes() {
+        String parameterTypes = "{\"complexBean\":\"org.apache.shenyu.web.rpc.ComplexBean\"}";
+        Pair<String[], Object[]> pair = impl.buildParameter("{\"name\":\"shenyu\"}", descriptor(parameterTypes));
+        assertThat(pair.getLeft(), is(new String[]{parameterTypes}));
+        assertThat(((Map) pair.getRight()[0]).get("name"), is("shenyu"));
+    }
+
+    private static InvocationDescriptor<Object, Object> descriptor(final String parameterTypes) {
+        MetaData metaData = new MetaData();
+        metaData.setParameterTypes(parameterTypes);
+        return new InvocationDescriptor<>(metaData, null, null);
+    }
+}
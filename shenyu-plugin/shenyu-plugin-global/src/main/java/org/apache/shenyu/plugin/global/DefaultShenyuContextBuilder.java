@@ -76,6 +76,7 @@ public class DefaultShenyuContextBuilder implements ShenyuContextBuilder {
         shenyuContext.setSign(sign);
         shenyuContext.setTimestamp(timestamp);
         shenyuContext.setStartDateTime(LocalDateTime.now());
+        shenyuContext.setStartNanoTime(System.nanoTime());
         Optional.ofNullable(request.getMethod()).ifPresent(httpMethod -> shenyuContext.setHttpMethod(httpMethod.name()));
         return shenyuContext;
     }
@@ -17,8 +17,9 @@
 
 package org.apache.shenyu.plugin.grpc;
 
+import com.google.protobuf.Message;
 import io.grpc.CallOptions;
-import lombok.Data;
+import io.grpc.MethodDescriptor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
@@ -29,18 +30,20 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.grpc.cache.GrpcClientCache;
+import org.apache.shenyu.plugin.grpc.cache.GrpcInvocationCache;
 import org.apache.shenyu.plugin.grpc.client.ShenyuGrpcClient;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Objects;
@@ -77,9 +80,16 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.GRPC_CLIENT_NULL.getCode(), ShenyuResultEnum.GRPC_CLIENT_NULL.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        GrpcExtInfo extInfo = GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class);
-        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(extInfo.timeout, TimeUnit.MILLISECONDS);
-        CompletableFuture<ShenyuGrpcResponse> result = client.call(metaData, callOptions, param);
+        InvocationDescriptor<GrpcInvocationCache.GrpcExtInfo, MethodDescriptor<Message, Message>> descriptor = GrpcInvocationCache.obtain(metaData);
+        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(descriptor.getExtInfo().getTimeout(), TimeUnit.MILLISECONDS);
+        MethodDescriptor<Message, Message> methodDescriptor = descriptor.getReference();
+        if (!methodDescriptor.getType().serverSendsOneMessage()) {
+            Flux<String> stream = client.callStream(methodDescriptor, callOptions, param).onErrorMap(ShenyuException::new);
+            exchange.getAttributes().put(Constants.GRPC_RPC_RESULT, stream);
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+            return chain.execute(exchange);
+        }
+        CompletableFuture<ShenyuGrpcResponse> result = client.call(methodDescriptor, callOptions, param);
         return Mono.fromFuture(result.thenApply(ret -> {
             exchange.getAttributes().put(Constants.GRPC_RPC_RESULT, ret.getResult());
             exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
@@ -118,13 +128,4 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
     private boolean checkMetaData(final MetaData metaData) {
         return null != metaData && !StringUtils.isBlank(metaData.getMethodName()) && !StringUtils.isBlank(metaData.getServiceName());
     }
-
-    /**
-     * The GrpcExt.
-     */
-    @Data
-    static class GrpcExtInfo {
-
-        private Integer timeout = 5000;
-    }
 }
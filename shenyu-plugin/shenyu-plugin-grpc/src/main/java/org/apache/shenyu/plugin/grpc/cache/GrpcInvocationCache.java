@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.grpc.cache;
+
+import com.google.common.collect.Maps;
+import com.google.protobuf.Message;
+import io.grpc.MethodDescriptor;
+import lombok.Data;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.GrpcUtils;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The grpc invocation cache, path -> invocation descriptor, rebuilt when the meta data of the path changes.
+ */
+public final class GrpcInvocationCache {
+
+    private static final Map<String, InvocationDescriptor<GrpcExtInfo, MethodDescriptor<Message, Message>>> DESCRIPTORS = Maps.newConcurrentMap();
+
+    private GrpcInvocationCache() {
+    }
+
+    /**
+     * Obtain the invocation descriptor of the meta data.
+     *
+     * @param metaData metaData
+     * @return the invocation descriptor
+     */
+    public static InvocationDescriptor<GrpcExtInfo, MethodDescriptor<Message, Message>> obtain(final MetaData metaData) {
+        InvocationDescriptor<GrpcExtInfo, MethodDescriptor<Message, Message>> descriptor = DESCRIPTORS.get(metaData.getPath());
+        if (Objects.nonNull(descriptor) && descriptor.isBuiltFrom(metaData)) {
+            return descriptor;
+        }
+        GrpcExtInfo extInfo = Optional.ofNullable(GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class)).orElseGet(GrpcExtInfo::new);
+        MethodDescriptor<Message, Message> methodDescriptor = GrpcUtils.createJsonMethodDescriptor(metaData.getServiceName(), metaData.getMethodName(),
+                MethodDescriptor.MethodType.valueOf(extInfo.getMethodType()));
+        descriptor = new InvocationDescriptor<>(metaData, extInfo, methodDescriptor);
+        DESCRIPTORS.put(metaData.getPath(), descriptor);
+        return descriptor;
+    }
+
+    /**
+     * Invalidate the invocation descriptor of the path.
+     *
+     * @param path path
+     */
+    public static void invalidate(final String path) {
+        DESCRIPTORS.remove(path);
+    }
+
+    /**
+     * The GrpcExt.
+     */
+    @Data
+    public static class GrpcExtInfo {
+
+        private Integer timeout = 5000;
+
+        private String methodType = MethodDescriptor.MethodType.UNARY.name();
+    }
+}
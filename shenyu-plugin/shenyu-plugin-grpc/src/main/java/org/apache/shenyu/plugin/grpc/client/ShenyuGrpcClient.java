@@ -17,7 +17,10 @@
 
 package org.apache.shenyu.plugin.grpc.client;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
 import io.grpc.CallOptions;
@@ -31,14 +34,16 @@ import org.apache.shenyu.common.message.JsonRequest;
 import org.apache.shenyu.common.message.JsonResponse;
 import org.apache.shenyu.common.utils.GrpcUtils;
 import org.apache.shenyu.plugin.grpc.proto.CompleteObserver;
+import org.apache.shenyu.plugin.grpc.proto.FluxSinkObserver;
 import org.apache.shenyu.plugin.grpc.proto.MessageWriter;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcCallRequest;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
 import org.apache.shenyu.plugin.grpc.proto.CompositeStreamObserver;
+import reactor.core.publisher.Flux;
 
 import java.io.Closeable;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
 import static io.grpc.stub.ClientCalls.asyncUnaryCall;
@@ -51,6 +56,12 @@ import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
 @Slf4j
 public class ShenyuGrpcClient implements Closeable {
 
+    private static final JsonFormat.TypeRegistry REGISTRY = JsonFormat.TypeRegistry.newBuilder().add(JsonResponse.getDescriptor()).build();
+
+    private static final JsonFormat.Printer PRINTER = JsonFormat.printer().usingTypeRegistry(REGISTRY);
+
+    private static final JsonFormat.Printer STREAM_PRINTER = JsonFormat.printer().usingTypeRegistry(REGISTRY).omittingInsignificantWhitespace();
+
     private final ManagedChannel channel;
 
     public ShenyuGrpcClient(final ManagedChannel channel) {
@@ -66,11 +77,34 @@ public class ShenyuGrpcClient implements Closeable {
      * @return CompletableFuture future
      */
     public CompletableFuture<ShenyuGrpcResponse> call(final MetaData metaData, final CallOptions callOptions, final String requestJsons) {
-        MethodDescriptor<Message, Message> methodDescriptor = GrpcUtils.createJsonMethodDescriptor(metaData.getServiceName(), metaData.getMethodName());
+        return call(metaData, callOptions, requestJsons, MethodDescriptor.MethodType.UNARY);
+    }
+
+    /**
+     * Grpc call, the returned future completes on the grpc callback thread once the rpc terminates.
+     *
+     * @param metaData     metadata
+     * @param callOptions  callOptions
+     * @param requestJsons requestJsons
+     * @param methodType   methodType
+     * @return CompletableFuture future
+     */
+    public CompletableFuture<ShenyuGrpcResponse> call(final MetaData metaData, final CallOptions callOptions,
+                                                      final String requestJsons, final MethodDescriptor.MethodType methodType) {
+        return call(GrpcUtils.createJsonMethodDescriptor(metaData.getServiceName(), metaData.getMethodName(), methodType), callOptions, requestJsons);
+    }
 
-        JsonFormat.TypeRegistry registry = JsonFormat.TypeRegistry.newBuilder().add(JsonResponse.getDescriptor()).build();
+    /**
+     * Grpc call with an already resolved method descriptor.
+     *
+     * @param methodDescriptor methodDescriptor
+     * @param callOptions      callOptions
+     * @param requestJsons     requestJsons
+     * @return CompletableFuture future
+     */
+    public CompletableFuture<ShenyuGrpcResponse> call(final MethodDescriptor<Message, Message> methodDescriptor, final CallOptions callOptions, final String requestJsons) {
         ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
-        StreamObserver<Message> streamObserver = MessageWriter.newInstance(registry, shenyuGrpcResponse);
+        StreamObserver<Message> streamObserver = MessageWriter.newInstance(PRINTER, shenyuGrpcResponse);
 
         JsonRequest requestMessages = JsonRequest.newBuilder()
                 .setMessage(requestJsons).build();
@@ -82,12 +116,63 @@ public class ShenyuGrpcClient implements Closeable {
                 .requests(requestMessages)
                 .responseObserver(streamObserver)
                 .build();
-        try {
-            this.invoke(callParams).get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new RuntimeException("Caught exception while waiting for rpc :{ " + e.getMessage() + "}");
+        CompletableFuture<ShenyuGrpcResponse> future = new CompletableFuture<>();
+        ListenableFuture<Void> done = this.invoke(callParams);
+        if (Objects.isNull(done)) {
+            future.completeExceptionally(new IllegalArgumentException("Unknown methodType:" + methodDescriptor.getType()));
+            return future;
         }
-        return CompletableFuture.completedFuture(shenyuGrpcResponse);
+        Futures.addCallback(done, new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(final Void result) {
+                future.complete(shenyuGrpcResponse);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Grpc call whose server answers with a stream of messages, every message is emitted as one json string.
+     * The call starts on subscription and is cancelled when the subscriber cancels.
+     *
+     * @param metaData     metadata
+     * @param callOptions  callOptions
+     * @param requestJsons requestJsons
+     * @param methodType   methodType, SERVER_STREAMING or BIDI_STREAMING
+     * @return Flux of json messages
+     */
+    public Flux<String> callStream(final MetaData metaData, final CallOptions callOptions,
+                                   final String requestJsons, final MethodDescriptor.MethodType methodType) {
+        return callStream(GrpcUtils.createJsonMethodDescriptor(metaData.getServiceName(), metaData.getMethodName(), methodType), callOptions, requestJsons);
+    }
+
+    /**
+     * Grpc streaming call with an already resolved method descriptor.
+     *
+     * @param methodDescriptor methodDescriptor, of type SERVER_STREAMING or BIDI_STREAMING
+     * @param callOptions      callOptions
+     * @param requestJsons     requestJsons
+     * @return Flux of json messages
+     */
+    public Flux<String> callStream(final MethodDescriptor<Message, Message> methodDescriptor, final CallOptions callOptions, final String requestJsons) {
+        JsonRequest request = JsonRequest.newBuilder().setMessage(requestJsons).build();
+        return Flux.create(sink -> {
+            FluxSinkObserver responseObserver = new FluxSinkObserver(sink, STREAM_PRINTER);
+            ClientCall<Message, Message> call = channel.newCall(methodDescriptor, callOptions);
+            if (methodDescriptor.getType() == MethodDescriptor.MethodType.SERVER_STREAMING) {
+                asyncServerStreamingCall(call, request, responseObserver);
+            } else {
+                StreamObserver<Message> requestObserver = asyncBidiStreamingCall(call, responseObserver);
+                requestObserver.onNext(request);
+                requestObserver.onCompleted();
+            }
+            responseObserver.bind();
+        });
     }
 
     /**
@@ -114,10 +199,12 @@ public class ShenyuGrpcClient implements Closeable {
                 return doneObserver.getCompletionFuture();
             case CLIENT_STREAMING:
                 requestObserver = asyncClientStreamingCall(createCall(callParams), compositeObserver);
+                requestObserver.onNext(request);
                 requestObserver.onCompleted();
                 return doneObserver.getCompletionFuture();
             case BIDI_STREAMING:
                 requestObserver = asyncBidiStreamingCall(createCall(callParams), compositeObserver);
+                requestObserver.onNext(request);
                 requestObserver.onCompleted();
                 return doneObserver.getCompletionFuture();
             default:
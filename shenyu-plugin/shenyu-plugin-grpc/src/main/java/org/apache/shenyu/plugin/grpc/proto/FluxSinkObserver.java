@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.JsonFormat;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Emits every response message of a streaming call into a {@link FluxSink},
+ * messages are only requested from the server as the subscriber demands them.
+ */
+@Slf4j
+public final class FluxSinkObserver implements ClientResponseObserver<Message, Message> {
+
+    private final FluxSink<String> sink;
+
+    private final JsonFormat.Printer printer;
+
+    private volatile ClientCallStreamObserver<Message> requestStream;
+
+    public FluxSinkObserver(final FluxSink<String> sink, final JsonFormat.Printer printer) {
+        this.sink = sink;
+        this.printer = printer;
+    }
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<Message> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.disableAutoInboundFlowControl();
+    }
+
+    /**
+     * Bind the demand and the cancellation of the sink to the started call.
+     */
+    public void bind() {
+        sink.onRequest(n -> requestStream.request((int) Math.min(n, Integer.MAX_VALUE)));
+        sink.onCancel(() -> requestStream.cancel("subscriber cancelled", null));
+    }
+
+    @Override
+    public void onNext(final Message value) {
+        try {
+            sink.next(printer.print(value));
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Skipping invalid response message", e);
+            requestStream.request(1);
+        }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        sink.error(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        sink.complete();
+    }
+}
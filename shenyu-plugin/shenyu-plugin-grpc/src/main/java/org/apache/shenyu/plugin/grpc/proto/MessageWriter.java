@@ -47,7 +47,19 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
      * @return message message
      */
     public static <T extends Message> MessageWriter<T> newInstance(final JsonFormat.TypeRegistry registry, final ShenyuGrpcResponse results) {
-        return new MessageWriter<>(JsonFormat.printer().usingTypeRegistry(registry), results);
+        return newInstance(JsonFormat.printer().usingTypeRegistry(registry), results);
+    }
+
+    /**
+     * New instance sharing an already built printer.
+     *
+     * @param printer printer
+     * @param results results
+     * @param <T>     t
+     * @return message message
+     */
+    public static <T extends Message> MessageWriter<T> newInstance(final JsonFormat.Printer printer, final ShenyuGrpcResponse results) {
+        return new MessageWriter<>(printer, results);
     }
 
     @Override
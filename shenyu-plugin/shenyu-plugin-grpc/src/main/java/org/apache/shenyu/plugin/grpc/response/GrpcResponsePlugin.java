@@ -27,9 +27,13 @@ import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /**
@@ -46,6 +50,7 @@ public class GrpcResponsePlugin implements ShenyuPlugin {
      * @return {@code Mono<Void>} to indicate when request processing is complete
      */
     @Override
+    @SuppressWarnings("unchecked")
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         return chain.execute(exchange).then(Mono.defer(() -> {
             final Object result = exchange.getAttribute(Constants.GRPC_RPC_RESULT);
@@ -53,11 +58,27 @@ public class GrpcResponsePlugin implements ShenyuPlugin {
                 Object error = ShenyuResultWrap.error(ShenyuResultEnum.SERVICE_RESULT_ERROR.getCode(), ShenyuResultEnum.SERVICE_RESULT_ERROR.getMsg(), null);
                 return WebFluxResultUtils.result(exchange, error);
             }
+            if (result instanceof Flux) {
+                return writeStream(exchange, (Flux<String>) result);
+            }
             Object success = ShenyuResultWrap.success(ShenyuResultEnum.SUCCESS.getCode(), ShenyuResultEnum.SUCCESS.getMsg(), JsonUtils.removeClass(result));
             return WebFluxResultUtils.result(exchange, success);
         }));
     }
 
+    /**
+     * Write every streamed message as one json line, each line is flushed as soon as it arrives.
+     *
+     * @param exchange the current server exchange
+     * @param stream   the json messages
+     * @return {@code Mono<Void>} to indicate when the stream is written
+     */
+    private Mono<Void> writeStream(final ServerWebExchange exchange, final Flux<String> stream) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setContentType(MediaType.APPLICATION_STREAM_JSON);
+        return response.writeAndFlushWith(stream.map(json -> Mono.just(response.bufferFactory().wrap((json + "\n").getBytes(StandardCharsets.UTF_8)))));
+    }
+
     @Override
     public Boolean skip(final ServerWebExchange exchange) {
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.grpc.client;
+
+import com.google.protobuf.Message;
+import io.grpc.CallOptions;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.message.JsonRequest;
+import org.apache.shenyu.common.message.JsonResponse;
+import org.apache.shenyu.common.utils.GrpcUtils;
+import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for {@link ShenyuGrpcClient} against an in-process grpc server.
+ */
+public final class ShenyuGrpcClientTest {
+
+    private static final String SERVICE = "org.apache.shenyu.test.EchoService";
+
+    private static final int STREAM_SIZE = 5;
+
+    private final MethodDescriptor<Message, Message> unary = GrpcUtils.createJsonMethodDescriptor(SERVICE, "echo", MethodDescriptor.MethodType.UNARY);
+
+    private final MethodDescriptor<Message, Message> unaryError = GrpcUtils.createJsonMethodDescriptor(SERVICE, "fail", MethodDescriptor.MethodType.UNARY);
+
+    private final MethodDescriptor<Message, Message> stream = GrpcUtils.createJsonMethodDescriptor(SERVICE, "stream", MethodDescriptor.MethodType.SERVER_STREAMING);
+
+    private final MethodDescriptor<Message, Message> streamError = GrpcUtils.createJsonMethodDescriptor(SERVICE, "streamFail", MethodDescriptor.MethodType.SERVER_STREAMING);
+
+    private final MethodDescriptor<Message, Message> endless = GrpcUtils.createJsonMethodDescriptor(SERVICE, "endless", MethodDescriptor.MethodType.SERVER_STREAMING);
+
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+
+    private Server server;
+
+    private ShenyuGrpcClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        ServerServiceDefinition service = ServerServiceDefinition.builder(MethodDescriptor.extractFullServiceName(unary.getFullMethodName()))
+                .addMethod(unary, ServerCalls.asyncUnaryCall((request, observer) -> {
+                    observer.onNext(response(((JsonRequest) request).getMessage()));
+                    observer.onCompleted();
+                }))
+                .addMethod(unaryError, ServerCalls.asyncUnaryCall((request, observer) -> observer.onError(Status.INVALID_ARGUMENT.asRuntimeException())))
+                .addMethod(stream, ServerCalls.asyncServerStreamingCall((request, observer) -> {
+                    for (int i = 0; i < STREAM_SIZE; i++) {
+                        observer.onNext(response(String.valueOf(i)));
+                    }
+                    observer.onCompleted();
+                }))
+                .addMethod(streamError, ServerCalls.asyncServerStreamingCall((request, observer) -> {
+                    observer.onNext(response("0"));
+                    observer.onError(Status.UNAVAILABLE.asRuntimeException());
+                }))
+                .addMethod(endless, ServerCalls.asyncServerStreamingCall(this::endless))
+                .build();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        client = new ShenyuGrpcClient(InProcessChannelBuilder.forName(name).directExecutor().build());
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testUnary() throws Exception {
+        ShenyuGrpcResponse response = client.call(metaData("echo"), CallOptions.DEFAULT, "hello", MethodDescriptor.MethodType.UNARY).get(5, TimeUnit.SECONDS);
+        assertThat(response.getResult(), is("{\n  \"message\": \"hello\"\n}"));
+    }
+
+    @Test
+    public void testUnaryError() throws Exception {
+        try {
+            client.call(metaData("fail"), CallOptions.DEFAULT, "hello", MethodDescriptor.MethodType.UNARY).get(5, TimeUnit.SECONDS);
+            fail("the call should fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(StatusRuntimeException.class));
+            assertThat(((StatusRuntimeException) e.getCause()).getStatus().getCode(), is(Status.Code.INVALID_ARGUMENT));
+        }
+    }
+
+    @Test
+    public void testStreamFollowsDemand() {
+        StepVerifier.create(client.callStream(metaData("stream"), CallOptions.DEFAULT, "hello", MethodDescriptor.MethodType.SERVER_STREAMING), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(2)
+                .expectNext("{\"message\":\"0\"}", "{\"message\":\"1\"}")
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(STREAM_SIZE)
+                .expectNextCount(STREAM_SIZE - 2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testStreamError() {
+        StepVerifier.create(client.callStream(metaData("streamFail"), CallOptions.DEFAULT, "hello", MethodDescriptor.MethodType.SERVER_STREAMING))
+                .expectNext("{\"message\":\"0\"}")
+                .expectErrorMatches(e -> e instanceof StatusRuntimeException && ((StatusRuntimeException) e).getStatus().getCode() == Status.Code.UNAVAILABLE)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testCancelStream() throws InterruptedException {
+        StepVerifier.create(client.callStream(metaData("endless"), CallOptions.DEFAULT, "hello", MethodDescriptor.MethodType.SERVER_STREAMING), 1)
+                .expectNext("{\"message\":\"0\"}")
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    private void endless(final Message request, final StreamObserver<Message> observer) {
+        ((ServerCallStreamObserver<Message>) observer).setOnCancelHandler(cancelled::countDown);
+        observer.onNext(response("0"));
+    }
+
+    private static MetaData metaData(final String methodName) {
+        MetaData metaData = new MetaData();
+        metaData.setServiceName(SERVICE);
+        metaData.setMethodName(methodName);
+        return metaData;
+    }
+
+    private static Message response(final String message) {
+        return JsonResponse.newBuilder().setMessage(message).build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.grpc.response;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * GrpcResponsePluginTest.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class GrpcResponsePluginTest {
+
+    @Mock
+    private ShenyuPluginChain chain;
+
+    private MockServerWebExchange exchange;
+
+    private GrpcResponsePlugin grpcResponsePlugin;
+
+    @Before
+    public void setup() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        grpcResponsePlugin = new GrpcResponsePlugin();
+    }
+
+    @Test
+    public void testNoResult() {
+        Mockito.when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(grpcResponsePlugin.execute(exchange, chain)).expectSubscription().verifyError();
+    }
+
+    @Test
+    public void testWriteStream() {
+        Mockito.when(chain.execute(exchange)).thenReturn(Mono.empty());
+        exchange.getAttributes().put(Constants.GRPC_RPC_RESULT, Flux.just("{\"message\":\"0\"}", "{\"message\":\"1\"}"));
+        StepVerifier.create(grpcResponsePlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(MediaType.APPLICATION_STREAM_JSON, exchange.getResponse().getHeaders().getContentType());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"message\":\"0\"}\n{\"message\":\"1\"}\n")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testWriteStreamError() {
+        Mockito.when(chain.execute(exchange)).thenReturn(Mono.empty());
+        exchange.getAttributes().put(Constants.GRPC_RPC_RESULT, Flux.<String>error(new IllegalStateException("stream broken")));
+        StepVerifier.create(grpcResponsePlugin.execute(exchange, chain)).expectSubscription().verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testNamed() {
+        assertEquals(PluginEnum.RESPONSE.getName(), grpcResponsePlugin.named());
+    }
+
+    @Test
+    public void testGetOrder() {
+        assertEquals(PluginEnum.RESPONSE.getCode(), grpcResponsePlugin.getOrder());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.grpc.subscriber;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.grpc.cache.GrpcInvocationCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * GrpcMetaDataSubscriberTest.
+ */
+public final class GrpcMetaDataSubscriberTest {
+
+    private GrpcMetaDataSubscriber grpcMetaDataSubscriber;
+
+    private MetaData metaData;
+
+    @Before
+    public void setUp() {
+        grpcMetaDataSubscriber = new GrpcMetaDataSubscriber();
+        metaData = new MetaData();
+        metaData.setId("1332017966661636096");
+        metaData.setAppName("grpc");
+        metaData.setPath("/grpc/echo");
+        metaData.setServiceName("echo.EchoService");
+        metaData.setMethodName("echo");
+        metaData.setRpcType(RpcTypeEnum.GRPC.getName());
+    }
+
+    @Test
+    public void testUnSubscribe() {
+        Object descriptor = GrpcInvocationCache.obtain(metaData);
+        assertSame(descriptor, GrpcInvocationCache.obtain(metaData));
+        grpcMetaDataSubscriber.unSubscribe(metaData);
+        assertNotSame(descriptor, GrpcInvocationCache.obtain(metaData));
+    }
+
+    @Test
+    public void testOnSubscribe() {
+        Object descriptor = GrpcInvocationCache.obtain(metaData);
+        grpcMetaDataSubscriber.onSubscribe(metaData);
+        assertNotSame(descriptor, GrpcInvocationCache.obtain(metaData));
+    }
+
+    @Test
+    public void testIgnoreOtherRpcType() {
+        Object descriptor = GrpcInvocationCache.obtain(metaData);
+        metaData.setRpcType(RpcTypeEnum.SOFA.getName());
+        grpcMetaDataSubscriber.unSubscribe(metaData);
+        metaData.setRpcType(RpcTypeEnum.GRPC.getName());
+        assertSame(descriptor, GrpcInvocationCache.obtain(metaData));
+    }
+}
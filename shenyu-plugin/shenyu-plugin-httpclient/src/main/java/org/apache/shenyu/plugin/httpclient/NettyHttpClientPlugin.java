@@ -17,7 +17,6 @@
 
 package org.apache.shenyu.plugin.httpclient;
 
-import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.constant.Constants;
@@ -25,10 +24,12 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.UpstreamCallback;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.apache.shenyu.plugin.httpclient.utils.HttpHeaderUtils;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -56,13 +57,26 @@ public class NettyHttpClientPlugin implements ShenyuPlugin {
 
     private final HttpClient httpClient;
 
+    private final boolean nativeHeaders;
+
     /**
      * Instantiates a new Netty http client plugin.
      *
      * @param httpClient the http client
      */
     public NettyHttpClientPlugin(final HttpClient httpClient) {
+        this(httpClient, false);
+    }
+
+    /**
+     * Instantiates a new Netty http client plugin.
+     *
+     * @param httpClient    the http client
+     * @param nativeHeaders whether headers are forwarded between the reactor-netty header objects directly
+     */
+    public NettyHttpClientPlugin(final HttpClient httpClient, final boolean nativeHeaders) {
         this.httpClient = httpClient;
+        this.nativeHeaders = nativeHeaders;
     }
 
     @Override
@@ -71,25 +85,27 @@ public class NettyHttpClientPlugin implements ShenyuPlugin {
         assert shenyuContext != null;
         ServerHttpRequest request = exchange.getRequest();
         final HttpMethod method = HttpMethod.valueOf(request.getMethodValue());
-        HttpHeaders filtered = request.getHeaders();
-        final DefaultHttpHeaders httpHeaders = new DefaultHttpHeaders();
-        filtered.forEach(httpHeaders::set);
         String url = exchange.getAttribute(Constants.HTTP_URL);
         if (StringUtils.isEmpty(url)) {
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.CANNOT_FIND_URL.getCode(), ShenyuResultEnum.CANNOT_FIND_URL.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        log.info("you request, The resulting urlPath is: {}", url);
-        Flux<HttpClientResponse> responseFlux = this.httpClient.headers(headers -> headers.add(httpHeaders))
+        log.debug("you request, The resulting urlPath is: {}", url);
+        final io.netty.handler.codec.http.HttpHeaders requestHeaders = nativeHeaders ? HttpHeaderUtils.nativeHeaders(request) : null;
+        Flux<HttpClientResponse> responseFlux = this.httpClient.headers(headers -> {
+            if (Objects.nonNull(requestHeaders)) {
+                HttpHeaderUtils.forward(requestHeaders, headers);
+            } else {
+                HttpHeaderUtils.forward(request.getHeaders(), headers);
+            }
+        })
                 .request(method).uri(url).send((req, nettyOutbound) ->
                         nettyOutbound.send(request.getBody().map(dataBuffer -> ((NettyDataBuffer) dataBuffer) .getNativeBuffer())))
                 .responseConnection((res, connection) -> {
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, connection);
                     ServerHttpResponse response = exchange.getResponse();
-                    HttpHeaders headers = new HttpHeaders();
-                    res.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
-                    String contentTypeValue = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+                    String contentTypeValue = res.responseHeaders().get(HttpHeaders.CONTENT_TYPE);
                     if (StringUtils.hasLength(contentTypeValue)) {
                         exchange.getAttributes().put(Constants.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentTypeValue);
                     }
@@ -102,7 +118,12 @@ public class NettyHttpClientPlugin implements ShenyuPlugin {
                     } else {
                         throw new IllegalStateException("Unable to set status code on response: " + res.status().code() + ", " + response.getClass());
                     }
-                    response.getHeaders().putAll(headers);
+                    io.netty.handler.codec.http.HttpHeaders responseHeaders = nativeHeaders ? HttpHeaderUtils.nativeHeaders(response) : null;
+                    if (Objects.nonNull(responseHeaders)) {
+                        HttpHeaderUtils.replace(res.responseHeaders(), responseHeaders);
+                    } else {
+                        HttpHeaderUtils.replace(res.responseHeaders(), response.getHeaders());
+                    }
 
                     return Mono.just(res);
                 });
@@ -110,7 +131,10 @@ public class NettyHttpClientPlugin implements ShenyuPlugin {
         Duration duration = Duration.ofMillis(timeout);
         responseFlux = responseFlux.timeout(duration,
                 Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
-                .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th));
+                .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th))
+                .doOnNext(res -> UpstreamCallback.complete(exchange, res.status().code() < HttpStatus.INTERNAL_SERVER_ERROR.value()))
+                .doOnError(e -> UpstreamCallback.complete(exchange, false))
+                .doOnCancel(() -> UpstreamCallback.complete(exchange, false));
         return responseFlux.then(chain.execute(exchange));
 
     }
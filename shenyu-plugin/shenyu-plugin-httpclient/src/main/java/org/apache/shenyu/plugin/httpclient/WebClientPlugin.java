@@ -26,6 +26,7 @@ import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.UpstreamCallback;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
@@ -111,6 +112,9 @@ public class WebClientPlugin implements ShenyuPlugin {
                 .retryWhen(Retry.onlyIf(x -> x.exception() instanceof ConnectTimeoutException)
                     .retryMax(retryTimes)
                     .backoff(Backoff.exponential(Duration.ofMillis(200), Duration.ofSeconds(20), 2, true)))
+                .doOnSuccess(res -> UpstreamCallback.complete(exchange, Objects.nonNull(res) && !res.statusCode().is5xxServerError()))
+                .doOnError(e -> UpstreamCallback.complete(exchange, false))
+                .doOnCancel(() -> UpstreamCallback.complete(exchange, false))
                 .flatMap(e -> doNext(e, exchange, chain));
 
     }
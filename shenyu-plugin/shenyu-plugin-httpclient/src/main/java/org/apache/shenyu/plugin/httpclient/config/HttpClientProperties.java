@@ -80,6 +80,13 @@ public class HttpClientProperties {
      */
     private boolean wiretap;
 
+    /**
+     * Forwards the headers between the reactor-netty header objects of the gateway
+     * and of the proxied call directly, skipping the Spring header adapters.
+     * Request decorators overriding the headers are bypassed in this mode.
+     */
+    private boolean nativeHeaders;
+
     /**
      * The type Pool.
      */
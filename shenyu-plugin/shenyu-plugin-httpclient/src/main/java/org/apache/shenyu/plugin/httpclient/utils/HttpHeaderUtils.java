@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient.utils;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+import org.springframework.http.server.reactive.AbstractServerHttpRequest;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forwards headers between the gateway exchange and the proxied call, dropping the hop-by-hop headers.
+ *
+ * <p>Transfer-Encoding is forwarded, the framing of the body is left to reactor-netty as before.
+ */
+public final class HttpHeaderUtils {
+
+    private static final AsciiString[] HOP_BY_HOP = {
+        HttpHeaderNames.CONNECTION,
+        HttpHeaderNames.KEEP_ALIVE,
+        HttpHeaderNames.PROXY_AUTHENTICATE,
+        HttpHeaderNames.PROXY_AUTHORIZATION,
+        HttpHeaderNames.TE,
+        HttpHeaderNames.TRAILER,
+        HttpHeaderNames.UPGRADE,
+    };
+
+    private HttpHeaderUtils() {
+    }
+
+    /**
+     * Whether the header only applies to a single connection.
+     *
+     * @param name the header name
+     * @return the boolean
+     */
+    public static boolean isHopByHop(final CharSequence name) {
+        for (AsciiString hopByHop : HOP_BY_HOP) {
+            if (hopByHop.length() == name.length() && hopByHop.contentEqualsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The reactor-netty headers of the request, when the request is served by reactor-netty.
+     * Mutated requests write their headers through to them.
+     *
+     * @param request the request
+     * @return the native headers, null otherwise
+     */
+    public static HttpHeaders nativeHeaders(final ServerHttpRequest request) {
+        ServerHttpRequest current = request;
+        while (current instanceof ServerHttpRequestDecorator) {
+            current = ((ServerHttpRequestDecorator) current).getDelegate();
+        }
+        if (current instanceof AbstractServerHttpRequest) {
+            Object nativeRequest = nativeOf((AbstractServerHttpRequest) current);
+            if (nativeRequest instanceof HttpServerRequest) {
+                return ((HttpServerRequest) nativeRequest).requestHeaders();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The reactor-netty headers of the response, when the response is served by reactor-netty.
+     *
+     * @param response the response
+     * @return the native headers, null otherwise
+     */
+    public static HttpHeaders nativeHeaders(final ServerHttpResponse response) {
+        ServerHttpResponse current = response;
+        while (current instanceof ServerHttpResponseDecorator) {
+            current = ((ServerHttpResponseDecorator) current).getDelegate();
+        }
+        if (current instanceof AbstractServerHttpResponse) {
+            Object nativeResponse = nativeOf((AbstractServerHttpResponse) current);
+            if (nativeResponse instanceof HttpServerResponse) {
+                return ((HttpServerResponse) nativeResponse).responseHeaders();
+            }
+        }
+        return null;
+    }
+
+    private static Object nativeOf(final AbstractServerHttpRequest request) {
+        try {
+            return request.getNativeRequest();
+        } catch (IllegalStateException e) {
+            // mock requests have no native request
+            return null;
+        }
+    }
+
+    private static Object nativeOf(final AbstractServerHttpResponse response) {
+        try {
+            return response.getNativeResponse();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Add the end-to-end headers of the source to the target, in one pass.
+     *
+     * @param source the source
+     * @param target the target
+     */
+    public static void forward(final HttpHeaders source, final HttpHeaders target) {
+        Iterator<Map.Entry<CharSequence, CharSequence>> iterator = source.iteratorCharSequence();
+        while (iterator.hasNext()) {
+            Map.Entry<CharSequence, CharSequence> entry = iterator.next();
+            if (!isHopByHop(entry.getKey())) {
+                target.add(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Add the end-to-end headers of the source to the target, in one pass.
+     *
+     * @param source the source
+     * @param target the target
+     */
+    public static void forward(final org.springframework.http.HttpHeaders source, final HttpHeaders target) {
+        for (Map.Entry<String, List<String>> entry : source.entrySet()) {
+            if (!isHopByHop(entry.getKey())) {
+                target.add(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Replace the target headers by the end-to-end headers of the source.
+     *
+     * @param source the source
+     * @param target the target
+     */
+    public static void replace(final HttpHeaders source, final HttpHeaders target) {
+        Iterator<Map.Entry<CharSequence, CharSequence>> iterator = source.iteratorCharSequence();
+        while (iterator.hasNext()) {
+            CharSequence name = iterator.next().getKey();
+            if (!isHopByHop(name)) {
+                target.remove(name);
+            }
+        }
+        forward(source, target);
+    }
+
+    /**
+     * Replace the target headers by the end-to-end headers of the source.
+     *
+     * @param source the source
+     * @param target the target
+     */
+    public static void replace(final HttpHeaders source, final org.springframework.http.HttpHeaders target) {
+        Iterator<Map.Entry<CharSequence, CharSequence>> iterator = source.iteratorCharSequence();
+        while (iterator.hasNext()) {
+            CharSequence name = iterator.next().getKey();
+            if (!isHopByHop(name)) {
+                target.remove(name.toString());
+            }
+        }
+        iterator = source.iteratorCharSequence();
+        while (iterator.hasNext()) {
+            Map.Entry<CharSequence, CharSequence> entry = iterator.next();
+            if (!isHopByHop(entry.getKey())) {
+                target.add(entry.getKey().toString(), entry.getValue().toString());
+            }
+        }
+    }
+}
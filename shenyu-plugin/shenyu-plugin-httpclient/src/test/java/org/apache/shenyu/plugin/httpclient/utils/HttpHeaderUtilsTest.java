@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient.utils;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The test case for HttpHeaderUtils.
+ */
+public final class HttpHeaderUtilsTest {
+
+    @Test
+    public void testIsHopByHop() {
+        assertTrue(HttpHeaderUtils.isHopByHop("Connection"));
+        assertTrue(HttpHeaderUtils.isHopByHop("keep-alive"));
+        assertTrue(HttpHeaderUtils.isHopByHop("UPGRADE"));
+        assertFalse(HttpHeaderUtils.isHopByHop("Content-Type"));
+        assertFalse(HttpHeaderUtils.isHopByHop("Transfer-Encoding"));
+    }
+
+    @Test
+    public void testForward() {
+        HttpHeaders source = new DefaultHttpHeaders()
+                .add("Connection", "keep-alive")
+                .add("Accept", "text/plain")
+                .add("Accept", "application/json");
+        HttpHeaders target = new DefaultHttpHeaders();
+        HttpHeaderUtils.forward(source, target);
+        assertNull(target.get("Connection"));
+        assertEquals(Arrays.asList("text/plain", "application/json"), target.getAll("Accept"));
+
+        org.springframework.http.HttpHeaders springHeaders = new org.springframework.http.HttpHeaders();
+        springHeaders.add("Keep-Alive", "timeout=5");
+        springHeaders.add("X-Request-Id", "1");
+        target = new DefaultHttpHeaders();
+        HttpHeaderUtils.forward(springHeaders, target);
+        assertNull(target.get("Keep-Alive"));
+        assertEquals("1", target.get("X-Request-Id"));
+    }
+
+    @Test
+    public void testReplace() {
+        final HttpHeaders source = new DefaultHttpHeaders()
+                .add("Connection", "close")
+                .add("Set-Cookie", "a=1")
+                .add("Set-Cookie", "b=2");
+        org.springframework.http.HttpHeaders springHeaders = new org.springframework.http.HttpHeaders();
+        springHeaders.add("Set-Cookie", "c=3");
+        springHeaders.add("Connection", "keep-alive");
+        springHeaders.add("Vary", "Origin");
+        HttpHeaderUtils.replace(source, springHeaders);
+        assertEquals(Arrays.asList("a=1", "b=2"), springHeaders.get("Set-Cookie"));
+        assertEquals("keep-alive", springHeaders.getFirst("Connection"));
+        assertEquals("Origin", springHeaders.getFirst("Vary"));
+
+        HttpHeaders target = new DefaultHttpHeaders().add("Set-Cookie", "c=3").add("Vary", "Origin");
+        HttpHeaderUtils.replace(source, target);
+        assertEquals(Arrays.asList("a=1", "b=2"), target.getAll("Set-Cookie"));
+        assertEquals("Origin", target.get("Vary"));
+        assertNull(target.get("Connection"));
+    }
+
+    @Test
+    public void testNativeHeadersOfMockRequest() {
+        assertNull(HttpHeaderUtils.nativeHeaders(MockServerHttpRequest.get("/test").build()));
+    }
+}
@@ -17,25 +17,40 @@
 
 package org.apache.shenyu.plugin.monitor;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.DateUtils;
+import org.apache.shenyu.metrics.config.MetricsConfig;
 import org.apache.shenyu.metrics.prometheus.register.PrometheusMetricsRegister;
 import org.apache.shenyu.metrics.reporter.MetricsReporter;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.utils.Singleton;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * the monitor plugin.
+ *
+ * <p>The request metrics are labelled by the id of the rule that routed the request, at most {@code maxRoutes} routes
+ * get their own series, the others are counted in the {@code overflow} route. Once the cap is reached the routes whose
+ * rule was removed give their slot back, checked at most once per {@code PRUNE_INTERVAL}. The upstream latency is the time from the
+ * routing plugin to the monitor plugin, which runs once the upstream answered, the rest of the request is gateway latency.
  */
 public class MonitorPlugin extends AbstractShenyuPlugin {
     
@@ -45,21 +60,54 @@ public class MonitorPlugin extends AbstractShenyuPlugin {
     
     private static final String EXECUTE_LATENCY_NAME = "shenyu_execute_latency_millis";
     
+    private static final String UPSTREAM_LATENCY_NAME = "shenyu_upstream_latency_millis";
+    
+    private static final String GATEWAY_LATENCY_NAME = "shenyu_gateway_latency_millis";
+    
+    private static final String MAX_ROUTES = "maxRoutes";
+    
+    private static final String LATENCY_BUCKETS = "latencyBuckets";
+    
+    private static final String UNMATCHED_ROUTE = "unmatched";
+    
+    private static final String OVERFLOW_ROUTE = "overflow";
+    
+    private static final int DEFAULT_MAX_ROUTES = 1000;
+    
+    private static final double[] DEFAULT_LATENCY_BUCKETS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    
+    private static final long PRUNE_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+    
+    /**
+     * route (rule id) -> selector id of the rule.
+     */
+    private final Map<String, String> routes = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger routeCount = new AtomicInteger();
+    
+    private final AtomicLong nextPruneTime = new AtomicLong(System.nanoTime());
+    
+    private volatile boolean histogramRegistered;
+    
     static {
         MetricsReporter.register(new PrometheusMetricsRegister());
         MetricsReporter.registerCounter(REQUEST_TOTAL, "shenyu request total count");
-        MetricsReporter.registerCounter(HTTP_REQUEST_TOTAL, new String[]{"path", "type"}, "shenyu http request type total count");
-        MetricsReporter.registerHistogram(EXECUTE_LATENCY_NAME, "the shenyu executor latency millis");
+        MetricsReporter.registerCounter(HTTP_REQUEST_TOTAL, new String[]{"route", "type"}, "shenyu http request type total count");
     }
     
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        long upstreamEndTime = System.nanoTime();
+        registerHistogram();
+        String route = route(exchange);
         MetricsReporter.counterIncrement(REQUEST_TOTAL);
-        MetricsReporter.counterIncrement(HTTP_REQUEST_TOTAL, new String[]{exchange.getRequest().getURI().getPath(), exchange.getRequest().getMethodValue()});
+        MetricsReporter.counterIncrement(HTTP_REQUEST_TOTAL, new String[]{route, exchange.getRequest().getMethodValue()});
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
-        LocalDateTime startDateTime = Optional.ofNullable(shenyuContext).map(ShenyuContext::getStartDateTime).orElse(LocalDateTime.now());
-        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startDateTime))
-                .doOnError(throwable -> responseCommitted(exchange, startDateTime));
+        long startTime = Optional.ofNullable(shenyuContext).map(ShenyuContext::getStartNanoTime).filter(time -> time != 0).orElse(upstreamEndTime);
+        Long routeStartTime = exchange.getAttribute(Constants.ROUTE_START_TIME);
+        long upstreamTime = Objects.isNull(routeStartTime) ? 0 : upstreamEndTime - routeStartTime;
+        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, route, startTime, upstreamTime))
+                .doOnError(throwable -> responseCommitted(exchange, route, startTime, upstreamTime));
     }
     
     @Override
@@ -72,20 +120,115 @@ public class MonitorPlugin extends AbstractShenyuPlugin {
         return PluginEnum.MONITOR.getName();
     }
     
-    private void responseCommitted(final ServerWebExchange exchange, final LocalDateTime startDateTime) {
+    private String route(final ServerWebExchange exchange) {
+        RuleData routeRule = exchange.getAttribute(Constants.ROUTE_RULE);
+        if (Objects.isNull(routeRule) || Objects.isNull(routeRule.getId())) {
+            return UNMATCHED_ROUTE;
+        }
+        String route = routeRule.getId();
+        if (routes.containsKey(route)) {
+            return route;
+        }
+        int maxRoutes = maxRoutes();
+        if (!reserveRoute(maxRoutes) && (!pruneRoutes() || !reserveRoute(maxRoutes))) {
+            return OVERFLOW_ROUTE;
+        }
+        if (Objects.nonNull(routes.putIfAbsent(route, Objects.toString(routeRule.getSelectorId(), "")))) {
+            routeCount.decrementAndGet();
+        }
+        return route;
+    }
+    
+    private boolean reserveRoute(final int maxRoutes) {
+        int count;
+        do {
+            count = routeCount.get();
+            if (count >= maxRoutes) {
+                return false;
+            }
+        } while (!routeCount.compareAndSet(count, count + 1));
+        return true;
+    }
+    
+    /**
+     * Give back the slots of the routes whose rule was removed.
+     *
+     * @return whether any slot was given back
+     */
+    private boolean pruneRoutes() {
+        long now = System.nanoTime();
+        long next = nextPruneTime.get();
+        if (now - next < 0 || !nextPruneTime.compareAndSet(next, now + PRUNE_INTERVAL)) {
+            return false;
+        }
+        boolean pruned = false;
+        for (Map.Entry<String, String> entry : routes.entrySet()) {
+            if (!ruleExists(entry.getKey(), entry.getValue()) && routes.remove(entry.getKey(), entry.getValue())) {
+                routeCount.decrementAndGet();
+                pruned = true;
+            }
+        }
+        return pruned;
+    }
+    
+    private boolean ruleExists(final String ruleId, final String selectorId) {
+        List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorId);
+        return Objects.nonNull(rules) && rules.stream().anyMatch(rule -> ruleId.equals(rule.getId()));
+    }
+    
+    private void responseCommitted(final ServerWebExchange exchange, final String route, final long startTime, final long upstreamTime) {
         ServerHttpResponse response = exchange.getResponse();
         if (response.isCommitted()) {
-            recordTime(startDateTime);
+            recordTime(route, startTime, upstreamTime);
         } else {
             response.beforeCommit(() -> {
-                recordTime(startDateTime);
+                recordTime(route, startTime, upstreamTime);
                 return Mono.empty();
             });
         }
     }
     
-    private void recordTime(final LocalDateTime startDateTime) {
-        long millisBetween = DateUtils.acquireMillisBetween(startDateTime, LocalDateTime.now());
-        MetricsReporter.recordTime(EXECUTE_LATENCY_NAME, millisBetween);
+    private void recordTime(final String route, final long startTime, final long upstreamTime) {
+        long executeTime = System.nanoTime() - startTime;
+        String[] labelValues = new String[]{route};
+        MetricsReporter.recordTime(EXECUTE_LATENCY_NAME, labelValues, TimeUnit.NANOSECONDS.toMillis(executeTime));
+        MetricsReporter.recordTime(UPSTREAM_LATENCY_NAME, labelValues, TimeUnit.NANOSECONDS.toMillis(upstreamTime));
+        MetricsReporter.recordTime(GATEWAY_LATENCY_NAME, labelValues, TimeUnit.NANOSECONDS.toMillis(executeTime - upstreamTime));
+    }
+    
+    /**
+     * The buckets are read from the monitor config when the first request is recorded.
+     */
+    private void registerHistogram() {
+        if (histogramRegistered) {
+            return;
+        }
+        synchronized (this) {
+            if (!histogramRegistered) {
+                double[] buckets = latencyBuckets();
+                String[] labelNames = new String[]{"route"};
+                MetricsReporter.registerHistogram(EXECUTE_LATENCY_NAME, labelNames, "the shenyu executor latency millis", buckets);
+                MetricsReporter.registerHistogram(UPSTREAM_LATENCY_NAME, labelNames, "the shenyu upstream latency millis", buckets);
+                MetricsReporter.registerHistogram(GATEWAY_LATENCY_NAME, labelNames, "the shenyu gateway latency millis without the upstream", buckets);
+                histogramRegistered = true;
+            }
+        }
+    }
+    
+    private int maxRoutes() {
+        String maxRoutes = configProperty(MAX_ROUTES);
+        return StringUtils.isNumeric(maxRoutes) ? Integer.parseInt(maxRoutes) : DEFAULT_MAX_ROUTES;
+    }
+    
+    private double[] latencyBuckets() {
+        String latencyBuckets = configProperty(LATENCY_BUCKETS);
+        if (StringUtils.isBlank(latencyBuckets)) {
+            return DEFAULT_LATENCY_BUCKETS;
+        }
+        return Arrays.stream(latencyBuckets.split(",")).map(String::trim).mapToDouble(Double::parseDouble).sorted().toArray();
+    }
+    
+    private String configProperty(final String key) {
+        return Optional.ofNullable(Singleton.INST.get(MetricsConfig.class)).map(MetricsConfig::getProps).map(props -> props.getProperty(key)).orElse(null);
     }
 }
@@ -17,19 +17,36 @@
 
 package org.apache.shenyu.plugin.monitor;
 
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
+import io.prometheus.client.CollectorRegistry;
+import org.apache.shenyu.metrics.config.MetricsConfig;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.utils.Singleton;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +62,11 @@ public final class MonitorPluginTest {
         monitorPlugin = new MonitorPlugin();
     }
 
+    @After
+    public void tearDown() {
+        Singleton.INST.single(MetricsConfig.class, metricsConfig(new Properties()));
+    }
+
     @Test
     public void testDoExecute() {
         ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
@@ -56,6 +78,68 @@ public final class MonitorPluginTest {
         StepVerifier.create(voidMono).expectSubscription().verifyComplete();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDoExecuteWithRoute() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        exchange.getAttributes().put(Constants.ROUTE_RULE, RuleData.builder().id("1").build());
+        exchange.getAttributes().put(Constants.ROUTE_START_TIME, System.nanoTime());
+        ShenyuPluginChain chain = mock(ShenyuPluginChain.class);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        Mono<Void> voidMono = monitorPlugin.doExecute(exchange, chain, mock(SelectorData.class), mock(RuleData.class));
+        StepVerifier.create(voidMono).expectSubscription().verifyComplete();
+        Map<String, String> routes = (Map<String, String>) ReflectionTestUtils.getField(monitorPlugin, "routes");
+        assertTrue(routes.containsKey("1"));
+    }
+
+    @Test
+    public void testUnmatchedRoute() {
+        double before = requests("unmatched");
+        execute(exchange());
+        assertEquals(before + 1, requests("unmatched"), 0);
+    }
+
+    @Test
+    public void testMaxRoutes() {
+        maxRoutes(1);
+        cacheRule("cap-selector", "cap-1");
+        cacheRule("cap-selector", "cap-2");
+        double overflow = requests("overflow");
+        execute(routed("cap-selector", "cap-1"));
+        execute(routed("cap-selector", "cap-2"));
+        execute(routed("cap-selector", "cap-1"));
+        assertEquals(2, requests("cap-1"), 0);
+        assertEquals(0, requests("cap-2"), 0);
+        assertEquals(overflow + 1, requests("overflow"), 0);
+    }
+
+    @Test
+    public void testRemovedRouteGivesBackItsSlot() {
+        maxRoutes(1);
+        cacheRule("prune-selector", "prune-2");
+        execute(routed("prune-selector", "prune-1"));
+        execute(routed("prune-selector", "prune-2"));
+        assertEquals(1, requests("prune-1"), 0);
+        assertEquals(1, requests("prune-2"), 0);
+    }
+
+    @Test
+    public void testUpstreamAndGatewayLatency() {
+        long now = System.nanoTime();
+        ServerWebExchange exchange = routed("latency-selector", "latency-1");
+        ShenyuContext shenyuContext = new ShenyuContext();
+        shenyuContext.setStartNanoTime(now - TimeUnit.MILLISECONDS.toNanos(3000));
+        exchange.getAttributes().put(Constants.CONTEXT, shenyuContext);
+        exchange.getAttributes().put(Constants.ROUTE_START_TIME, now - TimeUnit.MILLISECONDS.toNanos(2000));
+        execute(exchange);
+        exchange.getResponse().setComplete().block();
+        assertThat(latency("shenyu_upstream_latency_millis", "latency-1"), greaterThanOrEqualTo(2000d));
+        assertThat(latency("shenyu_upstream_latency_millis", "latency-1"), lessThan(3000d));
+        assertThat(latency("shenyu_gateway_latency_millis", "latency-1"), greaterThanOrEqualTo(1000d));
+        assertThat(latency("shenyu_gateway_latency_millis", "latency-1"), lessThan(2000d));
+        assertThat(latency("shenyu_execute_latency_millis", "latency-1"), greaterThanOrEqualTo(3000d));
+    }
+
     @Test
     public void testGetOrder() {
         assertEquals(PluginEnum.MONITOR.getCode(), monitorPlugin.getOrder());
@@ -65,4 +149,44 @@ public final class MonitorPluginTest {
     public void testNamed() {
         assertEquals(PluginEnum.MONITOR.getName(), monitorPlugin.named());
     }
+
+    private void execute(final ServerWebExchange exchange) {
+        ShenyuPluginChain chain = mock(ShenyuPluginChain.class);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(monitorPlugin.doExecute(exchange, chain, mock(SelectorData.class), mock(RuleData.class))).expectSubscription().verifyComplete();
+    }
+
+    private ServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+    }
+
+    private ServerWebExchange routed(final String selectorId, final String ruleId) {
+        ServerWebExchange exchange = exchange();
+        exchange.getAttributes().put(Constants.ROUTE_RULE, RuleData.builder().id(ruleId).selectorId(selectorId).build());
+        exchange.getAttributes().put(Constants.ROUTE_START_TIME, System.nanoTime());
+        return exchange;
+    }
+
+    private void cacheRule(final String selectorId, final String ruleId) {
+        BaseDataCache.getInstance().cacheRuleData(RuleData.builder().id(ruleId).selectorId(selectorId).enabled(true).sort(1).build());
+    }
+
+    private void maxRoutes(final int maxRoutes) {
+        Properties props = new Properties();
+        props.setProperty("maxRoutes", String.valueOf(maxRoutes));
+        Singleton.INST.single(MetricsConfig.class, metricsConfig(props));
+    }
+
+    private MetricsConfig metricsConfig(final Properties props) {
+        return new MetricsConfig("prometheus", "localhost", 9191, false, 1, null, props);
+    }
+
+    private double requests(final String route) {
+        return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue("shenyu_http_request_total",
+                new String[]{"route", "type"}, new String[]{route, "GET"})).orElse(0d);
+    }
+
+    private double latency(final String name, final String route) {
+        return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(name + "_sum", new String[]{"route"}, new String[]{route})).orElse(0d);
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.motan.cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
 import com.weibo.api.motan.config.ProtocolConfig;
 import com.weibo.api.motan.config.RefererConfig;
 import com.weibo.api.motan.config.RegistryConfig;
@@ -34,11 +35,14 @@ import org.apache.shenyu.common.config.MotanRegisterConfig;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.apache.shenyu.plugin.motan.util.PrxInfoUtil;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -47,6 +51,9 @@ import java.util.concurrent.ExecutionException;
 @Slf4j
 public final class ApplicationConfigCache {
 
+    /**
+     * path -> motan param info, keyed by the full path so that the same method name of different services does not collide.
+     */
     public static final ConcurrentHashMap<String, MotanParamInfo> PARAM_MAP = new ConcurrentHashMap<>();
 
     private RegistryConfig registryConfig;
@@ -79,6 +86,11 @@ public final class ApplicationConfigCache {
                 }
             });
 
+    /**
+     * path -> invocation descriptor.
+     */
+    private final ConcurrentMap<String, InvocationDescriptor<MotanParamInfo, RefererConfig<CommonHandler>>> descriptors = Maps.newConcurrentMap();
+
     private ApplicationConfigCache() {
     }
 
@@ -159,7 +171,7 @@ public final class ApplicationConfigCache {
         MotanParamExtInfo motanParamExtInfo =
                 GsonUtils.getInstance().fromJson(metaData.getRpcExt(), MotanParamExtInfo.class);
         for (MethodInfo methodInfo : motanParamExtInfo.getMethodInfo()) {
-            if (CollectionUtils.isNotEmpty(methodInfo.getParams())) {
+            if (Objects.equals(methodInfo.getMethodName(), metaData.getMethodName()) && CollectionUtils.isNotEmpty(methodInfo.getParams())) {
                 try {
                     Class<?>[] paramTypes = new Class[methodInfo.getParams().size()];
                     String[] paramNames = new String[methodInfo.getParams().size()];
@@ -167,8 +179,8 @@ public final class ApplicationConfigCache {
                         Pair<String, String> pair = methodInfo.getParams().get(i);
                         paramTypes[i] = PrxInfoUtil.getParamClass(pair.getKey());
                         paramNames[i] = pair.getValue();
-                        PARAM_MAP.put(methodInfo.getMethodName(), new MotanParamInfo(paramTypes, paramNames));
                     }
+                    PARAM_MAP.put(metaData.getPath(), new MotanParamInfo(paramTypes, paramNames));
                 } catch (Exception e) {
                     log.error("failed to init motan, {}", e.getMessage());
                 }
@@ -183,10 +195,32 @@ public final class ApplicationConfigCache {
         if (obj != null) {
             log.info("init motan reference success there meteData is :{}", metaData.toString());
             cache.put(metaData.getPath(), reference);
+            descriptors.put(metaData.getPath(), new InvocationDescriptor<>(metaData, PARAM_MAP.get(metaData.getPath()), reference));
         }
         return reference;
     }
 
+    /**
+     * Obtain the invocation descriptor of the meta data, it is rebuilt only when the meta data or the reference changed.
+     *
+     * @param metaData the meta data
+     * @return the invocation descriptor
+     */
+    public InvocationDescriptor<MotanParamInfo, RefererConfig<CommonHandler>> obtain(final MetaData metaData) {
+        InvocationDescriptor<MotanParamInfo, RefererConfig<CommonHandler>> descriptor = descriptors.get(metaData.getPath());
+        if (Objects.nonNull(descriptor) && descriptor.isBuiltFrom(metaData) && descriptor.getReference() == cache.getIfPresent(metaData.getPath())) {
+            return descriptor;
+        }
+        RefererConfig<CommonHandler> reference = get(metaData.getPath());
+        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getServiceInterface())) {
+            invalidate(metaData.getPath());
+            reference = initRef(metaData);
+        }
+        descriptor = new InvocationDescriptor<>(metaData, PARAM_MAP.get(metaData.getPath()), reference);
+        descriptors.put(metaData.getPath(), descriptor);
+        return descriptor;
+    }
+
     /**
      * Invalidate.
      *
@@ -194,6 +228,8 @@ public final class ApplicationConfigCache {
      */
     public void invalidate(final String path) {
         cache.invalidate(path);
+        descriptors.remove(path);
+        PARAM_MAP.remove(path);
     }
 
     /**
@@ -201,6 +237,8 @@ public final class ApplicationConfigCache {
      */
     public void invalidateAll() {
         cache.invalidateAll();
+        descriptors.clear();
+        PARAM_MAP.clear();
     }
 
     /**
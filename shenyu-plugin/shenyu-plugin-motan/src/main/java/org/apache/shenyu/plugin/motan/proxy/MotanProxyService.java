@@ -21,13 +21,14 @@ import com.weibo.api.motan.config.RefererConfig;
 import com.weibo.api.motan.proxy.CommonHandler;
 import com.weibo.api.motan.rpc.ResponseFuture;
 import lombok.SneakyThrows;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache.MotanParamInfo;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -51,27 +52,33 @@ public class MotanProxyService {
      */
     @SneakyThrows
     public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
-        RefererConfig<CommonHandler> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getServiceInterface())) {
-            ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
-            reference = ApplicationConfigCache.getInstance().initRef(metaData);
-        }
-        CommonHandler commonHandler = reference.getRef();
-        ApplicationConfigCache.MotanParamInfo motanParamInfo = ApplicationConfigCache.PARAM_MAP.get(metaData.getMethodName());
+        InvocationDescriptor<MotanParamInfo, RefererConfig<CommonHandler>> descriptor = ApplicationConfigCache.getInstance().obtain(metaData);
+        CommonHandler commonHandler = descriptor.getReference().getRef();
+        MotanParamInfo motanParamInfo = descriptor.getExtInfo();
         Object[] params;
         if (motanParamInfo == null) {
             params = new Object[0];
         } else {
             int num = motanParamInfo.getParamTypes().length;
             params = new Object[num];
+            Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
             for (int i = 0; i < num; i++) {
-                Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
-                params[i] = bodyMap.get(motanParamInfo.getParamNames()[i]).toString();
+                Object value = bodyMap.get(motanParamInfo.getParamNames()[i]);
+                params[i] = Objects.isNull(value) ? null : value.toString();
             }
         }
         ResponseFuture responseFuture = (ResponseFuture) commonHandler.asyncCall(metaData.getMethodName(),
                 params, Object.class);
-        CompletableFuture<Object> future = CompletableFuture.supplyAsync(() -> responseFuture.getValue());
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        // the listener is called by the motan transport thread once the response arrives, or at once when it is already done.
+        responseFuture.addListener(callback -> {
+            if (callback.isSuccess()) {
+                future.complete(callback.getValue());
+            } else {
+                Exception exception = callback.getException();
+                future.completeExceptionally(Objects.isNull(exception) ? new ShenyuException("motan invoke failed: " + metaData.getPath()) : exception);
+            }
+        });
         return Mono.fromFuture(future.thenApply(ret -> {
             if (Objects.isNull(ret)) {
                 ret = Constants.MOTAN_RPC_RESULT_EMPTY;
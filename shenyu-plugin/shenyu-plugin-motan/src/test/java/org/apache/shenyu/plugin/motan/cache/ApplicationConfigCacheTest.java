@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.motan.cache;
+
+import com.weibo.api.motan.config.RefererConfig;
+import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache.MotanParamInfo;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link ApplicationConfigCache}.
+ */
+public final class ApplicationConfigCacheTest {
+
+    private static final String FIND_ALL = "/motan/findAll";
+
+    private static final String FIND_BY_ID = "/motan/findById";
+
+    private final ApplicationConfigCache applicationConfigCache = ApplicationConfigCache.getInstance();
+
+    @After
+    public void tearDown() {
+        applicationConfigCache.invalidateAll();
+    }
+
+    @Test
+    public void testGetInstance() {
+        assertNotNull(applicationConfigCache);
+        assertSame(applicationConfigCache, ApplicationConfigCache.getInstance());
+    }
+
+    @Test
+    public void testInvalidateEvictsParamInfoOfThePath() {
+        RefererConfig<Object> reference = applicationConfigCache.get(FIND_ALL);
+        assertSame(reference, applicationConfigCache.get(FIND_ALL));
+        ApplicationConfigCache.PARAM_MAP.put(FIND_ALL, new MotanParamInfo(new Class<?>[]{String.class}, new String[]{"name"}));
+        ApplicationConfigCache.PARAM_MAP.put(FIND_BY_ID, new MotanParamInfo(new Class<?>[]{String.class}, new String[]{"id"}));
+        applicationConfigCache.invalidate(FIND_ALL);
+        assertFalse(ApplicationConfigCache.PARAM_MAP.containsKey(FIND_ALL));
+        assertTrue(ApplicationConfigCache.PARAM_MAP.containsKey(FIND_BY_ID));
+        assertNotSame(reference, applicationConfigCache.get(FIND_ALL));
+    }
+
+    @Test
+    public void testInvalidateAllEvictsParamInfo() {
+        ApplicationConfigCache.PARAM_MAP.put(FIND_ALL, new MotanParamInfo(new Class<?>[]{String.class}, new String[]{"name"}));
+        ApplicationConfigCache.PARAM_MAP.put(FIND_BY_ID, new MotanParamInfo(new Class<?>[]{String.class}, new String[]{"id"}));
+        applicationConfigCache.invalidateAll();
+        assertTrue(ApplicationConfigCache.PARAM_MAP.isEmpty());
+    }
+}
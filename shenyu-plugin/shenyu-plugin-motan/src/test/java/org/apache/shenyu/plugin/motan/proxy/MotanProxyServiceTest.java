@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.motan.proxy;
+
+import com.weibo.api.motan.config.RefererConfig;
+import com.weibo.api.motan.proxy.CommonHandler;
+import com.weibo.api.motan.rpc.Future;
+import com.weibo.api.motan.rpc.FutureListener;
+import com.weibo.api.motan.rpc.ResponseFuture;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
+import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache.MotanParamInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link MotanProxyService}.
+ */
+public final class MotanProxyServiceTest {
+
+    private static final String PATH = "/motan/findByIdAndName";
+
+    private static final String METHOD_NAME = "findByIdAndName";
+
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    private final MotanProxyService motanProxyService = new MotanProxyService();
+
+    private MetaData metaData;
+
+    private ServerWebExchange exchange;
+
+    private CommonHandler commonHandler;
+
+    private ResponseFuture responseFuture;
+
+    private Future callback;
+
+    private RefererConfig<CommonHandler> refererConfig;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Throwable {
+        metaData = new MetaData();
+        metaData.setId("1332017966661636096");
+        metaData.setAppName("motan");
+        metaData.setPath(PATH);
+        metaData.setServiceName("org.apache.shenyu.examples.motan.service.MotanDemoService");
+        metaData.setMethodName(METHOD_NAME);
+        metaData.setRpcType(RpcTypeEnum.MOTAN.getName());
+        exchange = mock(ServerWebExchange.class);
+        when(exchange.getAttributes()).thenReturn(attributes);
+        commonHandler = mock(CommonHandler.class);
+        responseFuture = mock(ResponseFuture.class);
+        callback = mock(Future.class);
+        refererConfig = mock(RefererConfig.class);
+        when(refererConfig.getRef()).thenReturn(commonHandler);
+        when(commonHandler.asyncCall(eq(METHOD_NAME), any(Object[].class), eq(Object.class))).thenReturn(responseFuture);
+        doAnswer(invocation -> {
+            ((FutureListener) invocation.getArgument(0)).operationComplete(callback);
+            return null;
+        }).when(responseFuture).addListener(any(FutureListener.class));
+    }
+
+    @Test
+    public void testGenericInvokerSuccess() {
+        when(callback.isSuccess()).thenReturn(true);
+        when(callback.getValue()).thenReturn("shenyu");
+        StepVerifier.create(invoke("{\"id\":\"1\",\"name\":\"shenyu\"}")).expectNext("shenyu").verifyComplete();
+        assertEquals("shenyu", attributes.get(Constants.MOTAN_RPC_RESULT));
+    }
+
+    @Test
+    public void testGenericInvokerEmptyResult() {
+        when(callback.isSuccess()).thenReturn(true);
+        StepVerifier.create(invoke("{\"id\":\"1\",\"name\":\"shenyu\"}")).expectNext(Constants.MOTAN_RPC_RESULT_EMPTY).verifyComplete();
+        assertEquals(Constants.MOTAN_RPC_RESULT_EMPTY, attributes.get(Constants.MOTAN_RPC_RESULT));
+    }
+
+    @Test
+    public void testGenericInvokerFailure() {
+        when(callback.isSuccess()).thenReturn(false);
+        when(callback.getException()).thenReturn(new IllegalStateException("motan error"));
+        StepVerifier.create(invoke("{\"id\":\"1\",\"name\":\"shenyu\"}"))
+                .expectErrorMatches(e -> e instanceof ShenyuException && e.getCause() instanceof IllegalStateException)
+                .verify();
+    }
+
+    @Test
+    public void testGenericInvokerFailureWithoutException() {
+        when(callback.isSuccess()).thenReturn(false);
+        StepVerifier.create(invoke("{\"id\":\"1\",\"name\":\"shenyu\"}")).expectError(ShenyuException.class).verify();
+    }
+
+    @Test
+    public void testGenericInvokerWithNullField() throws Throwable {
+        when(callback.isSuccess()).thenReturn(true);
+        when(callback.getValue()).thenReturn("shenyu");
+        StepVerifier.create(invoke("{\"id\":null,\"name\":\"shenyu\"}")).expectNext("shenyu").verifyComplete();
+        verify(commonHandler).asyncCall(eq(METHOD_NAME), eq(new Object[]{null, "shenyu"}), eq(Object.class));
+    }
+
+    private Mono<Object> invoke(final String body) {
+        MotanParamInfo motanParamInfo = new MotanParamInfo(new Class<?>[]{String.class, String.class}, new String[]{"id", "name"});
+        try (MockedStatic<ApplicationConfigCache> applicationConfigCacheMockedStatic = mockStatic(ApplicationConfigCache.class)) {
+            ApplicationConfigCache applicationConfigCache = mock(ApplicationConfigCache.class);
+            applicationConfigCacheMockedStatic.when(ApplicationConfigCache::getInstance).thenReturn(applicationConfigCache);
+            when(applicationConfigCache.obtain(metaData)).thenReturn(new InvocationDescriptor<>(metaData, motanParamInfo, refererConfig));
+            return motanProxyService.genericInvoker(body, metaData, exchange);
+        }
+    }
+}
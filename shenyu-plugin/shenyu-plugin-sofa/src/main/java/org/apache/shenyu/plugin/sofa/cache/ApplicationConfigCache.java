@@ -25,6 +25,7 @@ import com.alipay.sofa.rpc.config.RegistryConfig;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -33,10 +34,12 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.LoadBalanceEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 
 import java.lang.reflect.Field;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -75,6 +78,11 @@ public final class ApplicationConfigCache {
                 }
             });
 
+    /**
+     * path -> invocation descriptor.
+     */
+    private final ConcurrentMap<String, InvocationDescriptor<SofaParamExtInfo, ConsumerConfig<GenericService>>> descriptors = Maps.newConcurrentMap();
+
     private ApplicationConfigCache() {
     }
 
@@ -155,6 +163,7 @@ public final class ApplicationConfigCache {
         if (obj != null) {
             log.info("init sofa reference success there meteData is :{}", metaData.toString());
             cache.put(metaData.getPath(), reference);
+            descriptors.put(metaData.getPath(), new InvocationDescriptor<>(metaData, sofaParamExtInfo, reference));
         }
         return reference;
     }
@@ -184,6 +193,27 @@ public final class ApplicationConfigCache {
         }
     }
 
+    /**
+     * Obtain the invocation descriptor of the meta data, it is rebuilt only when the meta data or the reference changed.
+     *
+     * @param metaData the meta data
+     * @return the invocation descriptor
+     */
+    public InvocationDescriptor<SofaParamExtInfo, ConsumerConfig<GenericService>> obtain(final MetaData metaData) {
+        InvocationDescriptor<SofaParamExtInfo, ConsumerConfig<GenericService>> descriptor = descriptors.get(metaData.getPath());
+        if (Objects.nonNull(descriptor) && descriptor.isBuiltFrom(metaData) && descriptor.getReference() == cache.getIfPresent(metaData.getPath())) {
+            return descriptor;
+        }
+        ConsumerConfig<GenericService> reference = get(metaData.getPath());
+        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterfaceId())) {
+            invalidate(metaData.getPath());
+            reference = initRef(metaData);
+        }
+        descriptor = new InvocationDescriptor<>(metaData, InvocationDescriptor.parseExt(metaData, SofaParamExtInfo.class), reference);
+        descriptors.put(metaData.getPath(), descriptor);
+        return descriptor;
+    }
+
     /**
      * Invalidate.
      *
@@ -191,6 +221,7 @@ public final class ApplicationConfigCache {
      */
     public void invalidate(final String path) {
         cache.invalidate(path);
+        descriptors.remove(path);
     }
 
     /**
@@ -198,6 +229,7 @@ public final class ApplicationConfigCache {
      */
     public void invalidateAll() {
         cache.invalidateAll();
+        descriptors.clear();
     }
 
     /**
@@ -214,7 +246,7 @@ public final class ApplicationConfigCache {
      * The type Sofa param ext info.
      */
     @Data
-    static class SofaParamExtInfo {
+    public static class SofaParamExtInfo {
 
         private String loadbalance;
 
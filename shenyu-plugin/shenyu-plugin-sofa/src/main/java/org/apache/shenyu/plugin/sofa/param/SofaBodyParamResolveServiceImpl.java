@@ -25,7 +25,9 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
+import org.apache.shenyu.plugin.api.utils.StreamingBodyParamUtils;
 
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -66,6 +68,21 @@ public class SofaBodyParamResolveServiceImpl implements BodyParamResolveService
         return new ImmutablePair<>(parameters, objects);
     }
 
+    @Override
+    public Pair<String[], Object[]> buildParameter(final String body, final InvocationDescriptor<?, ?> descriptor) {
+        if (isSingleCustomizeType(descriptor.getParameterTypes())) {
+            return StreamingBodyParamUtils.buildParameters(body, descriptor);
+        }
+        LinkedList<String> genericTypes = new LinkedList<>(Arrays.asList(descriptor.getGenericTypes()));
+        Object[] objects = StreamingBodyParamUtils.readValues(body).stream().map(each -> {
+            if (each instanceof List && !genericTypes.isEmpty()) {
+                return toGenericObjects(genericTypes.pop(), (List<?>) each);
+            }
+            return each;
+        }).toArray();
+        return new ImmutablePair<>(descriptor.getParameterTypes(), objects);
+    }
+
     /**
      * Convert to GenericObject.
      *
@@ -83,6 +100,24 @@ public class SofaBodyParamResolveServiceImpl implements BodyParamResolveService
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Convert the already read maps to GenericObject.
+     *
+     * @param type generic type.
+     * @param param the read list.
+     * @return list of GenericObject.
+     */
+    private static List<Object> toGenericObjects(final String type, final List<?> param) {
+        return param.stream().map(each -> {
+            if (!(each instanceof Map)) {
+                return each;
+            }
+            GenericObject genericObject = new GenericObject(type);
+            ((Map<?, ?>) each).forEach((key, value) -> genericObject.putField((String) key, value));
+            return genericObject;
+        }).collect(Collectors.toList());
+    }
+
     /**
      * only one parameter which is customized type.
      *
@@ -19,8 +19,11 @@ package org.apache.shenyu.plugin.sofa.param;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import com.alipay.hessian.generic.model.GenericObject;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.api.param.InvocationDescriptor;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -133,6 +136,29 @@ public final class SofaBodyParamResolveServiceTest {
         assertNull(pair.getRight()[0]);
     }
 
+    @Test
+    public void testBuildParameterWithDescriptor() {
+        MetaData metaData = new MetaData();
+        metaData.setParameterTypes("java.lang.String,java.util.List#org.apache.shenyu.web.rpc.DubboMultiParameterResolveServiceImplTest.Student");
+        InvocationDescriptor<Object, Object> descriptor = new InvocationDescriptor<>(metaData, null, null);
+        String body = "{\"name\":\"hello world\",\"students\":[{\"id\":\"123\",\"name\":\"candy\"}]}";
+        Pair<String[], Object[]> pair = impl.buildParameter(body, descriptor);
+        assertThat(pair.getLeft().length, is(2));
+        assertThat(pair.getRight().length, is(2));
+        assertThat(pair.getRight()[0], is("hello world"));
+        GenericObject student = (GenericObject) ((List) pair.getRight()[1]).get(0);
+        assertThat(student.getType(), is("org.apache.shenyu.web.rpc.DubboMultiParameterResolveServiceImplTest.Student"));
+        assertThat(student.getField("name"), is("candy"));
+
+        metaData = new MetaData();
+        metaData.setParameterTypes("org.apache.shenyu.web.rpc.DubboMultiParameterResolveServiceImplTest.Student");
+        pair = impl.buildParameter("{\"id\":null,\"name\":\"candy\"}", new InvocationDescriptor<>(metaData, null, null));
+        assertThat(pair.getRight().length, is(1));
+        Map map = (Map) pair.getRight()[0];
+        assertNull(map.get("id"));
+        assertThat(map.get("name"), is("candy"));
+    }
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
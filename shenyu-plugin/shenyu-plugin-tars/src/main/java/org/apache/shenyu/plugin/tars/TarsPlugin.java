@@ -34,15 +34,14 @@ import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.tars.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrx;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrxList;
 import org.apache.shenyu.plugin.tars.util.PrxInfoUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.Method;
 import java.util.Objects;
-import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -51,8 +50,6 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class TarsPlugin extends AbstractShenyuPlugin {
 
-    private static final Random RANDOM = new Random();
-
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
@@ -73,13 +70,17 @@ public class TarsPlugin extends AbstractShenyuPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         TarsInvokePrxList tarsInvokePrxList = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        int index = RANDOM.nextInt(tarsInvokePrxList.getTarsInvokePrxList().size());
-        Object prx = tarsInvokePrxList.getTarsInvokePrxList().get(index).getInvokePrx();
-        Method method = tarsInvokePrxList.getMethod();
+        TarsInvokePrx tarsInvokePrx = tarsInvokePrxList.select();
+        if (Objects.isNull(tarsInvokePrx)) {
+            log.error("can not find tars proxy, path is :{}", metaData.getPath());
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            Object error = ShenyuResultWrap.error(ShenyuResultEnum.CANNOT_FIND_URL.getCode(), ShenyuResultEnum.CANNOT_FIND_URL.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
         CompletableFuture future;
         try {
-            future = (CompletableFuture) method
-                    .invoke(prx, PrxInfoUtil.getParamArray(tarsInvokePrxList.getParamTypes(), tarsInvokePrxList.getParamNames(), body));
+            future = (CompletableFuture) tarsInvokePrxList.invoke(tarsInvokePrx.getInvokePrx(),
+                    PrxInfoUtil.getParamArray(tarsInvokePrxList.getParamTypes(), tarsInvokePrxList.getParamNames(), body));
         } catch (Exception e) {
             log.error("Invoke tars error", e);
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
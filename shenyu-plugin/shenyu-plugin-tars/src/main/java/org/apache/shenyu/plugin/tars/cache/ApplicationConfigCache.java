@@ -45,10 +45,14 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
 import org.apache.shenyu.common.utils.GsonUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
@@ -70,7 +74,7 @@ public final class ApplicationConfigCache {
             .build(new CacheLoader<String, TarsInvokePrxList>() {
                 @Override
                 public TarsInvokePrxList load(final String key) {
-                    return new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null);
+                    return new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null, null);
                 }
             });
 
@@ -208,7 +212,7 @@ public final class ApplicationConfigCache {
             for (MetaData metaData : metaDataList) {
                 refreshTarsInvokePrxList(metaData, upstreamList);
             }
-        } catch (ExecutionException | NoSuchMethodException e) {
+        } catch (ExecutionException | NoSuchMethodException | IllegalAccessException e) {
             throw new ShenyuException(e.getCause());
         }
     }
@@ -219,26 +223,32 @@ public final class ApplicationConfigCache {
      * @param metaData     metaData
      * @param upstreamList upstream list
      */
-    private void refreshTarsInvokePrxList(final MetaData metaData, final List<DivideUpstream> upstreamList) throws NoSuchMethodException, ExecutionException {
+    private void refreshTarsInvokePrxList(final MetaData metaData, final List<DivideUpstream> upstreamList)
+            throws NoSuchMethodException, ExecutionException, IllegalAccessException {
         Class<?> prxClass = prxClassCache.get(metaData.getPath());
         if (Objects.isNull(prxClass)) {
             return;
         }
         TarsInvokePrxList tarsInvokePrxList = cache.get(metaData.getPath());
-        tarsInvokePrxList.getTarsInvokePrxList().clear();
         if (tarsInvokePrxList.getMethod() == null) {
             TarsParamInfo tarsParamInfo = prxParamCache.get(getClassMethodKey(prxClass.getName(), metaData.getMethodName()));
             Object prx = communicator.stringToProxy(prxClass, PrxInfoUtil.getObjectName(upstreamList.get(0).getUpstreamUrl(), metaData.getServiceName()));
             Method method = prx.getClass().getDeclaredMethod(
                     PrxInfoUtil.getMethodName(metaData.getMethodName()), tarsParamInfo.getParamTypes());
+            MethodHandle methodHandle = PrxInfoUtil.getMethodHandle(prxClass.getMethod(method.getName(), method.getParameterTypes()));
+            tarsInvokePrxList.setMethodHandle(methodHandle);
             tarsInvokePrxList.setMethod(method);
             tarsInvokePrxList.setParamTypes(tarsParamInfo.getParamTypes());
             tarsInvokePrxList.setParamNames(tarsParamInfo.getParamNames());
         }
+        // add the new proxies before removing the old ones, so that a concurrent select never sees an empty list
+        Set<TarsInvokePrx> staleProxies = Collections.newSetFromMap(new IdentityHashMap<>());
+        staleProxies.addAll(tarsInvokePrxList.getTarsInvokePrxList());
         tarsInvokePrxList.getTarsInvokePrxList().addAll(upstreamList.stream().map(upstream -> {
             Object strProxy = communicator.stringToProxy(prxClass, PrxInfoUtil.getObjectName(upstream.getUpstreamUrl(), metaData.getServiceName()));
-            return new TarsInvokePrx(strProxy, upstream.getUpstreamUrl());
+            return new TarsInvokePrx(strProxy, upstream.getUpstreamUrl(), upstream.getWeight(), upstream.isStatus());
         }).collect(Collectors.toList()));
+        tarsInvokePrxList.getTarsInvokePrxList().removeIf(staleProxies::contains);
     }
 
     /**
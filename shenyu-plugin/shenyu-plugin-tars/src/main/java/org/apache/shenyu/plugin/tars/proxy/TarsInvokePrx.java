@@ -34,4 +34,8 @@ public class TarsInvokePrx {
     private Object invokePrx;
 
     private String host;
+
+    private int weight;
+
+    private boolean status;
 }
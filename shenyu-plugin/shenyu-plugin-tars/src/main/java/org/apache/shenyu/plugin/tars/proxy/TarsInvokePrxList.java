@@ -21,9 +21,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Tars path invoke metadata.
@@ -41,4 +44,60 @@ public class TarsInvokePrxList {
     private Class<?>[] paramTypes;
 
     private String[] paramNames;
+
+    /**
+     * the handle of {@link #method} with the type (Object, Object[])Object, built once when the proxies are created.
+     */
+    private MethodHandle methodHandle;
+
+    /**
+     * Select a proxy at random by weight, skipping the closed proxies unless all of them are closed.
+     * All candidates are equally likely when no weight is set.
+     *
+     * @return the selected proxy, null when there is no proxy
+     */
+    public TarsInvokePrx select() {
+        // one snapshot for both passes, the list is cleared and refilled when the upstreams change
+        TarsInvokePrx[] snapshot = tarsInvokePrxList.toArray(new TarsInvokePrx[0]);
+        int count = snapshot.length;
+        int healthyCount = 0;
+        int totalWeight = 0;
+        for (TarsInvokePrx each : snapshot) {
+            if (each.isStatus()) {
+                healthyCount++;
+                totalWeight += Math.max(each.getWeight(), 0);
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        boolean healthyOnly = healthyCount > 0;
+        boolean weighted = totalWeight > 0;
+        int candidates = healthyOnly ? healthyCount : count;
+        int offset = ThreadLocalRandom.current().nextInt(weighted ? totalWeight : candidates);
+        TarsInvokePrx selected = null;
+        for (TarsInvokePrx each : snapshot) {
+            if (healthyOnly && !each.isStatus()) {
+                continue;
+            }
+            selected = each;
+            offset -= weighted ? Math.max(each.getWeight(), 0) : 1;
+            if (offset < 0) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Invoke the tars method on the proxy.
+     *
+     * @param prx    the proxy
+     * @param params the params
+     * @return the result of the method, a future of the response
+     */
+    @SneakyThrows
+    public Object invoke(final Object prx, final Object[] params) {
+        return methodHandle.invokeExact(prx, params);
+    }
 }
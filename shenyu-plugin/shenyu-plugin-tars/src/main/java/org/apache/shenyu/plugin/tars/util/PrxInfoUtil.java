@@ -22,6 +22,10 @@ import lombok.Getter;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.utils.GsonUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,35 +43,35 @@ public class PrxInfoUtil {
             if (o instanceof String) {
                 return Integer.valueOf((String) o);
             }
-            return ((Long) o).intValue();
+            return ((Number) o).intValue();
         }));
         PRIMITIVE_TYPE.put("double", new PrimitiveType(double.class, o -> {
             if (o instanceof String) {
                 return Double.valueOf((String) o);
             }
-            return o;
+            return ((Number) o).doubleValue();
         }));
         PRIMITIVE_TYPE.put("long", new PrimitiveType(long.class, o -> {
             if (o instanceof String) {
                 return Long.valueOf((String) o);
             }
-            return o;
+            return ((Number) o).longValue();
         }));
         PRIMITIVE_TYPE.put("short", new PrimitiveType(short.class, o -> {
             if (o instanceof String) {
                 return Short.valueOf((String) o);
             }
-            return ((Long) o).shortValue();
+            return ((Number) o).shortValue();
         }));
         PRIMITIVE_TYPE.put("byte", new PrimitiveType(byte.class, o -> {
             if (o instanceof String) {
                 return Byte.valueOf((String) o);
             }
-            return ((Long) o).byteValue();
+            return ((Number) o).byteValue();
         }));
         PRIMITIVE_TYPE.put("boolean", new PrimitiveType(boolean.class, o -> {
             if (o instanceof String) {
-                return Byte.valueOf((String) o);
+                return Boolean.valueOf((String) o);
             }
             return o;
         }));
@@ -81,7 +85,7 @@ public class PrxInfoUtil {
             if (o instanceof String) {
                 return Float.valueOf((String) o);
             }
-            return ((Double) o).floatValue();
+            return ((Number) o).floatValue();
         }));
     }
 
@@ -132,6 +136,19 @@ public class PrxInfoUtil {
         return serviceName + "@tcp -h " + ipAndPort[0] + " -p " + ipAndPort[1];
     }
 
+    /**
+     * Get the method handle to invoke tars server, the handle takes the proxy and the param array and returns the result as object.
+     *
+     * @param method the public method of the proxy interface
+     * @return the method handle
+     * @throws IllegalAccessException IllegalAccessException
+     */
+    public static MethodHandle getMethodHandle(final Method method) throws IllegalAccessException {
+        return MethodHandles.publicLookup().unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
     /**
      * Get param to invoke tars server.
      *
@@ -30,6 +30,7 @@ import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.tars.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrx;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrxList;
 import org.junit.Before;
 import org.junit.Test;
@@ -43,15 +44,13 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -122,7 +121,7 @@ public class TarsPluginTest {
     }
 
     @Test
-    public void testTarsPluginNormal() throws InvocationTargetException, IllegalAccessException {
+    public void testTarsPluginNormal() {
         ShenyuContext context = mock(ShenyuContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, context);
         exchange.getAttributes().put(Constants.META_DATA, metaData);
@@ -131,12 +130,26 @@ public class TarsPluginTest {
         RuleData data = mock(RuleData.class);
         SelectorData selectorData = mock(SelectorData.class);
         TarsInvokePrxList tarsInvokePrxList = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        Method method = mock(Method.class);
         ExecutorService executorService = Executors.newFixedThreadPool(1,
                 ShenyuThreadFactory.create("long-polling", true));
         CompletableFuture<String> stringCompletableFuture = CompletableFuture.supplyAsync(() -> "", executorService);
-        when(method.invoke(any(), any())).thenReturn(stringCompletableFuture);
-        tarsInvokePrxList.setMethod(method);
+        tarsInvokePrxList.setMethodHandle(MethodHandles.dropArguments(MethodHandles.constant(Object.class, stringCompletableFuture), 0, Object.class, Object[].class));
+        tarsInvokePrxList.setParamTypes(new Class<?>[]{String.class, String.class});
+        tarsInvokePrxList.setParamNames(new String[]{"param1", "param2"});
+        tarsInvokePrxList.getTarsInvokePrxList().clear();
+        tarsInvokePrxList.getTarsInvokePrxList().add(new TarsInvokePrx(new Object(), "127.0.0.1:8080", 50, true));
+        StepVerifier.create(tarsPluginUnderTest.doExecute(exchange, chain, selectorData, data)).expectSubscription().verifyComplete();
+    }
+
+    @Test
+    public void testTarsPluginWithoutProxy() {
+        ShenyuContext context = mock(ShenyuContext.class);
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+        exchange.getAttributes().put(Constants.META_DATA, metaData);
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{\"param1\":\"1\",\"param2\":\"1\"}");
+        ApplicationConfigCache.getInstance().get(metaData.getPath()).getTarsInvokePrxList().clear();
+        RuleData data = mock(RuleData.class);
+        SelectorData selectorData = mock(SelectorData.class);
         StepVerifier.create(tarsPluginUnderTest.doExecute(exchange, chain, selectorData, data)).expectSubscription().verifyComplete();
     }
 
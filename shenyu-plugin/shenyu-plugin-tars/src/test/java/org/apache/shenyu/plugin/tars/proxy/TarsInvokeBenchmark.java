@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.tars.proxy;
+
+import org.apache.shenyu.plugin.tars.util.PrxInfoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective tars invocation with the method handle invocation and the proxy selection.
+ * Run with {@code main} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TarsInvokeBenchmark {
+
+    private final Object[] params = new Object[]{"shenyu", 42};
+
+    private Object prx;
+
+    private Method method;
+
+    private TarsInvokePrxList tarsInvokePrxList;
+
+    /**
+     * Build the proxy, the reflective method and the method handle.
+     *
+     * @throws Exception the exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        prx = (OrderPrx) (name, id) -> CompletableFuture.completedFuture(name);
+        method = OrderPrx.class.getMethod("find", String.class, int.class);
+        tarsInvokePrxList = new TarsInvokePrxList(new CopyOnWriteArrayList<>(Arrays.asList(
+                new TarsInvokePrx(prx, "127.0.0.1:8080", 50, true),
+                new TarsInvokePrx(prx, "127.0.0.1:8081", 50, false),
+                new TarsInvokePrx(prx, "127.0.0.1:8082", 100, true))),
+                method, method.getParameterTypes(), new String[]{"name", "id"}, PrxInfoUtil.getMethodHandle(method));
+    }
+
+    /**
+     * Reflective invocation.
+     *
+     * @return the result
+     * @throws InvocationTargetException the invocation target exception
+     * @throws IllegalAccessException    the illegal access exception
+     */
+    @Benchmark
+    public Object reflective() throws InvocationTargetException, IllegalAccessException {
+        return method.invoke(prx, params);
+    }
+
+    /**
+     * Method handle invocation.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Object methodHandle() {
+        return tarsInvokePrxList.invoke(prx, params);
+    }
+
+    /**
+     * Weighted selection of a healthy proxy.
+     *
+     * @return the selected proxy
+     */
+    @Benchmark
+    public TarsInvokePrx select() {
+        return tarsInvokePrxList.select();
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TarsInvokeBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * The order proxy interface.
+     */
+    public interface OrderPrx {
+
+        /**
+         * Find the order.
+         *
+         * @param name the name
+         * @param id   the id
+         * @return the future of the order
+         */
+        CompletableFuture<String> find(String name, int id);
+    }
+}
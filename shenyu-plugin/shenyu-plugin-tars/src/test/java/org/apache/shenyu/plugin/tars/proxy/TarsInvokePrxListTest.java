@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.tars.proxy;
+
+import org.apache.shenyu.plugin.tars.util.PrxInfoUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test case for {@link TarsInvokePrxList}.
+ */
+public final class TarsInvokePrxListTest {
+
+    @Test
+    public void testSelectWithoutProxy() {
+        TarsInvokePrxList tarsInvokePrxList = new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null, null);
+        assertNull(tarsInvokePrxList.select());
+    }
+
+    @Test
+    public void testSelectSkipsClosedAndZeroWeight() {
+        TarsInvokePrx closed = new TarsInvokePrx(new Object(), "127.0.0.1:8080", 100, false);
+        TarsInvokePrx zeroWeight = new TarsInvokePrx(new Object(), "127.0.0.1:8081", 0, true);
+        TarsInvokePrx weighted = new TarsInvokePrx(new Object(), "127.0.0.1:8082", 10, true);
+        TarsInvokePrxList tarsInvokePrxList = new TarsInvokePrxList(new CopyOnWriteArrayList<>(Arrays.asList(closed, zeroWeight, weighted)), null, null, null, null);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("127.0.0.1:8082", tarsInvokePrxList.select().getHost());
+        }
+    }
+
+    @Test
+    public void testSelectWhenAllClosed() {
+        TarsInvokePrx closed = new TarsInvokePrx(new Object(), "127.0.0.1:8080", 100, false);
+        TarsInvokePrxList tarsInvokePrxList = new TarsInvokePrxList(new CopyOnWriteArrayList<>(Arrays.asList(closed)), null, null, null, null);
+        assertEquals("127.0.0.1:8080", tarsInvokePrxList.select().getHost());
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        TarsInvokePrxList tarsInvokePrxList = new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null,
+                PrxInfoUtil.getMethodHandle(EchoPrx.class.getMethod("echo", String.class, int.class)));
+        EchoPrx prx = (value, times) -> String.join("", Collections.nCopies(times, value));
+        assertEquals("abab", tarsInvokePrxList.invoke(prx, new Object[]{"ab", 2}));
+    }
+
+    /**
+     * The echo proxy interface.
+     */
+    public interface EchoPrx {
+
+        /**
+         * Echo the value.
+         *
+         * @param value the value
+         * @param times the times
+         * @return the repeated value
+         */
+        String echo(String value, int times);
+    }
+}
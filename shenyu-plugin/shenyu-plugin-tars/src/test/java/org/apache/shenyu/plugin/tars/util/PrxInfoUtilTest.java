@@ -76,4 +76,12 @@ public class PrxInfoUtilTest {
                         new String[]{"int", "double", "long", "short", "byte", "boolean", "char", "float"},
                         "{\"int\":11,\"double\":1.321321312,\"long\":131231312,\"short\":11,\"byte\":0,\"boolean\":false,\"char\":'a',\"float\":1.321321312}"));
     }
+
+    @Test
+    public void testGetParamArrayWithConvertedValues() {
+        assertArrayEquals(new Object[]{3.0D, 5L, true},
+                PrxInfoUtil.getParamArray(new Class<?>[]{double.class, long.class, boolean.class},
+                        new String[]{"double", "long", "boolean"},
+                        "{\"double\":3,\"long\":\"5\",\"boolean\":\"true\"}"));
+    }
 }
@@ -23,32 +23,65 @@ import com.google.gson.Gson;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.register.client.api.ShenyuClientRegisterRepository;
 import org.apache.shenyu.register.client.http.utils.RegisterUtils;
+import org.apache.shenyu.register.client.http.utils.RegisterUtils.BatchRegisterResult;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
 import org.apache.shenyu.register.common.enums.RegisterTypeEnum;
 import org.apache.shenyu.spi.Join;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Http client register repository.
+ *
+ * <p>The registrations are buffered and sent to the admin in batches of {@code batchSize}, at least
+ * every {@code batchInterval} milliseconds. An admin without the batch api (404 or 405) is registered one by one
+ * from then on, a batch that fails otherwise is registered one by one for that flush only.
  */
 @Slf4j
 @Join
 public class HttpClientRegisterRepository implements ShenyuClientRegisterRepository {
 
+    private static final String BATCH_REGISTER_PATH = "/shenyu-client/batch-register";
+
     private List<String> serverList;
 
     private Gson gson = new Gson();
 
     private Map<String, String> turn = new HashMap<>();
 
+    private final BlockingQueue<MetaDataRegisterDTO> pendingQueue = new LinkedBlockingQueue<>();
+
+    private int batchSize;
+
+    private volatile boolean batchSupported = true;
+
+    private ScheduledExecutorService flushExecutor;
+
     @Override
     public void init(final ShenyuRegisterCenterConfig config) {
         this.serverList = Lists.newArrayList(Splitter.on(",").split(config.getServerLists()));
         initTurn();
+        Properties props = config.getProps();
+        this.batchSize = Integer.parseInt(props.getProperty("batchSize", "100"));
+        long batchInterval = Long.parseLong(props.getProperty("batchInterval", "100"));
+        if (batchSize > 1 && batchInterval > 0) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "shenyu-register-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.scheduleWithFixedDelay(this::flush, batchInterval, batchInterval, TimeUnit.MILLISECONDS);
+        }
     }
 
     protected void initTurn() {
@@ -63,6 +96,56 @@ public class HttpClientRegisterRepository implements ShenyuClientRegisterReposit
 
     @Override
     public void persistInterface(final MetaDataRegisterDTO metadata) {
+        if (flushExecutor == null || !batchSupported) {
+            doRegister(metadata);
+            return;
+        }
+        pendingQueue.offer(metadata);
+        if (pendingQueue.size() >= batchSize) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flush();
+    }
+
+    private synchronized void flush() {
+        List<MetaDataRegisterDTO> metadataList = new ArrayList<>(batchSize);
+        while (pendingQueue.drainTo(metadataList, batchSize) > 0) {
+            doBatchRegister(metadataList);
+            metadataList.clear();
+        }
+    }
+
+    private void doBatchRegister(final List<MetaDataRegisterDTO> metadataList) {
+        if (batchSupported && metadataList.size() > 1) {
+            String json = gson.toJson(metadataList);
+            for (String server : serverList) {
+                try {
+                    BatchRegisterResult result = RegisterUtils.doBatchRegister(json, server + BATCH_REGISTER_PATH, metadataList.size());
+                    if (result == BatchRegisterResult.SUCCESS) {
+                        return;
+                    }
+                    if (result == BatchRegisterResult.UNSUPPORTED) {
+                        log.warn("admin url :{} does not support batch register, register one by one", server);
+                        batchSupported = false;
+                        break;
+                    }
+                } catch (Exception e) {
+                    log.error("batch register admin url :{} is fail, will retry", server);
+                }
+            }
+        }
+        // a failed batch is registered one by one this time, the next flush tries the batch api again.
+        metadataList.forEach(this::doRegister);
+    }
+
+    private void doRegister(final MetaDataRegisterDTO metadata) {
         String rpcType = metadata.getRpcType();
         for (String server : serverList) {
             try {
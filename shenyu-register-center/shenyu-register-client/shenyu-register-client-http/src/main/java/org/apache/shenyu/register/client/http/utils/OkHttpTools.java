@@ -22,6 +22,7 @@ import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.Response;
 
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
@@ -75,4 +76,21 @@ public final class OkHttpTools {
                 .build();
         return client.newCall(request).execute().body().string();
     }
+
+    /**
+     * Post and hand back the response, with its status code. The caller closes the response.
+     *
+     * @param url  the url
+     * @param json the json
+     * @return the response
+     * @throws IOException the io exception
+     */
+    public Response postForResponse(final String url, final String json) throws IOException {
+        RequestBody body = RequestBody.create(JSON, json);
+        Request request = new Request.Builder()
+                .url(url)
+                .post(body)
+                .build();
+        return client.newCall(request).execute();
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shenyu.register.client.http.utils;
 
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Response;
 
 import java.io.IOException;
 
@@ -27,6 +28,10 @@ import java.io.IOException;
 @Slf4j
 public final class RegisterUtils {
 
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private static final int HTTP_BAD_METHOD = 405;
+
     private RegisterUtils() {
     }
 
@@ -46,4 +51,50 @@ public final class RegisterUtils {
             log.error("{} client register error: {} ", rpcType, json);
         }
     }
+
+    /**
+     * call batch register api.
+     *
+     * @param json  request body
+     * @param url   url
+     * @param count the registrations in the batch
+     * @return the batch register result
+     * @throws IOException exception
+     */
+    public static BatchRegisterResult doBatchRegister(final String json, final String url, final int count) throws IOException {
+        try (Response response = OkHttpTools.getInstance().postForResponse(url, json)) {
+            if (response.code() == HTTP_NOT_FOUND || response.code() == HTTP_BAD_METHOD) {
+                return BatchRegisterResult.UNSUPPORTED;
+            }
+            String result = null == response.body() ? null : response.body().string();
+            if ("success".equals(result)) {
+                log.info("client batch register success: {} registrations", count);
+                log.debug("client batch register payload: {}", json);
+                return BatchRegisterResult.SUCCESS;
+            }
+            log.error("client batch register of {} registrations error, status: {}, result: {}", count, response.code(), result);
+            return BatchRegisterResult.FAILED;
+        }
+    }
+
+    /**
+     * The result of a batch register call.
+     */
+    public enum BatchRegisterResult {
+
+        /**
+         * the admin registered the batch.
+         */
+        SUCCESS,
+
+        /**
+         * the admin has no batch api.
+         */
+        UNSUPPORTED,
+
+        /**
+         * the admin failed the batch, it may be retried.
+         */
+        FAILED
+    }
 }
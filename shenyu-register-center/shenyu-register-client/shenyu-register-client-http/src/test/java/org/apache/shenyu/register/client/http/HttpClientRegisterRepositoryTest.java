@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.register.client.http;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import lombok.SneakyThrows;
+import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
+import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
+import org.apache.shenyu.register.common.enums.RegisterTypeEnum;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Properties;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link HttpClientRegisterRepository}.
+ */
+public final class HttpClientRegisterRepositoryTest {
+
+    private static final String BATCH_REGISTER_PATH = "/shenyu-client/batch-register";
+
+    private static final String REGISTER_PATH = "/shenyu-client/springmvc-register";
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(WireMockConfiguration.wireMockConfig().dynamicPort(), false);
+
+    private HttpClientRegisterRepository repository;
+
+    @Before
+    public void setUp() {
+        wireMockRule.stubFor(post(urlPathEqualTo(REGISTER_PATH)).willReturn(aResponse().withStatus(200).withBody("success")));
+        ShenyuRegisterCenterConfig config = new ShenyuRegisterCenterConfig();
+        config.setServerLists("http://localhost:" + wireMockRule.port());
+        Properties props = new Properties();
+        props.setProperty("batchSize", "10");
+        props.setProperty("batchInterval", "60000");
+        config.setProps(props);
+        repository = new HttpClientRegisterRepository();
+        repository.init(config);
+    }
+
+    @Test
+    public void testBatchRegister() {
+        wireMockRule.stubFor(post(urlPathEqualTo(BATCH_REGISTER_PATH)).willReturn(aResponse().withStatus(200).withBody("success")));
+        registerTwice();
+        wireMockRule.verify(1, postRequestedFor(urlPathEqualTo(BATCH_REGISTER_PATH)));
+        wireMockRule.verify(0, postRequestedFor(urlPathEqualTo(REGISTER_PATH)));
+        assertTrue(isBatchSupported());
+    }
+
+    @Test
+    public void testFailedBatchFallsBackForTheFlush() {
+        wireMockRule.stubFor(post(urlPathEqualTo(BATCH_REGISTER_PATH)).willReturn(aResponse().withStatus(500)));
+        registerTwice();
+        wireMockRule.verify(1, postRequestedFor(urlPathEqualTo(BATCH_REGISTER_PATH)));
+        wireMockRule.verify(2, postRequestedFor(urlPathEqualTo(REGISTER_PATH)));
+        assertTrue(isBatchSupported());
+    }
+
+    @Test
+    public void testMissingBatchApiDisablesBatch() {
+        wireMockRule.stubFor(post(urlPathEqualTo(BATCH_REGISTER_PATH)).willReturn(aResponse().withStatus(404)));
+        registerTwice();
+        wireMockRule.verify(1, postRequestedFor(urlPathEqualTo(BATCH_REGISTER_PATH)));
+        wireMockRule.verify(2, postRequestedFor(urlPathEqualTo(REGISTER_PATH)));
+        assertFalse(isBatchSupported());
+    }
+
+    private void registerTwice() {
+        repository.persistInterface(metadata("/http/order"));
+        repository.persistInterface(metadata("/http/user"));
+        repository.close();
+    }
+
+    private MetaDataRegisterDTO metadata(final String path) {
+        return MetaDataRegisterDTO.builder().appName("http").contextPath("/http").path(path).rpcType(RegisterTypeEnum.HTTP.getName()).build();
+    }
+
+    @SneakyThrows
+    private boolean isBatchSupported() {
+        Field field = HttpClientRegisterRepository.class.getDeclaredField("batchSupported");
+        field.setAccessible(true);
+        return field.getBoolean(repository);
+    }
+}
@@ -22,6 +22,11 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.SneakyThrows;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.shenyu.register.client.http.utils.OkHttpTools;
 import org.apache.shenyu.register.client.http.utils.RegisterUtils;
 import org.apache.shenyu.register.common.enums.RegisterTypeEnum;
@@ -29,6 +34,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockedStatic;
 
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -93,6 +100,17 @@ public final class RegisterUtilsTest {
         }
     }
     
+    @SneakyThrows
+    @Test
+    public void testDoBatchRegister() {
+        String batchUrl = "http://localhost:9095/shenyu-client/batch-register";
+        assertThat(doBatchRegister(batchUrl, 200, "success"), is(RegisterUtils.BatchRegisterResult.SUCCESS));
+        assertThat(doBatchRegister(batchUrl, 404, "{\"status\":404}"), is(RegisterUtils.BatchRegisterResult.UNSUPPORTED));
+        assertThat(doBatchRegister(batchUrl, 405, ""), is(RegisterUtils.BatchRegisterResult.UNSUPPORTED));
+        assertThat(doBatchRegister(batchUrl, 500, "{\"status\":500}"), is(RegisterUtils.BatchRegisterResult.FAILED));
+        assertThat(doBatchRegister(batchUrl, 200, "fail"), is(RegisterUtils.BatchRegisterResult.FAILED));
+    }
+    
     @SneakyThrows
     @Test(expected = IOException.class)
     public void testDoRegisterWhenThrowException() {
@@ -103,4 +121,19 @@ public final class RegisterUtilsTest {
             verify(okHttpTools, times(1)).post(eq(url), eq(json));
         }
     }
+    
+    private RegisterUtils.BatchRegisterResult doBatchRegister(final String batchUrl, final int code, final String body) throws IOException {
+        Response response = new Response.Builder()
+                .request(new Request.Builder().url(batchUrl).build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(String.valueOf(code))
+                .body(ResponseBody.create(MediaType.parse("application/json"), body))
+                .build();
+        when(okHttpTools.postForResponse(batchUrl, json)).thenReturn(response);
+        try (MockedStatic<OkHttpTools> okHttpToolsMockedStatic = mockStatic(OkHttpTools.class)) {
+            okHttpToolsMockedStatic.when(OkHttpTools::getInstance).thenReturn(okHttpTools);
+            return RegisterUtils.doBatchRegister(json, batchUrl, 2);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.net.URL;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -130,6 +131,21 @@ public final class ExtensionLoader<T> {
         return (T) value;
     }
 
+    /**
+     * Gets join handle.
+     * The handle is resolved once and stays the same instance for the lifetime of the loader,
+     * so callers can keep it instead of looking the join up by name on every call.
+     *
+     * @param name the name
+     * @return the join handle, empty when the name is blank or not registered
+     */
+    public Optional<T> getJoinHandle(final String name) {
+        if (StringUtils.isBlank(name) || !getExtensionClasses().containsKey(name)) {
+            return Optional.empty();
+        }
+        return Optional.of(getJoin(name));
+    }
+
     @SuppressWarnings("unchecked")
     private T createExtension(final String name) {
         Class<?> aClass = getExtensionClasses().get(name);
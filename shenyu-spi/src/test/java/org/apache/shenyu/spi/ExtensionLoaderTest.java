@@ -36,6 +36,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -48,6 +49,17 @@ public final class ExtensionLoaderTest {
         assertThat(jdbcSPI.getClass().getName(), is(MysqlSPI.class.getName()));
     }
     
+    /**
+     * test SPI join handle case.
+     */
+    @Test
+    public void testSPIGetJoinHandle() {
+        ExtensionLoader<JdbcSPI> extensionLoader = ExtensionLoader.getExtensionLoader(JdbcSPI.class);
+        assertThat(extensionLoader.getJoinHandle("mysql").orElse(null), is(extensionLoader.getJoin("mysql")));
+        assertFalse(extensionLoader.getJoinHandle("").isPresent());
+        assertFalse(extensionLoader.getJoinHandle("unknown").isPresent());
+    }
+    
     /**
      * test SPI has default value case.
      */
@@ -21,7 +21,7 @@ import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.context.ShenyuContextDecorator;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
 import org.apache.shenyu.plugin.dubbo.common.context.DubboShenyuContextDecorator;
-import org.apache.shenyu.plugin.dubbo.common.param.DubboBodyParamResolveServiceImpl;
+import org.apache.shenyu.plugin.dubbo.common.param.DubboStreamingBodyParamResolveServiceImpl;
 import org.apache.shenyu.plugin.dubbo.common.response.DubboResponsePlugin;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.SearchStrategy;
@@ -62,6 +62,6 @@ public class DubboCommonConfiguration {
     @Bean
     @ConditionalOnMissingBean(value = BodyParamResolveService.class, search = SearchStrategy.ALL)
     public BodyParamResolveService dubboBodyParamResolveService() {
-        return new DubboBodyParamResolveServiceImpl();
+        return new DubboStreamingBodyParamResolveServiceImpl();
     }
 }
@@ -25,6 +25,8 @@ import org.apache.shenyu.plugin.grpc.GrpcPlugin;
 import org.apache.shenyu.plugin.grpc.context.GrpcShenyuContextDecorator;
 import org.apache.shenyu.plugin.grpc.handler.GrpcPluginDataHandler;
 import org.apache.shenyu.plugin.grpc.response.GrpcResponsePlugin;
+import org.apache.shenyu.plugin.grpc.subscriber.GrpcMetaDataSubscriber;
+import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -64,6 +66,16 @@ public class GrpcPluginConfiguration {
         return new GrpcPluginDataHandler();
     }
 
+    /**
+     * Grpc meta data subscriber.
+     *
+     * @return the meta data subscriber
+     */
+    @Bean
+    public MetaDataSubscriber grpcMetaDataSubscriber() {
+        return new GrpcMetaDataSubscriber();
+    }
+
     /**
      * Grpc shenyu context decorator shenyu context decorator.
      *
@@ -183,11 +183,12 @@ public class HttpClientPluginConfiguration {
          * Netty http client plugin shenyu plugin.
          *
          * @param httpClient the http client
+         * @param properties the properties
          * @return the shenyu plugin
          */
         @Bean
-        public ShenyuPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient) {
-            return new NettyHttpClientPlugin(httpClient.getIfAvailable());
+        public ShenyuPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient, final HttpClientProperties properties) {
+            return new NettyHttpClientPlugin(httpClient.getIfAvailable(), properties.isNativeHeaders());
         }
 
         /**
@@ -87,6 +87,25 @@ public interface PluginDataSubscriber {
     default void refreshSelectorDataSelf(List<SelectorData> selectorDataList) {
     }
     
+    /**
+     * On selector subscribe, applying the whole batch at once.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void onSelectorSubscribeBatch(List<SelectorData> selectorDataList) {
+        selectorDataList.forEach(this::onSelectorSubscribe);
+    }
+    
+    /**
+     * Refresh all selector data with the batch, replacing the former ones.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void refreshSelectorDataBatch(List<SelectorData> selectorDataList) {
+        refreshSelectorDataAll();
+        selectorDataList.forEach(this::onSelectorSubscribe);
+    }
+    
     /**
      * On rule subscribe.
      *
@@ -116,4 +135,23 @@ public interface PluginDataSubscriber {
      */
     default void refreshRuleDataSelf(List<RuleData> ruleDataList) {
     }
+    
+    /**
+     * On rule subscribe, applying the whole batch at once.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void onRuleSubscribeBatch(List<RuleData> ruleDataList) {
+        ruleDataList.forEach(this::onRuleSubscribe);
+    }
+    
+    /**
+     * Refresh all rule data with the batch, replacing the former ones.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void refreshRuleDataBatch(List<RuleData> ruleDataList) {
+        refreshRuleDataAll();
+        ruleDataList.forEach(this::onRuleSubscribe);
+    }
 }
@@ -25,6 +25,9 @@ import com.google.gson.JsonObject;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -36,7 +39,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.HttpConstants;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.ThreadUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
@@ -51,11 +56,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * HTTP long polling implementation.
+ * When the server supports the delta sync, the changed groups only trigger fetching the change events
+ * since the last version, the full config is fetched on cold start or when the events are no longer available.
  */
 @SuppressWarnings("all")
 @Slf4j
@@ -65,6 +73,11 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
 
     private static final Gson GSON = new Gson();
 
+    /**
+     * The version of a server which does not support the delta sync.
+     */
+    private static final SyncVersion UNSUPPORTED = new SyncVersion(null, -1);
+
     /**
      * default: 10s.
      */
@@ -83,6 +96,11 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
 
     private DataRefreshFactory factory;
 
+    /**
+     * The delta sync version of each server.
+     */
+    private final Map<String, SyncVersion> syncVersions = new ConcurrentHashMap<>();
+
     public HttpSyncDataService(final HttpConfig httpConfig, final PluginDataSubscriber pluginDataSubscriber,
                                final List<MetaDataSubscriber> metaDataSubscribers, final List<AuthDataSubscriber> authDataSubscribers) {
         this.factory = new DataRefreshFactory(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers);
@@ -102,6 +120,8 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
     private void start() {
         // It could be initialized multiple times, so you need to control that.
         if (RUNNING.compareAndSet(false, true)) {
+            // take the versions before fetching, the events racing with the fetch are replayed by the delta sync.
+            this.serverList.forEach(this::initSyncVersion);
             // fetch all group configs.
             this.fetchGroupConfig(ConfigGroupEnum.values());
             int threadSize = serverList.size();
@@ -132,6 +152,17 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
     }
 
     private void doFetchGroupConfig(final String server, final ConfigGroupEnum... groups) {
+        // update local cache
+        boolean updated = this.updateGroupConfig(server, groups);
+        if (updated) {
+            return;
+        }
+        // not updated. it is likely that the current config server has not been updated yet. wait a moment.
+        log.info("The config of the server[{}] has not been updated or is out of date. Wait for 30s to listen for changes again.", server);
+        ThreadUtils.sleep(TimeUnit.SECONDS, 30);
+    }
+
+    private boolean updateGroupConfig(final String server, final ConfigGroupEnum... groups) {
         StringBuilder params = new StringBuilder();
         for (ConfigGroupEnum groupKey : groups) {
             params.append("groupKeys").append("=").append(groupKey.name()).append("&");
@@ -146,15 +177,64 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
             log.warn(message);
             throw new ShenyuException(message, e);
         }
-        // update local cache
         boolean updated = this.updateCacheWithJson(json);
         if (updated) {
             log.info("get latest configs: [{}]", json);
-            return;
         }
-        // not updated. it is likely that the current config server has not been updated yet. wait a moment.
-        log.info("The config of the server[{}] has not been updated or is out of date. Wait for 30s to listen for changes again.", server);
-        ThreadUtils.sleep(TimeUnit.SECONDS, 30);
+        return updated;
+    }
+
+    /**
+     * take the current version of the server.
+     * @param server the server
+     * @return true: the server supports the delta sync.
+     */
+    private boolean initSyncVersion(final String server) {
+        try {
+            ConfigDeltaData delta = this.doFetchDelta(server, UNSUPPORTED);
+            syncVersions.put(server, new SyncVersion(delta.getEpoch(), delta.getVersion()));
+            return true;
+        } catch (HttpClientErrorException e) {
+            log.info("server[{}] does not support the delta sync, compare the config md5 instead.", server);
+            syncVersions.put(server, UNSUPPORTED);
+        } catch (RestClientException e) {
+            log.warn("fetch delta version fail from server[{}], {}", server, e.getMessage());
+        }
+        return false;
+    }
+
+    private ConfigDeltaData doFetchDelta(final String server, final SyncVersion syncVersion) {
+        StringBuilder url = new StringBuilder(server).append("/configs/delta?version=").append(syncVersion.version);
+        if (syncVersion.epoch != null) {
+            url.append("&epoch=").append(syncVersion.epoch);
+        }
+        String json = this.httpClient.getForObject(url.toString(), String.class);
+        return GSON.fromJson(GSON.fromJson(json, JsonObject.class).get("data"), ConfigDeltaData.class);
+    }
+
+    /**
+     * apply the change events since the version of the server, fetch the full config if they are not available.
+     * @param server the server
+     * @param syncVersion the version of the server
+     */
+    private void doSyncDelta(final String server, final SyncVersion syncVersion) {
+        ConfigDeltaData delta;
+        try {
+            delta = this.doFetchDelta(server, syncVersion);
+        } catch (RestClientException e) {
+            String message = String.format("fetch delta fail from server[%s], %s", server, e.getMessage());
+            throw new ShenyuException(message, e);
+        }
+        if (delta.isFull()) {
+            log.info("The events of the server[{}] since {} are not available, fetch the full config.", server, syncVersion);
+            this.updateGroupConfig(server, ConfigGroupEnum.values());
+        } else {
+            delta.getEvents().forEach(event -> {
+                log.info("apply {} {} event of version {}", event.getGroup(), event.getEventType(), event.getVersion());
+                factory.apply(ConfigGroupEnum.valueOf(event.getGroup()), DataEventTypeEnum.valueOf(event.getEventType()), event.getJson());
+            });
+        }
+        syncVersions.put(server, new SyncVersion(delta.getEpoch(), delta.getVersion()));
     }
 
     /**
@@ -171,6 +251,11 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
 
     @SuppressWarnings("unchecked")
     private void doLongPolling(final String server) {
+        if (!syncVersions.containsKey(server) && this.initSyncVersion(server)) {
+            // catch up with the version taken just now.
+            this.updateGroupConfig(server, ConfigGroupEnum.values());
+        }
+        SyncVersion syncVersion = syncVersions.getOrDefault(server, UNSUPPORTED);
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>(8);
         for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
             ConfigData<?> cacheConfig = factory.cacheConfigData(group);
@@ -179,6 +264,9 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
                 params.put(group.name(), Lists.newArrayList(value));
             }
         }
+        if (syncVersion != UNSUPPORTED) {
+            params.put(HttpConstants.SYNC_VERSION, Lists.newArrayList(syncVersion.toString()));
+        }
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
         HttpEntity httpEntity = new HttpEntity(params, headers);
@@ -198,7 +286,11 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
             ConfigGroupEnum[] changedGroups = GSON.fromJson(groupJson, ConfigGroupEnum[].class);
             if (ArrayUtils.isNotEmpty(changedGroups)) {
                 log.info("Group config changed: {}", Arrays.toString(changedGroups));
-                this.doFetchGroupConfig(server, changedGroups);
+                if (syncVersion != UNSUPPORTED) {
+                    this.doSyncDelta(server, syncVersion);
+                } else {
+                    this.doFetchGroupConfig(server, changedGroups);
+                }
             }
         }
     }
@@ -246,4 +338,21 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
             log.warn("Stop http long polling.");
         }
     }
+
+    private static final class SyncVersion {
+
+        private final String epoch;
+
+        private final long version;
+
+        SyncVersion(final String epoch, final long version) {
+            this.epoch = epoch;
+            this.version = version;
+        }
+
+        @Override
+        public String toString() {
+            return String.join(",", Objects.toString(epoch, ""), String.valueOf(version));
+        }
+    }
 }
@@ -23,7 +23,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -62,6 +64,35 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
      */
     protected abstract ConfigData<T> fromJson(JsonObject data);
 
+    /**
+     * The group of the data.
+     *
+     * @return the group
+     */
+    protected abstract ConfigGroupEnum group();
+
+    /**
+     * Convert the changed data list.
+     *
+     * @param json the json
+     * @return the data list
+     */
+    protected abstract List<T> convertList(String json);
+
+    /**
+     * Create or update the data.
+     *
+     * @param data the data
+     */
+    protected abstract void update(List<T> data);
+
+    /**
+     * Delete the data.
+     *
+     * @param data the data
+     */
+    protected abstract void delete(List<T> data);
+
     /**
      * Refresh.
      *
@@ -83,6 +114,25 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
         return updated;
     }
 
+    @Override
+    public void apply(final DataEventTypeEnum eventType, final String json) {
+        List<T> data = convertList(json);
+        // the cached md5 no longer describes the data, so the next full fetch is always applied.
+        GROUP_CACHE.computeIfPresent(group(), (groupEnum, oldVal) -> new ConfigData<>("", 0L, Collections.emptyList()));
+        switch (eventType) {
+            case REFRESH:
+            case MYSELF:
+                refresh(data);
+                break;
+            case DELETE:
+                delete(data);
+                break;
+            default:
+                update(data);
+                break;
+        }
+    }
+
     /**
      * Update cache if need boolean.
      *
@@ -26,6 +26,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 
 /**
@@ -67,4 +68,24 @@ public class AppAuthDataRefresh extends AbstractDataRefresh<AppAuthData> {
             data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
         }
     }
+
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.APP_AUTH;
+    }
+
+    @Override
+    protected List<AppAuthData> convertList(final String json) {
+        return GsonUtils.getInstance().fromList(json, AppAuthData.class);
+    }
+
+    @Override
+    protected void update(final List<AppAuthData> data) {
+        data.forEach(appAuthData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(appAuthData)));
+    }
+
+    @Override
+    protected void delete(final List<AppAuthData> data) {
+        data.forEach(appAuthData -> authDataSubscribers.forEach(subscriber -> subscriber.unSubscribe(appAuthData)));
+    }
 }
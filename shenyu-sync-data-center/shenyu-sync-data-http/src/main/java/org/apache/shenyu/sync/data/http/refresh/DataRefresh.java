@@ -19,6 +19,7 @@ package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 
 /**
  * The interface Data refresh.
@@ -39,4 +40,12 @@ public interface DataRefresh {
      * @return the config data
      */
     ConfigData<?> cacheConfigData();
+
+    /**
+     * Apply a change event of the delta sync.
+     *
+     * @param eventType the event type
+     * @param json      the changed data list
+     */
+    void apply(DataEventTypeEnum eventType, String json);
 }
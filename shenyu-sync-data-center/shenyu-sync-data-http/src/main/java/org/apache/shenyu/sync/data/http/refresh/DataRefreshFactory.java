@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -74,4 +75,15 @@ public final class DataRefreshFactory {
     public ConfigData<?> cacheConfigData(final ConfigGroupEnum group) {
         return ENUM_MAP.get(group).cacheConfigData();
     }
+
+    /**
+     * Apply a change event of the delta sync.
+     *
+     * @param group     the group
+     * @param eventType the event type
+     * @param json      the changed data list
+     */
+    public void apply(final ConfigGroupEnum group, final DataEventTypeEnum eventType, final String json) {
+        ENUM_MAP.get(group).apply(eventType, json);
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -67,4 +68,24 @@ public class PluginDataRefresh extends AbstractDataRefresh<PluginData> {
         }
         data.forEach(pluginDataSubscriber::onSubscribe);
     }
+
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.PLUGIN;
+    }
+
+    @Override
+    protected List<PluginData> convertList(final String json) {
+        return GsonUtils.getInstance().fromList(json, PluginData.class);
+    }
+
+    @Override
+    protected void update(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::onSubscribe);
+    }
+
+    @Override
+    protected void delete(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::unSubscribe);
+    }
 }
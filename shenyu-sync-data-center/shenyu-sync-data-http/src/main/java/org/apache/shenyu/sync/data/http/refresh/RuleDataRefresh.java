@@ -26,6 +26,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -66,8 +67,27 @@ public class RuleDataRefresh extends AbstractDataRefresh<RuleData> {
             pluginDataSubscriber.refreshRuleDataAll();
         } else {
             // update cache for UpstreamCacheManager
-            pluginDataSubscriber.refreshRuleDataAll();
-            data.forEach(pluginDataSubscriber::onRuleSubscribe);
+            pluginDataSubscriber.refreshRuleDataBatch(data);
         }
     }
+
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.RULE;
+    }
+
+    @Override
+    protected List<RuleData> convertList(final String json) {
+        return GsonUtils.getInstance().fromList(json, RuleData.class);
+    }
+
+    @Override
+    protected void update(final List<RuleData> data) {
+        pluginDataSubscriber.onRuleSubscribeBatch(data);
+    }
+
+    @Override
+    protected void delete(final List<RuleData> data) {
+        data.forEach(pluginDataSubscriber::unRuleSubscribe);
+    }
 }
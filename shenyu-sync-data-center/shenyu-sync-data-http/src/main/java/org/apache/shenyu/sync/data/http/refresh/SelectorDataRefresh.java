@@ -26,6 +26,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -66,8 +67,27 @@ public class SelectorDataRefresh extends AbstractDataRefresh<SelectorData> {
             pluginDataSubscriber.refreshSelectorDataAll();
         } else {
             // update cache for UpstreamCacheManager
-            pluginDataSubscriber.refreshSelectorDataAll();
-            data.forEach(pluginDataSubscriber::onSelectorSubscribe);
+            pluginDataSubscriber.refreshSelectorDataBatch(data);
         }
     }
+
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.SELECTOR;
+    }
+
+    @Override
+    protected List<SelectorData> convertList(final String json) {
+        return GsonUtils.getInstance().fromList(json, SelectorData.class);
+    }
+
+    @Override
+    protected void update(final List<SelectorData> data) {
+        pluginDataSubscriber.onSelectorSubscribeBatch(data);
+    }
+
+    @Override
+    protected void delete(final List<SelectorData> data) {
+        data.forEach(pluginDataSubscriber::unSelectorSubscribe);
+    }
 }
@@ -21,8 +21,11 @@ import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import lombok.SneakyThrows;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
+import org.apache.shenyu.common.dto.ConfigEventData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
@@ -49,8 +52,10 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -82,6 +87,13 @@ public class HttpSyncDataServiceTest {
                         .withStatus(200))
         );
 
+        wireMockRule.stubFor(get(urlPathEqualTo("/configs/delta"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .withBody(this.mockConfigsDeltaResponseJson())
+                        .withStatus(200))
+        );
+
         HttpConfig httpConfig = new HttpConfig();
         httpConfig.setUrl(this.getMockServerUrl());
         // set http connection timeout
@@ -111,6 +123,8 @@ public class HttpSyncDataServiceTest {
         verify(pluginDataSubscriber, atLeastOnce()).refreshPluginDataAll();
         verify(metaDataSubscriber, atLeastOnce()).refresh();
         verify(authDataSubscriber, atLeastOnce()).refresh();
+        // the changed group is synced by the delta.
+        verify(pluginDataSubscriber, timeout(5000).atLeastOnce()).onSubscribe(argThat(plugin -> "divide".equals(plugin.getName())));
     }
 
     private String getMockServerUrl() {
@@ -122,6 +136,16 @@ public class HttpSyncDataServiceTest {
         return "{\"code\":200,\"message\":\"success\",\"data\":[\"PLUGIN\"]}";
     }
 
+    // mock configs delta api response
+    private String mockConfigsDeltaResponseJson() {
+        String json = GsonUtils.getInstance().toJson(Collections.singletonList(PluginData.builder().id("5").name("divide").enabled(true).build()));
+        ConfigEventData event = new ConfigEventData(1, ConfigGroupEnum.PLUGIN.name(), DataEventTypeEnum.UPDATE.name(), json);
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", new ConfigDeltaData("epoch", 1, false, Collections.singletonList(event)));
+        response.put("code", 200);
+        return GsonUtils.getInstance().toJson(response);
+    }
+
     // mock configs fetch api response
     @SneakyThrows
     private String mockConfigsFetchResponseJson() {
@@ -22,6 +22,7 @@ import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.junit.Test;
@@ -32,6 +33,9 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class RuleDataRefreshTest {
 
@@ -78,4 +82,19 @@ public class RuleDataRefreshTest {
         ruleDataList.add(ruleData);
         ruleDataRefresh.refresh(ruleDataList);
     }
+
+    @Test
+    public void testApply() {
+        PluginDataSubscriber subscriber = mock(PluginDataSubscriber.class);
+        RuleDataRefresh ruleDataRefresh = new RuleDataRefresh(subscriber);
+        ConfigData<RuleData> cached = new ConfigData<>("md5", System.currentTimeMillis(), Collections.emptyList());
+        ruleDataRefresh.updateCacheIfNeed(cached);
+        String json = GsonUtils.getInstance().toJson(Collections.singletonList(RuleData.builder().id("1").build()));
+        ruleDataRefresh.apply(DataEventTypeEnum.UPDATE, json);
+        verify(subscriber).onRuleSubscribeBatch(any());
+        ruleDataRefresh.apply(DataEventTypeEnum.DELETE, json);
+        verify(subscriber).unRuleSubscribe(any());
+        // the next full fetch must be applied, even with the same md5.
+        assertThat(ruleDataRefresh.updateCacheIfNeed(cached), is(true));
+    }
 }
@@ -17,13 +17,15 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shenyu.common.dto.WebsocketData;
-import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
-import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 import org.apache.shenyu.plugin.sync.data.websocket.handler.WebsocketDataHandler;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
@@ -33,6 +35,7 @@ import org.java_websocket.handshake.ServerHandshake;
 
 /**
  * The type shenyu websocket client.
+ * It asks the admin for the deflated and chunked binary frames of the v2 protocol, and still reads the text frames.
  */
 @Slf4j
 public final class ShenyuWebsocketClient extends WebSocketClient {
@@ -41,6 +44,8 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
     
     private final WebsocketDataHandler websocketDataHandler;
     
+    private final WebsocketFrameAssembler websocketFrameAssembler = new WebsocketFrameAssembler();
+    
     /**
      * Instantiates a new shenyu websocket client.
      *
@@ -51,7 +56,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
      */
     public ShenyuWebsocketClient(final URI serverUri, final PluginDataSubscriber pluginDataSubscriber,
                                  final List<MetaDataSubscriber> metaDataSubscribers, final List<AuthDataSubscriber> authDataSubscribers) {
-        super(serverUri);
+        super(serverUri, Collections.singletonMap(WebsocketFrameUtils.PROTOCOL_HEADER, WebsocketFrameUtils.PROTOCOL_V2));
         this.websocketDataHandler = new WebsocketDataHandler(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers);
     }
     
@@ -68,6 +73,14 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         handleResult(result);
     }
     
+    @Override
+    public void onMessage(final ByteBuffer bytes) {
+        Reader reader = websocketFrameAssembler.offer(bytes);
+        if (null != reader) {
+            websocketDataHandler.executor(reader);
+        }
+    }
+    
     @Override
     public void onClose(final int i, final String s, final boolean b) {
         this.close();
@@ -80,10 +93,6 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
     
     @SuppressWarnings("ALL")
     private void handleResult(final String result) {
-        WebsocketData websocketData = GsonUtils.getInstance().fromJson(result, WebsocketData.class);
-        ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(websocketData.getGroupType());
-        String eventType = websocketData.getEventType();
-        String json = GsonUtils.getInstance().toJson(websocketData.getData());
-        websocketDataHandler.executor(groupEnum, json, eventType);
+        websocketDataHandler.executor(new StringReader(result));
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sync.data.websocket.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * Joins the chunks of the websocket sync v2 binary frames, see {@link WebsocketFrameUtils}.
+ * The admin sends the chunks of a message in order, a message with a missing chunk is dropped.
+ */
+@Slf4j
+final class WebsocketFrameAssembler {
+
+    private final ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+
+    private int messageId;
+
+    private int nextIndex = -1;
+
+    /**
+     * Add a frame.
+     *
+     * @param frame the frame
+     * @return the reader of the message json once all of its chunks are added, or null
+     */
+    Reader offer(final ByteBuffer frame) {
+        if (frame.remaining() < WebsocketFrameUtils.HEADER_LENGTH || frame.get() != WebsocketFrameUtils.FRAME_VERSION) {
+            log.warn("websocket ignore the unknown binary frame");
+            return null;
+        }
+        int id = frame.getInt();
+        int index = frame.getInt();
+        int count = frame.getInt();
+        if (0 == index) {
+            deflated.reset();
+            messageId = id;
+        } else if (id != messageId || index != nextIndex) {
+            log.warn("websocket drop the message {}, expect chunk {} of message {} but receive chunk {}", id, nextIndex, messageId, index);
+            deflated.reset();
+            nextIndex = -1;
+            return null;
+        }
+        byte[] chunk = new byte[frame.remaining()];
+        frame.get(chunk);
+        deflated.write(chunk, 0, chunk.length);
+        nextIndex = index + 1;
+        if (nextIndex < count) {
+            return null;
+        }
+        byte[] bytes = deflated.toByteArray();
+        deflated.reset();
+        nextIndex = -1;
+        return WebsocketFrameUtils.decode(bytes);
+    }
+}
@@ -17,9 +17,13 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import java.lang.reflect.Type;
 import java.util.List;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 
 /**
  * The type Abstract data handler.
@@ -28,13 +32,24 @@ import org.apache.shenyu.common.enums.DataEventTypeEnum;
  */
 public abstract class AbstractDataHandler<T> implements DataHandler {
 
+    private final Type listType = TypeToken.getParameterized(List.class, dataClass()).getType();
+
+    /**
+     * The class of the data.
+     *
+     * @return the class
+     */
+    protected abstract Class<T> dataClass();
+
     /**
      * Convert list.
      *
      * @param json the json
      * @return the list
      */
-    protected abstract List<T> convert(String json);
+    protected List<T> convert(final String json) {
+        return GsonUtils.getGson().fromJson(json, listType);
+    }
 
     /**
      * Do refresh.
@@ -59,7 +74,15 @@ public abstract class AbstractDataHandler<T> implements DataHandler {
 
     @Override
     public void handle(final String json, final String eventType) {
-        List<T> dataList = convert(json);
+        handle(convert(json), eventType);
+    }
+
+    @Override
+    public void handle(final JsonReader reader, final String eventType) {
+        handle(GsonUtils.getGson().<List<T>>fromJson(reader, listType), eventType);
+    }
+
+    private void handle(final List<T> dataList, final String eventType) {
         if (CollectionUtils.isNotEmpty(dataList)) {
             DataEventTypeEnum eventTypeEnum = DataEventTypeEnum.acquireByName(eventType);
             switch (eventTypeEnum) {
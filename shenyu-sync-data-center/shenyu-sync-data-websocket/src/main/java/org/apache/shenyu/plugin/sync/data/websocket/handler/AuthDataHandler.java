@@ -20,7 +20,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.shenyu.common.dto.AppAuthData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 
 /**
@@ -32,8 +31,8 @@ public class AuthDataHandler extends AbstractDataHandler<AppAuthData> {
     private final List<AuthDataSubscriber> authDataSubscribers;
 
     @Override
-    public List<AppAuthData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, AppAuthData.class);
+    protected Class<AppAuthData> dataClass() {
+        return AppAuthData.class;
     }
 
     @Override
@@ -20,7 +20,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 
 /**
@@ -32,8 +31,8 @@ public class MetaDataHandler extends AbstractDataHandler<MetaData> {
     private final List<MetaDataSubscriber> metaDataSubscribers;
 
     @Override
-    public List<MetaData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, MetaData.class);
+    protected Class<MetaData> dataClass() {
+        return MetaData.class;
     }
 
     @Override
@@ -20,7 +20,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.shenyu.common.dto.PluginData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -32,8 +31,8 @@ public class PluginDataHandler extends AbstractDataHandler<PluginData> {
     private final PluginDataSubscriber pluginDataSubscriber;
 
     @Override
-    public List<PluginData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, PluginData.class);
+    protected Class<PluginData> dataClass() {
+        return PluginData.class;
     }
 
     @Override
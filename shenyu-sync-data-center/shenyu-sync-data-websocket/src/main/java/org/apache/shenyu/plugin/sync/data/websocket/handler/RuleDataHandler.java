@@ -20,7 +20,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.shenyu.common.dto.RuleData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -32,19 +31,18 @@ public class RuleDataHandler extends AbstractDataHandler<RuleData> {
     private final PluginDataSubscriber pluginDataSubscriber;
 
     @Override
-    public List<RuleData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, RuleData.class);
+    protected Class<RuleData> dataClass() {
+        return RuleData.class;
     }
 
     @Override
     protected void doRefresh(final List<RuleData> dataList) {
-        pluginDataSubscriber.refreshRuleDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        pluginDataSubscriber.onRuleSubscribeBatch(dataList);
     }
 
     @Override
     protected void doUpdate(final List<RuleData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        pluginDataSubscriber.onRuleSubscribeBatch(dataList);
     }
 
     @Override
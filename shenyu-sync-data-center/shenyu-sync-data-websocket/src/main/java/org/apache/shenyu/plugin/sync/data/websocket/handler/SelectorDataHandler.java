@@ -20,7 +20,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -32,19 +31,18 @@ public class SelectorDataHandler extends AbstractDataHandler<SelectorData> {
     private final PluginDataSubscriber pluginDataSubscriber;
 
     @Override
-    public List<SelectorData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, SelectorData.class);
+    protected Class<SelectorData> dataClass() {
+        return SelectorData.class;
     }
 
     @Override
     protected void doRefresh(final List<SelectorData> dataList) {
-        pluginDataSubscriber.refreshSelectorDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorSubscribeBatch(dataList);
     }
 
     @Override
     protected void doUpdate(final List<SelectorData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorSubscribeBatch(dataList);
     }
 
     @Override
@@ -17,9 +17,18 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -27,8 +36,15 @@ import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 /**
  * The type Websocket cache handler.
  */
+@Slf4j
 public class WebsocketDataHandler {
 
+    private static final String GROUP_TYPE = "groupType";
+
+    private static final String EVENT_TYPE = "eventType";
+
+    private static final String DATA = "data";
+
     private static final EnumMap<ConfigGroupEnum, DataHandler> ENUM_MAP = new EnumMap<>(ConfigGroupEnum.class);
 
     /**
@@ -58,4 +74,78 @@ public class WebsocketDataHandler {
     public void executor(final ConfigGroupEnum type, final String json, final String eventType) {
         ENUM_MAP.get(type).handle(json, eventType);
     }
+
+    /**
+     * Read a {@link org.apache.shenyu.common.dto.WebsocketData} and handle its data in a single pass.
+     * The admin writes the group type and event type before the data, so the data is decoded straight
+     * into the typed list of the group; otherwise it is buffered until the group type is read.
+     *
+     * @param reader the reader of the websocket data
+     */
+    public void executor(final Reader reader) {
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            String groupType = null;
+            String eventType = null;
+            JsonElement data = null;
+            boolean handled = false;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                switch (jsonReader.nextName()) {
+                    case GROUP_TYPE:
+                        groupType = nextString(jsonReader);
+                        break;
+                    case EVENT_TYPE:
+                        eventType = nextString(jsonReader);
+                        break;
+                    case DATA:
+                        if (null != groupType && null != eventType) {
+                            DataHandler handler = acquireHandler(groupType);
+                            if (Objects.isNull(handler)) {
+                                jsonReader.skipValue();
+                            } else {
+                                handler.handle(jsonReader, eventType);
+                            }
+                            handled = true;
+                        } else {
+                            data = GsonUtils.getGson().fromJson(jsonReader, JsonElement.class);
+                        }
+                        break;
+                    default:
+                        jsonReader.skipValue();
+                        break;
+                }
+            }
+            jsonReader.endObject();
+            if (!handled && null != data) {
+                DataHandler handler = acquireHandler(groupType);
+                if (Objects.nonNull(handler)) {
+                    handler.handle(data.toString(), eventType);
+                }
+            }
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+    }
+
+    private static DataHandler acquireHandler(final String groupType) {
+        DataHandler handler = null;
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            if (group.name().equals(groupType)) {
+                handler = ENUM_MAP.get(group);
+                break;
+            }
+        }
+        if (Objects.isNull(handler)) {
+            log.warn("websocket skip the data of the unknown group type {}", groupType);
+        }
+        return handler;
+    }
+
+    private static String nextString(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sync.data.websocket.handler;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.WebsocketData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares parsing, re-serializing and parsing again a full rule sync with the single pass decoder.
+ * Run with {@code main} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebsocketDataHandlerBenchmark {
+
+    private static final int RULE_SIZE = 50000;
+
+    private final WebsocketDataHandler websocketDataHandler = new WebsocketDataHandler(new PluginDataSubscriber() {
+    }, Collections.emptyList(), Collections.emptyList());
+
+    private String message;
+
+    /**
+     * Build the full rule sync message.
+     */
+    @Setup
+    public void setUp() {
+        List<RuleData> ruleDataList = IntStream.range(0, RULE_SIZE)
+                .mapToObj(i -> {
+                    ConditionData conditionData = new ConditionData();
+                    conditionData.setParamType("uri");
+                    conditionData.setOperator("match");
+                    conditionData.setParamName("/");
+                    conditionData.setParamValue("/http/order/" + i + "/**");
+                    return RuleData.builder().id(String.valueOf(i)).name("/http/order/" + i).pluginName("divide")
+                            .selectorId(String.valueOf(i % 100)).matchMode(0).sort(i).enabled(true).loged(true)
+                            .handle("{\"loadBalance\":\"random\",\"retry\":0,\"timeout\":3000}")
+                            .conditionDataList(Collections.singletonList(conditionData)).build();
+                })
+                .collect(Collectors.toList());
+        message = GsonUtils.getInstance().toJson(new WebsocketData<>(ConfigGroupEnum.RULE.name(), DataEventTypeEnum.MYSELF.name(), ruleDataList));
+    }
+
+    /**
+     * Parse the message, serialize the data back and parse it again, as before.
+     */
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public void threePasses() {
+        WebsocketData websocketData = GsonUtils.getInstance().fromJson(message, WebsocketData.class);
+        String json = GsonUtils.getInstance().toJson(websocketData.getData());
+        websocketDataHandler.executor(ConfigGroupEnum.acquireByName(websocketData.getGroupType()), json, websocketData.getEventType());
+    }
+
+    /**
+     * Decode the data straight into the rule list.
+     */
+    @Benchmark
+    public void singlePass() {
+        websocketDataHandler.executor(new StringReader(message));
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WebsocketDataHandlerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
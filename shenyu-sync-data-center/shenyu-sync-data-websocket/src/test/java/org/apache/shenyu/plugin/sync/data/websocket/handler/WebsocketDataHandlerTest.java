@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sync.data.websocket.handler;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.WebsocketData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public final class WebsocketDataHandlerTest {
+
+    private final PluginDataSubscriber subscriber = mock(PluginDataSubscriber.class);
+
+    private final WebsocketDataHandler websocketDataHandler = new WebsocketDataHandler(subscriber, Collections.emptyList(), Collections.emptyList());
+
+    private final List<RuleData> ruleDataList = Arrays.asList(
+            RuleData.builder().id("1").name("name1").selectorId("0").enabled(true).build(),
+            RuleData.builder().id("2").name("name2").selectorId("0").build());
+
+    @Test
+    public void testExecutorReader() {
+        WebsocketData<RuleData> websocketData = new WebsocketData<>(ConfigGroupEnum.RULE.name(), DataEventTypeEnum.MYSELF.name(), ruleDataList);
+        websocketDataHandler.executor(new StringReader(GsonUtils.getInstance().toJson(websocketData)));
+        verify(subscriber).onRuleSubscribeBatch(ruleDataList);
+    }
+
+    @Test
+    public void testExecutorReaderWithDataFirst() {
+        String json = "{\"data\":" + GsonUtils.getInstance().toJson(ruleDataList)
+                + ",\"eventType\":\"" + DataEventTypeEnum.UPDATE.name() + "\",\"groupType\":\"" + ConfigGroupEnum.RULE.name() + "\"}";
+        websocketDataHandler.executor(new StringReader(json));
+        verify(subscriber).onRuleSubscribeBatch(ruleDataList);
+    }
+
+    @Test
+    public void testExecutorReaderWithUnknownGroup() {
+        String json = "{\"groupType\":\"UNKNOWN\",\"eventType\":\"" + DataEventTypeEnum.UPDATE.name() + "\",\"data\":" + GsonUtils.getInstance().toJson(ruleDataList) + "}";
+        websocketDataHandler.executor(new StringReader(json));
+        verifyNoInteractions(subscriber);
+    }
+
+    @Test
+    public void testExecutorReaderWithDataFirstAndUnknownGroup() {
+        String json = "{\"data\":" + GsonUtils.getInstance().toJson(ruleDataList) + ",\"eventType\":\"" + DataEventTypeEnum.UPDATE.name() + "\",\"groupType\":\"UNKNOWN\"}";
+        websocketDataHandler.executor(new StringReader(json));
+        verifyNoInteractions(subscriber);
+    }
+
+    @Test
+    public void testExecutorReaderWithoutGroup() {
+        String json = "{\"eventType\":\"" + DataEventTypeEnum.UPDATE.name() + "\",\"data\":" + GsonUtils.getInstance().toJson(ruleDataList) + "}";
+        websocketDataHandler.executor(new StringReader(json));
+        verifyNoInteractions(subscriber);
+        WebsocketData<RuleData> websocketData = new WebsocketData<>(ConfigGroupEnum.RULE.name(), DataEventTypeEnum.MYSELF.name(), ruleDataList);
+        websocketDataHandler.executor(new StringReader(GsonUtils.getInstance().toJson(websocketData)));
+        verify(subscriber).onRuleSubscribeBatch(ruleDataList);
+    }
+}